@@ -0,0 +1,35 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JMH benchmark of moving money between players.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Exceptions.PlayerNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Banker.transferMoney() back and forth, so the balances never drift.
+ * Team member(s) responsible: Giovanny
+ */
+@State(Scope.Thread)
+public class BankerBenchmark extends BenchmarkDefaults {
+
+    private GameFixture fixture;
+
+    @Setup
+    public void setUp() {
+        fixture = new GameFixture(false);
+    }
+
+    @Benchmark
+    public void transferMoney() throws PlayerNotFoundException {
+        fixture.banker.transferMoney(fixture.mover, fixture.landlord, 50);
+        fixture.banker.transferMoney(fixture.landlord, fixture.mover, 50);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Shared JMH settings for the model benchmarks.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Average time per call in nanoseconds, 5 warmup and 5 measured one second iterations in 2 forks.
+ * Every benchmark class extends this so the numbers are comparable run to run.
+ * Team member(s) responsible: Giovanny
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public abstract class BenchmarkDefaults {
+}
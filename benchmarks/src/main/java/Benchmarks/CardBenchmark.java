@@ -0,0 +1,66 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JMH benchmark of drawing and playing cards.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Cards.CardDeck;
+import Model.Cards.ChanceCard;
+import Model.Cards.CommunityChestCard;
+import Model.Exceptions.PlayerNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Draws the top card of each deck and plays it for the mover, refilling a deck when it runs out.
+ * Team member(s) responsible: Giovanny
+ */
+@State(Scope.Thread)
+public class CardBenchmark extends BenchmarkDefaults {
+
+    private GameFixture fixture;
+    private ChanceCard chance;
+    private CommunityChestCard communityChest;
+
+    @Setup
+    public void setUp() {
+        fixture = new GameFixture(true);
+        chance = fixture.context.getChanceCard();
+        communityChest = fixture.context.getCommunityChestCard();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBalances() {
+        fixture.resetBalances();
+    }
+
+    @Benchmark
+    public int chance() throws PlayerNotFoundException {
+        int card = chance.drawCardId();
+        if (card == CardDeck.NO_CARD) {
+            chance.cardRestore();
+            card = chance.drawCardId();
+        }
+        fixture.mover.setInJail(false);
+        chance.useCard(card, fixture.mover);
+        return fixture.mover.getPosition();
+    }
+
+    @Benchmark
+    public int communityChest() throws PlayerNotFoundException {
+        int card = communityChest.drawCardId();
+        if (card == CardDeck.NO_CARD) {
+            communityChest.cardRestore();
+            card = communityChest.drawCardId();
+        }
+        fixture.mover.setInJail(false);
+        communityChest.useCard(card, fixture.mover);
+        return fixture.mover.getPosition();
+    }
+}
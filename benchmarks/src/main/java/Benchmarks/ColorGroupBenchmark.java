@@ -0,0 +1,38 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JMH benchmark of the even building check.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Property.ColorGroup;
+import Model.Property.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ColorGroup.canBuyHouse() on an owned three property group.
+ * Team member(s) responsible: Giovanny
+ */
+@State(Scope.Thread)
+public class ColorGroupBenchmark extends BenchmarkDefaults {
+
+    private Property newYork;
+    private ColorGroup orange;
+
+    @Setup
+    public void setUp() {
+        GameFixture fixture = new GameFixture(true);
+        newYork = (Property) fixture.board.getSpace(19);
+        orange = newYork.getColorGroup();
+    }
+
+    @Benchmark
+    public boolean canBuyHouse() {
+        return orange.canBuyHouse(newYork);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JMH benchmark of a dice roll.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Board.Dice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+
+/**
+ * Dice.roll() with and without the pre-rolled buffer.
+ * Team member(s) responsible: Giovanny
+ */
+@State(Scope.Thread)
+public class DiceBenchmark extends BenchmarkDefaults {
+
+    private Dice dice;
+    private Dice bufferedDice;
+
+    @Setup
+    public void setUp() {
+        dice = new Dice(new SplittableRandom(GameFixture.SEED));
+        bufferedDice = new Dice(new SplittableRandom(GameFixture.SEED));
+        bufferedDice.useRollBuffer(256);
+    }
+
+    @Benchmark
+    public int roll() {
+        return dice.roll();
+    }
+
+    @Benchmark
+    public int rollBuffered() {
+        return bufferedDice.roll();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: A seeded two player game for the benchmarks to run against.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Board.Banker;
+import Model.Board.GameBoard;
+import Model.Board.HumanPlayer;
+import Model.Board.Player;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.GameContext;
+import Model.GameRandom;
+import Model.Spaces.BoardSpace;
+
+/**
+ * Two players on their own GameContext. The mover owns nothing and the landlord owns
+ * every property, railroad and utility, so every landing takes the rent path.
+ * Balances are reset to a large amount between iterations, so nobody goes bankrupt mid-run.
+ * Team member(s) responsible: Giovanny
+ */
+public class GameFixture {
+
+    static final long SEED = 42L;
+    static final int BALANCE = 1_000_000_000;
+
+    final GameContext context;
+    final GameBoard board;
+    final Banker banker;
+    final Player mover;
+    final Player landlord;
+
+    /**
+     * Constructor for GameFixture
+     *
+     * @param landlordOwnsBoard Whether the landlord starts with every ownable space
+     * Team member(s) responsible: Giovanny
+     */
+    GameFixture(boolean landlordOwnsBoard) {
+        context = new GameContext(new GameRandom(SEED));
+        board = context.getBoard();
+        banker = context.getBanker();
+        mover = new HumanPlayer("Mover", board);
+        landlord = new HumanPlayer("Landlord", board);
+        banker.addPlayer(mover);
+        banker.addPlayer(landlord);
+        for (BoardSpace space : board.getBoardElements()) {
+            if (space.getPurchasePrice() > 0) {
+                if (landlordOwnsBoard) {
+                    banker.addTitleDeed(landlord, space);
+                } else {
+                    banker.addAvailableProperty(space);
+                }
+            }
+        }
+        context.getChanceCard().cardRestore();
+        context.getCommunityChestCard().cardRestore();
+        resetBalances();
+    }
+
+    /**
+     * Puts both players back to BALANCE.
+     * Team member(s) responsible: Giovanny
+     */
+    void resetBalances() {
+        try {
+            setBalance(mover);
+            setBalance(landlord);
+        } catch (PlayerNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void setBalance(Player player) throws PlayerNotFoundException {
+        int difference = BALANCE - banker.getBalance(player);
+        if (difference > 0) {
+            banker.deposit(player, difference);
+        } else if (difference < 0) {
+            banker.withdraw(player, -difference);
+        }
+    }
+
+    /**
+     * Refills the chance and community chest decks once they run out.
+     * Team member(s) responsible: Giovanny
+     */
+    void refillDecks() {
+        if (context.getChanceCard().cardsLeft() == 0) {
+            context.getChanceCard().cardRestore();
+        }
+        if (context.getCommunityChestCard().cardsLeft() == 0) {
+            context.getCommunityChestCard().cardRestore();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JMH benchmark of moving a player and landing on the new space.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Board.Dice;
+import Model.Exceptions.PlayerNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Player.move() followed by the landed space's onLanding(), on a board the other player owns,
+ * so the move pays rent, taxes and cards the way a real game does.
+ * Team member(s) responsible: Giovanny
+ */
+@State(Scope.Thread)
+public class MoveBenchmark extends BenchmarkDefaults {
+
+    private GameFixture fixture;
+    private Dice dice;
+
+    @Setup
+    public void setUp() {
+        fixture = new GameFixture(true);
+        dice = fixture.context.getDice();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBalances() {
+        fixture.resetBalances();
+    }
+
+    @Benchmark
+    public int moveAndLand() throws PlayerNotFoundException {
+        fixture.refillDecks();
+        // Jail would stop the mover for good; the jail stay itself is not what is measured here
+        fixture.mover.setInJail(false);
+        fixture.mover.move(fixture.mover, dice.roll());
+        return fixture.mover.getPosition();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JMH benchmark of the rent calculations.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Exceptions.PlayerNotFoundException;
+import Model.Property.Property;
+import Model.Spaces.BoardSpace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Property.calculateRent() on an unimproved monopoly and on a street with houses,
+ * and Railroad.calculateRent() with all four railroads owned.
+ * Team member(s) responsible: Giovanny
+ */
+@State(Scope.Thread)
+public class RentBenchmark extends BenchmarkDefaults {
+
+    private GameFixture fixture;
+    private Property boardwalk;
+    private Property stJames;
+    private BoardSpace readingRailroad;
+
+    @Setup
+    public void setUp() {
+        fixture = new GameFixture(true);
+        boardwalk = (Property) fixture.board.getSpace(39);
+        stJames = (Property) fixture.board.getSpace(16);
+        for (int position : new int[] {16, 18, 19}) {
+            ((Property) fixture.board.getSpace(position)).buyHouse(fixture.banker);
+        }
+        stJames.buyHouse(fixture.banker);
+        readingRailroad = fixture.board.getSpace(5);
+    }
+
+    @Benchmark
+    public int propertyMonopoly() throws PlayerNotFoundException {
+        return boardwalk.calculateRent(fixture.mover);
+    }
+
+    @Benchmark
+    public int propertyWithHouses() throws PlayerNotFoundException {
+        return stJames.calculateRent(fixture.mover);
+    }
+
+    @Benchmark
+    public int railroad() throws PlayerNotFoundException {
+        return readingRailroad.calculateRent(fixture.mover);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Runs the benchmarks with the GC profiler and keeps the results as JSON.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Takes the usual JMH command line (e.g. a benchmark regex or -f 1)
+ * and always adds the GC profiler, so every run reports the bytes allocated per call
+ * (gc.alloc.rate.norm) next to the time. Results go to jmh-result.json unless -rff says otherwise,
+ * so a run before and after a change can be compared.
+ * Team member(s) responsible: Giovanny
+ */
+public class RunBenchmarks {
+
+    private static final String RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        options.addProfiler(GCProfiler.class);
+        if (!commandLine.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result(RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: End-to-end throughput benchmark: plays the same fixed-seed games on the model
+ * at 1, 2, 4, ... threads, reports games/sec, turns/sec and turn latency percentiles,
+ * and fails when a result falls behind the checked-in baseline.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Simulation.GameResult;
+import Model.Simulation.HeadlessGame;
+import Model.Simulation.LatencyHistogram;
+import Model.Simulation.SimulationRunner;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Macro benchmark of whole games played through HeadlessGame (TurnManager, Game and the model).
+ * Every thread count plays the same games, game i always using the same seed, so the curve only
+ * shows how the work scales. Run from the benchmarks directory:
+ * java -cp target/benchmarks.jar Benchmarks.ThroughputBenchmark [options]
+ *
+ * Each thread count is measured --rounds times and the best round is kept, which filters out
+ * rounds slowed down by other work on the machine.
+ *
+ * Options: --games N, --players N, --seed N, --max-turns N, --max-threads N, --rounds N,
+ * --baseline FILE, --threshold FRACTION (default 0.10), --update-baseline.
+ * The run exits with status 1 if, at any thread count, games/sec drops by more than the threshold
+ * compared with the baseline. Latency percentiles are recorded next to it for reference but do not
+ * fail the run: they are bucketed to about 6%, too coarse to gate on at a 10% threshold.
+ * Team member(s) responsible: Giovanny
+ */
+public class ThroughputBenchmark {
+
+    private static final String DEFAULT_BASELINE = "baseline/throughput.properties";
+
+    private int games = 1000;
+    private int players = 4;
+    private long seed = 42L;
+    private int maxTurns = 1000;
+    private int rounds = 3;
+    private int maxThreads = Runtime.getRuntime().availableProcessors();
+    private Path baseline = Path.of(DEFAULT_BASELINE);
+    private double threshold = 0.10;
+    private boolean updateBaseline;
+
+    /**
+     * The measurements for one thread count.
+     */
+    static class Point {
+        final int threads;
+        final double gamesPerSecond;
+        final double turnsPerSecond;
+        final double p50Micros;
+        final double p99Micros;
+
+        Point(int threads, double gamesPerSecond, double turnsPerSecond, double p50Micros, double p99Micros) {
+            this.threads = threads;
+            this.gamesPerSecond = gamesPerSecond;
+            this.turnsPerSecond = turnsPerSecond;
+            this.p50Micros = p50Micros;
+            this.p99Micros = p99Micros;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        ThroughputBenchmark benchmark = new ThroughputBenchmark();
+        benchmark.parse(args);
+        System.exit(benchmark.run() ? 0 : 1);
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games":
+                    games = Integer.parseInt(args[++i]);
+                    break;
+                case "--players":
+                    players = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--max-turns":
+                    maxTurns = Integer.parseInt(args[++i]);
+                    break;
+                case "--rounds":
+                    rounds = Integer.parseInt(args[++i]);
+                    break;
+                case "--max-threads":
+                    maxThreads = Integer.parseInt(args[++i]);
+                    break;
+                case "--baseline":
+                    baseline = Path.of(args[++i]);
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(args[++i]);
+                    break;
+                case "--update-baseline":
+                    updateBaseline = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    /**
+     * Measures every thread count, prints the curve and checks it against the baseline.
+     * @return false if a regression beyond the threshold was found
+     */
+    boolean run() throws Exception {
+        System.out.printf("%d games, %d players, seed %d, %d turn limit, best of %d rounds%n",
+                games, players, seed, maxTurns, rounds);
+        // Untimed passes so every thread count runs on warmed-up code
+        measure(1);
+        measure(maxThreads);
+
+        List<Point> curve = new ArrayList<>();
+        System.out.printf("%8s %12s %14s %10s %10s %9s%n",
+                "threads", "games/sec", "turns/sec", "p50 us", "p99 us", "speedup");
+        for (int threads : threadCounts()) {
+            Point point = measure(threads);
+            for (int round = 1; round < rounds; round++) {
+                Point next = measure(threads);
+                if (next.gamesPerSecond > point.gamesPerSecond) {
+                    point = next;
+                }
+            }
+            curve.add(point);
+            System.out.printf("%8d %12.1f %14.0f %10.1f %10.1f %8.2fx%n", threads, point.gamesPerSecond,
+                    point.turnsPerSecond, point.p50Micros, point.p99Micros,
+                    point.gamesPerSecond / curve.get(0).gamesPerSecond);
+        }
+
+        if (updateBaseline) {
+            writeBaseline(curve);
+            System.out.println("Baseline written to " + baseline);
+            return true;
+        }
+        return compareWithBaseline(curve);
+    }
+
+    // 1, 2, 4, ... up to maxThreads, always ending with maxThreads itself
+    private List<Integer> threadCounts() {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    private Point measure(int threads) throws Exception {
+        AtomicInteger nextGame = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> workers = new ArrayList<>();
+        List<LatencyHistogram> histograms = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int t = 0; t < threads; t++) {
+                LatencyHistogram histogram = new LatencyHistogram();
+                histograms.add(histogram);
+                workers.add(pool.submit(() -> playGames(nextGame, histogram)));
+            }
+            long turns = 0;
+            for (Future<long[]> worker : workers) {
+                turns += worker.get()[0];
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            LatencyHistogram latency = new LatencyHistogram();
+            for (LatencyHistogram histogram : histograms) {
+                latency.merge(histogram);
+            }
+            return new Point(threads, games / seconds, turns / seconds,
+                    latency.getPercentile(50) / 1000.0, latency.getPercentile(99) / 1000.0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private long[] playGames(AtomicInteger nextGame, LatencyHistogram latency) {
+        long turns = 0;
+        for (int i = nextGame.getAndIncrement(); i < games; i = nextGame.getAndIncrement()) {
+            HeadlessGame game = new HeadlessGame(players, SimulationRunner.gameSeed(seed, i), maxTurns);
+            game.setTurnLatency(latency);
+            GameResult result = game.play();
+            turns += result.getTurns();
+        }
+        return new long[] {turns};
+    }
+
+    private boolean compareWithBaseline(List<Point> curve) throws IOException {
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline + "; run with --update-baseline to record one.");
+            return true;
+        }
+        Properties recorded = new Properties();
+        try (Reader reader = Files.newBufferedReader(baseline)) {
+            recorded.load(reader);
+        }
+        if (!settings().equals(recorded.getProperty("settings"))) {
+            System.out.println("Baseline was recorded with different settings (" + recorded.getProperty("settings")
+                    + "); not compared.");
+            return true;
+        }
+        boolean passed = true;
+        for (Point point : curve) {
+            String prefix = "threads." + point.threads + ".";
+            String gamesPerSecond = recorded.getProperty(prefix + "gamesPerSecond");
+            String p50 = recorded.getProperty(prefix + "p50Micros");
+            if (gamesPerSecond == null) {
+                continue;
+            }
+            double throughputChange = point.gamesPerSecond / Double.parseDouble(gamesPerSecond) - 1;
+            boolean regressed = throughputChange < -threshold;
+            System.out.printf("%2d threads: games/sec %+.1f%% (baseline %s), p50 latency %.2f us (baseline %s) %s%n",
+                    point.threads, 100 * throughputChange, gamesPerSecond, point.p50Micros, p50,
+                    regressed ? "REGRESSION" : "ok");
+            passed &= !regressed;
+        }
+        System.out.printf("Threshold %.0f%%: %s%n", 100 * threshold, passed ? "passed" : "FAILED");
+        return passed;
+    }
+
+    private void writeBaseline(List<Point> curve) throws IOException {
+        Properties recorded = new Properties();
+        recorded.setProperty("settings", settings());
+        for (Point point : curve) {
+            String prefix = "threads." + point.threads + ".";
+            recorded.setProperty(prefix + "gamesPerSecond", String.format(Locale.ROOT, "%.1f", point.gamesPerSecond));
+            recorded.setProperty(prefix + "turnsPerSecond", String.format(Locale.ROOT, "%.0f", point.turnsPerSecond));
+            recorded.setProperty(prefix + "p50Micros", String.format(Locale.ROOT, "%.2f", point.p50Micros));
+            recorded.setProperty(prefix + "p99Micros", String.format(Locale.ROOT, "%.2f", point.p99Micros));
+        }
+        if (baseline.getParent() != null) {
+            Files.createDirectories(baseline.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(baseline)) {
+            recorded.store(writer, "ThroughputBenchmark baseline, " + Runtime.getRuntime().availableProcessors()
+                    + " cores, " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        }
+    }
+
+    private String settings() {
+        return "games=" + games + " players=" + players + " seed=" + seed + " maxTurns=" + maxTurns
+                + " rounds=" + rounds;
+    }
+}
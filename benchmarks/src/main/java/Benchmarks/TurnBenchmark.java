@@ -0,0 +1,53 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JMH benchmark of a whole turn.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Benchmarks;
+
+import Model.Board.Player;
+import Model.Board.TurnManager;
+import Model.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * TurnManager.processTurn() for alternating players, starting from an unowned board.
+ * Team member(s) responsible: Giovanny
+ */
+@State(Scope.Thread)
+public class TurnBenchmark extends BenchmarkDefaults {
+
+    private GameFixture fixture;
+    private TurnManager turnManager;
+
+    @Setup
+    public void setUp() {
+        fixture = new GameFixture(false);
+        turnManager = new TurnManager(List.of(fixture.mover, fixture.landlord),
+                new GameRandom(GameFixture.SEED).getTurnOrderStream(), fixture.context);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetBalances() {
+        fixture.resetBalances();
+    }
+
+    @Benchmark
+    public String processTurn() {
+        fixture.refillDecks();
+        Player player = turnManager.getCurrentPlayer();
+        // processTurn never lets a player out of jail, so it is left to the benchmark
+        player.setInJail(false);
+        String result = turnManager.processTurn(player);
+        turnManager.nextTurn();
+        return result;
+    }
+}
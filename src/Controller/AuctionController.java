@@ -1,8 +1,12 @@
 package Controller;
 
+import Model.Board.AscendingAuction;
+import Model.Board.AuctionBidder;
 import Model.Board.Banker;
 import Model.Board.Player;
 import Model.Exceptions.PlayerNotFoundException;
+import Model.Jfr.AuctionEvent;
+import Model.Metrics.MetricsRegistry;
 import Model.Spaces.BoardSpace;
 
 import javax.swing.*;
@@ -10,6 +14,7 @@ import java.awt.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Controller class for handling auctions in the Monopoly game.
@@ -35,7 +40,8 @@ public class AuctionController {
     }
 
     /**
-     * Start an auction for a property.
+     * Start an auction for a property in which every player bids in the dialog.
+     * Computer players should bid through their game's own controllers, passed to the other startAuction.
      *
      * @param property The property being auctioned
      * @param players List of players participating in the auction
@@ -43,10 +49,45 @@ public class AuctionController {
      * @return The player who won the auction, or null if nobody bid
      */
     public Player startAuction(BoardSpace property, ArrayList<Player> players, JFrame parentFrame) {
+        return startAuction(property, players, parentFrame, player -> null);
+    }
+
+    /**
+     * Start an auction for a property. When every player has a bidder, as when they are all computer players,
+     * the auction runs to the end at once and no dialog is shown.
+     *
+     * @param property The property being auctioned
+     * @param players List of players participating in the auction
+     * @param parentFrame The parent frame for the auction dialog
+     * @param bidders The bidder for each player, or null for a player who bids in the dialog;
+     *                for a computer player, the auctionBidder() of the CpuController its game made for it
+     * @return The player who won the auction, or null if nobody bid
+     */
+    public Player startAuction(BoardSpace property, ArrayList<Player> players, JFrame parentFrame,
+                               Function<Player, AuctionBidder> bidders) {
         if (property == null || players == null || players.isEmpty()) {
             return null;
         }
 
+        MetricsRegistry.global().countAuction();
+        AuctionEvent event = new AuctionEvent();
+        event.begin();
+
+        Map<Player, AuctionBidder> automatic = new HashMap<>();
+        for (Player player : players) {
+            AuctionBidder bidder = bidders.apply(player);
+            if (bidder != null) {
+                automatic.put(player, bidder);
+            }
+        }
+        if (automatic.size() == players.size()) {
+            AscendingAuction auction = new AscendingAuction(players, AscendingAuction.DEFAULT_INCREMENT);
+            highestBidder = auction.run(automatic::get);
+            currentHighestBid = auction.getPrice();
+            auctionComplete = true;
+            return completeAuction(property, players, event);
+        }
+
         // Set up auction variables
         propertyForAuction = property;
         currentHighestBid = 0;
@@ -68,6 +109,13 @@ public class AuctionController {
             System.err.println("Error showing auction dialog: " + e.getMessage());
         }
 
+        return completeAuction(property, players, event);
+    }
+
+    /**
+     * Sell the property to the highest bidder, if there is one.
+     */
+    private Player completeAuction(BoardSpace property, ArrayList<Player> players, AuctionEvent event) {
         // If we have a winner, complete the transaction
         if (highestBidder != null && currentHighestBid > 0) {
             try {
@@ -79,12 +127,14 @@ public class AuctionController {
                 System.out.println("AUCTION COMPLETE: " + highestBidder.getName() +
                         " won " + property.getName() + " for $" + currentHighestBid);
 
+                event.complete(property, players.size(), highestBidder, currentHighestBid);
                 return highestBidder;
             } catch (Exception e) {
                 System.err.println("Error completing auction transaction: " + e.getMessage());
             }
         }
 
+        event.complete(property, players.size(), null, 0);
         return null;
     }
 
@@ -8,10 +8,24 @@
 package Controller;
 
 import Model.Board.*;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.InsufficientFundsException;
+import Model.Exceptions.InvalidTransactionException;
 import Model.Exceptions.PlayerNotFoundException;
+import Model.Jfr.LandingEvent;
+import Model.Jfr.RollEvent;
+import Model.Metrics.MetricsRegistry;
 import Model.Game;
 import Model.Property.Property;
+import Model.Search.Action;
+import Model.Search.ActionType;
+import Model.Search.BuildPlanner;
+import Model.Search.MoveGenerator;
+import Model.Search.Trade;
+import Model.Search.TradeSearch;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
 import Model.Spaces.BoardSpace;
 import View.Gui;
 
@@ -23,8 +37,11 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Controller class for the main game board.
@@ -43,6 +60,10 @@ public class BoardController {
     private AuctionController auctionController;
     private Map<String, ImageIcon> tokenImages;
     private Map<String, ImageIcon> cardImages;
+    private final BuildPlanner buildPlanner = new BuildPlanner(BoardLayout.standard());
+    private final MoveGenerator moveGenerator = new MoveGenerator(BoardLayout.standard());
+    private final TradeSearch tradeSearch = new TradeSearch(BoardLayout.standard());
+    private final GameState moveState = new GameState();
 
     private Player currentPlayer;
     private boolean gameInProgress;
@@ -79,6 +100,20 @@ public class BoardController {
         });
     }
 
+    /**
+     * Queues a GUI update on the event dispatch thread and records how long it took
+     * from being queued to being done in the EDT update latency metric.
+     *
+     * @param update The GUI update
+     */
+    private void updateGuiLater(Runnable update) {
+        long queued = System.nanoTime();
+        SwingUtilities.invokeLater(() -> {
+            update.run();
+            MetricsRegistry.global().edtUpdateLatency().recordSince(queued);
+        });
+    }
+
     /**
      * Set up action listeners for GUI components.
      */
@@ -152,7 +187,6 @@ public class BoardController {
         File tokenDir = new File("resources/tokens");
         if (!tokenDir.exists()) {
             tokenDir.mkdirs();
-            System.out.println("Created tokens directory");
         }
         for (String tokenName : tokenNames) {
             boolean imageLoaded = false;
@@ -177,11 +211,10 @@ public class BoardController {
                         g2.dispose();
 
                         tokenImages.put(tokenName, new ImageIcon(resizedImage));
-                        System.out.println("Loaded token image from root directory: " + rootTokenFile.getAbsolutePath());
                         imageLoaded = true;
                         break;
                     } catch (IOException e) {
-                        System.err.println("Error loading token image from root: " + rootTokenFile.getAbsolutePath());
+                        EventLog.log(EventType.IMAGE_FAILED, null, rootTokenFile.getPath(), e.getMessage());
                     }
                 }
             }
@@ -199,10 +232,9 @@ public class BoardController {
                     g2.dispose();
 
                     tokenImages.put(tokenName, new ImageIcon(resizedImage));
-                    System.out.println("Loaded token image from resources: " + tokenPath);
                     continue;
                 } catch (IOException e) {
-                    System.err.println("Error loading token image from resources: " + tokenPath);
+                    EventLog.log(EventType.IMAGE_FAILED, null, tokenPath, e.getMessage());
                 }
             }
 
@@ -238,17 +270,14 @@ public class BoardController {
                 // Save the image to resources directory
                 tokenFile = new File(tokenPath);
                 ImageIO.write(image, "PNG", tokenFile);
-                System.out.println("Created default token image: " + tokenPath);
 
                 // Add to memory cache
                 tokenImages.put(tokenName, new ImageIcon(image));
             } catch (IOException e) {
-                System.err.println("Error creating default token image: " + tokenName);
+                EventLog.log(EventType.IMAGE_FAILED, null, tokenPath, e.getMessage());
                 tokenImages.put(tokenName, createTokenIcon(tokenColor));
             }
         }
-        
-        System.out.println("Token loading complete. Images available: " + tokenImages.keySet());
     }
     
     /**
@@ -287,11 +316,9 @@ public class BoardController {
         File cardDir = new File("resources/cards");
         if (!cardDir.exists()) {
             cardDir.mkdirs();
-            System.out.println("Created cards directory");
         }
         
         // Create card files if they don't exist yet
-        boolean allImagesCreated = true;
         for (int i = 0; i < cardTypes.length; i++) {
             String cardPath = "resources/cards/" + cardTypes[i] + ".png";
             File cardFile = new File(cardPath);
@@ -315,10 +342,8 @@ public class BoardController {
                     
                     // Save the image
                     ImageIO.write(image, "PNG", cardFile);
-                    System.out.println("Created card image: " + cardPath);
                 } catch (IOException e) {
-                    System.err.println("Error creating card image: " + cardPath);
-                    allImagesCreated = false;
+                    EventLog.log(EventType.IMAGE_FAILED, null, cardPath, e.getMessage());
                 }
             }
         }
@@ -332,20 +357,15 @@ public class BoardController {
                 if (cardFile.exists()) {
                     BufferedImage image = ImageIO.read(cardFile);
                     cardImages.put(cardTypes[i], new ImageIcon(image));
-                    System.out.println("Loaded card image: " + cardPath);
                 } else {
                     throw new IOException("Card file doesn't exist");
                 }
             } catch (IOException e) {
-                System.err.println("Error loading card image: " + cardPath);
+                EventLog.log(EventType.IMAGE_FAILED, null, cardPath, e.getMessage());
                 // Fall back to generated icon
                 cardImages.put(cardTypes[i], createCardIcon(cardColors[i], cardLabels[i]));
             }
         }
-        
-        if (allImagesCreated) {
-            System.out.println("All card images were successfully created or loaded");
-        }
     }
     
     /**
@@ -460,12 +480,9 @@ public class BoardController {
      * This is an emergency fix to prevent players from starting at wrong positions.
      */
     private void ensureAllPlayersAtGo() {
-        System.out.println("Setting up player positions at GO");
-        
         for (Player player : players) {
             // Set position to GO (0)
             player.setPosition(0);
-            System.out.println("Setting " + player.getName() + " to GO (position 0)");
             
             // Update GUI if available
             if (gui != null) {
@@ -512,7 +529,6 @@ public class BoardController {
                 
                 // Explicitly set starting position to GO (0)
                 player.setPosition(0);
-                System.out.println("*** SETTING " + player.getName() + " TO POSITION 0 (GO) ***");
                 
                 // Force position update in the GUI
                 if (gui != null) {
@@ -534,7 +550,6 @@ public class BoardController {
                 
                 // Explicitly set starting position to GO (0)
                 cpu.setPosition(0);
-                System.out.println("*** SETTING " + cpu.getName() + " TO POSITION 0 (GO) ***");
                 
                 // Force position update in the GUI
                 if (gui != null) {
@@ -546,6 +561,7 @@ public class BoardController {
                 
                 // Create controller for this CPU
                 CpuController cpuController = new CpuController(cpu);
+                cpu.setBuildAdvisor(cpuController::shouldBuild);
                 cpuControllers.put(cpu, cpuController);
             }
             
@@ -589,7 +605,10 @@ public class BoardController {
         int startingPosition = currentPlayer.getPosition();
 
         // Roll the dice
+        RollEvent rollEvent = new RollEvent();
+        rollEvent.begin();
         dice.roll();
+        rollEvent.complete(currentPlayer, dice.getDie1(), dice.getDie2());
         int[] diceValues = {dice.getDie1(), dice.getDie2()};
         boolean isDoubles = dice.isDouble();
         int totalSpaces = diceValues[0] + diceValues[1];
@@ -599,13 +618,10 @@ public class BoardController {
 
         // Set position DIRECTLY - bypass any potential issues
         currentPlayer.setPosition(newPosition);
-        System.out.println("Player " + currentPlayer.getName() +
-                " moved from position " + startingPosition +
-                " to position " + newPosition);
+        EventLog.log(EventType.PLAYER_MOVED, currentPlayer, null, null, startingPosition, newPosition);
 
         // Verify position was set correctly
         if (currentPlayer.getPosition() != newPosition) {
-            System.out.println("Position discrepancy detected - fixing");
             currentPlayer.setPosition(newPosition);
         }
 
@@ -644,8 +660,7 @@ public class BoardController {
     private void handleLandedSpace(Player player, int position) {
         // EMERGENCY FIX: Check for valid position
         if (position < 0 || position >= gameBoard.getBoardElements().length) {
-            System.err.println("ERROR: Invalid position " + position + " for " + player.getName());
-            System.out.println("EMERGENCY FIX: Resetting to GO (position 0)");
+            EventLog.log(EventType.POSITION_RESET, player, position);
             position = 0;
             player.setPosition(0);
             
@@ -656,8 +671,9 @@ public class BoardController {
         }
         
         BoardSpace space = gameBoard.getBoardElements()[position];
-        System.out.println("PLAYER " + player.getName() + " LANDED ON POSITION " + position + 
-                         " (" + space.getName() + ")");
+        LandingEvent landingEvent = new LandingEvent();
+        landingEvent.begin();
+        EventLog.log(EventType.PLAYER_LANDED, player, space.getName(), position);
         
         // Choose handler based on space type
         if (space instanceof Property) {
@@ -680,13 +696,12 @@ public class BoardController {
             // Default handling for other spaces
             handleOtherSpace(player, space);
         }
+        landingEvent.complete(player, position, space);
         
         // EMERGENCY FIX: Double-check player position after handling space
         int newPosition = player.getPosition();
         if (newPosition < 0 || newPosition >= gameBoard.getBoardElements().length) {
-            System.err.println("ERROR: After handling space, player " + player.getName() + 
-                              " ended up at invalid position " + newPosition);
-            System.out.println("EMERGENCY FIX: Resetting to GO (position 0)");
+            EventLog.log(EventType.POSITION_RESET, player, newPosition);
             player.setPosition(0);
             
             // Update GUI with corrected position
@@ -708,12 +723,8 @@ public class BoardController {
      * @param property The property that the player landed on
      */
     private void handlePropertySpace(Player player, Property property) {
-        System.out.println("CRITICAL PROPERTY HANDLING: Player " + player.getName() +
-                " landed on property " + property.getName());
-
         // Check if property is null (defensive coding)
         if (property == null) {
-            System.err.println("ERROR: Null property in handlePropertySpace");
             return;
         }
 
@@ -722,8 +733,6 @@ public class BoardController {
 
         if (owner == null) {
             // UNOWNED PROPERTY - OFFER TO BUY
-            System.out.println("PURCHASE OPPORTUNITY: Property " + property.getName() +
-                    " is unowned. Offering to " + player.getName());
 
             if (player instanceof ComputerPlayer) {
                 // Computer player logic
@@ -736,8 +745,7 @@ public class BoardController {
 
                     // Check if player can afford it
                     if (balance < price) {
-                        System.out.println("CANNOT AFFORD: Player only has $" + balance +
-                                " but property costs $" + price);
+                        EventLog.log(EventType.PURCHASE_UNAFFORDABLE, player, property.getName(), null, balance, price);
                         gui.displayMessage(player.getName() + " can't afford to buy " +
                                 property.getName() + ". Starting auction...");
                         auctionProperty(property);
@@ -753,8 +761,6 @@ public class BoardController {
                         // BUY PROPERTY using direct banker method
                         try {
                             banker.sellProperty(property, player);
-                            System.out.println("PURCHASE SUCCESSFUL: " + player.getName() +
-                                    " bought " + property.getName() + " for $" + price);
 
                             // Update UI
                             gui.updatePlayerInfo(players);
@@ -762,35 +768,30 @@ public class BoardController {
                             gui.displayMessage(player.getName() + " purchased " +
                                     property.getName() + " for $" + price);
                         } catch (Exception e) {
-                            System.err.println("ERROR during purchase: " + e.getMessage());
+                            EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), e.getMessage());
                             JOptionPane.showMessageDialog(gui.getMainFrame(),
                                     "Error during purchase: " + e.getMessage(),
                                     "Purchase Failed", JOptionPane.ERROR_MESSAGE);
                         }
                     } else {
                         // AUCTION
-                        System.out.println("PURCHASE DECLINED: Starting auction for " +
-                                property.getName());
+                        EventLog.log(EventType.PURCHASE_PASSED, player, property.getName());
                         gui.displayMessage(player.getName() + " declined to buy " +
                                 property.getName() + ". Starting auction...");
                         auctionProperty(property);
                     }
                 } catch (PlayerNotFoundException e) {
-                    System.err.println("Error finding player: " + e.getMessage());
+                    EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), e.getMessage());
                 }
             }
         }
         else if (owner == player) {
             // PLAYER ALREADY OWNS THIS PROPERTY
-            System.out.println("OWNER LANDED: " + player.getName() + " already owns " +
-                    property.getName());
             gui.displayMessage(player.getName() + " landed on their own property: " +
                     property.getName());
         }
         else {
             // PROPERTY OWNED BY ANOTHER PLAYER - PAY RENT
-            System.out.println("RENT PAYMENT: " + player.getName() + " must pay rent to " +
-                    owner.getName() + " for " + property.getName());
             handleRentPayment(player, property);
         }
     }
@@ -805,8 +806,7 @@ public class BoardController {
             
             // Ensure property is available
             if (!banker.getAvailableProperties().contains(property)) {
-                System.out.println("FIXING PROPERTY AVAILABILITY: Adding " + property.getName() + 
-                                 " to available properties list");
+                EventLog.log(EventType.PROPERTY_RELISTED, player, property.getName());
                 banker.addAvailableProperty(property);
             }
             
@@ -814,12 +814,9 @@ public class BoardController {
             int price = property.getPurchasePrice();
             int balance = banker.getBalance(player);
             
-            System.out.println("PURCHASE INFO: Price=$" + price + ", Player balance=$" + balance);
-            
             // Check if player can afford it
             if (balance < price) {
-                System.out.println("CANNOT AFFORD: Player only has $" + balance + 
-                                 " but property costs $" + price);
+                EventLog.log(EventType.PURCHASE_UNAFFORDABLE, player, property.getName(), null, balance, price);
                 JOptionPane.showMessageDialog(gui.getMainFrame(),
                     "You don't have enough money to buy " + property.getName() + 
                     ". It costs $" + price + " but you only have $" + balance + ".",
@@ -834,7 +831,6 @@ public class BoardController {
             
             if (choice == JOptionPane.YES_OPTION) {
                 // BUY PROPERTY
-                System.out.println("PLAYER CHOSE TO BUY: " + property.getName());
                 banker.sellProperty(property, player);
                 
                 // Update UI
@@ -845,12 +841,11 @@ public class BoardController {
                 }
             } else {
                 // DECLINE PURCHASE
-                System.out.println("PLAYER DECLINED: " + property.getName() + " - Not buying");
+                EventLog.log(EventType.PURCHASE_PASSED, player, property.getName());
                 gui.displayMessage(player.getName() + " declined to purchase " + property.getName());
             }
         } catch (Exception e) {
-            System.err.println("ERROR in purchase dialog: " + e.getMessage());
-            e.printStackTrace();
+            EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), e.getMessage());
         }
     }
     
@@ -863,7 +858,7 @@ public class BoardController {
         
         // If property is not in the available list but has no owner, add it
         if (!isAvailable && property.getOwner() == null) {
-            System.out.println("CPU PROPERTY FIX: Property " + property.getName() + " has no owner but wasn't available - fixing");
+            EventLog.log(EventType.PROPERTY_RELISTED, cpu, property.getName());
             banker.addAvailableProperty(property);
             isAvailable = true;
         }
@@ -872,8 +867,6 @@ public class BoardController {
             CpuController controller = cpuControllers.get(cpu);
             if (controller != null) {
                 boolean shouldBuy = controller.decidePropertyPurchase(property);
-                System.out.println("CPU " + cpu.getName() + " decided " + (shouldBuy ? "TO BUY" : "NOT TO BUY") + 
-                                 " property " + property.getName());
                 
                 if (shouldBuy) {
                     try {
@@ -884,8 +877,6 @@ public class BoardController {
                         if (cpuBalance >= propertyPrice) {
                             // CPU decided to buy
                             banker.sellProperty(property, cpu);
-                            System.out.println("CPU PURCHASE: " + cpu.getName() + " purchased " + 
-                                             property.getName() + " for $" + property.getPurchasePrice());
                             
                             if (gui != null) {
                                 gui.displayMessage(cpu.getName() + " purchased " + property.getName() + 
@@ -894,8 +885,7 @@ public class BoardController {
                                 gui.updatePropertyOwnership(property, cpu);
                             }
                         } else {
-                            System.out.println("CPU can't afford property: $" + propertyPrice + 
-                                             " costs more than CPU balance of $" + cpuBalance);
+                            EventLog.log(EventType.PURCHASE_UNAFFORDABLE, cpu, property.getName(), null, cpuBalance, propertyPrice);
                             
                             // CPU can't afford - auction property
                             if (gui != null) {
@@ -905,7 +895,7 @@ public class BoardController {
                             auctionProperty(property);
                         }
                     } catch (Exception e) {
-                        System.err.println("Error during CPU property purchase: " + e.getMessage());
+                        EventLog.log(EventType.PURCHASE_FAILED, cpu, property.getName(), e.getMessage());
                     }
                 } else {
                     // CPU declined to buy - auction
@@ -919,11 +909,9 @@ public class BoardController {
         } else {
             // Let the property handle other cases like rent payment
             try {
-                System.out.println("Property " + property.getName() + " is not available for purchase. " +
-                                 "Owner: " + (property.getOwner() != null ? property.getOwner().getName() : "None"));
                 property.onLanding(cpu);
             } catch (PlayerNotFoundException e) {
-                System.err.println("Error in property landing: " + e.getMessage());
+                EventLog.log(EventType.LANDING_FAILED, cpu, e.getMessage());
             }
         }
     }
@@ -936,12 +924,12 @@ public class BoardController {
         
         // First ensure the property is actually in the available list
         if (!banker.getAvailableProperties().contains(property) && property.getOwner() == null) {
-            System.out.println("PROPERTY FIX: Property " + property.getName() + " has no owner but wasn't available - fixing");
+            EventLog.log(EventType.PROPERTY_RELISTED, player, property.getName());
             banker.addAvailableProperty(property);
         }
         
         // Show a clear message about landing on unowned property
-        SwingUtilities.invokeLater(() -> {
+        updateGuiLater(() -> {
             gui.displayMessage(player.getName() + " landed on " + property.getName() + 
                             " - Price: $" + property.getPurchasePrice());
         });
@@ -950,10 +938,6 @@ public class BoardController {
             int balance = banker.getBalance(player);
             int price = property.getPurchasePrice();
             
-            System.out.println("HUMAN PLAYER LANDED ON UNOWNED PROPERTY: " + 
-                            player.getName() + " -> " + property.getName());
-            System.out.println("PLAYER BALANCE: $" + balance + ", PROPERTY PRICE: $" + price);
-            
             if (balance >= price) {
                 // Use a brief delay to ensure the message is seen before showing the dialog
                 try {
@@ -965,12 +949,10 @@ public class BoardController {
                 // IMPORTANT: Ensure we're not on the EDT already before showing the dialog
                 if (SwingUtilities.isEventDispatchThread()) {
                     // Directly show the dialog
-                    System.out.println("SHOWING PURCHASE DIALOG DIRECTLY FOR " + property.getName());
                     boolean wantsToBuy = showEmergencyPurchaseDialog(property, player);
                     handlePurchaseDecision(player, property, wantsToBuy);
                 } else {
                     // Use invokeLater to show the dialog on the EDT
-                    System.out.println("SCHEDULING PURCHASE DIALOG FOR " + property.getName());
                     SwingUtilities.invokeLater(() -> {
                         boolean wantsToBuy = showEmergencyPurchaseDialog(property, player);
                         handlePurchaseDecision(player, property, wantsToBuy);
@@ -989,7 +971,7 @@ public class BoardController {
                 auctionProperty(property);
             }
         } catch (PlayerNotFoundException e) {
-            System.err.println("Error finding player: " + e.getMessage());
+            EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), e.getMessage());
         }
     }
     
@@ -1002,7 +984,7 @@ public class BoardController {
             purchaseProperty(player, property);
         } else {
             // Auction the property
-            SwingUtilities.invokeLater(() -> {
+            updateGuiLater(() -> {
                 gui.displayMessage(player.getName() + " declined to purchase " + 
                                 property.getName() + ". Starting auction...");
             });
@@ -1015,7 +997,6 @@ public class BoardController {
      * Uses direct JOptionPane for maximum reliability.
      */
     private boolean showEmergencyPurchaseDialog(Property property, Player player) {
-        System.out.println("EMERGENCY: Showing direct purchase dialog for " + property.getName());
         
         // Get the price and player's money
         int price = property.getPurchasePrice();
@@ -1023,13 +1004,12 @@ public class BoardController {
         try {
             playerMoney = banker.getBalance(player);
         } catch (Exception e) {
-            System.err.println("Error getting balance: " + e.getMessage());
+            EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), e.getMessage());
             return false;
         }
         
         // If player can't afford it, don't show dialog
         if (playerMoney < price) {
-            System.out.println("Player can't afford property - skipping dialog");
             return false;
         }
         
@@ -1047,7 +1027,6 @@ public class BoardController {
                 JOptionPane.QUESTION_MESSAGE
             );
             boolean result = (choice == JOptionPane.YES_OPTION);
-            System.out.println("EMERGENCY: Purchase dialog result: " + (result ? "YES" : "NO"));
             return result;
         } else {
             // We're not on the EDT, so use invokeAndWait
@@ -1065,11 +1044,9 @@ public class BoardController {
                         JOptionPane.QUESTION_MESSAGE
                     );
                     result[0] = (choice == JOptionPane.YES_OPTION);
-                    System.out.println("EMERGENCY: Purchase dialog result: " + (result[0] ? "YES" : "NO"));
                 });
             } catch (Exception e) {
-                System.err.println("Error showing dialog: " + e.getMessage());
-                e.printStackTrace();
+                EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), e.getMessage());
                 return false;
             }
             return result[0];
@@ -1085,9 +1062,6 @@ public class BoardController {
         
         String message = "Do you want to buy " + property.getName() + " for $" + price + "?";
         
-        System.out.println("**************** SHOWING PURCHASE DIALOG ****************");
-        System.out.println("Asking whether to buy " + property.getName() + " for $" + price);
-        
         // Use JOptionPane.showConfirmDialog directly on the AWT Event Dispatch Thread
         // to ensure that it blocks the thread until a response is given
         final boolean[] result = new boolean[1];
@@ -1104,11 +1078,10 @@ public class BoardController {
                 result[0] = (choice == JOptionPane.YES_OPTION);
             });
         } catch (Exception e) {
-            System.err.println("Error showing property purchase dialog: " + e.getMessage());
+            EventLog.log(EventType.PURCHASE_FAILED, null, property.getName(), e.getMessage());
             return false;
         }
         
-        System.out.println("PURCHASE DIALOG RESULT: " + (result[0] ? "YES" : "NO"));
         return result[0];
     }
     
@@ -1119,15 +1092,13 @@ public class BoardController {
         try {
             // First check if property is available to be purchased
             if (!banker.getAvailableProperties().contains(property)) {
-                System.out.println("*** CRITICAL: Property " + property.getName() + " is not available for purchase!");
                 
                 // Make it available if possible
                 if (property.getOwner() == null) {
                     banker.addAvailableProperty(property);
-                    System.out.println("*** FIXED: Property " + property.getName() + " is now available for purchase");
+                    EventLog.log(EventType.PROPERTY_RELISTED, player, property.getName());
                 } else {
-                    System.out.println("*** ERROR: Property " + property.getName() + " is already owned by " + 
-                                    property.getOwner().getName());
+                    EventLog.log(EventType.SALE_REFUSED, player, property.getName(), property.getOwner().getName());
                     if (gui != null) {
                         JOptionPane.showMessageDialog(gui.getMainFrame(),
                             "Property " + property.getName() + " is already owned by " + property.getOwner().getName(),
@@ -1150,18 +1121,16 @@ public class BoardController {
                     return;
                 }
             } catch (PlayerNotFoundException pnfe) {
-                System.err.println("Player not found: " + pnfe.getMessage());
+                EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), pnfe.getMessage());
                 return;
             }
             
             // Now try to sell the property
-            System.out.println("Attempting to sell " + property.getName() + " to " + player.getName());
             banker.sellProperty(property, player);
-            System.out.println("Property sale successful!");
             
             // Update GUI
             if (gui != null) {
-                SwingUtilities.invokeLater(() -> {
+                updateGuiLater(() -> {
                     gui.displayMessage(player.getName() + " purchased " + 
                                      property.getName() + " for $" + property.getPurchasePrice());
                     gui.updatePlayerInfo(players);
@@ -1175,8 +1144,7 @@ public class BoardController {
             }
         } catch (Exception e) {
             // Handle any other unexpected errors
-            System.err.println("Error during property purchase: " + e.getMessage());
-            e.printStackTrace();
+            EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), e.getMessage());
             
             if (gui != null) {
                 JOptionPane.showMessageDialog(gui.getMainFrame(),
@@ -1195,6 +1163,7 @@ public class BoardController {
                 int rent = property.calculateRent(player);
                 banker.withdraw(player, rent);
                 banker.deposit(property.getOwner(), rent);
+                EventLog.log(EventType.RENT_PAID, player, property.getName(), property.getOwner().getName(), rent, 0);
                 
                 if (gui != null) {
                     String ownerName = property.getOwner().getName();
@@ -1206,7 +1175,7 @@ public class BoardController {
                 gui.displayMessage(property.getName() + " is mortgaged. No rent due!");
             }
         } catch (Exception e) {
-            System.err.println("Error handling rent payment: " + e.getMessage());
+            EventLog.log(EventType.ACTION_FAILED, player, "rent payment", e.getMessage());
         }
     }
     
@@ -1221,7 +1190,7 @@ public class BoardController {
         try {
             banker.deposit(player, 200); // Pay GO money
         } catch (PlayerNotFoundException e) {
-            System.err.println("Error paying GO money: " + e.getMessage());
+            EventLog.log(EventType.ACTION_FAILED, player, "GO payment", e.getMessage());
         }
     }
     
@@ -1271,7 +1240,7 @@ public class BoardController {
         try {
             banker.withdraw(player, amount);
         } catch (Exception e) {
-            System.err.println("Error paying tax: " + e.getMessage());
+            EventLog.log(EventType.ACTION_FAILED, player, "tax payment", e.getMessage());
         }
     }
     
@@ -1282,23 +1251,20 @@ public class BoardController {
         if (gui == null) return;
         
         gui.displayMessage(player.getName() + " landed on Community Chest");
-        System.out.println("CRITICAL CARD SPACE: " + player.getName() + " landed on Community Chest at position " + position);
         
         try {
             // Draw card
             Model.Cards.CommunityChestCard communityChest = Model.Cards.CommunityChestCard.getInstance();
             String cardText = communityChest.drawCard();
             gui.displayMessage(player.getName() + " drew a Community Chest card: " + cardText);
-            System.out.println("CARD TEXT: " + cardText);
+            EventLog.log(EventType.CARD_DRAWN, player, "Community Chest card", cardText);
             
             // Store original position
             int originalPosition = player.getPosition();
-            System.out.println("POSITION BEFORE CARD: " + originalPosition);
             
             // CRITICAL FIX: Check for problematic cards that might cause incorrect movement
             if (cardText.contains("Advance to GO")) {
                 // Handle "Advance to Go" manually instead of using card effect
-                System.out.println("CRITICAL CARD FIX: Handling 'Advance to GO' card directly");
                 
                 // Set position directly to 0 (GO)
                 player.setPosition(0);
@@ -1311,7 +1277,7 @@ public class BoardController {
                 try {
                     banker.deposit(player, 200);
                 } catch (Exception e) {
-                    System.err.println("Error paying GO money: " + e.getMessage());
+                    EventLog.log(EventType.ACTION_FAILED, player, "GO payment", e.getMessage());
                 }
                 
                 // Handle GO space directly
@@ -1327,13 +1293,11 @@ public class BoardController {
                 // Handle new space if position changed
                 if (player.getPosition() != originalPosition) {
                     int newPosition = player.getPosition();
-                    System.out.println("POSITION AFTER CARD: " + newPosition);
                     gui.displayMessage(player.getName() + " moved to " + 
                                     gameBoard.getBoardElements()[newPosition].getName());
                     
                     // Double check that the new position is valid
                     if (newPosition < 0 || newPosition >= 40) {
-                        System.out.println("CRITICAL ERROR: Invalid position " + newPosition + " after card effect");
                         newPosition = originalPosition; // Revert to original position if invalid
                         player.setPosition(originalPosition);
                         gui.updatePlayerPosition(player, originalPosition);
@@ -1344,8 +1308,7 @@ public class BoardController {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error with Community Chest card: " + e.getMessage());
-            e.printStackTrace();
+            EventLog.log(EventType.ACTION_FAILED, player, "Community Chest card", e.getMessage());
         }
     }
     
@@ -1356,23 +1319,20 @@ public class BoardController {
         if (gui == null) return;
         
         gui.displayMessage(player.getName() + " landed on Chance");
-        System.out.println("CRITICAL CARD SPACE: " + player.getName() + " landed on Chance at position " + position);
         
         try {
             // Draw card
             Model.Cards.ChanceCard chance = Model.Cards.ChanceCard.getInstance();
             String cardText = chance.drawCard();
             gui.displayMessage(player.getName() + " drew a Chance card: " + cardText);
-            System.out.println("CARD TEXT: " + cardText);
+            EventLog.log(EventType.CARD_DRAWN, player, "Chance card", cardText);
             
             // Store original position
             int originalPosition = player.getPosition();
-            System.out.println("POSITION BEFORE CARD: " + originalPosition);
             
             // CRITICAL FIX: Handle movement cards directly to prevent position errors
             if (cardText.contains("Advance to GO")) {
                 // Handle "Advance to Go" manually
-                System.out.println("CRITICAL CARD FIX: Handling 'Advance to GO' card directly");
                 
                 // Set position directly to 0 (GO)
                 player.setPosition(0);
@@ -1385,14 +1345,13 @@ public class BoardController {
                 try {
                     banker.deposit(player, 200);
                 } catch (Exception e) {
-                    System.err.println("Error paying GO money: " + e.getMessage());
+                    EventLog.log(EventType.ACTION_FAILED, player, "GO payment", e.getMessage());
                 }
                 
                 // Handle GO space directly
                 handleGoSpace(player);
             }
             else if (cardText.contains("Advance to Boardwalk")) {
-                System.out.println("CRITICAL CARD FIX: Handling 'Advance to Boardwalk' card directly");
                 
                 // Set position directly to 39 (Boardwalk)
                 player.setPosition(39);
@@ -1405,7 +1364,6 @@ public class BoardController {
                 handleLandedSpace(player, 39);
             }
             else if (cardText.contains("Advance to Illinois Avenue")) {
-                System.out.println("CRITICAL CARD FIX: Handling 'Advance to Illinois Avenue' card directly");
                 
                 // Set position directly to 24 (Illinois Avenue)
                 player.setPosition(24);
@@ -1418,7 +1376,6 @@ public class BoardController {
                 handleLandedSpace(player, 24);
             }
             else if (cardText.contains("Advance to St. Charles Place")) {
-                System.out.println("CRITICAL CARD FIX: Handling 'Advance to St. Charles Place' card directly");
                 
                 // Set position directly to 11 (St. Charles Place)
                 player.setPosition(11);
@@ -1431,7 +1388,6 @@ public class BoardController {
                 handleLandedSpace(player, 11);
             }
             else if (cardText.contains("Go to Jail")) {
-                System.out.println("CRITICAL CARD FIX: Handling 'Go to Jail' card directly");
                 
                 // Set position directly to 10 (Jail) and mark as in jail
                 player.setPosition(10);
@@ -1442,7 +1398,6 @@ public class BoardController {
                 gui.displayMessage(player.getName() + " is sent to Jail");
             }
             else if (cardText.contains("Go back 3 spaces")) {
-                System.out.println("CRITICAL CARD FIX: Handling 'Go back 3 spaces' card directly");
                 
                 // Calculate new position (going back 3 spaces)
                 int newPosition = originalPosition - 3;
@@ -1460,7 +1415,6 @@ public class BoardController {
                 handleLandedSpace(player, newPosition);
             }
             else if (cardText.contains("nearest Railroad")) {
-                System.out.println("CRITICAL CARD FIX: Handling 'nearest Railroad' card directly");
                 
                 // Calculate nearest railroad position
                 int currentPos = originalPosition;
@@ -1484,7 +1438,6 @@ public class BoardController {
                 handleLandedSpace(player, newPosition);
             }
             else if (cardText.contains("nearest Utility")) {
-                System.out.println("CRITICAL CARD FIX: Handling 'nearest Utility' card directly");
                 
                 // Calculate nearest utility position
                 int currentPos = originalPosition;
@@ -1514,14 +1467,11 @@ public class BoardController {
                 // Handle new space if position changed
                 if (player.getPosition() != originalPosition) {
                     int newPosition = player.getPosition();
-                    System.out.println("POSITION AFTER CARD: " + newPosition);
                     gui.displayMessage(player.getName() + " moved to " + 
                                       gameBoard.getBoardElements()[newPosition].getName());
                     
                     // Double check that the new position is valid
                     if (newPosition < 0 || newPosition >= 40) {
-                        System.out.println("CRITICAL ERROR: Invalid position " + newPosition + 
-                                          " after card effect");
                         // Revert to original position if invalid
                         newPosition = originalPosition;
                         player.setPosition(originalPosition);
@@ -1533,8 +1483,7 @@ public class BoardController {
                 }
             }
         } catch (Exception e) {
-            System.err.println("Error with Chance card: " + e.getMessage());
-            e.printStackTrace();
+            EventLog.log(EventType.ACTION_FAILED, player, "Chance card", e.getMessage());
         }
     }
     
@@ -1545,7 +1494,7 @@ public class BoardController {
         try {
             space.onLanding(player);
         } catch (PlayerNotFoundException e) {
-            System.err.println("Error on space landing: " + e.getMessage());
+            EventLog.log(EventType.LANDING_FAILED, player, e.getMessage());
         }
     }
     
@@ -1571,7 +1520,7 @@ public class BoardController {
             return true;
         } catch (Exception e) {
             // This catches PlayerNotFoundException, InsufficientFundsException, etc.
-            System.err.println("Error during property purchase: " + e.getMessage());
+            EventLog.log(EventType.PURCHASE_FAILED, player, property.getName(), e.getMessage());
             if (gui != null) {
                 gui.displayMessage("Purchase failed: " + e.getMessage());
             }
@@ -1581,6 +1530,8 @@ public class BoardController {
     
     /**
      * Auction a property when a player declines to buy it.
+     * Players bid in turn order in an ascending auction; computer players bid from their valuations
+     * without any dialog, so an auction with no human bidders resolves at once.
      * 
      * @param property The property to auction
      */
@@ -1588,85 +1539,81 @@ public class BoardController {
         if (gui != null) {
             gui.displayMessage("Starting auction for " + property.getName());
 
-            // Use a simpler auction mechanism for the MVP
-            Player winner = null;
-            int highestBid = 0;
-
-            // Simple auction: Let each player make one bid based on their computer logic
-            // or for humans, a simple dialog
-            for (Player player : players) {
-                try {
-                    int balance = banker.getBalance(player);
-                    int maxBid = Math.min(balance, property.getPurchasePrice());
-
-                    if (maxBid <= highestBid) {
-                        continue; // Can't afford to outbid
-                    }
-
-                    int bid = 0;
-                    if (player instanceof ComputerPlayer) {
-                        // Computer player bids automatically
-                        CpuController cpu = cpuControllers.get((ComputerPlayer)player);
-                        bid = cpu.decideBidAmount(property, highestBid);
-                    } else {
-                        // Human player bids via dialog
-                        String bidStr = JOptionPane.showInputDialog(gui.getMainFrame(),
-                                player.getName() + ", enter your bid for " + property.getName() +
-                                        " (minimum: $" + (highestBid + 1) + ", maximum: $" + maxBid + ")",
-                                "Auction", JOptionPane.QUESTION_MESSAGE);
-
-                        if (bidStr != null && !bidStr.isEmpty()) {
-                            try {
-                                bid = Integer.parseInt(bidStr);
-                                // Ensure bid is valid
-                                if (bid <= highestBid || bid > maxBid) {
-                                    JOptionPane.showMessageDialog(gui.getMainFrame(),
-                                            "Invalid bid amount. Must be between $" + (highestBid + 1) +
-                                                    " and $" + maxBid,
-                                            "Invalid Bid", JOptionPane.WARNING_MESSAGE);
-                                    bid = 0;
-                                }
-                            } catch (NumberFormatException e) {
-                                JOptionPane.showMessageDialog(gui.getMainFrame(),
-                                        "Please enter a valid number",
-                                        "Invalid Bid", JOptionPane.WARNING_MESSAGE);
-                                bid = 0;
-                            }
-                        }
-                    }
-
-                    // Update highest bid if this player's bid is higher
-                    if (bid > highestBid) {
-                        highestBid = bid;
-                        winner = player;
-                        gui.displayMessage(player.getName() + " bids $" + bid);
-                    }
-
-                } catch (PlayerNotFoundException e) {
-                    System.err.println("Error getting player balance: " + e.getMessage());
-                }
-            }
+            AscendingAuction auction = new AscendingAuction(players, AscendingAuction.DEFAULT_INCREMENT);
+            Player winner = auction.run(player -> player instanceof ComputerPlayer
+                    ? cpuControllers.get((ComputerPlayer) player).auctionBidder(property)
+                    : (bidder, price, minimumBid) -> askForBid(bidder, property, minimumBid));
+            int highestBid = auction.getPrice();
 
             // Complete the auction
-            if (winner != null && highestBid > 0) {
+            if (winner != null) {
                 try {
                     banker.withdraw(winner, highestBid);
                     banker.addTitleDeed(winner, property);
                     property.setOwner(winner);
+                    EventLog.log(EventType.AUCTION_WON, winner, property.getName(), highestBid);
 
                     gui.displayMessage(winner.getName() + " won the auction for " +
                             property.getName() + " with a bid of $" + highestBid);
                     gui.updatePlayerInfo(players);
                     gui.updatePropertyOwnership(property, winner);
                 } catch (Exception e) {
-                    System.err.println("Error completing auction: " + e.getMessage());
+                    EventLog.log(EventType.AUCTION_FAILED, winner, property.getName(), e.getMessage());
                 }
             } else {
                 // No bids, property remains with bank
+                EventLog.log(EventType.AUCTION_NO_BIDS, null, property.getName());
                 gui.displayMessage("No one bid on " + property.getName() + ". It remains with the bank.");
             }
         }
     }
+
+    /**
+     * Ask a human player for their next bid in an auction.
+     *
+     * @param player The player whose turn it is
+     * @param property The property being auctioned
+     * @param minimumBid The lowest bid the auction accepts
+     * @return The bid amount, or 0 if the player drops out
+     */
+    private int askForBid(Player player, Property property, int minimumBid) {
+        int maxBid;
+        try {
+            maxBid = banker.getBalance(player);
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.ACTION_FAILED, player, "auction bid", e.getMessage());
+            return 0;
+        }
+        if (maxBid < minimumBid) {
+            return 0; // Can't afford to outbid
+        }
+
+        String bidStr = JOptionPane.showInputDialog(gui.getMainFrame(),
+                player.getName() + ", enter your bid for " + property.getName() +
+                        " (minimum: $" + minimumBid + ", maximum: $" + maxBid + "), or cancel to drop out",
+                "Auction", JOptionPane.QUESTION_MESSAGE);
+        if (bidStr == null || bidStr.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            int bid = Integer.parseInt(bidStr);
+            // Ensure bid is valid
+            if (bid < minimumBid || bid > maxBid) {
+                JOptionPane.showMessageDialog(gui.getMainFrame(),
+                        "Invalid bid amount. Must be between $" + minimumBid + " and $" + maxBid,
+                        "Invalid Bid", JOptionPane.WARNING_MESSAGE);
+                return 0;
+            }
+            gui.displayMessage(player.getName() + " bids $" + bid);
+            return bid;
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(gui.getMainFrame(),
+                    "Please enter a valid number",
+                    "Invalid Bid", JOptionPane.WARNING_MESSAGE);
+            return 0;
+        }
+    }
     
     /**
      * Send a player to jail.
@@ -1699,6 +1646,7 @@ public class BoardController {
         }
         
         // Move to next player
+        MetricsRegistry.global().countTurn();
         turnManager.nextTurn();
         currentPlayer = turnManager.getCurrentPlayer();
         doubleCount = 0;
@@ -1732,13 +1680,11 @@ public class BoardController {
         Timer timer = new Timer(1500, event -> {
             // CRITICAL POSITION CHECK
             int originalPosition = cpu.getPosition();
-            System.out.println("********************************************");
-            System.out.println("CPU " + cpu.getName() + " is at position " + originalPosition + " before rolling");
+            EventLog.log(EventType.CPU_TURN, cpu, originalPosition);
             
             // Reset problematic positions
             if (originalPosition >= 40 || originalPosition < 0) {
-                System.out.println("SEVERE ERROR: CPU " + cpu.getName() + 
-                                 " has invalid position " + originalPosition + " - resetting to GO");
+                EventLog.log(EventType.POSITION_RESET, cpu, originalPosition);
                 cpu.setPosition(0);
                 originalPosition = 0;
                 
@@ -1749,14 +1695,15 @@ public class BoardController {
             }
             
             // Roll dice - we'll handle the movement ourselves for CPU to ensure accuracy
+            RollEvent rollEvent = new RollEvent();
+            rollEvent.begin();
             dice.roll();
+            rollEvent.complete(cpu, dice.getDie1(), dice.getDie2());
             int[] diceValues = {dice.getDie1(), dice.getDie2()};
             int diceSum = diceValues[0] + diceValues[1];
             boolean isDoubles = diceValues[0] == diceValues[1];
             
-            // For clear debug output
-            System.out.println("*** CPU DICE ROLLS: " + diceValues[0] + " and " + diceValues[1]);
-            System.out.println("*** CPU TOTAL: " + diceSum + " spaces");
+            EventLog.log(EventType.CPU_ROLLED, cpu, null, null, diceValues[0], diceValues[1]);
             
             // If CPU is in jail, handle jail differently
             if (cpu.isInJail()) {
@@ -1765,35 +1712,23 @@ public class BoardController {
                 try {
                     // CRITICAL FIX: ABSOLUTE CONTROL over position calculation
                     int newPosition = (originalPosition + diceSum) % 40;
-                    System.out.println("CPU POSITION CALCULATION: " + originalPosition + 
-                                     " + " + diceSum + " = " + newPosition);
                     
                     // BYPASS all other movement methods which might be causing issues
                     // Set position DIRECTLY - this is the authoritative position
                     cpu.setPosition(newPosition);
-                    System.out.println("======> CPU " + cpu.getName() + 
-                                     " MOVED FROM POSITION " + originalPosition + 
-                                     " TO POSITION " + newPosition + 
-                                     " (DICE: " + diceValues[0] + "+" + 
-                                     diceValues[1] + "=" + diceSum + ")");
+                    EventLog.log(EventType.PLAYER_MOVED, cpu, null, null, originalPosition, newPosition);
                     
                     // Triple-check position update worked
                     int verifiedPosition = cpu.getPosition();
                     if (verifiedPosition != newPosition) {
-                        System.out.println("CRITICAL CPU POSITION ERROR: Expected position " + newPosition + 
-                                         " but actual position is " + verifiedPosition + " - fixing");
+                        EventLog.log(EventType.CPU_POSITION_MISMATCH, cpu, null, null, newPosition, verifiedPosition);
                         cpu.setPosition(newPosition);
-                        
-                        // Force another check
-                        if (cpu.getPosition() != newPosition) {
-                            System.out.println("SEVERE CPU POSITION ERROR: Cannot set CPU position correctly!");
-                        }
                     }
                     
                     // Update GUI with dice first, then position - with explicit sequencing
                     if (gui != null) {
                         // Step 1: Update dice display first
-                        SwingUtilities.invokeLater(() -> {
+                        updateGuiLater(() -> {
                             gui.updateDice(diceValues[0], diceValues[1]);
                         });
                         
@@ -1801,7 +1736,7 @@ public class BoardController {
                         Thread.sleep(300);
                         
                         // Step 2: Update player position with a separate operation
-                        SwingUtilities.invokeLater(() -> {
+                        updateGuiLater(() -> {
                             // Update the token position
                             gui.updatePlayerPosition(cpu, newPosition);
                             
@@ -1819,7 +1754,7 @@ public class BoardController {
                     handleLandedSpace(cpu, newPosition);
                     
                 } catch (InterruptedException e) {
-                    System.err.println("Error updating CPU movement GUI: " + e.getMessage());
+                    EventLog.log(EventType.CPU_FAILED, cpu, e.getMessage());
                 }
             }
             
@@ -1827,12 +1762,12 @@ public class BoardController {
             int finalPosition = cpu.getPosition();
             if (!cpu.isInJail() && finalPosition != (originalPosition + diceSum) % 40 && 
                 finalPosition != 10) { // Not in jail or sent to jail
-                System.out.println("CPU POSITION DISCREPANCY DETECTED: CPU should be at " + 
-                                ((originalPosition + diceSum) % 40) + " but is at " + finalPosition);
+                EventLog.log(EventType.CPU_POSITION_MISMATCH, cpu, null, null,
+                        (originalPosition + diceSum) % 40, finalPosition);
             }
             
-            // Process other CPU actions like trading or building houses
-            // (not implemented in this version)
+            // Build what the CPU's plan says it can afford before the turn ends
+            buildForCpu(cpu, controller);
             
             // Check if CPU gets another turn due to doubles
             if (isDoubles && !cpu.isInJail() && doubleCount < 3) {
@@ -1851,6 +1786,34 @@ public class BoardController {
         timer.start();
     }
     
+    /**
+     * Buys the houses and hotels the CPU's build plan picks, one at a time, until the plan is done.
+     *
+     * @param cpu        The CPU player
+     * @param controller The CPU's controller
+     * Team member(s) responsible: Giovanny
+     */
+    private void buildForCpu(ComputerPlayer cpu, CpuController controller) {
+        if (cpu.isInJail() || !banker.getAllPlayers().contains(cpu)) {
+            return;
+        }
+        for (Property property = controller.decideBuild(); property != null; property = controller.decideBuild()) {
+            boolean hotel = property.getNumHouses() == 4;
+            if (!(hotel ? property.buyHotel(banker) : property.buyHouse(banker))) {
+                EventLog.log(EventType.PURCHASE_DECLINED, cpu, hotel ? "hotel" : "house");
+                return;
+            }
+            EventLog.log(EventType.BUILDING_BOUGHT, cpu, property.getName(), hotel ? "hotel" : "house");
+            if (gui != null) {
+                String message = cpu.getName() + " bought a " + (hotel ? "hotel" : "house") + " on " + property.getName();
+                updateGuiLater(() -> {
+                    gui.displayMessage(message);
+                    gui.updatePlayerInfo(players);
+                });
+            }
+        }
+    }
+
     /**
      * Handle a CPU player's actions when in jail.
      * 
@@ -1897,8 +1860,23 @@ public class BoardController {
                     gui.updatePlayerInfo(players);
                 }
             } catch (Exception e) {
-                // CPU can't afford it - would need to sell/mortgage properties
-                // For now, we'll just let them out anyway
+                // CPU can't afford it - mortgage what it values least and try again
+                CpuController controller = cpuControllers.get(cpu);
+                if (controller != null && controller.raiseCash(50)) {
+                    try {
+                        banker.withdraw(cpu, 50);
+                        cpu.setInJail(false);
+                        cpu.resetTurnsInJail();
+                        if (gui != null) {
+                            gui.displayMessage(cpu.getName() + " mortgaged property and paid $50 to get out of jail!");
+                            gui.updatePlayerInfo(players);
+                        }
+                        return;
+                    } catch (Exception again) {
+                        EventLog.log(EventType.CPU_FAILED, cpu, again.getMessage());
+                    }
+                }
+                // Still short, so we'll just let them out anyway
                 cpu.setInJail(false);
                 cpu.resetTurnsInJail();
                 if (gui != null) {
@@ -1912,6 +1890,156 @@ public class BoardController {
         }
     }
     
+    /**
+     * Suggests the houses and hotels a player should buy with the money they have, in the order to buy them.
+     *
+     * @param player The player to suggest builds for
+     * @return the property for each building to buy, in order, empty if nothing is worth building
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Property> suggestBuilds(Player player) {
+        List<Property> builds = new ArrayList<>();
+        ArrayList<Player> allPlayers = banker.getAllPlayers();
+        int seat = allPlayers.indexOf(player);
+        if (seat < 0) {
+            return builds;
+        }
+        GameState state = new GameState();
+        try {
+            state.copyFrom(allPlayers, banker, gameBoard);
+        } catch (PlayerNotFoundException e) {
+            return builds;
+        }
+        for (Action action : buildPlanner.plan(state, seat, state.getBalance(seat))) {
+            builds.add((Property) gameBoard.getSpace(action.getSpace()));
+        }
+        return builds;
+    }
+
+    /**
+     * The players a trade can be made with, in seat order: the seats of a suggested trade index this list.
+     *
+     * @return every player still in the game
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Player> getTradePlayers() {
+        return banker.getAllPlayers();
+    }
+
+    /**
+     * Suggests the trade that gains a player the most while the other side gains too.
+     *
+     * @param player The player to suggest a trade for
+     * @return the offer, in seats of getTradePlayers, or null if no trade is worth making
+     * Team member(s) responsible: Giovanny
+     */
+    public Trade suggestTrade(Player player) {
+        ArrayList<Player> allPlayers = banker.getAllPlayers();
+        int seat = allPlayers.indexOf(player);
+        if (seat < 0) {
+            return null;
+        }
+        GameState state = new GameState();
+        try {
+            state.copyFrom(allPlayers, banker, gameBoard);
+        } catch (PlayerNotFoundException e) {
+            return null;
+        }
+        return tradeSearch.search(state, seat);
+    }
+
+    /**
+     * Offers a trade to another player and makes it if they accept.
+     * A computer player decides with its own valuation; a human player is asked through the GUI.
+     *
+     * @param proposer The player making the offer
+     * @param partner  The player the offer is made to
+     * @param give     Spaces the proposer hands to the partner
+     * @param take     Spaces the partner hands to the proposer
+     * @param cash     Dollars the proposer pays the partner; negative when the partner pays
+     * @return true if the partner accepted and the trade was made
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean offerTrade(Player proposer, Player partner, List<BoardSpace> give, List<BoardSpace> take, int cash) {
+        boolean accepted;
+        if (partner instanceof ComputerPlayer) {
+            ArrayList<Player> allPlayers = banker.getAllPlayers();
+            CpuController controller = cpuControllers.get(partner);
+            accepted = controller != null && controller.acceptTrade(new Trade(allPlayers.indexOf(proposer),
+                    allPlayers.indexOf(partner), spacesMask(give), spacesMask(take), cash));
+        } else {
+            accepted = gui != null && gui.confirmTrade(proposer, partner, give, take, cash);
+        }
+        if (!accepted) {
+            EventLog.log(EventType.TRADE_DECLINED, proposer, partner.getName());
+            return false;
+        }
+        try {
+            banker.trade(proposer, partner, give, take, cash);
+        } catch (PlayerNotFoundException | InvalidTransactionException | InsufficientFundsException e) {
+            EventLog.log(EventType.ACTION_FAILED, proposer, "trade", e.getMessage());
+            return false;
+        }
+        if (gui != null) {
+            for (BoardSpace space : give) {
+                if (space instanceof Property) {
+                    gui.updatePropertyOwnership((Property) space, partner);
+                }
+            }
+            for (BoardSpace space : take) {
+                if (space instanceof Property) {
+                    gui.updatePropertyOwnership((Property) space, proposer);
+                }
+            }
+            gui.updatePlayerInfo(players);
+        }
+        return true;
+    }
+
+    private static long spacesMask(List<BoardSpace> spaces) {
+        long mask = 0;
+        for (BoardSpace space : spaces) {
+            mask |= OwnershipMask.bit(space.getPosition());
+        }
+        return mask;
+    }
+
+    /**
+     * The building, selling and mortgage moves the current player has on a space.
+     *
+     * @param position Board position of the space
+     * @return BUILD, SELL_BUILDING, MORTGAGE and UNMORTGAGE, for each the player can make there now
+     * Team member(s) responsible: Giovanny
+     */
+    public Set<ActionType> propertyActions(int position) {
+        Set<ActionType> actions = EnumSet.noneOf(ActionType.class);
+        ArrayList<Player> allPlayers = banker.getAllPlayers();
+        int seat = allPlayers.indexOf(currentPlayer);
+        if (seat < 0) {
+            return actions;
+        }
+        try {
+            moveState.copyFrom(allPlayers, banker, gameBoard);
+        } catch (PlayerNotFoundException e) {
+            return actions;
+        }
+        moveGenerator.update(moveState);
+        long bit = OwnershipMask.bit(position);
+        if ((moveGenerator.getBuilds(moveState, seat) & bit) != 0) {
+            actions.add(ActionType.BUILD);
+        }
+        if ((moveGenerator.getSales(moveState, seat) & bit) != 0) {
+            actions.add(ActionType.SELL_BUILDING);
+        }
+        if ((moveGenerator.getMortgages(seat) & bit) != 0) {
+            actions.add(ActionType.MORTGAGE);
+        }
+        if ((moveGenerator.getUnmortgages(moveState, seat) & bit) != 0) {
+            actions.add(ActionType.UNMORTGAGE);
+        }
+        return actions;
+    }
+
     /**
      * Get the image for a player token.
      * 
@@ -1955,8 +2083,7 @@ public class BoardController {
         int position = player.getPosition();
         // Fix invalid positions - ensure position is between 0 and 39
         if (position < 0 || position >= 40) {
-            System.out.println("CRITICAL: Fixing invalid position " + position +
-                    " for player " + player.getName());
+            EventLog.log(EventType.POSITION_RESET, player, position);
             // Set to GO as a fallback
             position = 0;
             player.setPosition(position);
@@ -1979,7 +2106,6 @@ public class BoardController {
         if (players != null) {
             for (Player player : players) {
                 player.setPosition(0);
-                System.out.println("RESET: Setting " + player.getName() + " to position 0 (GO)");
             }
         }
 
@@ -1987,7 +2113,5 @@ public class BoardController {
         if (gui != null) {
             gui.updateDice(1, 1); // Reset dice display
         }
-
-        System.out.println("BoardController game state reset complete");
     }
 }
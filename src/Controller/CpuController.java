@@ -1,17 +1,35 @@
 package Controller;
 
+import Model.Analysis.CashFlowLookahead;
+import Model.Analysis.PropertyValuation;
+import Model.Board.AuctionBidder;
 import Model.Board.Banker;
 import Model.Board.ComputerPlayer;
 import Model.Board.GameBoard;
 import Model.Board.Player;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
+import Model.Jfr.CpuDecisionEvent;
+import Model.Metrics.MetricsRegistry;
 import Model.Property.Property;
+import Model.Search.Action;
+import Model.Search.ActionType;
+import Model.Search.BuildPlanner;
+import Model.Search.LiquidationPlanner;
+import Model.Search.Trade;
+import Model.Search.TradeSearch;
+import Model.Search.Zobrist;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
 import Model.Spaces.BoardSpace;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Controller class for managing computer player behavior.
@@ -22,14 +40,22 @@ public class CpuController {
     private ComputerPlayer computerPlayer;
     private Banker banker;
     private GameBoard gameBoard;
-    private Random random;
+    private RandomGenerator random;
     
-    private double buyPropertyThreshold = 0.7; // 70% chance to buy property when landing
-    private double mortgageThreshold = 0.5; // 50% chance to mortgage properties when low on cash
-    private double bankruptcyThreshold = 300; // Consider selling properties if balance below $300
-    private Map<BoardSpace, Integer> propertyValueEstimates;
-    private double auctionBidChance = 0.6; // 60% chance to bid in auction
-    private double maxBidPercentOfValue = 1.1; // Max bid as percentage of property price
+    private final CpuProfile profile; // When to buy, how high to bid and how much risk to take
+    private Map<BoardSpace, Integer> propertyValueEstimates; // Filled from the valuation for every ownable space
+    private final MetricsRegistry metrics = MetricsRegistry.global();
+    private final GameState state = new GameState();
+    private final PropertyValuation valuation = new PropertyValuation(BoardLayout.standard());
+    private final int[] estimates = new int[BoardLayout.SPACES]; // Last values put in propertyValueEstimates
+    private final TradeSearch tradeSearch = new TradeSearch(BoardLayout.standard());
+    private final LiquidationPlanner liquidation = new LiquidationPlanner(BoardLayout.standard());
+    private final BuildPlanner buildPlanner = new BuildPlanner(BoardLayout.standard());
+    private static final int BUILD_BUDGET_STEP = 50; // The cheapest house
+    private final List<Action> pendingBuilds = new ArrayList<>(); // The rest of this turn's build plan
+    private final Zobrist zobrist = Zobrist.standard();
+    private long plannedHash; // The game the rest of the build plan is for
+    private int lastBuildBudget = -1; // Where the next budget search starts, or -1 before the first
     
     /**
      * Constructor for CpuController.
@@ -37,10 +63,34 @@ public class CpuController {
      * @param computerPlayer The computer player to control
      */
     public CpuController(ComputerPlayer computerPlayer) {
+        this(computerPlayer, new SplittableRandom());
+    }
+
+    /**
+     * Constructor for CpuController with an explicit random source,
+     * used by headless simulations that must be reproducible from a seed.
+     *
+     * @param computerPlayer The computer player to control
+     * @param random The random source for this player's decisions
+     */
+    public CpuController(ComputerPlayer computerPlayer, RandomGenerator random) {
+        this(computerPlayer, random, CpuProfile.DEFAULT);
+    }
+
+    /**
+     * Constructor for CpuController with explicit thresholds, e.g. a profile found by the tuner.
+     *
+     * @param computerPlayer The computer player to control
+     * @param random The random source for this player's decisions
+     * @param profile The thresholds to decide with
+     */
+    public CpuController(ComputerPlayer computerPlayer, RandomGenerator random, CpuProfile profile) {
         this.computerPlayer = computerPlayer;
-        this.banker = Banker.getInstance();
-        this.gameBoard = GameBoard.getInstance();
-        this.random = new Random();
+        this.profile = profile;
+        // Decide with the player's own game, which is not the shared one in a headless batch
+        this.gameBoard = computerPlayer.getBoard() != null ? computerPlayer.getBoard() : GameBoard.getInstance();
+        this.banker = gameBoard.getBanker();
+        this.random = random;
         this.propertyValueEstimates = new HashMap<>();
     }
     
@@ -59,26 +109,422 @@ public class CpuController {
     /**
      * Decide whether the computer player should buy a property.
      * 
-     * @param property The property to consider buying
+     * @param property The property, railroad or utility to consider buying
      * @return True if the computer decides to buy, false otherwise
      */
-    public boolean decidePropertyPurchase(Property property) {
+    public boolean decidePropertyPurchase(BoardSpace property) {
+        long start = System.nanoTime();
+        CpuDecisionEvent event = new CpuDecisionEvent();
+        event.begin();
+        boolean buy = purchaseDecision(property);
+        metrics.cpuDecisionLatency().recordSince(start);
+        event.complete(computerPlayer, "PURCHASE", property, buy ? 1 : 0);
+        return buy;
+    }
+
+    /**
+     * The purchase decision itself, without the metrics and JFR event around it.
+     *
+     * @param property The property, railroad or utility to consider buying
+     * @return True to buy
+     */
+    protected boolean purchaseDecision(BoardSpace property) {
         try {
             int playerMoney = banker.getBalance(computerPlayer);
             int propertyPrice = property.getPurchasePrice();
             
-            // Basic affordability check - ensure CPU has at least $100 buffer
-            if (playerMoney < propertyPrice + 100) {
+            // Basic affordability check - ensure CPU keeps its cash buffer
+            if (playerMoney < propertyPrice + profile.getPurchaseReserve()) {
+                return false;
+            }
+            int seat = updateValuation();
+            if (seat < 0) {
+                return false;
+            }
+            if (valuation.getValue(property.getPosition()) < propertyPrice * profile.getBuyValueRatio()) {
                 return false;
             }
 
-            return random.nextDouble() < buyPropertyThreshold;
+            // Only worth working out for a property the CPU would otherwise buy
+            return bankruptcyRisk(seat, propertyPrice) <= profile.getMaxBankruptcyRisk();
         } catch (PlayerNotFoundException e) {
-            System.err.println("Error getting player balance: " + e.getMessage());
+            EventLog.log(EventType.CPU_FAILED, computerPlayer, e.getMessage());
             return false;
         }
     }
     
+    /**
+     * Probability that the computer player owes more than it holds during its next turn,
+     * if it spends the given amount now. Exact, from CashFlowLookahead.
+     *
+     * @param spending Money the player is about to pay
+     * @return the probability of going broke before the turn after next
+     * @throws PlayerNotFoundException if the banker does not know the player
+     * Team member(s) responsible: Giovanny
+     */
+    public double bankruptcyRisk(int spending) throws PlayerNotFoundException {
+        int seat = updateValuation();
+        if (seat < 0) {
+            throw new PlayerNotFoundException();
+        }
+        return bankruptcyRisk(seat, spending);
+    }
+
+    private double bankruptcyRisk(int seat, int spending) {
+        if (state.getPlayerCount() < 2) {
+            return 0;
+        }
+        return new CashFlowLookahead(BoardLayout.standard(), state, seat).brokeProbabilityOverTurn(spending);
+    }
+
+    /**
+     * Copies the game into a compact state, for decisions that look ahead on a copy.
+     *
+     * @param into The state to copy into
+     * @return the computer player's seat in the copy, or -1 if the banker does not know the player
+     * @throws PlayerNotFoundException if a player is not known to the banker
+     * Team member(s) responsible: Giovanny
+     */
+    protected int copyGame(GameState into) throws PlayerNotFoundException {
+        ArrayList<Player> players = banker.getAllPlayers();
+        int seat = players.indexOf(computerPlayer);
+        if (seat >= 0) {
+            into.copyFrom(players, banker, gameBoard);
+        }
+        return seat;
+    }
+
+    /**
+     * @return the board of the computer player's game
+     */
+    protected GameBoard getGameBoard() {
+        return gameBoard;
+    }
+
+    /**
+     * @return the random source for this player's decisions
+     */
+    protected RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Copies the game and brings the property valuation up to date with it.
+     * Only the color groups, railroads or utilities that changed since the last decision are valued again,
+     * and only their spaces are refreshed in propertyValueEstimates.
+     *
+     * @return the computer player's seat in the copy, or -1 if the banker does not know the player
+     * Team member(s) responsible: Giovanny
+     */
+    private int updateValuation() throws PlayerNotFoundException {
+        int seat = copyGame(state);
+        if (seat < 0) {
+            return -1;
+        }
+        if (valuation.update(state, seat) > 0) {
+            for (int space = 0; space < BoardLayout.SPACES; space++) {
+                int value = valuation.getValue(space);
+                if (value != estimates[space]) {
+                    estimates[space] = value;
+                    propertyValueEstimates.put(gameBoard.getSpace(space), value);
+                }
+            }
+        }
+        return seat;
+    }
+
+    /**
+     * Estimated value of a space to the computer player, from the property valuation.
+     *
+     * @param property The property, railroad or utility
+     * @return value in dollars, or 0 if it has not been valued yet
+     * Team member(s) responsible: Giovanny
+     */
+    public int getPropertyValueEstimate(BoardSpace property) {
+        return propertyValueEstimates.getOrDefault(property, 0);
+    }
+
+    /**
+     * Picks the property to mortgage when the computer player needs cash:
+     * the one that gives up the least value per dollar raised.
+     *
+     * @return the property to mortgage, or null if none can be mortgaged
+     * Team member(s) responsible: Giovanny
+     */
+    public Property decideMortgage() {
+        try {
+            if (updateValuation() < 0) {
+                return null;
+            }
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.CPU_FAILED, computerPlayer, e.getMessage());
+            return null;
+        }
+        Property best = null;
+        double bestCost = Double.MAX_VALUE;
+        for (int space = 0; space < BoardLayout.SPACES; space++) {
+            BoardSpace boardSpace = gameBoard.getSpace(space);
+            if (!(boardSpace instanceof Property) || boardSpace.getOwner() != computerPlayer) {
+                continue;
+            }
+            Property property = (Property) boardSpace;
+            if (!property.canMortgage() || property.getMortgageValue() <= 0) {
+                continue;
+            }
+            double cost = (double) valuation.getValue(space) / property.getMortgageValue();
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = property;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Sells buildings and mortgages properties until the computer player holds the amount.
+     *
+     * @param amount Money the player needs to hold
+     * @return true if the player now holds the amount
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean raiseCash(int amount) {
+        long start = System.nanoTime();
+        try {
+            return liquidate(amount);
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.CPU_FAILED, computerPlayer, e.getMessage());
+            return false;
+        } finally {
+            metrics.cpuDecisionLatency().recordSince(start);
+        }
+    }
+
+    /**
+     * How raiseCash raises the money. The value-based CPU follows the LiquidationPlanner,
+     * which gives up the buildings and properties that lose the least expected rent for the cash they raise.
+     *
+     * @param amount Money the player needs to hold
+     * @return true if the player now holds the amount
+     * @throws PlayerNotFoundException if the banker does not know the player
+     * Team member(s) responsible: Giovanny
+     */
+    protected boolean liquidate(int amount) throws PlayerNotFoundException {
+        int seat = copyGame(state);
+        List<Action> plan = seat < 0 ? null : liquidation.plan(state, seat, amount);
+        if (plan == null) {
+            return false;
+        }
+        for (Action action : plan) {
+            Property property = (Property) gameBoard.getSpace(action.getSpace());
+            boolean done;
+            if (action.getType() == ActionType.MORTGAGE) {
+                done = property.mortgage();
+            } else {
+                done = property.hasHotel() ? property.sellHotel(banker) : property.sellHouse(banker);
+            }
+            if (!done) {
+                break;
+            }
+        }
+        return banker.getBalance(computerPlayer) >= amount;
+    }
+
+    /**
+     * Mortgages the property decideMortgage picks, one at a time, until the computer player holds the amount.
+     * Lets CPUs that search their mortgages raise cash with that search before selling buildings.
+     *
+     * @param amount Money the player needs to hold
+     * @return true if the player now holds the amount
+     * @throws PlayerNotFoundException if the banker does not know the player
+     * Team member(s) responsible: Giovanny
+     */
+    protected final boolean mortgageUntil(int amount) throws PlayerNotFoundException {
+        while (banker.getBalance(computerPlayer) < amount) {
+            Property property = decideMortgage();
+            if (property == null || !property.mortgage()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Picks a property to put one more house, or a hotel, on at the end of the turn:
+     * the first step of the BuildPlanner's plan for what the CPU can spend without much risk of going broke.
+     *
+     * @return the property to build on, or null to build nothing
+     * Team member(s) responsible: Giovanny
+     */
+    public Property decideBuild() {
+        long start = System.nanoTime();
+        try {
+            int seat = copyGame(state);
+            int space = seat < 0 ? -1 : nextBuild(seat);
+            if (space < 0) {
+                return null;
+            }
+            pendingBuilds.remove(0);
+            state.setBuildingLevel(space, state.getBuildingLevel(space) + 1);
+            state.addBalance(seat, -BoardLayout.standard().housePrice(space));
+            plannedHash = zobrist.hash(state);
+            return (Property) gameBoard.getSpace(space);
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.CPU_FAILED, computerPlayer, e.getMessage());
+            return null;
+        } finally {
+            metrics.cpuDecisionLatency().recordSince(start);
+        }
+    }
+
+    /**
+     * Whether one more house, or a hotel, on the property is the next step of the CPU's build plan.
+     *
+     * @param property The property to build on
+     * @return true if the CPU should build there now
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean shouldBuild(Property property) {
+        try {
+            int seat = copyGame(state);
+            return seat >= 0 && nextBuild(seat) == property.getPosition();
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.CPU_FAILED, computerPlayer, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * The next space of the build plan for the game in state. The plan is made once per turn:
+     * it still holds while the only changes to the game are its own steps, and an empty plan holds until
+     * anything else changes.
+     *
+     * @return the space to build on next, or -1 to build nothing
+     */
+    private int nextBuild(int seat) {
+        long hash = zobrist.hash(state);
+        if (hash != plannedHash) {
+            pendingBuilds.clear();
+            List<Action> plan = buildPlanner.plan(state, seat, state.getBalance(seat));
+            if (!plan.isEmpty()) {
+                int cost = buildCost(plan);
+                int budget = buildBudget(seat, cost);
+                // The whole plan is usually safe; otherwise plan again for what can be spent safely
+                pendingBuilds.addAll(budget >= cost ? plan : buildPlanner.plan(state, seat, budget));
+            }
+            plannedHash = hash;
+        }
+        return pendingBuilds.isEmpty() ? -1 : pendingBuilds.get(0).getSpace();
+    }
+
+    private static int buildCost(List<Action> plan) {
+        int cost = 0;
+        for (Action action : plan) {
+            cost += BoardLayout.standard().housePrice(action.getSpace());
+        }
+        return cost;
+    }
+
+    /**
+     * The most the CPU can spend on a plan, in steps of the cheapest house up to the plan's cost,
+     * while its chance of going broke during the next turn stays within the profile's maxBankruptcyRisk.
+     * The budget moves little from turn to turn, so the search starts from the last one and widens
+     * its steps until it brackets the new one. Every step asks the same lookahead.
+     */
+    private int buildBudget(int seat, int cost) {
+        CashFlowLookahead lookahead = state.getPlayerCount() < 2 ? null
+                : new CashFlowLookahead(BoardLayout.standard(), state, seat);
+        int top = (cost + BUILD_BUDGET_STEP - 1) / BUILD_BUDGET_STEP;
+        int guess = lastBuildBudget < 0 ? top : Math.min(top, lastBuildBudget / BUILD_BUDGET_STEP);
+        int low;
+        int high;
+        if (isSafeSpend(lookahead, guess, cost)) {
+            low = guess;
+            high = top;
+            for (int step = 1; low < high; step *= 2) {
+                int probe = Math.min(high, low + step);
+                if (!isSafeSpend(lookahead, probe, cost)) {
+                    high = probe - 1;
+                    break;
+                }
+                low = probe;
+            }
+        } else {
+            low = -1;
+            high = guess - 1;
+            for (int step = 1; low < high; step *= 2) {
+                int probe = Math.max(0, high - step + 1);
+                if (isSafeSpend(lookahead, probe, cost)) {
+                    low = probe;
+                    break;
+                }
+                high = probe - 1;
+            }
+        }
+        while (low < high) {
+            int middle = (low + high + 1) / 2;
+            if (isSafeSpend(lookahead, middle, cost)) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        lastBuildBudget = Math.max(0, Math.min(cost, low * BUILD_BUDGET_STEP));
+        return lastBuildBudget;
+    }
+
+    private boolean isSafeSpend(CashFlowLookahead lookahead, int steps, int cost) {
+        return lookahead == null || lookahead.brokeProbabilityOverTurn(Math.min(cost, steps * BUILD_BUDGET_STEP))
+                <= profile.getMaxBankruptcyRisk();
+    }
+
+    /**
+     * Decides how to try to leave jail at the start of a turn there.
+     * The value-based CPU always rolls for doubles, and pays or uses a card only when it has to.
+     *
+     * @return ROLL_FOR_DOUBLES, PAY_JAIL_FINE or USE_JAIL_CARD
+     * Team member(s) responsible: Giovanny
+     */
+    public ActionType decideJail() {
+        return ActionType.ROLL_FOR_DOUBLES;
+    }
+
+    /**
+     * Looks for a trade with another player that gains the CPU the most while the other player gains too,
+     * e.g. swapping properties so that both complete a color group.
+     *
+     * @return the offer, in seats of the banker's player list, or null to offer nothing
+     * Team member(s) responsible: Giovanny
+     */
+    public Trade proposeTrade() {
+        long start = System.nanoTime();
+        try {
+            int seat = copyGame(state);
+            return seat < 0 ? null : tradeSearch.search(state, seat);
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.CPU_FAILED, computerPlayer, e.getMessage());
+            return null;
+        } finally {
+            metrics.cpuDecisionLatency().recordSince(start);
+        }
+    }
+
+    /**
+     * Decides whether to accept a trade another player offers.
+     *
+     * @param trade The offer, in seats of the banker's player list
+     * @return true if the CPU is a side of the trade and gains enough from it
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean acceptTrade(Trade trade) {
+        try {
+            int seat = copyGame(state);
+            return (seat == trade.getPartner() || seat == trade.getProposer()) && tradeSearch.accepts(state, trade, seat);
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.CPU_FAILED, computerPlayer, e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Get the computer player for this controller.
      * 
@@ -89,40 +535,94 @@ public class CpuController {
     }
     
     /**
-     * Handle bidding in an auction.
+     * Handle bidding in an auction, for bidders made by biddingEachRound().
      * 
      * @param property The property being auctioned
      * @param currentHighestBid The current highest bid
      * @return The bid amount, or 0 if passing
      */
-    public int decideBidAmount(Property property, int currentHighestBid) {
+    public int decideBidAmount(BoardSpace property, int currentHighestBid) {
+        long start = System.nanoTime();
+        CpuDecisionEvent event = new CpuDecisionEvent();
+        event.begin();
+        int bid = bidDecision(property, currentHighestBid);
+        metrics.cpuDecisionLatency().recordSince(start);
+        event.complete(computerPlayer, "BID", property, bid);
+        return bid;
+    }
+
+    /**
+     * The bid decision itself, without the metrics and JFR event around it.
+     *
+     * @param property The property being auctioned
+     * @param currentHighestBid The current highest bid
+     * @return The bid amount, or 0 if passing
+     */
+    protected int bidDecision(BoardSpace property, int currentHighestBid) {
+        int minBid = currentHighestBid + 5; // Minimum increment of $5
+        int maxBid = bidLimit(property);
+        if (maxBid < minBid) {
+            return 0; // Pass if can't afford to outbid
+        }
+
+        // Generate a bid between minBid and maxBid
+        return minBid + random.nextInt(maxBid - minBid + 1);
+    }
+
+    /**
+     * Bidder for an ascending auction of the property. It raises by the minimum until the price passes
+     * the most the CPU will pay, which is worked out once, when the auction starts.
+     * Controllers whose bidDecision looks at each raise, such as a search, return biddingEachRound() instead.
+     *
+     * @param property The property being auctioned
+     * @return the bidder
+     * Team member(s) responsible: Giovanny
+     */
+    public AuctionBidder auctionBidder(BoardSpace property) {
+        long start = System.nanoTime();
+        CpuDecisionEvent event = new CpuDecisionEvent();
+        event.begin();
+        int limit = bidLimit(property);
+        metrics.cpuDecisionLatency().recordSince(start);
+        event.complete(computerPlayer, "BID_LIMIT", property, limit);
+        return AuctionBidder.upTo(limit);
+    }
+
+    /**
+     * Bidder for an ascending auction that asks decideBidAmount() each time the bid comes round.
+     * A raise the decision makes below the auction's minimum is made at the minimum.
+     *
+     * @param property The property being auctioned
+     * @return the bidder
+     * Team member(s) responsible: Giovanny
+     */
+    protected final AuctionBidder biddingEachRound(BoardSpace property) {
+        return (player, price, minimumBid) -> {
+            int bid = decideBidAmount(property, price);
+            return bid > 0 ? Math.max(bid, minimumBid) : 0;
+        };
+    }
+
+    /**
+     * The most the CPU will pay for a property: a share of its estimated value,
+     * keeping the profile's bid reserve in cash.
+     *
+     * @param property The property being auctioned
+     * @return the limit, which is below any bid when the CPU will not bid at all
+     * Team member(s) responsible: Giovanny
+     */
+    protected int bidLimit(BoardSpace property) {
         try {
             int playerMoney = banker.getBalance(computerPlayer);
-            int propertyPrice = property.getPurchasePrice();
-            
-            // Check if CPU has enough money for minimum bid
-            int minBid = currentHighestBid + 5; // Minimum increment of $5
-            if (playerMoney < minBid + 50) { // Keep $50 buffer
-                return 0; // Pass if can't afford
-            }
-            
-            // Simple decision - random chance to bid or pass
-            if (random.nextDouble() > auctionBidChance) {
-                return 0; // Pass
+            if (updateValuation() < 0) {
+                return 0;
             }
-            
+
             // Maximum amount CPU is willing to pay
-            int maxBid = (int)(propertyPrice * maxBidPercentOfValue);
-            maxBid = Math.min(maxBid, playerMoney - 50); // Keep $50 buffer
-            
-            if (maxBid <= currentHighestBid) {
-                return 0; // Pass if can't afford to outbid
-            }
-            
-            // Generate a bid between minBid and maxBid
-            return minBid + random.nextInt(maxBid - minBid + 1);
+            int maxBid = (int)(valuation.getValue(property.getPosition()) * profile.getMaxBidPercentOfValue());
+            return Math.min(maxBid, playerMoney - profile.getBidReserve()); // Keep a cash buffer
         } catch (PlayerNotFoundException e) {
-            System.err.println("Error getting player balance: " + e.getMessage());
+            EventLog.log(EventType.CPU_FAILED, computerPlayer, e.getMessage());
             return 0; // Pass if there's an error
         }
     }
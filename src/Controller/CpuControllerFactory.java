@@ -0,0 +1,27 @@
+package Controller;
+
+import Model.Board.ComputerPlayer;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Makes the controller for each computer player of a headless game,
+ * so a game can seat different kinds of CPU side by side.
+ * Team member(s) responsible: Giovanny
+ */
+@FunctionalInterface
+public interface CpuControllerFactory {
+
+    /**
+     * The value-based CpuController for every seat
+     */
+    CpuControllerFactory DEFAULT = (seat, computerPlayer, random) -> new CpuController(computerPlayer, random);
+
+    /**
+     * @param seat           Seat of the player, in the order players were created
+     * @param computerPlayer The computer player to control
+     * @param random         The random source for this player's decisions
+     * @return the controller for the player
+     */
+    CpuController create(int seat, ComputerPlayer computerPlayer, RandomGenerator random);
+}
@@ -0,0 +1,200 @@
+package Controller;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * The thresholds the value-based CpuController decides with. A profile is immutable, so one can be
+ * shared by every controller of a batch, and it is saved as a properties file, e.g. by the tuner.
+ * Team member(s) responsible: Giovanny
+ */
+public final class CpuProfile {
+
+    /** Names of the thresholds, in the order values() lists them */
+    public static final String[] NAMES = {
+            "buyValueRatio", "maxBidPercentOfValue", "maxBankruptcyRisk", "purchaseReserve", "bidReserve"};
+    // The range each threshold may be tuned over
+    private static final double[] LOWER = {0.5, 0.3, 0, 0, 0};
+    private static final double[] UPPER = {2.0, 1.5, 0.3, 500, 500};
+
+    /** The thresholds the CPU has always played with */
+    public static final CpuProfile DEFAULT = new CpuProfile(1.0, 0.9, 0.05, 100, 50);
+
+    private final double buyValueRatio;
+    private final double maxBidPercentOfValue;
+    private final double maxBankruptcyRisk;
+    private final int purchaseReserve;
+    private final int bidReserve;
+
+    /**
+     * Constructor for CpuProfile
+     *
+     * @param buyValueRatio        Buy when the estimated value is at least this share of the price
+     * @param maxBidPercentOfValue Most the CPU bids, as a share of the estimated value
+     * @param maxBankruptcyRisk    Largest chance of going broke next turn a purchase or build may bring
+     * @param purchaseReserve      Cash the CPU keeps after buying a property
+     * @param bidReserve           Cash the CPU keeps after winning an auction
+     * Team member(s) responsible: Giovanny
+     */
+    public CpuProfile(double buyValueRatio, double maxBidPercentOfValue, double maxBankruptcyRisk,
+                      int purchaseReserve, int bidReserve) {
+        double[] values = {buyValueRatio, maxBidPercentOfValue, maxBankruptcyRisk, purchaseReserve, bidReserve};
+        for (int i = 0; i < values.length; i++) {
+            if (!(values[i] >= LOWER[i] && values[i] <= UPPER[i])) {
+                throw new IllegalArgumentException(NAMES[i] + " must be from " + LOWER[i] + " to " + UPPER[i]
+                        + ": " + values[i]);
+            }
+        }
+        this.buyValueRatio = buyValueRatio;
+        this.maxBidPercentOfValue = maxBidPercentOfValue;
+        this.maxBankruptcyRisk = maxBankruptcyRisk;
+        this.purchaseReserve = purchaseReserve;
+        this.bidReserve = bidReserve;
+    }
+
+    /**
+     * The profile at a point of the unit cube, each coordinate mapped linearly onto its threshold's range
+     * and clamped to it.
+     *
+     * @param point One coordinate per threshold, in the order of NAMES
+     * @return the profile
+     * Team member(s) responsible: Giovanny
+     */
+    public static CpuProfile fromUnitCube(double[] point) {
+        double[] values = new double[NAMES.length];
+        for (int i = 0; i < values.length; i++) {
+            double t = Math.max(0, Math.min(1, point[i]));
+            values[i] = LOWER[i] + t * (UPPER[i] - LOWER[i]);
+        }
+        return new CpuProfile(values[0], values[1], values[2], (int) Math.round(values[3]),
+                (int) Math.round(values[4]));
+    }
+
+    /**
+     * @return where the profile lies in the unit cube fromUnitCube() maps
+     * Team member(s) responsible: Giovanny
+     */
+    public double[] toUnitCube() {
+        double[] values = values();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (values[i] - LOWER[i]) / (UPPER[i] - LOWER[i]);
+        }
+        return values;
+    }
+
+    /**
+     * @return the thresholds, in the order of NAMES
+     * Team member(s) responsible: Giovanny
+     */
+    public double[] values() {
+        return new double[]{buyValueRatio, maxBidPercentOfValue, maxBankruptcyRisk, purchaseReserve, bidReserve};
+    }
+
+    /**
+     * @param properties Properties holding every threshold by name
+     * @return the profile they describe
+     * Team member(s) responsible: Giovanny
+     */
+    public static CpuProfile fromProperties(Properties properties) {
+        double[] values = new double[NAMES.length];
+        for (int i = 0; i < values.length; i++) {
+            String value = properties.getProperty(NAMES[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("The profile has no " + NAMES[i]);
+            }
+            values[i] = Double.parseDouble(value);
+        }
+        return new CpuProfile(values[0], values[1], values[2], (int) values[3], (int) values[4]);
+    }
+
+    /**
+     * Adds every threshold to the properties by name.
+     *
+     * @param properties Where the thresholds are put
+     * Team member(s) responsible: Giovanny
+     */
+    public void toProperties(Properties properties) {
+        double[] values = values();
+        for (int i = 0; i < values.length; i++) {
+            properties.setProperty(NAMES[i], i < 3 ? Double.toString(values[i]) : Integer.toString((int) values[i]));
+        }
+    }
+
+    /**
+     * @param file A properties file written by save()
+     * @return the profile in it
+     * @throws IOException if the file cannot be read
+     * Team member(s) responsible: Giovanny
+     */
+    public static CpuProfile load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    /**
+     * @param file Where the profile is written, as a properties file
+     * @throws IOException if the file cannot be written
+     * Team member(s) responsible: Giovanny
+     */
+    public void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        toProperties(properties);
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "CpuController thresholds");
+        }
+    }
+
+    /**
+     * @return Buy when the estimated value is at least this share of the price
+     */
+    public double getBuyValueRatio() {
+        return buyValueRatio;
+    }
+
+    /**
+     * @return Most the CPU bids, as a share of the estimated value
+     */
+    public double getMaxBidPercentOfValue() {
+        return maxBidPercentOfValue;
+    }
+
+    /**
+     * @return Largest chance of going broke next turn a purchase or build may bring
+     */
+    public double getMaxBankruptcyRisk() {
+        return maxBankruptcyRisk;
+    }
+
+    /**
+     * @return Cash the CPU keeps after buying a property
+     */
+    public int getPurchaseReserve() {
+        return purchaseReserve;
+    }
+
+    /**
+     * @return Cash the CPU keeps after winning an auction
+     */
+    public int getBidReserve() {
+        return bidReserve;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        double[] values = values();
+        for (int i = 0; i < values.length; i++) {
+            text.append(i == 0 ? "" : ", ").append(NAMES[i]).append('=')
+                    .append(i < 3 ? String.format(Locale.ROOT, "%.3f", values[i]) : Integer.toString((int) values[i]));
+        }
+        return text.toString();
+    }
+}
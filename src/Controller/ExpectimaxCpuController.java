@@ -0,0 +1,122 @@
+package Controller;
+
+import Model.Board.ComputerPlayer;
+import Model.Events.EventLog;
+import Model.Events.EventType;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.Property.Property;
+import Model.Search.Action;
+import Model.Search.ActionType;
+import Model.Search.ExpectimaxSearch;
+import Model.Search.MoveGenerator;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+import Model.Spaces.BoardSpace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Computer player that buys and bids like the value-based CPU, but builds houses and picks what to mortgage
+ * by looking a few dice rolls ahead with an ExpectimaxSearch.
+ * Team member(s) responsible: Giovanny
+ */
+public class ExpectimaxCpuController extends CpuController {
+
+    private final ExpectimaxSearch search;
+    private final GameState root = new GameState();
+    private final MoveGenerator moves = new MoveGenerator(BoardLayout.standard());
+
+    /**
+     * Constructor for ExpectimaxCpuController, with the default search depth
+     *
+     * @param computerPlayer The computer player to control
+     * @param random         The random source for this player's decisions
+     */
+    public ExpectimaxCpuController(ComputerPlayer computerPlayer, RandomGenerator random) {
+        this(computerPlayer, random, new ExpectimaxSearch(BoardLayout.standard()));
+    }
+
+    /**
+     * Constructor for ExpectimaxCpuController
+     *
+     * @param computerPlayer The computer player to control
+     * @param random         The random source for this player's decisions
+     * @param search         The search to decide with; it is not thread-safe, so it must not be shared
+     */
+    public ExpectimaxCpuController(ComputerPlayer computerPlayer, RandomGenerator random, ExpectimaxSearch search) {
+        super(computerPlayer, random);
+        this.search = search;
+    }
+
+    /**
+     * Searches building nothing against one more building on each property that can take one.
+     *
+     * @return the property to build on, or null to build nothing
+     */
+    @Override
+    public Property decideBuild() {
+        int seat = copyGame();
+        if (seat < 0) {
+            return null;
+        }
+        moves.update(root);
+        List<Action> actions = moves.builds(root, seat);
+        if (actions.size() == 1) {
+            return null;
+        }
+        Action chosen = search.search(root, seat, actions);
+        return chosen.getType() == ActionType.BUILD ? propertyAt(chosen.getSpace()) : null;
+    }
+
+    /**
+     * Searches which property costs the least to give up when cash is needed.
+     *
+     * @return the property to mortgage, or null if none can be mortgaged
+     */
+    @Override
+    public Property decideMortgage() {
+        int seat = copyGame();
+        if (seat < 0) {
+            return null;
+        }
+        List<Action> actions = new ArrayList<>();
+        moves.update(root);
+        for (Action action : moves.mortgages(seat)) {
+            if (propertyAt(action.getSpace()) != null) {
+                actions.add(action);
+            }
+        }
+        if (actions.isEmpty()) {
+            return null;
+        }
+        return propertyAt(search.search(root, seat, actions).getSpace());
+    }
+
+    /**
+     * Searches each property to mortgage in turn, and only sells buildings through the
+     * LiquidationPlanner once nothing more can be mortgaged.
+     *
+     * @param amount Money the player needs to hold
+     * @return true if the player now holds the amount
+     */
+    @Override
+    protected boolean liquidate(int amount) throws PlayerNotFoundException {
+        return mortgageUntil(amount) || super.liquidate(amount);
+    }
+
+    private int copyGame() {
+        try {
+            return copyGame(root);
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.CPU_FAILED, getComputerPlayer(), e.getMessage());
+            return -1;
+        }
+    }
+
+    private Property propertyAt(int space) {
+        BoardSpace boardSpace = getGameBoard().getSpace(space);
+        return boardSpace instanceof Property ? (Property) boardSpace : null;
+    }
+}
@@ -0,0 +1,168 @@
+package Controller;
+
+import Model.Board.AuctionBidder;
+import Model.Board.ComputerPlayer;
+import Model.Events.EventLog;
+import Model.Events.EventType;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.Property.Property;
+import Model.Search.Action;
+import Model.Search.ActionType;
+import Model.Search.LegalActions;
+import Model.Search.MctsSearch;
+import Model.Search.MoveGenerator;
+import Model.Simulation.GameState;
+import Model.Spaces.BoardSpace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Computer player that makes its buy, bid, build, mortgage and jail decisions by Monte Carlo tree search.
+ * Each decision copies the game and plays every legal choice out in rollouts until the search's time
+ * budget runs out. The search, and its threads, can be shared by several controllers.
+ * Team member(s) responsible: Giovanny
+ */
+public class MctsCpuController extends CpuController {
+
+    private final MctsSearch search;
+    private final GameState root = new GameState();
+    private final MoveGenerator moves;
+
+    /**
+     * Constructor for MctsCpuController
+     *
+     * @param computerPlayer The computer player to control
+     * @param random         The random source the rollout seeds are drawn from
+     * @param search         The search to decide with
+     */
+    public MctsCpuController(ComputerPlayer computerPlayer, RandomGenerator random, MctsSearch search) {
+        super(computerPlayer, random);
+        this.search = search;
+        this.moves = new MoveGenerator(search.getLayout());
+    }
+
+    @Override
+    protected boolean purchaseDecision(BoardSpace property) {
+        int seat = copyGame();
+        if (seat < 0) {
+            return false;
+        }
+        List<Action> actions = LegalActions.purchase(root, search.getLayout(), seat, property.getPosition());
+        return choose(seat, root.nextActiveSeat(seat), actions).getType() == ActionType.BUY;
+    }
+
+    /**
+     * Searches passing against each raise every time the bid comes round, instead of bidding up to
+     * a limit worked out once.
+     *
+     * @param property The property being auctioned
+     * @return the bidder
+     */
+    @Override
+    public AuctionBidder auctionBidder(BoardSpace property) {
+        return biddingEachRound(property);
+    }
+
+    @Override
+    protected int bidDecision(BoardSpace property, int currentHighestBid) {
+        int seat = copyGame();
+        if (seat < 0) {
+            return 0;
+        }
+        int leader = LegalActions.likelyLeader(root, seat, currentHighestBid);
+        List<Action> actions = LegalActions.bids(root, search.getLayout(), seat, property.getPosition(),
+                leader, currentHighestBid);
+        return choose(seat, root.nextActiveSeat(seat), actions).getAmount();
+    }
+
+    /**
+     * Searches building nothing against one more building on each property that can take one.
+     *
+     * @return the property to build on, or null to build nothing
+     */
+    @Override
+    public Property decideBuild() {
+        int seat = copyGame();
+        if (seat < 0) {
+            return null;
+        }
+        moves.update(root);
+        List<Action> actions = moves.builds(root, seat);
+        if (actions.size() == 1) {
+            return null;
+        }
+        Action chosen = choose(seat, root.nextActiveSeat(seat), actions);
+        return chosen.getType() == ActionType.BUILD ? propertyAt(chosen.getSpace()) : null;
+    }
+
+    /**
+     * Searches which property to give up when cash is needed. Only properties can be mortgaged in the model.
+     *
+     * @return the property to mortgage, or null if none can be mortgaged
+     */
+    @Override
+    public Property decideMortgage() {
+        int seat = copyGame();
+        if (seat < 0) {
+            return null;
+        }
+        List<Action> actions = new ArrayList<>();
+        moves.update(root);
+        for (Action action : moves.mortgages(seat)) {
+            if (propertyAt(action.getSpace()) != null) {
+                actions.add(action);
+            }
+        }
+        if (actions.isEmpty()) {
+            return null;
+        }
+        return propertyAt(choose(seat, root.nextActiveSeat(seat), actions).getSpace());
+    }
+
+    /**
+     * Searches rolling for doubles against paying the fine or using a card.
+     * The turn is the player's own, so the rollouts start with it.
+     *
+     * @return ROLL_FOR_DOUBLES, PAY_JAIL_FINE or USE_JAIL_CARD
+     */
+    @Override
+    public ActionType decideJail() {
+        int seat = copyGame();
+        if (seat < 0) {
+            return ActionType.ROLL_FOR_DOUBLES;
+        }
+        return choose(seat, seat, LegalActions.jail(root, seat)).getType();
+    }
+
+    /**
+     * Searches each property to mortgage in turn, and only sells buildings through the
+     * LiquidationPlanner once nothing more can be mortgaged.
+     *
+     * @param amount Money the player needs to hold
+     * @return true if the player now holds the amount
+     */
+    @Override
+    protected boolean liquidate(int amount) throws PlayerNotFoundException {
+        return mortgageUntil(amount) || super.liquidate(amount);
+    }
+
+    private int copyGame() {
+        try {
+            return copyGame(root);
+        } catch (PlayerNotFoundException e) {
+            EventLog.log(EventType.CPU_FAILED, getComputerPlayer(), e.getMessage());
+            return -1;
+        }
+    }
+
+    private Action choose(int seat, int nextPlayer, List<Action> actions) {
+        return search.search(root, seat, nextPlayer, actions, getRandom().nextLong()).getBestAction();
+    }
+
+    private Property propertyAt(int space) {
+        BoardSpace boardSpace = getGameBoard().getSpace(space);
+        return boardSpace instanceof Property ? (Property) boardSpace : null;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The exact distribution of one player's cash change over the next few rolls,
+ * as computed by CashFlowLookahead.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Analysis;
+
+/**
+ * Immutable distribution of a cash change. Outcomes are sorted from the biggest loss to the
+ * biggest gain. Paths where the player could not pay something are not outcomes:
+ * they are summed up in getBrokeProbability().
+ * Team member(s) responsible: Giovanny
+ */
+public final class CashFlowDistribution {
+
+    private final int[] changes;
+    private final double[] probabilities;
+    private final double brokeProbability;
+
+    CashFlowDistribution(int[] changes, double[] probabilities, double brokeProbability) {
+        this.changes = changes;
+        this.probabilities = probabilities;
+        this.brokeProbability = brokeProbability;
+    }
+
+    /**
+     * @return number of different cash changes
+     */
+    public int size() {
+        return changes.length;
+    }
+
+    /**
+     * @param index 0 for the biggest loss
+     * @return the cash change of that outcome
+     */
+    public int getChange(int index) {
+        return changes[index];
+    }
+
+    /**
+     * @param index 0 for the biggest loss
+     * @return the probability of that outcome
+     */
+    public double getProbability(int index) {
+        return probabilities[index];
+    }
+
+    /**
+     * @return the probability that the player owes more than they hold at some point
+     */
+    public double getBrokeProbability() {
+        return brokeProbability;
+    }
+
+    /**
+     * @return the expected cash change, given that the player does not go broke
+     */
+    public double getExpectedChange() {
+        double expected = 0;
+        double total = 0;
+        for (int i = 0; i < changes.length; i++) {
+            expected += changes[i] * probabilities[i];
+            total += probabilities[i];
+        }
+        return total == 0 ? 0 : expected / total;
+    }
+
+    /**
+     * @param change A cash change, negative for a loss
+     * @return the probability of ending at or below the change, going broke included
+     */
+    public double getProbabilityAtMost(int change) {
+        double probability = brokeProbability;
+        for (int i = 0; i < changes.length && changes[i] <= change; i++) {
+            probability += probabilities[i];
+        }
+        return probability;
+    }
+}
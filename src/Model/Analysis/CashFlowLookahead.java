@@ -0,0 +1,627 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Exact distribution of a player's cash change over their next rolls,
+ * worked out over every dice outcome and card draw instead of by sampling.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Analysis;
+
+import Model.Board.Banker;
+import Model.Board.Player;
+import Model.Board.RentTable;
+import Model.Cards.CardTable;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Dynamic program over one player's rolls. After each roll the paths that end in the same
+ * position, doubles count, jail turn, jail cards and cash change are merged into one state,
+ * so the work grows with the number of different cash changes, not with 36^k.
+ * The rules are the ones of CompactGame: GO money, rent (a fresh roll for utilities),
+ * taxes, every card with equal probability, three doubles and the jail fine.
+ * The other players and the board stay as they are in the state, and the player
+ * declines to buy anything, so the result is what the player has to pay, not what they choose to.
+ * The state tables are reused from run to run, so an instance is not safe to share between threads.
+ * Team member(s) responsible: Giovanny
+ */
+public final class CashFlowLookahead {
+
+    private static final int SPACES = BoardLayout.SPACES;
+    private static final int JAIL_POSITION = 10;
+    private static final int NOT_IN_JAIL = -1;
+    private static final int MAX_DOUBLES = 3;
+    private static final int MAX_JAIL_TURNS = 3;
+    private static final int MAX_JAIL_CARDS = 2;
+    private static final int JAIL_FINE = 50;
+    private static final int GO_MONEY = 200;
+    private static final int INCOME_TAX = 200;
+    private static final double INCOME_TAX_RATE = 0.1;
+    private static final int LUXURY_TAX = 75;
+    private static final double ROLL = 1.0 / 36;
+    private static final int TO_JAIL = -1;
+    private static final int INCOME_TAX_CHARGE = -1;
+    // Ordered pairs of different dice per sum, and of any dice per sum
+    private static final int[] NON_DOUBLES = {0, 0, 0, 2, 2, 4, 4, 6, 4, 4, 2, 2, 0};
+    private static final int[] WAYS = {0, 0, 1, 2, 3, 4, 5, 6, 5, 4, 3, 2, 1};
+
+    private final BoardLayout layout;
+    private final GameState state;
+    private final int seat;
+    private int startBalance;
+    private final int otherPlayers;
+    private final int[] rent = new int[SPACES];
+    private final int[] utilityMultiplier = new int[SPACES];
+    private final int maxLossPerRoll;
+    private final Landing[] landings = new Landing[SPACES];
+
+    private StateTable current = new StateTable(64);
+    private StateTable next = new StateTable(64);
+    private double broke;
+    private boolean stopAtEndOfTurn;
+    private boolean brokeOnly;
+    private int rollsLeft;
+
+    /**
+     * Prepares a lookahead for one seat of a game.
+     *
+     * @param layout The board
+     * @param state  The game; it is read here and not changed
+     * @param seat   The player whose rolls are looked at
+     * Team member(s) responsible: Giovanny
+     */
+    public CashFlowLookahead(BoardLayout layout, GameState state, int seat) {
+        this.layout = layout;
+        this.state = state;
+        this.seat = seat;
+        startBalance = state.getBalance(seat);
+        int others = 0;
+        for (int player = 0; player < state.getPlayerCount(); player++) {
+            if (player != seat && !state.isBankrupt(player)) {
+                others++;
+            }
+        }
+        otherPlayers = others;
+        for (int space = 0; space < SPACES; space++) {
+            int owner = state.getOwner(space);
+            if (owner == GameState.NO_OWNER || owner == seat || state.isMortgaged(space)) {
+                continue;
+            }
+            switch (layout.kind(space)) {
+                case BoardLayout.KIND_RAILROAD:
+                    rent[space] = RentTable.getRailroadRent(state.countOwned(owner, BoardLayout.KIND_RAILROAD, layout));
+                    break;
+                case BoardLayout.KIND_UTILITY:
+                    utilityMultiplier[space] = RentTable.getUtilityMultiplier(
+                            state.countOwned(owner, BoardLayout.KIND_UTILITY, layout));
+                    break;
+                default:
+                    rent[space] = layout.rent(space, state.getBuildingLevel(space),
+                            state.ownsGroup(owner, layout.group(space), layout));
+                    break;
+            }
+        }
+        maxLossPerRoll = JAIL_FINE + maxCharge();
+    }
+
+    /**
+     * Prepares a lookahead for a player of a game in the object model.
+     *
+     * @param player The player whose rolls are looked at
+     * @param banker The banker of the player's game
+     * @return the lookahead on a copy of the game
+     * @throws PlayerNotFoundException if the banker does not know the player
+     * Team member(s) responsible: Giovanny
+     */
+    public static CashFlowLookahead forPlayer(Player player, Banker banker) throws PlayerNotFoundException {
+        ArrayList<Player> players = banker.getAllPlayers();
+        int seat = players.indexOf(player);
+        if (seat < 0) {
+            throw new PlayerNotFoundException();
+        }
+        GameState state = new GameState();
+        state.copyFrom(players, banker, player.getBoard());
+        return new CashFlowLookahead(BoardLayout.standard(), state, seat);
+    }
+
+    /**
+     * Looks at every player still in the game, each over their own next rolls.
+     *
+     * @param layout The board
+     * @param state  The game
+     * @param rolls  Number of rolls
+     * @return one distribution per seat, null for bankrupt seats
+     * Team member(s) responsible: Giovanny
+     */
+    public static CashFlowDistribution[] forEachPlayer(BoardLayout layout, GameState state, int rolls) {
+        CashFlowDistribution[] distributions = new CashFlowDistribution[state.getPlayerCount()];
+        for (int seat = 0; seat < distributions.length; seat++) {
+            if (!state.isBankrupt(seat)) {
+                distributions[seat] = new CashFlowLookahead(layout, state, seat).overRolls(rolls);
+            }
+        }
+        return distributions;
+    }
+
+    /**
+     * A quick bound that lets callers skip the lookahead when the player holds enough money
+     * to cover the worst case.
+     *
+     * @param rolls Number of rolls
+     * @return false if the player cannot go broke in that many rolls
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean canGoBroke(int rolls) {
+        return startBalance < (long) rolls * maxLossPerRoll;
+    }
+
+    /**
+     * @param rolls Number of rolls, extra rolls for doubles and jail turns included
+     * @return the distribution of the cash change over those rolls
+     * Team member(s) responsible: Giovanny
+     */
+    public CashFlowDistribution overRolls(int rolls) {
+        return run(rolls, false);
+    }
+
+    /**
+     * The player's next turn: rolls until one is not a double or the player is in jail.
+     * getBrokeProbability() of the result is the chance of going broke before the turn after.
+     *
+     * @return the distribution of the cash change over the turn
+     * Team member(s) responsible: Giovanny
+     */
+    public CashFlowDistribution overTurn() {
+        return run(MAX_DOUBLES, true);
+    }
+
+    /**
+     * The same as overTurn().getBrokeProbability(), but much cheaper: paths that have ended
+     * the turn, or that hold enough money to cover the rest of it, are dropped instead of kept.
+     *
+     * @return the chance of going broke before the turn after next
+     * Team member(s) responsible: Giovanny
+     */
+    public double brokeProbabilityOverTurn() {
+        if (!canGoBroke(MAX_DOUBLES)) {
+            return 0;
+        }
+        brokeOnly = true;
+        expand(MAX_DOUBLES, true);
+        brokeOnly = false;
+        return broke;
+    }
+
+    /**
+     * brokeProbabilityOverTurn() as if the player first spent the amount, e.g. on buildings.
+     * The landings worked out so far are kept, so trying several amounts costs less than a new lookahead each.
+     *
+     * @param spending Money the player spends before the turn
+     * @return the chance of going broke before the turn after next
+     * Team member(s) responsible: Giovanny
+     */
+    public double brokeProbabilityOverTurn(int spending) {
+        int balance = startBalance;
+        startBalance = balance - spending;
+        try {
+            return brokeProbabilityOverTurn();
+        } finally {
+            startBalance = balance;
+        }
+    }
+
+    private CashFlowDistribution run(int rolls, boolean stopAtEndOfTurn) {
+        expand(rolls, stopAtEndOfTurn);
+        TreeMap<Integer, Double> byChange = new TreeMap<>();
+        for (int entry = 0; entry < current.size(); entry++) {
+            byChange.merge(changeOf(current.key(entry)), current.value(entry), Double::sum);
+        }
+        int[] changes = new int[byChange.size()];
+        double[] probabilities = new double[byChange.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Double> entry : byChange.entrySet()) {
+            changes[i] = entry.getKey();
+            probabilities[i] = entry.getValue();
+            i++;
+        }
+        return new CashFlowDistribution(changes, probabilities, broke);
+    }
+
+    /**
+     * Runs the dynamic program, leaving the final states in current.
+     */
+    private void expand(int rolls, boolean stopAtEndOfTurn) {
+        this.stopAtEndOfTurn = stopAtEndOfTurn;
+        broke = 0;
+        int jail = state.isInJail(seat) ? Math.min(state.getJailTurns(seat), MAX_JAIL_TURNS - 1) : NOT_IN_JAIL;
+        int cards = Math.min(state.getJailFreeCards(seat), MAX_JAIL_CARDS);
+        current.clear();
+        current.add(key(state.getPosition(seat), 0, jail, cards, 0, false), 1.0);
+
+        for (int roll = 0; roll < rolls; roll++) {
+            rollsLeft = rolls - roll - 1;
+            next.clear();
+            for (int entry = 0; entry < current.size(); entry++) {
+                long key = current.key(entry);
+                double probability = current.value(entry);
+                if (isDone(key)) {
+                    next.add(key, probability);
+                    continue;
+                }
+                // Rolls with the same sum only differ in whether they are doubles
+                for (int sum = 3; sum <= 11; sum++) {
+                    roll(positionOf(key), doublesOf(key), jailOf(key), cardsOf(key), changeOf(key),
+                            probability * NON_DOUBLES[sum] * ROLL, sum, false);
+                }
+                for (int die = 1; die <= 6; die++) {
+                    roll(positionOf(key), doublesOf(key), jailOf(key), cardsOf(key), changeOf(key),
+                            probability * ROLL, die * 2, true);
+                }
+            }
+            StateTable swap = current;
+            current = next;
+            next = swap;
+        }
+    }
+
+    private void roll(int position, int doubles, int jail, int cards, int change, double probability,
+                      int steps, boolean isDouble) {
+        if (jail != NOT_IN_JAIL) {
+            // Leaving jail moves with the roll but never earns another roll
+            if (isDouble) {
+                advance(JAIL_POSITION, steps, 0, cards, change, probability);
+            } else if (cards > 0) {
+                advance(JAIL_POSITION, steps, 0, cards - 1, change, probability);
+            } else if (jail + 1 >= MAX_JAIL_TURNS) {
+                if (canPay(change, JAIL_FINE, probability)) {
+                    advance(JAIL_POSITION, steps, 0, cards, change - JAIL_FINE, probability);
+                }
+            } else {
+                emit(JAIL_POSITION, 0, jail + 1, cards, change, probability);
+            }
+        } else if (isDouble && doubles + 1 == MAX_DOUBLES) {
+            emit(JAIL_POSITION, 0, 0, cards, change, probability);
+        } else {
+            advance(position, steps, isDouble ? doubles + 1 : 0, cards, change, probability);
+        }
+    }
+
+    private void advance(int from, int steps, int doubles, int cards, int change, double probability) {
+        // Landing exactly on GO pays through the GO space itself
+        if (from + steps > SPACES) {
+            change += GO_MONEY;
+        }
+        land((from + steps) % SPACES, doubles, cards, change, probability);
+    }
+
+    /**
+     * Applies the landing outcomes of the space to a path.
+     */
+    private void land(int space, int doubles, int cards, int change, double probability) {
+        Landing landing = landings[space];
+        if (landing == null) {
+            landing = new Landing();
+            collect(landing, space, 0, 1.0);
+            landing.sortShortfalls();
+            landings[space] = landing;
+        }
+        if (brokeOnly && (rollsLeft == 0 || stopAtEndOfTurn && doubles == 0)) {
+            // Every outcome ends the path, so only the ones that cannot be paid matter
+            broke += probability * landing.unaffordable(startBalance + change);
+            return;
+        }
+        for (int i = 0; i < landing.size; i++) {
+            int money = startBalance + change + landing.bonus[i];
+            int charge = landing.charge[i] == INCOME_TAX_CHARGE
+                    ? Math.min(INCOME_TAX, (int) (money * INCOME_TAX_RATE))
+                    : landing.charge[i];
+            double outcome = probability * landing.weight[i];
+            if (money < charge) {
+                broke += outcome;
+            } else if (landing.destination[i] == TO_JAIL) {
+                emit(JAIL_POSITION, 0, 0, cards, change + landing.bonus[i], outcome);
+            } else {
+                emit(landing.destination[i], doubles, NOT_IN_JAIL,
+                        Math.min(cards + landing.cardsGained[i], MAX_JAIL_CARDS),
+                        change + landing.bonus[i] - charge, outcome);
+            }
+        }
+    }
+
+    /**
+     * Works out everything landing on a space can lead to: money received, then one charge,
+     * and where the token ends up. Chance and Community Chest cards are played
+     * with equal probability, the same way CompactGame plays them.
+     */
+    private void collect(Landing landing, int space, int bonus, double weight) {
+        switch (layout.kind(space)) {
+            case BoardLayout.KIND_GO:
+                landing.add(space, bonus + GO_MONEY, 0, 0, weight);
+                break;
+            case BoardLayout.KIND_PROPERTY:
+            case BoardLayout.KIND_RAILROAD:
+                landing.add(space, bonus, rent[space], 0, weight);
+                break;
+            case BoardLayout.KIND_UTILITY:
+                collectUtility(landing, space, bonus, utilityMultiplier[space], weight);
+                break;
+            case BoardLayout.KIND_INCOME_TAX:
+                landing.add(space, bonus, INCOME_TAX_CHARGE, 0, weight);
+                break;
+            case BoardLayout.KIND_LUXURY_TAX:
+                landing.add(space, bonus, LUXURY_TAX, 0, weight);
+                break;
+            case BoardLayout.KIND_CHANCE:
+                collectCard(landing, CardTable.CHANCE, space, bonus, weight);
+                break;
+            case BoardLayout.KIND_COMMUNITY_CHEST:
+                collectCard(landing, CardTable.COMMUNITY_CHEST, space, bonus, weight);
+                break;
+            case BoardLayout.KIND_GO_TO_JAIL:
+                landing.add(TO_JAIL, bonus, 0, 0, weight);
+                break;
+            default:
+                landing.add(space, bonus, 0, 0, weight);
+                break;
+        }
+    }
+
+    private void collectCard(Landing landing, CardTable table, int space, int bonus, double weight) {
+        double perCard = weight / table.size();
+        for (int card = 0; card < table.size(); card++) {
+            int value = table.value(card);
+            switch (table.operation(card)) {
+                case CardTable.MOVE_TO:
+                    int moved = value <= space ? bonus + GO_MONEY : bonus;
+                    if (layout.kind(value) == BoardLayout.KIND_UTILITY) {
+                        collectUtility(landing, value, moved, utilityMultiplier[value], perCard);
+                    } else {
+                        landing.add(value, moved, rent[value], 0, perCard);
+                    }
+                    break;
+                case CardTable.MOVE_TO_NEAREST_RAILROAD:
+                    int railroad = CardTable.nearestRailroad(space);
+                    landing.add(railroad, railroad <= space ? bonus + GO_MONEY : bonus,
+                            rent[railroad] * value, 0, perCard);
+                    break;
+                case CardTable.MOVE_TO_NEAREST_UTILITY:
+                    int utility = CardTable.nearestUtility(space);
+                    collectUtility(landing, utility, utility <= space ? bonus + GO_MONEY : bonus,
+                            utilityMultiplier[utility] > 0 ? value : 0, perCard);
+                    break;
+                case CardTable.MOVE_BACK:
+                    collect(landing, (space - value + SPACES) % SPACES, bonus, perCard);
+                    break;
+                case CardTable.GO_TO_JAIL:
+                    landing.add(TO_JAIL, bonus, 0, 0, perCard);
+                    break;
+                case CardTable.COLLECT:
+                    landing.add(space, bonus + value, 0, 0, perCard);
+                    break;
+                case CardTable.PAY:
+                    landing.add(space, bonus, value, 0, perCard);
+                    break;
+                case CardTable.JAIL_FREE:
+                    landing.add(space, bonus, 0, 1, perCard);
+                    break;
+                case CardTable.REPAIRS:
+                    landing.add(space, bonus, repairCost(value, table.hotelValue(card)), 0, perCard);
+                    break;
+                case CardTable.PAY_EACH_PLAYER:
+                    landing.add(space, bonus, value * otherPlayers, 0, perCard);
+                    break;
+                case CardTable.COLLECT_FROM_EACH_PLAYER:
+                    landing.add(space, bonus + gifts(value), 0, 0, perCard);
+                    break;
+                default:
+                    landing.add(space, bonus, 0, 0, perCard);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Utility rent is a fresh roll times the multiplier.
+     */
+    private void collectUtility(Landing landing, int space, int bonus, int multiplier, double weight) {
+        if (multiplier == 0) {
+            landing.add(space, bonus, 0, 0, weight);
+            return;
+        }
+        for (int sum = 2; sum <= 12; sum++) {
+            landing.add(space, bonus, sum * multiplier, 0, weight * WAYS[sum] * ROLL);
+        }
+    }
+
+    private boolean canPay(int change, int amount, double probability) {
+        if (startBalance + change < amount) {
+            broke += probability;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The most one roll can charge besides the jail fine. A roll lands at most twice
+     * (Go Back 3 Spaces), and only the last landing charges anything.
+     */
+    private int maxCharge() {
+        int charge = Math.max(INCOME_TAX, LUXURY_TAX);
+        for (int space = 0; space < SPACES; space++) {
+            // Twice for the nearest railroad card, ten times a roll of 12 for the nearest utility card
+            charge = Math.max(charge, rent[space] * 2);
+            if (utilityMultiplier[space] > 0) {
+                charge = Math.max(charge, 12 * 10);
+            }
+        }
+        for (CardTable table : new CardTable[]{CardTable.CHANCE, CardTable.COMMUNITY_CHEST}) {
+            for (int card = 0; card < table.size(); card++) {
+                switch (table.operation(card)) {
+                    case CardTable.PAY:
+                        charge = Math.max(charge, table.value(card));
+                        break;
+                    case CardTable.REPAIRS:
+                        charge = Math.max(charge, repairCost(table.value(card), table.hotelValue(card)));
+                        break;
+                    case CardTable.PAY_EACH_PLAYER:
+                        charge = Math.max(charge, table.value(card) * otherPlayers);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return charge;
+    }
+
+    private int repairCost(int perHouse, int perHotel) {
+        int cost = 0;
+        long owned = state.getOwnedMask(seat);
+        while (owned != 0) {
+            int space = Long.numberOfTrailingZeros(owned);
+            owned &= owned - 1;
+            int level = state.getBuildingLevel(space);
+            cost += level == BoardLayout.HOTEL_LEVEL ? perHotel : level * perHouse;
+        }
+        return cost;
+    }
+
+    private int gifts(int value) {
+        int total = 0;
+        for (int player = 0; player < state.getPlayerCount(); player++) {
+            if (player != seat && !state.isBankrupt(player)) {
+                total += Math.min(value, state.getBalance(player));
+            }
+        }
+        return total;
+    }
+
+    private void emit(int position, int doubles, int jail, int cards, int change, double probability) {
+        boolean done = stopAtEndOfTurn && (jail != NOT_IN_JAIL || doubles == 0);
+        if (brokeOnly && (done || startBalance + change >= (long) rollsLeft * maxLossPerRoll)) {
+            return;
+        }
+        next.add(key(position, doubles, jail, cards, change, done), probability);
+    }
+
+    // The cash change goes in the high 32 bits, everything else in the low ones
+    private static long key(int position, int doubles, int jail, int cards, int change, boolean done) {
+        int packed = position | doubles << 6 | (jail + 1) << 8 | cards << 10 | (done ? 1 : 0) << 12;
+        return (long) change << 32 | packed;
+    }
+
+    private static int positionOf(long key) {
+        return (int) key & 0x3F;
+    }
+
+    private static int doublesOf(long key) {
+        return ((int) key >> 6) & 0x3;
+    }
+
+    private static int jailOf(long key) {
+        return (((int) key >> 8) & 0x3) - 1;
+    }
+
+    private static int cardsOf(long key) {
+        return ((int) key >> 10) & 0x3;
+    }
+
+    private static boolean isDone(long key) {
+        return (((int) key >> 12) & 0x1) != 0;
+    }
+
+    private static int changeOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * What landing on one space leads to, worked out once per space.
+     * Outcomes that end the same way are merged, so Chance and Community Chest
+     * add one entry per different result instead of one per card.
+     */
+    private static final class Landing {
+
+        private int size;
+        private int[] destination = new int[8];
+        private int[] bonus = new int[8];
+        private int[] charge = new int[8];
+        private int[] cardsGained = new int[8];
+        private double[] weight = new double[8];
+        // Charge minus money received, ascending, and the weight of that outcome and every later one
+        private int[] shortfall;
+        private double[] weightFrom;
+
+        /**
+         * @param to      Where the token ends up, or TO_JAIL
+         * @param money   Money received before paying
+         * @param amount  Money to pay, or INCOME_TAX_CHARGE
+         * @param cards   Get Out of Jail Free cards received
+         * @param chance  Probability of the outcome
+         */
+        void add(int to, int money, int amount, int cards, double chance) {
+            for (int i = 0; i < size; i++) {
+                if (destination[i] == to && bonus[i] == money && charge[i] == amount && cardsGained[i] == cards) {
+                    weight[i] += chance;
+                    return;
+                }
+            }
+            if (size == destination.length) {
+                destination = Arrays.copyOf(destination, size * 2);
+                bonus = Arrays.copyOf(bonus, size * 2);
+                charge = Arrays.copyOf(charge, size * 2);
+                cardsGained = Arrays.copyOf(cardsGained, size * 2);
+                weight = Arrays.copyOf(weight, size * 2);
+            }
+            destination[size] = to;
+            bonus[size] = money;
+            charge[size] = amount;
+            cardsGained[size] = cards;
+            weight[size] = chance;
+            size++;
+        }
+
+        /**
+         * Builds the shortfall table. Income tax never counts: it is at most a tenth of
+         * the money held, and going to jail costs nothing on the way.
+         */
+        void sortShortfalls() {
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                int net = charge[i] == INCOME_TAX_CHARGE ? -bonus[i] : charge[i] - bonus[i];
+                sorted[i] = (long) net << 32 | i;
+            }
+            Arrays.sort(sorted);
+            shortfall = new int[size];
+            weightFrom = new double[size + 1];
+            for (int i = size - 1; i >= 0; i--) {
+                shortfall[i] = (int) (sorted[i] >> 32);
+                weightFrom[i] = weightFrom[i + 1] + weight[(int) sorted[i]];
+            }
+        }
+
+        /**
+         * @param money Money held before landing
+         * @return the probability of an outcome that charges more than the money
+         */
+        double unaffordable(int money) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (shortfall[middle] > money) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return weightFrom[low];
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: This enum selects how a player leaves jail in the landing probability solver.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Analysis;
+
+public enum JailStrategy {
+
+    LONG,  // Roll for doubles for up to three turns, paying the fine on the third, as the CPUs do
+    SHORT  // Pay the fine (or use a card) on the first turn and move with that roll
+}
@@ -0,0 +1,278 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Exact long-run probability of a token ending a roll on each space,
+ * solved from the Markov chain of the board instead of estimated from simulated rolls.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Analysis;
+
+import Model.Cards.CardTable;
+import Model.Simulation.BoardLayout;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Steady state of one token moving around the board, one step per roll of the dice.
+ * A state is a position together with the doubles rolled so far this turn (0-2),
+ * or one of the three jail turns. The transitions follow the engines' rules:
+ * a third double goes straight to jail without moving, Go To Jail and the jail cards send
+ * the token to jail, and the Chance and Community Chest movement cards move it on
+ * (Go Back 3 Spaces from Chance can land on Community Chest and draw again).
+ * Every card is taken as equally likely, and a Get Out of Jail Free card is not kept
+ * for later, which is what the jail strategy covers.
+ * The chain has 123 states, so it is solved exactly by Gaussian elimination.
+ * Results are cached per board layout and jail strategy.
+ * Team member(s) responsible: Giovanny
+ */
+public final class LandingProbabilities {
+
+    public static final int JAIL_POSITION = 10;
+
+    private static final int SPACES = BoardLayout.SPACES;
+    private static final int MAX_DOUBLES = 3;
+    private static final int JAIL_TURNS = 3;
+    private static final int FREE_STATES = SPACES * MAX_DOUBLES;
+    private static final int STATES = FREE_STATES + JAIL_TURNS;
+    private static final double ROLL = 1.0 / 36;
+
+    private static final Map<BoardLayout, Map<JailStrategy, LandingProbabilities>> CACHE = new WeakHashMap<>();
+
+    private final JailStrategy jailStrategy;
+    private final double[] landing;
+    private final double inJail;
+    private final double rollsPerTurn;
+
+    private LandingProbabilities(BoardLayout layout, JailStrategy jailStrategy) {
+        this.jailStrategy = jailStrategy;
+        double[] stateProbability = solve(transitions(layout, jailStrategy));
+
+        landing = new double[SPACES];
+        double turnStarts = 0;
+        for (int state = 0; state < FREE_STATES; state++) {
+            landing[state % SPACES] += stateProbability[state];
+            if (state < SPACES) {
+                turnStarts += stateProbability[state];
+            }
+        }
+        double jail = 0;
+        for (int turn = 0; turn < JAIL_TURNS; turn++) {
+            jail += stateProbability[jailState(turn)];
+        }
+        inJail = jail;
+        // A roll starts a new turn unless the roll before it was a double
+        rollsPerTurn = 1.0 / (turnStarts + jail);
+    }
+
+    /**
+     * @return the probabilities of the standard board for a CPU that stays in jail
+     * Team member(s) responsible: Giovanny
+     */
+    public static LandingProbabilities standard() {
+        return of(BoardLayout.standard(), JailStrategy.LONG);
+    }
+
+    /**
+     * Solves the chain for a board, or returns the cached solution.
+     *
+     * @param layout       The board
+     * @param jailStrategy How the token leaves jail
+     * @return the landing probabilities of that board and strategy
+     * Team member(s) responsible: Giovanny
+     */
+    public static synchronized LandingProbabilities of(BoardLayout layout, JailStrategy jailStrategy) {
+        return CACHE.computeIfAbsent(layout, key -> new EnumMap<>(JailStrategy.class))
+                .computeIfAbsent(jailStrategy, strategy -> new LandingProbabilities(layout, strategy));
+    }
+
+    /**
+     * @return the jail strategy the chain was solved for
+     */
+    public JailStrategy getJailStrategy() {
+        return jailStrategy;
+    }
+
+    /**
+     * @param position Board position
+     * @return share of rolls that leave the token on the position, not counting time in jail,
+     * so position 10 is Just Visiting
+     */
+    public double getLandingProbability(int position) {
+        return landing[position];
+    }
+
+    /**
+     * @return a copy of getLandingProbability for every position, e.g. for a heatmap
+     */
+    public double[] getLandingProbabilities() {
+        return landing.clone();
+    }
+
+    /**
+     * @return share of rolls that leave the token in jail
+     */
+    public double getInJailProbability() {
+        return inJail;
+    }
+
+    /**
+     * @return the average number of rolls in one turn
+     */
+    public double getRollsPerTurn() {
+        return rollsPerTurn;
+    }
+
+    /**
+     * Expected number of times one player lands on the position in one of their turns,
+     * which is what rent per opponent turn is based on.
+     *
+     * @param position Board position
+     * @return landings per turn
+     */
+    public double getLandingsPerTurn(int position) {
+        return landing[position] * rollsPerTurn;
+    }
+
+    private static int freeState(int position, int doubles) {
+        return doubles * SPACES + position;
+    }
+
+    private static int jailState(int turn) {
+        return FREE_STATES + turn;
+    }
+
+    /**
+     * Builds the transition matrix, one row per state.
+     */
+    private static double[][] transitions(BoardLayout layout, JailStrategy jailStrategy) {
+        double[][] matrix = new double[STATES][STATES];
+        for (int doubles = 0; doubles < MAX_DOUBLES; doubles++) {
+            for (int position = 0; position < SPACES; position++) {
+                double[] row = matrix[freeState(position, doubles)];
+                for (int die1 = 1; die1 <= 6; die1++) {
+                    for (int die2 = 1; die2 <= 6; die2++) {
+                        if (die1 != die2) {
+                            land(layout, (position + die1 + die2) % SPACES, 0, ROLL, row);
+                        } else if (doubles + 1 == MAX_DOUBLES) {
+                            row[jailState(0)] += ROLL;
+                        } else {
+                            land(layout, (position + die1 + die2) % SPACES, doubles + 1, ROLL, row);
+                        }
+                    }
+                }
+            }
+        }
+        for (int turn = 0; turn < JAIL_TURNS; turn++) {
+            double[] row = matrix[jailState(turn)];
+            for (int die1 = 1; die1 <= 6; die1++) {
+                for (int die2 = 1; die2 <= 6; die2++) {
+                    boolean leaves = jailStrategy == JailStrategy.SHORT
+                            || die1 == die2
+                            || turn + 1 == JAIL_TURNS;
+                    if (leaves) {
+                        // Leaving jail moves with the roll but never earns another roll
+                        land(layout, (JAIL_POSITION + die1 + die2) % SPACES, 0, ROLL, row);
+                    } else {
+                        row[jailState(turn + 1)] += ROLL;
+                    }
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Adds the outcome of landing on a space to a row: the space itself, jail,
+     * or wherever a Chance or Community Chest card sends the token.
+     */
+    private static void land(BoardLayout layout, int position, int doubles, double probability, double[] row) {
+        switch (layout.kind(position)) {
+            case BoardLayout.KIND_GO_TO_JAIL:
+                row[jailState(0)] += probability;
+                break;
+            case BoardLayout.KIND_CHANCE:
+                drawCard(layout, CardTable.CHANCE, position, doubles, probability, row);
+                break;
+            case BoardLayout.KIND_COMMUNITY_CHEST:
+                drawCard(layout, CardTable.COMMUNITY_CHEST, position, doubles, probability, row);
+                break;
+            default:
+                row[freeState(position, doubles)] += probability;
+                break;
+        }
+    }
+
+    private static void drawCard(BoardLayout layout, CardTable table, int position, int doubles,
+                                 double probability, double[] row) {
+        double perCard = probability / table.size();
+        for (int card = 0; card < table.size(); card++) {
+            switch (table.operation(card)) {
+                case CardTable.MOVE_TO:
+                    land(layout, table.value(card), doubles, perCard, row);
+                    break;
+                case CardTable.MOVE_TO_NEAREST_RAILROAD:
+                    row[freeState(CardTable.nearestRailroad(position), doubles)] += perCard;
+                    break;
+                case CardTable.MOVE_TO_NEAREST_UTILITY:
+                    row[freeState(CardTable.nearestUtility(position), doubles)] += perCard;
+                    break;
+                case CardTable.MOVE_BACK:
+                    land(layout, (position - table.value(card) + SPACES) % SPACES, doubles, perCard, row);
+                    break;
+                case CardTable.GO_TO_JAIL:
+                    row[jailState(0)] += perCard;
+                    break;
+                default:
+                    row[freeState(position, doubles)] += perCard;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Solves pi = pi * P with the probabilities summing to 1.
+     * The system is the transpose of (P - I), with its last equation replaced by the sum.
+     */
+    private static double[] solve(double[][] transitions) {
+        int n = transitions.length;
+        double[][] a = new double[n][n + 1];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                a[i][j] = transitions[j][i] - (i == j ? 1 : 0);
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            a[n - 1][j] = 1;
+        }
+        a[n - 1][n] = 1;
+
+        for (int column = 0; column < n; column++) {
+            int pivot = column;
+            for (int i = column + 1; i < n; i++) {
+                if (Math.abs(a[i][column]) > Math.abs(a[pivot][column])) {
+                    pivot = i;
+                }
+            }
+            double[] swap = a[column];
+            a[column] = a[pivot];
+            a[pivot] = swap;
+            for (int i = 0; i < n; i++) {
+                if (i != column && a[i][column] != 0) {
+                    double factor = a[i][column] / a[column][column];
+                    for (int j = column; j <= n; j++) {
+                        a[i][j] -= factor * a[column][j];
+                    }
+                }
+            }
+        }
+        double[] probability = new double[n];
+        for (int i = 0; i < n; i++) {
+            // Unreachable states, like Go To Jail, come out as rounding noise around 0
+            probability[i] = Math.max(0, a[i][n] / a[i][i]);
+        }
+        return probability;
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Dollar value of every ownable space to one player, from the exact landing probabilities
+ * and the rent tables, kept up to date as ownership and buildings change.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Analysis;
+
+import Model.Board.OwnershipMask;
+import Model.Board.RentTable;
+import Model.Property.PropertyColor;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+/**
+ * Values the board for one seat. For each ownable space it keeps:
+ * <ul>
+ *     <li>the rent yield: expected rent the current owner collects per opponent turn,</li>
+ *     <li>the completion value: what the space adds towards a color group monopoly for the seat,
+ *     or what it is worth to keep a single opponent from completing one,</li>
+ *     <li>the development ROI: rent per opponent turn gained by the next house, per dollar it costs,</li>
+ *     <li>the value: what holding the space is worth to the seat, in dollars.</li>
+ * </ul>
+ * Landings per turn come from LandingProbabilities, so one opponent turn is worth
+ * landingsPerTurn times the rent. Income is counted over a horizon of a number of opponent turns,
+ * the same however many opponents there are: with fewer of them each one plays more turns in a game.
+ * <p>
+ * A color group, the railroads and the utilities are independent blocks: nothing in one depends
+ * on who owns the others. update() compares the game with the last one it saw and only works out
+ * the blocks where an owner, a building level or a mortgage changed.
+ * Team member(s) responsible: Giovanny
+ */
+public final class PropertyValuation {
+
+    public static final int DEFAULT_HORIZON_TURNS = 150;
+
+    private static final int SPACES = BoardLayout.SPACES;
+    private static final int GROUPS = PropertyColor.values().length;
+    private static final int RAILROADS = GROUPS;
+    private static final int UTILITIES = GROUPS + 1;
+    private static final int NOT_OWNABLE = -1;
+    private static final int AVERAGE_ROLL = 7;
+
+    private final BoardLayout layout;
+    private final int horizonTurns;
+    private final double[] landingsPerTurn = new double[SPACES];
+    private final int[] block = new int[SPACES];
+    private final long[] blockMask = new long[GROUPS + 2];
+    private final long ownable;
+
+    // The game the values were last worked out for
+    private final int[] owner = new int[SPACES];
+    private final int[] level = new int[SPACES];
+    private final boolean[] mortgaged = new boolean[SPACES];
+    private int seat = -1;
+
+    // What each group earns as a monopoly over the horizon
+    private final double[] completionGain = new double[GROUPS];
+    private final double[] rentYield = new double[SPACES];
+    private final int[] completionValue = new int[SPACES];
+    private final double[] developmentRoi = new double[SPACES];
+    private final int[] value = new int[SPACES];
+
+    /**
+     * Values a board for a CPU that stays in jail, over the default horizon.
+     *
+     * @param layout The board
+     * Team member(s) responsible: Giovanny
+     */
+    public PropertyValuation(BoardLayout layout) {
+        this(layout, LandingProbabilities.of(layout, JailStrategy.LONG), DEFAULT_HORIZON_TURNS);
+    }
+
+    /**
+     * @param layout        The board
+     * @param probabilities Landing probabilities of the board
+     * @param horizonTurns  Number of opponent turns that income is counted over
+     * Team member(s) responsible: Giovanny
+     */
+    public PropertyValuation(BoardLayout layout, LandingProbabilities probabilities, int horizonTurns) {
+        if (horizonTurns < 0) {
+            throw new IllegalArgumentException("The horizon cannot be negative.");
+        }
+        this.layout = layout;
+        this.horizonTurns = horizonTurns;
+        long ownableSpaces = 0;
+        for (int space = 0; space < SPACES; space++) {
+            landingsPerTurn[space] = probabilities.getLandingsPerTurn(space);
+            switch (layout.kind(space)) {
+                case BoardLayout.KIND_PROPERTY:
+                    block[space] = layout.group(space);
+                    break;
+                case BoardLayout.KIND_RAILROAD:
+                    block[space] = RAILROADS;
+                    break;
+                case BoardLayout.KIND_UTILITY:
+                    block[space] = UTILITIES;
+                    break;
+                default:
+                    block[space] = NOT_OWNABLE;
+                    break;
+            }
+            if (block[space] != NOT_OWNABLE) {
+                blockMask[block[space]] |= OwnershipMask.bit(space);
+                ownableSpaces |= OwnershipMask.bit(space);
+            }
+        }
+        this.ownable = ownableSpaces;
+        for (int group = 0; group < GROUPS; group++) {
+            completionGain[group] = completionGain(group);
+        }
+    }
+
+    /**
+     * Brings the values up to date with a game, working out again only the blocks that changed.
+     * Everything is worked out again when the seat changes.
+     *
+     * @param state The game
+     * @param seat  The player the values are for
+     * @return the number of blocks that were worked out again
+     * Team member(s) responsible: Giovanny
+     */
+    public int update(GameState state, int seat) {
+        return update(state, seat, ownable);
+    }
+
+    /**
+     * Brings the values up to date with a game that differs from the last one seen only in some spaces,
+     * e.g. a trade tried out on a copy of the game, looking at those spaces alone.
+     * Everything is worked out again when the seat changes.
+     *
+     * @param state  The game
+     * @param seat   The player the values are for
+     * @param spaces OwnershipMask of the spaces that may have changed
+     * @return the number of blocks that were worked out again
+     * Team member(s) responsible: Giovanny
+     */
+    public int update(GameState state, int seat, long spaces) {
+        boolean everything = seat != this.seat;
+        this.seat = seat;
+        int changed = 0;
+        for (long rest = everything ? ownable : spaces & ownable; rest != 0; rest &= rest - 1) {
+            int space = Long.numberOfTrailingZeros(rest);
+            int spaceOwner = state.getOwner(space);
+            int spaceLevel = state.getBuildingLevel(space);
+            boolean spaceMortgaged = state.isMortgaged(space);
+            if (everything || spaceOwner != owner[space] || spaceLevel != level[space]
+                    || spaceMortgaged != mortgaged[space]) {
+                owner[space] = spaceOwner;
+                level[space] = spaceLevel;
+                mortgaged[space] = spaceMortgaged;
+                changed |= 1 << block[space];
+            }
+        }
+        for (int remaining = changed; remaining != 0; remaining &= remaining - 1) {
+            valueBlock(Integer.numberOfTrailingZeros(remaining));
+        }
+        return Integer.bitCount(changed);
+    }
+
+    /**
+     * @return the seat the values are for, or -1 before the first update
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    /**
+     * @return the number of opponent turns that income is counted over
+     */
+    public int getHorizonTurns() {
+        return horizonTurns;
+    }
+
+    /**
+     * @param space Board position
+     * @return expected rent the current owner collects from one opponent turn, 0 if unowned or mortgaged
+     */
+    public double getRentYield(int space) {
+        return rentYield[space];
+    }
+
+    /**
+     * @param space Board position
+     * @return dollars the space adds towards a monopoly for the seat, or blocks from an opponent's
+     */
+    public int getCompletionValue(int space) {
+        return completionValue[space];
+    }
+
+    /**
+     * @param space Board position
+     * @return rent per opponent turn gained by the next house or hotel, per dollar it costs;
+     * 0 when nothing can be built there
+     */
+    public double getDevelopmentRoi(int space) {
+        return developmentRoi[space];
+    }
+
+    /**
+     * What holding the space is worth to the seat: its mortgage value, the rent it would collect
+     * over the horizon and its completion value. For a space the seat does not own,
+     * it is what the seat should pay at most to get it.
+     *
+     * @param space Board position
+     * @return value in dollars, 0 for a space that cannot be owned
+     */
+    public int getValue(int space) {
+        return value[space];
+    }
+
+    private void valueBlock(int valued) {
+        long mask = blockMask[valued];
+        for (long spaces = mask; spaces != 0; spaces &= spaces - 1) {
+            int space = Long.numberOfTrailingZeros(spaces);
+            double landings = landingsPerTurn[space];
+            rentYield[space] = owner[space] == GameState.NO_OWNER || mortgaged[space]
+                    ? 0 : landings * rentFor(space, owner[space]);
+            completionValue[space] = valued < GROUPS ? completionValue(space, mask) : 0;
+            developmentRoi[space] = valued < GROUPS ? developmentRoi(space, mask) : 0;
+            value[space] = layout.mortgageValue(space)
+                    + (int) Math.round(horizonTurns * landings * rentFor(space, seat))
+                    + completionValue[space];
+        }
+    }
+
+    /**
+     * Rent the space charges if the player holds it, next to what they already hold in its block.
+     * A utility is taken at the average roll.
+     */
+    private double rentFor(int space, int player) {
+        long others = blockMask[block[space]] & ~OwnershipMask.bit(space);
+        int held = 1 + countOwned(others, player);
+        switch (layout.kind(space)) {
+            case BoardLayout.KIND_RAILROAD:
+                return RentTable.getRailroadRent(held);
+            case BoardLayout.KIND_UTILITY:
+                return AVERAGE_ROLL * RentTable.getUtilityMultiplier(held);
+            default:
+                return layout.rent(space, level[space], held == Long.bitCount(others) + 1);
+        }
+    }
+
+    /**
+     * The share of an open group the seat would hold, squared, times what the monopoly earns;
+     * the whole of it when a single opponent holds the rest of the group.
+     */
+    private int completionValue(int space, long mask) {
+        long others = mask & ~OwnershipMask.bit(space);
+        int size = Long.bitCount(mask);
+        int seatHeld = countOwned(others, seat);
+        int unowned = countOwned(others, GameState.NO_OWNER);
+        int gain = (int) Math.round(completionGain[block[space]]);
+        if (seatHeld + unowned == size - 1) {
+            double share = (double) (seatHeld + 1) / size;
+            return (int) Math.round(share * share * gain);
+        }
+        int rival = owner[Long.numberOfTrailingZeros(others)];
+        if (rival != seat && rival != GameState.NO_OWNER && countOwned(others, rival) == size - 1) {
+            return gain;
+        }
+        return 0;
+    }
+
+    private double developmentRoi(int space, long mask) {
+        int spaceOwner = owner[space];
+        if (spaceOwner == GameState.NO_OWNER || mortgaged[space] || level[space] >= BoardLayout.HOTEL_LEVEL
+                || countOwned(mask, spaceOwner) != Long.bitCount(mask) || layout.housePrice(space) == 0) {
+            return 0;
+        }
+        int extraRent = layout.rent(space, level[space] + 1, true) - layout.rent(space, level[space], true);
+        return landingsPerTurn[space] * extraRent / layout.housePrice(space);
+    }
+
+    /**
+     * What owning the whole group earns over the horizon above its unimproved rent,
+     * built up to whichever level pays best after the cost of the buildings.
+     */
+    private double completionGain(int group) {
+        long mask = blockMask[group];
+        double best = 0;
+        for (int built = 0; built <= BoardLayout.HOTEL_LEVEL; built++) {
+            double gain = 0;
+            for (long spaces = mask; spaces != 0; spaces &= spaces - 1) {
+                int space = Long.numberOfTrailingZeros(spaces);
+                gain += horizonTurns * landingsPerTurn[space]
+                        * (layout.rent(space, built, true) - layout.rent(space, 0, false))
+                        - built * layout.housePrice(space);
+            }
+            best = Math.max(best, gain);
+        }
+        return best;
+    }
+
+    private int countOwned(long spaces, int player) {
+        int count = 0;
+        for (; spaces != 0; spaces &= spaces - 1) {
+            if (owner[Long.numberOfTrailingZeros(spaces)] == player) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Open-addressing map from a packed long state to its probability,
+ * used to merge identical states in the lookahead without boxing.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Analysis;
+
+import java.util.Arrays;
+
+/**
+ * Map from long keys to summed probabilities with linear probing.
+ * Entries are kept in insertion order in parallel arrays so they can be walked by index.
+ * Team member(s) responsible: Giovanny
+ */
+final class StateTable {
+
+    private static final int EMPTY = -1;
+
+    private int[] slots;
+    private long[] keys;
+    private double[] values;
+    private int size;
+
+    StateTable(int capacity) {
+        int tableSize = Integer.highestOneBit(Math.max(16, capacity * 2 - 1)) << 1;
+        slots = new int[tableSize];
+        Arrays.fill(slots, EMPTY);
+        keys = new long[capacity];
+        values = new double[capacity];
+    }
+
+    /**
+     * Adds the probability to the key's entry, creating it if needed.
+     */
+    void add(long key, double value) {
+        int mask = slots.length - 1;
+        int slot = hash(key) & mask;
+        while (slots[slot] != EMPTY) {
+            int entry = slots[slot];
+            if (keys[entry] == key) {
+                values[entry] += value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == keys.length) {
+            grow();
+            add(key, value);
+            return;
+        }
+        slots[slot] = size;
+        keys[size] = key;
+        values[size] = value;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long key(int entry) {
+        return keys[entry];
+    }
+
+    double value(int entry) {
+        return values[entry];
+    }
+
+    void clear() {
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        int oldSize = size;
+        slots = new int[slots.length * 2];
+        Arrays.fill(slots, EMPTY);
+        keys = new long[oldKeys.length * 2];
+        values = new double[oldValues.length * 2];
+        size = 0;
+        for (int entry = 0; entry < oldSize; entry++) {
+            add(oldKeys[entry], oldValues[entry]);
+        }
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Ascending (English) auction of one property, driven one bid or pass at a time.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Board;
+
+import Model.Events.EventLog;
+import Model.Events.EventType;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Ascending auction: players take turns in order, each either raising the price by at least
+ * the minimum increment or dropping out for good. The auction is over when only the highest bidder
+ * is left, or when everyone has dropped out without a bid.
+ * <p>
+ * The bidders still in are kept in a ring of array indices, so a bid or a pass is O(1)
+ * however many players started. A UI drives the auction with bid() and pass() as players act;
+ * run() drives it with an AuctionBidder per player and needs no UI at all.
+ * Team member(s) responsible: Giovanny
+ */
+public final class AscendingAuction {
+
+    /** The usual minimum raise, in dollars */
+    public static final int DEFAULT_INCREMENT = 10;
+    private static final int NONE = -1;
+
+    private final Player[] bidders;
+    private final int[] next;
+    private final int[] previous;
+    private final int increment;
+    private int current;
+    private int active;
+    private int leader = NONE;
+    private int price;
+    private int bids;
+
+    /**
+     * @param players   The players bidding, in the order they take turns
+     * @param increment The least a bid must raise the price by; the opening bid must be at least this much
+     * Team member(s) responsible: Giovanny
+     */
+    public AscendingAuction(List<Player> players, int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Minimum increment must be positive: " + increment);
+        }
+        int count = players.size();
+        this.bidders = players.toArray(new Player[0]);
+        this.next = new int[count];
+        this.previous = new int[count];
+        this.increment = increment;
+        for (int i = 0; i < count; i++) {
+            next[i] = (i + 1) % count;
+            previous[i] = (i + count - 1) % count;
+        }
+        this.active = count;
+        this.current = count > 0 ? 0 : NONE;
+    }
+
+    /**
+     * Runs the auction to the end, asking each player's bidder in turn.
+     * A bidder is looked up once per player, not once per turn.
+     *
+     * @param bidderFor The bidder for each player
+     * @return the winner, or null if nobody bid
+     * Team member(s) responsible: Giovanny
+     */
+    public Player run(Function<Player, AuctionBidder> bidderFor) {
+        AuctionBidder[] strategies = new AuctionBidder[bidders.length];
+        for (int i = 0; i < bidders.length; i++) {
+            strategies[i] = bidderFor.apply(bidders[i]);
+        }
+        while (!isOver()) {
+            int minimum = getMinimumBid();
+            int amount = strategies[current].bid(bidders[current], price, minimum);
+            if (amount >= minimum) {
+                bid(amount);
+            } else {
+                pass();
+            }
+        }
+        return getWinner();
+    }
+
+    /**
+     * The current bidder raises the price to the amount, and the turn moves on.
+     *
+     * @param amount The new price, at least getMinimumBid()
+     * Team member(s) responsible: Giovanny
+     */
+    public void bid(int amount) {
+        checkNotOver();
+        if (amount < getMinimumBid()) {
+            throw new IllegalArgumentException("Bid of $" + amount + " is below the minimum of $" + getMinimumBid());
+        }
+        price = amount;
+        leader = current;
+        bids++;
+        EventLog.log(EventType.AUCTION_BID, bidders[current], amount);
+        current = next[current];
+    }
+
+    /**
+     * The current bidder drops out of the auction, and the turn moves on.
+     * Team member(s) responsible: Giovanny
+     */
+    public void pass() {
+        checkNotOver();
+        EventLog.log(EventType.AUCTION_PASS, bidders[current]);
+        int after = next[current];
+        next[previous[current]] = after;
+        previous[after] = previous[current];
+        active--;
+        current = active > 0 ? after : NONE;
+    }
+
+    private void checkNotOver() {
+        if (isOver()) {
+            throw new IllegalStateException("The auction is over");
+        }
+    }
+
+    /**
+     * @return true once only the highest bidder is left, or everyone has dropped out
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean isOver() {
+        return active == 0 || (active == 1 && leader != NONE);
+    }
+
+    /**
+     * @return the player whose turn it is, or null if the auction is over
+     */
+    public Player getCurrentBidder() {
+        return isOver() ? null : bidders[current];
+    }
+
+    /**
+     * @return the highest bidder so far, or null if nobody has bid
+     */
+    public Player getLeader() {
+        return leader == NONE ? null : bidders[leader];
+    }
+
+    /**
+     * @return the winner once the auction is over, or null if nobody bid or it is not over
+     */
+    public Player getWinner() {
+        return isOver() ? getLeader() : null;
+    }
+
+    /**
+     * @return the highest bid so far, or 0 if nobody has bid
+     */
+    public int getPrice() {
+        return price;
+    }
+
+    /**
+     * @return the lowest bid the current bidder may make
+     */
+    public int getMinimumBid() {
+        return price + increment;
+    }
+
+    /**
+     * @return how many players have not dropped out
+     */
+    public int getActiveBidders() {
+        return active;
+    }
+
+    /**
+     * @return how many bids have been made
+     */
+    public int getBids() {
+        return bids;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: How a player bids when an AscendingAuction asks for a bid.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Board;
+
+/**
+ * Decides a player's bid when it is their turn in an AscendingAuction.
+ * Team member(s) responsible: Giovanny
+ */
+@FunctionalInterface
+public interface AuctionBidder {
+
+    /**
+     * @param player     The player whose turn it is
+     * @param price      The current highest bid, or 0 if nobody has bid
+     * @param minimumBid The lowest bid the auction accepts
+     * @return the amount to bid, or anything below minimumBid to drop out
+     * Team member(s) responsible: Giovanny
+     */
+    int bid(Player player, int price, int minimumBid);
+
+    /**
+     * A bidder that raises by the minimum until the price would pass its limit, then drops out.
+     * Against other bidders like it, the one with the highest limit wins for about the second-highest limit.
+     *
+     * @param limit The most the player will pay
+     * @return the bidder
+     * Team member(s) responsible: Giovanny
+     */
+    static AuctionBidder upTo(int limit) {
+        return (player, price, minimumBid) -> minimumBid <= limit ? minimumBid : 0;
+    }
+}
@@ -6,7 +6,13 @@
  */
 
 package Model.Board;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.InsufficientFundsException;
+import Model.Jfr.AuctionEvent;
+import Model.Jfr.TransactionEvent;
+import Model.Metrics.MetricsRegistry;
+import Model.Metrics.TransactionType;
 import Model.Exceptions.InvalidTransactionException;
 import Model.Exceptions.PlayerAlreadyExistsException;
 import Model.Exceptions.PlayerNotFoundException;
@@ -18,6 +24,8 @@ import Model.Spaces.Railroad;
 import Model.Spaces.UtilitySpace;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
 
 public class Banker {
 
@@ -32,18 +40,43 @@ public class Banker {
     private static Banker instance;
     private boolean auctionInProgress;
     private BoardSpace propertyBeingAuctioned;
-    private HashMap<Player, Boolean> auctionParticipants;
-    private Player highestBidder;
-    private int highestBid;
-    private static final int MINIMUM_BID_INCREMENT = 10;
+    private static final int MINIMUM_BID_INCREMENT = AscendingAuction.DEFAULT_INCREMENT;
+    private RandomGenerator auctionRandom;
+    private DebtHandler debtHandler;
+    private final MetricsRegistry metrics = MetricsRegistry.global();
 
-    private Banker() {
-        this.playerBalances = new HashMap<>();
+    /**
+     * Creates a banker for one game. The GUI shares one through getInstance(),
+     * while every GameContext owns its own.
+     * Team member(s) responsible: Giovanny
+     */
+    public Banker() {
+        // Kept in join order, so getAllPlayers() and every "each player" card go around the table the same way every game
+        this.playerBalances = new LinkedHashMap<>();
         this.availableProperties = new ArrayList<>();
         this.availableHouses = MAX_HOUSES;
         this.availableHotels = MAX_HOTELS;
         this.titleDeeds = new HashMap<>();
+        this.auctionRandom = new SplittableRandom();
+    }
 
+    /**
+     * Sets the stream placeholder auction bids are drawn from, normally the game's auction stream.
+     * @param auctionRandom the random source for bids
+     * Team member(s) responsible: Giovanny
+     */
+    public void setAuctionRandom(RandomGenerator auctionRandom) {
+        this.auctionRandom = auctionRandom;
+    }
+
+    /**
+     * Sets who a player short of cash asks to raise it before a payment fails, e.g. a CPU selling buildings.
+     * Without one, a payment the player cannot cover throws InsufficientFundsException straight away.
+     * @param debtHandler the handler, or null for none
+     * Team member(s) responsible: Giovanny
+     */
+    public void setDebtHandler(DebtHandler debtHandler) {
+        this.debtHandler = debtHandler;
     }
 
     /**
@@ -139,6 +172,14 @@ public class Banker {
      * Team member(s) responsible: Jamell
      */
     public void deposit(Player player, int amount) throws PlayerNotFoundException {
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        applyDeposit(player, amount);
+        metrics.countTransaction(TransactionType.DEPOSIT);
+        event.complete(TransactionType.DEPOSIT, player, null, amount);
+    }
+
+    private void applyDeposit(Player player, int amount) throws PlayerNotFoundException {
         if (!playerBalances.containsKey(player)) {
             throw new PlayerNotFoundException();
         }
@@ -157,6 +198,24 @@ public class Banker {
      * Team member(s) responsible: Jamell
      */
     public void withdraw(Player player, int amount) throws PlayerNotFoundException, InvalidTransactionException, InsufficientFundsException {
+        coverDebt(player, amount);
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        applyWithdraw(player, amount);
+        metrics.countTransaction(TransactionType.WITHDRAWAL);
+        event.complete(TransactionType.WITHDRAWAL, player, null, amount);
+    }
+
+    /**
+     * Lets a player who cannot pay the amount raise cash first, if a DebtHandler is set.
+     */
+    private void coverDebt(Player player, int amount) throws PlayerNotFoundException {
+        if (debtHandler != null && amount > 0 && getBalance(player) < amount) {
+            debtHandler.raiseCash(player, amount);
+        }
+    }
+
+    private void applyWithdraw(Player player, int amount) throws PlayerNotFoundException {
         if (!playerBalances.containsKey(player)) {
             throw new PlayerNotFoundException();
         }
@@ -180,31 +239,24 @@ public class Banker {
      * Team member(s) responsible: Jamell
      */
     public void addTitleDeed(Player player, BoardSpace property) {
-        System.out.println("BANKER: Adding " + property.getName() +
-                " to " + player.getName() + "'s title deeds");
-
         // Ensure property has correct owner set
         property.setOwner(player);
 
         // Ensure player has an entry in titleDeeds map
         if (!titleDeeds.containsKey(player)) {
             titleDeeds.put(player, new ArrayList<>());
-            System.out.println("BANKER: Created new title deed list for " + player.getName());
         }
 
         // Add the property to player's title deeds if not already there
         ArrayList<BoardSpace> properties = titleDeeds.get(player);
         if (!properties.contains(property)) {
             properties.add(property);
-            System.out.println("BANKER: Added " + property.getName() + " to deed list");
-        } else {
-            System.out.println("BANKER: Property was already in deed list");
+            EventLog.log(EventType.TITLE_DEED_ADDED, player, property.getName());
         }
 
         // Remove property from available properties
         if (availableProperties.contains(property)) {
             availableProperties.remove(property);
-            System.out.println("BANKER: Removed property from available list");
         }
     }
 
@@ -260,11 +312,99 @@ public class Banker {
         if (amount < 0) {
             throw new InvalidTransactionException();
         }
+        coverDebt(from, amount);
         if (getBalance(from) < amount) {
             throw new InsufficientFundsException();
         }
-        withdraw(from, amount);
-        deposit(to, amount);
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        applyWithdraw(from, amount);
+        applyDeposit(to, amount);
+        metrics.countTransaction(TransactionType.TRANSFER);
+        event.complete(TransactionType.TRANSFER, from, to, amount);
+    }
+
+    /**
+     * Pay rent from one player to another. The same as transferMoney, but counted as rent.
+     *
+     * @param from   The player paying rent
+     * @param to     The owner of the space
+     * @param amount The rent
+     * @throws PlayerNotFoundException    if either player is not found
+     * @throws InsufficientFundsException if the paying player cannot cover the rent
+     * Team member(s) responsible: Giovanny
+     */
+    public void payRent(Player from, Player to, int amount) throws PlayerNotFoundException {
+        if (amount < 0) {
+            throw new InvalidTransactionException();
+        }
+        coverDebt(from, amount);
+        if (getBalance(from) < amount) {
+            throw new InsufficientFundsException();
+        }
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        applyWithdraw(from, amount);
+        applyDeposit(to, amount);
+        metrics.recordRent(amount);
+        event.complete(TransactionType.RENT, from, to, amount);
+    }
+
+    /**
+     * Trade properties and cash between two players. Nothing changes hands unless the whole trade can be made.
+     *
+     * @param proposer The player making the offer
+     * @param partner  The player accepting it
+     * @param give     Spaces the proposer hands to the partner
+     * @param take     Spaces the partner hands to the proposer
+     * @param cash     Dollars the proposer pays the partner; negative when the partner pays
+     * @throws PlayerNotFoundException     if either player is not found
+     * @throws InvalidTransactionException if a space is not owned by the side handing it over,
+     *                                     or has buildings in its color group
+     * @throws InsufficientFundsException  if the paying player cannot cover the cash
+     * Team member(s) responsible: Giovanny
+     */
+    public void trade(Player proposer, Player partner, List<BoardSpace> give, List<BoardSpace> take, int cash)
+            throws PlayerNotFoundException {
+        checkTradeable(proposer, give);
+        checkTradeable(partner, take);
+        Player payer = cash >= 0 ? proposer : partner;
+        Player payee = cash >= 0 ? partner : proposer;
+        getBalance(payee);
+        if (getBalance(payer) < Math.abs(cash)) {
+            throw new InsufficientFundsException();
+        }
+
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        applyWithdraw(payer, Math.abs(cash));
+        applyDeposit(payee, Math.abs(cash));
+        for (BoardSpace space : give) {
+            removeTitleDeed(proposer, space);
+            addTitleDeed(partner, space);
+        }
+        for (BoardSpace space : take) {
+            removeTitleDeed(partner, space);
+            addTitleDeed(proposer, space);
+        }
+        metrics.countTransaction(TransactionType.TRADE);
+        EventLog.log(EventType.TRADE_COMPLETED, proposer, partner.getName(), null, give.size(), take.size());
+        event.complete(TransactionType.TRADE, payer, payee, Math.abs(cash));
+    }
+
+    private void checkTradeable(Player player, List<BoardSpace> spaces) {
+        for (BoardSpace space : spaces) {
+            if (space.getOwner() != player) {
+                throw new InvalidTransactionException();
+            }
+            if (space instanceof Property) {
+                for (Property property : ((Property) space).getColorGroup().getProperties()) {
+                    if (property.getNumHouses() > 0 || property.hasHotel()) {
+                        throw new InvalidTransactionException();
+                    }
+                }
+            }
+        }
     }
 
 
@@ -276,7 +416,8 @@ public class Banker {
      *                                 Team member(s) responsible: Matt
      */
     public void payGoMoney(Player player) throws PlayerNotFoundException {
-        deposit(player, GO_MONEY);
+        applyDeposit(player, GO_MONEY);
+        metrics.countTransaction(TransactionType.GO_SALARY);
     }
 
 
@@ -289,12 +430,8 @@ public class Banker {
      * Team member(s) responsible: Matt
      */
     public void sellProperty(BoardSpace property, Player player) throws PlayerNotFoundException, InsufficientFundsException {
-        System.out.println("BANKER: Attempting to sell " + property.getName() +
-                " to " + player.getName());
-
         // Validate player exists
         if (!playerBalances.containsKey(player)) {
-            System.out.println("BANKER ERROR: Player not found");
             throw new PlayerNotFoundException();
         }
 
@@ -302,46 +439,36 @@ public class Banker {
         boolean isAvailable = availableProperties.contains(property);
         boolean hasNoOwner = property.getOwner() == null;
 
-        // Debug info
-        System.out.println("BANKER: Property available in list: " + isAvailable);
-        System.out.println("BANKER: Property has no owner: " + hasNoOwner);
-
         if (!isAvailable && !hasNoOwner) {
             // Property is not available and already has an owner
-            System.out.println("BANKER ERROR: Property is already owned by " +
-                    property.getOwner().getName());
+            EventLog.log(EventType.SALE_REFUSED, player, property.getName(), property.getOwner().getName());
             throw new InvalidTransactionException();
         }
 
         // If property has no owner but isn't in available list, add it
         if (hasNoOwner && !isAvailable) {
             availableProperties.add(property);
-            System.out.println("BANKER: Added property to available list");
             isAvailable = true;
         }
 
         // Get property price
         int price = property.getPurchasePrice();
-        System.out.println("BANKER: Property price is $" + price);
 
         // Check if player has enough money
         int playerBalance = playerBalances.get(player);
         if (playerBalance < price) {
-            System.out.println("BANKER ERROR: Insufficient funds. Player has $" +
-                    playerBalance + " but needs $" + price);
+            EventLog.log(EventType.INSUFFICIENT_FUNDS, player, property.getName(), null, playerBalance, price);
             throw new InsufficientFundsException();
         }
 
         // Process the transaction
-        withdraw(player, price);
-        System.out.println("BANKER: Withdrew $" + price + " from " + player.getName());
+        applyWithdraw(player, price);
+        metrics.countTransaction(TransactionType.PROPERTY_SALE);
 
         // Explicitly add property to player's deeds and set owner
         property.setOwner(player);
         addTitleDeed(player, property);
-
-        System.out.println("BANKER: Transaction complete. " + player.getName() +
-                " now owns " + property.getName());
+        EventLog.log(EventType.PROPERTY_BOUGHT, player, property.getName(), price);
     }
     /**
      * Buy a property back from a player (for mortgaging)
@@ -356,7 +483,8 @@ public class Banker {
             throw new InvalidTransactionException();
         }
         int mortgageValue = property.getMortgageValue();
-        deposit(player, mortgageValue);
+        applyDeposit(player, mortgageValue);
+        metrics.countTransaction(TransactionType.MORTGAGE);
         property.setMortgaged(true);
     }
 
@@ -379,6 +507,7 @@ public class Banker {
         if (!buyResult) {
             throw new InvalidTransactionException();
         }
+        metrics.countTransaction(TransactionType.HOUSE_SALE);
     }
 
     /**
@@ -394,9 +523,10 @@ public class Banker {
         if (property.getOwner() != player) {
             throw new InvalidTransactionException();
         }
-        if (!property.sellHotel(this)) {
+        if (!property.buyHotel(this)) {
             throw new InvalidTransactionException();
         }
+        metrics.countTransaction(TransactionType.HOTEL_SALE);
     }
 
     /**
@@ -411,7 +541,8 @@ public class Banker {
             throw new InvalidTransactionException();
         }
         int housePrice = property.getHousePrice();
-        deposit(player, housePrice);
+        applyDeposit(player, housePrice);
+        metrics.countTransaction(TransactionType.BUILDING_BUY_BACK);
         property.removeHouse();
         availableHouses++;
     }
@@ -432,7 +563,8 @@ public class Banker {
             throw new InvalidTransactionException();
         }
         int hotelPrice = property.getHousePrice() / 2;
-        deposit(player, hotelPrice);
+        applyDeposit(player, hotelPrice);
+        metrics.countTransaction(TransactionType.BUILDING_BUY_BACK);
         property.removeHotel();
         availableHotels++;
         availableHouses -= 4;
@@ -450,7 +582,7 @@ public class Banker {
     public void collectRent(BoardSpace property, Player player) throws PlayerNotFoundException {
         Player owner = property.getOwner();
         int rent = property.calculateRent(player);
-        transferMoney(player, owner, rent);
+        payRent(player, owner, rent);
     }
 
     /**
@@ -564,110 +696,87 @@ public class Banker {
     }
 
     /**
-     * Starts an auction for a property that a player declined to purchase
+     * Starts an auction for a property that a player declined to purchase.
+     * Every player bids with the placeholder bidder; see startAuction(BoardSpace, ArrayList, Function).
      * @param property The property to be auctioned
      * @param players List of players who will participate in the auction
      * @return The player who won the auction, or null if no one bid
      * Team member(s) responsible: Giovanny Teran
      */
     public Player startAuction(BoardSpace property, ArrayList<Player> players) {
+        return startAuction(property, players, player -> this::getBid);
+    }
+
+    /**
+     * Starts an ascending auction for a property that a player declined to purchase
+     * and sells it to the winner at their bid.
+     * @param property The property to be auctioned
+     * @param players List of players who will participate in the auction, in bidding order
+     * @param bidders The bidder for each player; a null bidder gets the placeholder bidder
+     * @return The player who won the auction, or null if no one bid
+     * Team member(s) responsible: Giovanny Teran
+     */
+    public Player startAuction(BoardSpace property, ArrayList<Player> players,
+                               Function<Player, AuctionBidder> bidders) {
         if (property == null || !availableProperties.contains(property) || players == null || players.isEmpty()) {
             return null;
         }
 
+        AuctionEvent event = new AuctionEvent();
+        event.begin();
         auctionInProgress = true;
         propertyBeingAuctioned = property;
-        auctionParticipants = new HashMap<>();
 
+        ArrayList<Player> participants = new ArrayList<>(players.size());
         for (Player player : players) {
             if (playerBalances.containsKey(player)) {
-                auctionParticipants.put(player, true);
+                participants.add(player);
             }
         }
 
-        highestBidder = null;
-        highestBid = 0;
+        AscendingAuction auction = new AscendingAuction(participants, MINIMUM_BID_INCREMENT);
+        Player winner = auction.run(player -> {
+            AuctionBidder bidder = bidders.apply(player);
+            return bidder != null ? bidder : this::getBid;
+        });
+        int highestBid = auction.getPrice();
+        metrics.countAuction();
 
-        Player winner = processAuction();
-
-        if (winner != null && highestBid > 0) {
+        if (winner != null) {
             try {
-                withdraw(winner, highestBid);
+                applyWithdraw(winner, highestBid);
+                metrics.countTransaction(TransactionType.AUCTION);
                 addTitleDeed(winner, property);
-                System.out.println(winner.getName() + " won the auction for " + property.getName() +
-                        " with a bid of $" + highestBid);
+                EventLog.log(EventType.AUCTION_WON, winner, property.getName(), highestBid);
             } catch (PlayerNotFoundException | InsufficientFundsException e) {
-                System.out.println("Error completing auction: " + e.getMessage());
+                EventLog.log(EventType.AUCTION_FAILED, winner, property.getName(), e.getMessage());
+                auctionInProgress = false;
                 return null;
             }
         } else {
-            System.out.println("No one bid on " + property.getName() + ", property remains with the bank.");
+            EventLog.log(EventType.AUCTION_NO_BIDS, null, property.getName());
         }
 
         auctionInProgress = false;
+        event.complete(property, participants.size(), winner, highestBid);
         return winner;
     }
 
     /**
-     * Processes the auction by rotating through players for bids
-     * @return The player who won the auction, or null if no one bid
-     * Team member(s) responsible: Giovanny Teran
-     */
-    private Player processAuction() {
-        while (countActiveBidders() > 1) {
-            for (Player player : auctionParticipants.keySet()) {
-                if (!auctionParticipants.get(player)) {
-                    continue;
-                }
-
-                int playerBid = getBid(player);
-
-                if (playerBid <= 0) {
-                    System.out.println(player.getName() + " passed on bidding.");
-                    auctionParticipants.put(player, false);
-                }
-                else if (playerBid > highestBid) {
-                    highestBid = playerBid;
-                    highestBidder = player;
-                    System.out.println(player.getName() + " bid $" + playerBid);
-                }
-
-                if (countActiveBidders() <= 1) {
-                    break;
-                }
-            }
-        }
-
-        for (Player player : auctionParticipants.keySet()) {
-            if (auctionParticipants.get(player)) {
-                return player;
-            }
-        }
-
-        return highestBidder;
-    }
-
-    /**
-     * Gets a bid from a player - in a real implementation, this would interact with the UI
-     * This is a placeholder that should be replaced with actual UI interaction
+     * Placeholder bidder for players without one, drawn from the auction stream:
+     * a coin flip between dropping out and a random bid up to twice the purchase price
      * @param player The player who is bidding
+     * @param price The current highest bid
+     * @param minimumBid The lowest bid the auction accepts
      * @return The bid amount, or 0 if the player passes
      * Team member(s) responsible: Giovanny Teran
      */
-    private int getBid(Player player) {
-
+    private int getBid(Player player, int price, int minimumBid) {
         try {
-            int playerBalance = getBalance(player);
+            int maxPossibleBid = Math.min(getBalance(player), propertyBeingAuctioned.getPurchasePrice() * 2);
 
-            if (playerBalance <= highestBid) {
-                return 0;
-            }
-
-            int minBid = highestBid + MINIMUM_BID_INCREMENT;
-            int maxPossibleBid = Math.min(playerBalance, propertyBeingAuctioned.getPurchasePrice() * 2);
-
-            if (new Random().nextBoolean() && maxPossibleBid > minBid) {
-                return minBid + new Random().nextInt(maxPossibleBid - minBid + 1);
+            if (auctionRandom.nextBoolean() && maxPossibleBid > minimumBid) {
+                return minimumBid + auctionRandom.nextInt(maxPossibleBid - minimumBid + 1);
             } else {
                 return 0;
             }
@@ -676,19 +785,4 @@ public class Banker {
             return 0;
         }
     }
-
-    /**
-     * Counts the number of players still active in the auction
-     * @return Number of active bidders
-     * Team member(s) responsible: Giovanny Teran
-     */
-    private int countActiveBidders() {
-        int count = 0;
-        for (boolean isActive : auctionParticipants.values()) {
-            if (isActive) {
-                count++;
-            }
-        }
-        return count;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: How a computer player decides whether to buy a house or hotel it is offered.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Board;
+
+import Model.Property.Property;
+
+/**
+ * Decides for a computer player whether to put one more house, or a hotel, on a property now,
+ * normally by asking the player's controller for the next step of its build plan.
+ * Team member(s) responsible: Giovanny
+ */
+@FunctionalInterface
+public interface BuildAdvisor {
+
+    /**
+     * @param property The property to build on
+     * @return true if the player should build there now
+     * Team member(s) responsible: Giovanny
+     */
+    boolean shouldBuild(Property property);
+}
@@ -7,12 +7,17 @@
  * */
 package Model.Board;
 
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
+import Model.Jfr.LandingEvent;
+import Model.Jfr.MoveEvent;
 import Model.Property.Property;
 import Model.Spaces.BoardSpace;
 
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a computer-controlled player in a Monopoly game.
@@ -20,8 +25,8 @@ import java.util.Random;
  * Team member(s) responsible: Matt
  */
 public class ComputerPlayer extends Player {
-    private Banker banker;
-    private Random rand;
+    private RandomGenerator rand;
+    private BuildAdvisor buildAdvisor; // Decides on houses and hotels; none means the player builds nothing
 
     /**
      * Constructor for ComputerPlayer.
@@ -32,8 +37,25 @@ public class ComputerPlayer extends Player {
      */
     public ComputerPlayer(String name, GameBoard board) {
         super("Cpu", board);
-        banker = Banker.getInstance();
-        rand = new Random();
+        rand = new SplittableRandom();
+    }
+
+    /**
+     * Sets the stream this player's decisions are drawn from, normally one split from the game's AI stream.
+     * @param rand the random source for this player
+     * Team member(s) responsible: Giovanny
+     */
+    public void setRandom(RandomGenerator rand) {
+        this.rand = rand;
+    }
+
+    /**
+     * Sets who decides whether this player buys a house or hotel, normally its controller's build plan.
+     * @param buildAdvisor the advisor for this player
+     * Team member(s) responsible: Giovanny
+     */
+    public void setBuildAdvisor(BuildAdvisor buildAdvisor) {
+        this.buildAdvisor = buildAdvisor;
     }
 
     /**
@@ -45,41 +67,39 @@ public class ComputerPlayer extends Player {
     public void buyProperty(BoardSpace space, Player player) throws PlayerNotFoundException {
         int chance = rand.nextInt(3) + 1;
         if (chance == 1) {
-            banker.sellProperty(space, player);
+            getBanker().sellProperty(space, player);
         } else
         {
-            System.out.println("Banker didn't sell the property this time.");
+            EventLog.log(EventType.PURCHASE_DECLINED, player, space.getName());
         }
     }
 
     /**
-     * Sell a house on the specified space.
+     * Buy a house on the specified space, if it is the next step of the player's build plan.
      * Team member(s) responsible: Jamell
      */
     @Override
     public void buyHouse(Property property, Player player) throws PlayerNotFoundException {
-        int chance = rand.nextInt(3) + 1;
-        if (chance == 1) {
-            banker.sellHouse(property, player);
+        if (buildAdvisor != null && buildAdvisor.shouldBuild(property)) {
+            getBanker().sellHouse(property, player);
         } else
         {
-            System.out.println("Banker didn't sell the house this time.");
+            EventLog.log(EventType.PURCHASE_DECLINED, player, "house");
         }
     }
 
 
     /**
-     * Sell a hotel on the specified space.
+     * Buy a hotel on the specified space, if it is the next step of the player's build plan.
      * Team member(s) responsible: Jamell
      */
     @Override
     public void buyHotel(Property property, Player player) throws PlayerNotFoundException {
-        int chance = rand.nextInt(3) + 1;
-        if (chance == 1) {
-            banker.sellHotel(property, player);
+        if (buildAdvisor != null && buildAdvisor.shouldBuild(property)) {
+            getBanker().sellHotel(property, player);
         } else
         {
-            System.out.println("Banker didn't sell the hotel this time.");
+            EventLog.log(EventType.PURCHASE_DECLINED, player, "hotel");
         }
     }
 
@@ -94,10 +114,18 @@ public class ComputerPlayer extends Player {
         if (player == null) {
             throw new PlayerNotFoundException();
         }
-        int newPosition = (getPosition() + spaces) % 40;
+        MoveEvent moveEvent = new MoveEvent();
+        moveEvent.begin();
+        int oldPosition = getPosition();
+        int newPosition = (oldPosition + spaces) % 40;
         setPosition(newPosition);
-        System.out.println(getName() + " moved " + newPosition + " spaces");
-        getBoard().getBoardElements()[newPosition].onLanding(player);
+        EventLog.log(EventType.PLAYER_MOVED, this, null, null, oldPosition, newPosition);
+        BoardSpace space = getBoard().getBoardElements()[newPosition];
+        LandingEvent landingEvent = new LandingEvent();
+        landingEvent.begin();
+        space.onLanding(player);
+        landingEvent.complete(player, newPosition, space);
+        moveEvent.complete(this, oldPosition, newPosition);
     }
 
 
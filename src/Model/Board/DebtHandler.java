@@ -0,0 +1,25 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: How a player raises cash when the Banker asks for more than they hold.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Board;
+
+/**
+ * Gives a player the chance to sell buildings or mortgage property when they owe the Banker,
+ * or another player, more than they hold.
+ * Team member(s) responsible: Giovanny
+ */
+@FunctionalInterface
+public interface DebtHandler {
+
+    /**
+     * @param player The player who owes the money
+     * @param amount The money they must hold to pay
+     * @return true if the player now holds the amount
+     * Team member(s) responsible: Giovanny
+     */
+    boolean raiseCash(Player player, int amount);
+}
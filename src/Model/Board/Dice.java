@@ -9,18 +9,36 @@
 
 package Model.Board;
 
-import java.util.Random;
+import Model.GameRandom;
+
+import java.util.SplittableRandom;
 
 public class Dice {
 
-    private Random random;
+    private SplittableRandom random;
+    private byte[] rollBuffer;
+    private int bufferIndex;
     private int die1;
     private int die2;
     private int doubleRollCounter;
     private static Dice instance;
 
-    private Dice() {
-        this.random = new Random();
+    /**
+     * Creates a pair of dice for one game. The GUI shares one through getInstance(),
+     * while every GameContext owns its own.
+     * Team member(s) responsible: Giovanny
+     */
+    public Dice() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a pair of dice that roll from the given stream
+     * @param random the game's dice stream
+     * Team member(s) responsible: Giovanny
+     */
+    public Dice(SplittableRandom random) {
+        this.random = random;
         doubleRollCounter = 0;
     }
 
@@ -36,16 +54,49 @@ public class Dice {
     }
 
 
+    /**
+     * Reseeds the dice so a game can be replayed roll for roll
+     * @param seed the seed for the dice
+     * Team member(s) responsible: Giovanny
+     */
+    public void setSeed(long seed) {
+        random = new SplittableRandom(seed);
+        bufferIndex = rollBuffer == null ? 0 : rollBuffer.length;
+    }
+
+    /**
+     * Pre-generates rolls in batches of the given size instead of drawing one per roll.
+     * The dice stream is only used for rolls, so buffering never changes which rolls come up.
+     * @param size rolls per batch, or 0 to roll one at a time
+     * Team member(s) responsible: Giovanny
+     */
+    public void useRollBuffer(int size) {
+        rollBuffer = size > 0 ? new byte[size] : null;
+        bufferIndex = size;
+    }
+
     /**
      * Rolls the dice
      * Team member(s) responsible: Jamell
      */
     public int roll() {
-        die1 = rollDie();
-        die2 = rollDie();
+        int pair = nextPair();
+        die1 = GameRandom.firstDie(pair);
+        die2 = GameRandom.secondDie(pair);
         return getSum();
     }
 
+    private int nextPair() {
+        if (rollBuffer == null) {
+            return GameRandom.rollPair(random);
+        }
+        if (bufferIndex == rollBuffer.length) {
+            GameRandom.fillRolls(random, rollBuffer);
+            bufferIndex = 0;
+        }
+        return rollBuffer[bufferIndex++];
+    }
+
     /**
      * Rolls a single die from 1 to 6
      *
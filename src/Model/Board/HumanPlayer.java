@@ -1,6 +1,10 @@
 package Model.Board;
 
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
+import Model.Jfr.LandingEvent;
+import Model.Jfr.MoveEvent;
 import Model.Property.Property;
 import Model.Spaces.BoardSpace;
 
@@ -10,7 +14,6 @@ import Model.Spaces.BoardSpace;
  * Team member(s) responsible: Matt
  */
 public class HumanPlayer extends Player {
-    private Banker banker;
 
     /**
      * Constructor for HumanPlayer.
@@ -21,7 +24,6 @@ public class HumanPlayer extends Player {
      */
     public HumanPlayer(String name, GameBoard board) {
         super(name, board);
-        banker = Banker.getInstance();
     }
 
     /**
@@ -31,7 +33,7 @@ public class HumanPlayer extends Player {
      */
     @Override
     public void buyProperty(BoardSpace space, Player player) throws PlayerNotFoundException {
-        banker.sellProperty(space, player);
+        getBanker().sellProperty(space, player);
     }
 
     /**
@@ -40,13 +42,13 @@ public class HumanPlayer extends Player {
      */
     @Override
     public void buyHouse(Property property, Player player) throws PlayerNotFoundException {
-        banker.sellHouse(property, player);
+        getBanker().sellHouse(property, player);
     }
 
 
     @Override
     public void buyHotel(Property property, Player player) throws PlayerNotFoundException{
-        banker.sellHotel(property, player);
+        getBanker().sellHotel(property, player);
     }
 
     /***
@@ -61,6 +63,9 @@ public class HumanPlayer extends Player {
             throw new PlayerNotFoundException();
         }
 
+        MoveEvent moveEvent = new MoveEvent();
+        moveEvent.begin();
+
         // Calculate new position with careful bounds checking
         int currentPosition = getPosition();
         int newPosition = (currentPosition + spaces) % 40;
@@ -70,20 +75,22 @@ public class HumanPlayer extends Player {
             newPosition += 40;
         }
 
-        // Log the move for debugging
-        System.out.println(getName() + " moved from position " + currentPosition +
-                " to position " + newPosition + " (+" + spaces + " spaces)");
+        EventLog.log(EventType.PLAYER_MOVED, this, null, null, currentPosition, newPosition);
 
         // Set the new position
         setPosition(newPosition);
 
+        BoardSpace space = getBoard().getBoardElements()[newPosition];
+        LandingEvent landingEvent = new LandingEvent();
+        landingEvent.begin();
         try {
             // Handle landing on the space
-            getBoard().getBoardElements()[newPosition].onLanding(player);
+            space.onLanding(player);
         } catch (Exception e) {
-            System.err.println("Error in space landing handler: " + e.getMessage());
-            e.printStackTrace();
+            EventLog.log(EventType.LANDING_FAILED, player, e.getMessage());
         }
+        landingEvent.complete(player, newPosition, space);
+        moveEvent.complete(this, currentPosition, newPosition);
     }
 
 
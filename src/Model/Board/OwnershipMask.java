@@ -0,0 +1,53 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Bit masks over the 40 board positions, used to answer ownership questions
+ * (monopolies, railroad and utility counts) with a single AND and bit count.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Board;
+
+/**
+ * Bit masks over board positions: bit n is set when position n is in the set.
+ * Team member(s) responsible: Giovanny
+ */
+public final class OwnershipMask {
+
+    /** Reading, Pennsylvania, B. &amp; O. and Short Line */
+    public static final long RAILROADS = bit(5) | bit(15) | bit(25) | bit(35);
+    /** Electric Company and Water Works */
+    public static final long UTILITIES = bit(12) | bit(28);
+
+    private OwnershipMask() {
+    }
+
+    /**
+     * @param position Board position
+     * @return the mask with only that position set
+     * Team member(s) responsible: Giovanny
+     */
+    public static long bit(int position) {
+        return 1L << position;
+    }
+
+    /**
+     * @param owned Positions a player owns
+     * @param mask  Positions to count, e.g. RAILROADS
+     * @return how many of the positions in mask are owned
+     * Team member(s) responsible: Giovanny
+     */
+    public static int count(long owned, long mask) {
+        return Long.bitCount(owned & mask);
+    }
+
+    /**
+     * @param owned Positions a player owns
+     * @param mask  Positions to check, e.g. a color group
+     * @return true if every position in mask is owned
+     * Team member(s) responsible: Giovanny
+     */
+    public static boolean ownsAll(long owned, long mask) {
+        return (owned & mask) == mask;
+    }
+}
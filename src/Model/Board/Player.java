@@ -12,10 +12,15 @@ import Model.Property.Property;
 import Model.Spaces.BoardSpace;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public abstract class Player {
 
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private final int id;
+
     private String name;
     private GameBoard board;
     private boolean inJail;
@@ -25,6 +30,7 @@ public abstract class Player {
     private int getOutOfJailFreeCards = 0;
     private int position;
     private Banker banker;
+    private long ownedSpaces; // OwnershipMask of the positions this player owns
 
     /**
      * Constructor for Player.
@@ -34,12 +40,14 @@ public abstract class Player {
      * Team member(s) responsible: Matt
      */
     public Player(String name, GameBoard board) {
+        this.id = NEXT_ID.getAndIncrement();
         this.name = name;
         this.board = board;
         this.inJail = false;
         this.jailTurns = 0;
         this.position = 0;
-        this.banker = Banker.getInstance();
+        // Players belong to the banker of their board; tests may build players without a board
+        this.banker = board != null ? board.getBanker() : Banker.getInstance();
         this.tokenName = "hat"; // Default token
     }
 
@@ -47,6 +55,14 @@ public abstract class Player {
         return banker.getPlayerProperties(this);
     }
 
+    /**
+     * @return the id that tags this player's game events; unique among all players created
+     * Team member(s) responsible: Giovanny
+     */
+    public int getId() {
+        return id;
+    }
+
     /**
      * Buy a property from the bank.
      *
@@ -139,6 +155,43 @@ public abstract class Player {
         return board;
     }
 
+    /**
+     * Get the positions this player owns as a bit mask (bit n set = owns position n).
+     * Kept up to date by the ownable spaces' setOwner.
+     * @return OwnershipMask of owned positions
+     * Team member(s) responsible: Giovanny
+     */
+    public long getOwnedSpaces() {
+        return ownedSpaces;
+    }
+
+    /**
+     * Mark a position as owned by this player.
+     * @param position Board position
+     * Team member(s) responsible: Giovanny
+     */
+    public void addOwnedSpace(int position) {
+        ownedSpaces |= OwnershipMask.bit(position);
+    }
+
+    /**
+     * Mark a position as no longer owned by this player.
+     * @param position Board position
+     * Team member(s) responsible: Giovanny
+     */
+    public void removeOwnedSpace(int position) {
+        ownedSpaces &= ~OwnershipMask.bit(position);
+    }
+
+    /**
+     * Get the banker of the game this player is in.
+     * @return The banker
+     * Team member(s) responsible: Giovanny
+     */
+    protected Banker getBanker() {
+        return banker;
+    }
+
     /**
      * Check if player is in jail.
      *
@@ -231,6 +284,10 @@ public abstract class Player {
     public boolean useGetOutOfJailFreeCard() {
         if (getOutOfJailFreeCards > 0) {
             getOutOfJailFreeCards--;
+            // A used card goes back to the bottom of the deck it was drawn from
+            if (board != null && !board.getChanceCard().returnJailFreeCard(this)) {
+                board.getCommunityChestCard().returnJailFreeCard(this);
+            }
             return true;
         }
         return false;
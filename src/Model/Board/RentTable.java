@@ -0,0 +1,144 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: One immutable table of every rent on the board, built once from the board definition.
+ * The model, the CPU players, the simulation engine and the GUI all read rents from here.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Board;
+
+import Model.GameContext;
+import Model.Property.Property;
+import Model.Spaces.BoardSpace;
+
+/**
+ * Immutable rent lookup. Property rent is indexed by (position, building level, monopoly flag);
+ * railroad rent and the utility dice multiplier are indexed by how many of them the owner has.
+ * Team member(s) responsible: Giovanny
+ */
+public final class RentTable {
+
+    /** Building levels: 0 unimproved, 1-4 houses, 5 hotel */
+    public static final int HOTEL_LEVEL = 5;
+    private static final int LEVELS = HOTEL_LEVEL + 1;
+    private static final int[] RAILROAD_RENT = {0, 25, 50, 100, 200};
+    private static final int[] UTILITY_MULTIPLIER = {0, 4, 10};
+
+    private static RentTable standard;
+
+    // Index (position * LEVELS + level) * 2 + monopoly
+    private final int[] propertyRent;
+
+    private RentTable(BoardSpace[] spaces) {
+        int positions = 0;
+        for (BoardSpace space : spaces) {
+            positions = Math.max(positions, space.getPosition() + 1);
+        }
+        propertyRent = new int[positions * LEVELS * 2];
+        for (BoardSpace space : spaces) {
+            if (space instanceof Property) {
+                fillProperty((Property) space);
+            }
+        }
+    }
+
+    private void fillProperty(Property property) {
+        int position = property.getPosition();
+        for (int level = 0; level <= HOTEL_LEVEL; level++) {
+            propertyRent[index(position, level, false)] = deedRent(property, level, false);
+            propertyRent[index(position, level, true)] = deedRent(property, level, true);
+        }
+    }
+
+    /**
+     * Reads a rent straight off the property's deed, for a property that is not on a board.
+     *
+     * @param property The property
+     * @param level    0 unimproved, 1-4 houses, 5 hotel
+     * @param monopoly true if the owner has the whole color group
+     * @return the rent
+     * Team member(s) responsible: Giovanny
+     */
+    public static int deedRent(Property property, int level, boolean monopoly) {
+        // An unimproved monopoly pays double; with buildings the deed's rent stands either way
+        if (level == 0) {
+            return monopoly ? property.getBaseRent() * 2 : property.getBaseRent();
+        }
+        return level == HOTEL_LEVEL ? property.getHotelRent() : property.getHouseRent(level);
+    }
+
+    private static int index(int position, int level, boolean monopoly) {
+        return (position * LEVELS + level) * 2 + (monopoly ? 1 : 0);
+    }
+
+    /**
+     * Builds the table for the given spaces. Only properties need rows;
+     * railroads and utilities share the fixed ladders below.
+     *
+     * @param spaces The spaces of a board (or a single property in tests)
+     * @return the rent table for those spaces
+     * Team member(s) responsible: Giovanny
+     */
+    public static RentTable of(BoardSpace... spaces) {
+        return new RentTable(spaces);
+    }
+
+    /**
+     * @return the rent table of the standard board, built once
+     * Team member(s) responsible: Giovanny
+     */
+    public static synchronized RentTable standard() {
+        if (standard == null) {
+            // Building a board fills in the table, see standard(BoardSpace[])
+            new GameContext();
+        }
+        return standard;
+    }
+
+    /**
+     * The table every GameBoard shares: every board lays out the same spaces,
+     * so the first one built fills it in and the rest reuse it.
+     *
+     * @param spaces The spaces of a standard board
+     * @return the rent table of the standard board
+     * Team member(s) responsible: Giovanny
+     */
+    static synchronized RentTable standard(BoardSpace[] spaces) {
+        if (standard == null) {
+            standard = new RentTable(spaces);
+        }
+        return standard;
+    }
+
+    /**
+     * Rent of a property, not counting mortgages (a mortgaged property collects nothing).
+     *
+     * @param position Board position of the property
+     * @param level    0 unimproved, 1-4 houses, 5 hotel
+     * @param monopoly true if the owner has the whole color group
+     * @return the rent
+     * Team member(s) responsible: Giovanny
+     */
+    public int getPropertyRent(int position, int level, boolean monopoly) {
+        return propertyRent[index(position, level, monopoly)];
+    }
+
+    /**
+     * @param railroadsOwned Number of railroads the owner has (1-4)
+     * @return the rent for landing on one of them
+     * Team member(s) responsible: Giovanny
+     */
+    public static int getRailroadRent(int railroadsOwned) {
+        return RAILROAD_RENT[railroadsOwned];
+    }
+
+    /**
+     * @param utilitiesOwned Number of utilities the owner has (1-2)
+     * @return what the dice total is multiplied by
+     * Team member(s) responsible: Giovanny
+     */
+    public static int getUtilityMultiplier(int utilitiesOwned) {
+        return UTILITY_MULTIPLIER[utilitiesOwned];
+    }
+}
@@ -7,11 +7,15 @@
 package Model.Board;
 
 import Model.Exceptions.PlayerNotFoundException;
+import Model.GameContext;
+import Model.Jfr.RollEvent;
 import Model.Spaces.BoardSpace;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Manages the turn order and progression in a Monopoly game.
@@ -31,15 +35,40 @@ public class  TurnManager {
      * Team Member(s) responsible: Giovanny
      */
     public TurnManager(List<Player> players) {
+        this(players, new SplittableRandom());
+    }
+
+    /**
+     * Initializes the turn manager with a list of players.
+     * The turn order is randomized with the given random source so that
+     * a seeded game always starts with the same order.
+     *
+     * @param players List of players in the game.
+     * @param random  Random source used to shuffle the turn order.
+     * Team Member(s) responsible: Giovanny
+     */
+    public TurnManager(List<Player> players, RandomGenerator random) {
+        this(players, random, GameContext.shared());
+    }
+
+    /**
+     * Initializes the turn manager for a game played on the given context.
+     *
+     * @param players List of players in the game.
+     * @param random  Random source used to shuffle the turn order.
+     * @param context The game the players are in.
+     * Team Member(s) responsible: Giovanny
+     */
+    public TurnManager(List<Player> players, RandomGenerator random, GameContext context) {
         if (players.size() < 2 || players.size() > 4) {
             throw new IllegalArgumentException("Monopoly requires 2 to 4 players.");
         }
         this.players = new ArrayList<>(players);
-        Collections.shuffle(this.players);
+        Collections.shuffle(this.players, random);
         this.currentPlayerIndex = 0;
-        this.dice = Dice.getInstance();
-        this.banker = Banker.getInstance();
-        this.gameBoard = GameBoard.getInstance();
+        this.dice = context.getDice();
+        this.banker = context.getBanker();
+        this.gameBoard = context.getBoard();
         dice.resetDoubleRollCounter();
     }
 
@@ -62,6 +91,29 @@ public class  TurnManager {
         dice.resetDoubleRollCounter();
     }
 
+    /**
+     * Removes a player from the turn order, e.g. after going bankrupt.
+     * The current turn stays with the same player, or passes to the
+     * player after the removed one if it was their turn.
+     *
+     * @param player The player to remove.
+     * Team Member(s) responsible: Giovanny
+     */
+    public void removePlayer(Player player) {
+        int index = players.indexOf(player);
+        if (index < 0) {
+            return;
+        }
+        players.remove(index);
+        if (index < currentPlayerIndex) {
+            currentPlayerIndex--;
+        }
+        if (players.isEmpty() || currentPlayerIndex >= players.size()) {
+            currentPlayerIndex = 0;
+        }
+        dice.resetDoubleRollCounter();
+    }
+
     /**
      * Gets the list of players in their randomized turn order.
      *
@@ -84,7 +136,10 @@ public class  TurnManager {
         StringBuilder result = new StringBuilder();
 
         // Roll dice
+        RollEvent rollEvent = new RollEvent();
+        rollEvent.begin();
         int roll = dice.roll();
+        rollEvent.complete(player, dice.getDie1(), dice.getDie2());
         result.append(player.getName()).append(" rolled: ")
                 .append(dice.getDie1()).append(" + ").append(dice.getDie2())
                 .append(" = ").append(roll).append("\n");
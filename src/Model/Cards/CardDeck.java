@@ -0,0 +1,182 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: A deck of card ids in a fixed array. Drawing moves a head index around the array
+ * and puts the card back at the bottom instead of removing from a list, and shuffling is an in-place Fisher-Yates.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Cards;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Ring buffer of card ids. A drawn card goes back to the bottom of the deck, as in the real game,
+ * except for the cards the drawer keeps (Get Out of Jail Free), which stay out until putBack().
+ * Nothing is allocated after construction.
+ * Team member(s) responsible: Giovanny
+ */
+public final class CardDeck {
+
+    /** Returned by draw() when the deck is empty */
+    public static final int NO_CARD = -1;
+    /** Most cards a deck can hold, one bit of a long each */
+    public static final int MAX_CARDS = Long.SIZE;
+
+    private final int[] cards;
+    private final long keptCards;
+    private long inDeck;
+    private int head;
+    private int count;
+
+    /**
+     * Creates a full deck in card id order, none of whose cards are kept by the drawer.
+     * @param size Number of cards
+     * Team member(s) responsible: Giovanny
+     */
+    public CardDeck(int size) {
+        this(size, 0L);
+    }
+
+    /**
+     * Creates a full deck in card id order for the cards of a table.
+     * The table's Get Out of Jail Free cards are kept by the drawer.
+     * @param table The cards
+     * Team member(s) responsible: Giovanny
+     */
+    public CardDeck(CardTable table) {
+        this(table.size(), table.keptCards());
+    }
+
+    /**
+     * Creates a full deck in card id order.
+     * @param size      Number of cards
+     * @param keptCards Bit i set if card i is kept by whoever draws it instead of going to the bottom
+     * Team member(s) responsible: Giovanny
+     */
+    public CardDeck(int size, long keptCards) {
+        if (size < 1 || size > MAX_CARDS) {
+            throw new IllegalArgumentException("A deck holds 1 to " + MAX_CARDS + " cards: " + size);
+        }
+        cards = new int[size];
+        this.keptCards = keptCards;
+        restore();
+    }
+
+    /**
+     * Puts every card back, in card id order.
+     * Team member(s) responsible: Giovanny
+     */
+    public void restore() {
+        for (int card = 0; card < cards.length; card++) {
+            cards[card] = card;
+        }
+        head = 0;
+        count = cards.length;
+        inDeck = cards.length == MAX_CARDS ? -1L : (1L << cards.length) - 1;
+    }
+
+    /**
+     * Shuffles the cards still in the deck.
+     * @param random The deck stream of the game
+     * Team member(s) responsible: Giovanny
+     */
+    public void shuffle(RandomGenerator random) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int slotI = slot(i);
+            int slotJ = slot(j);
+            int swap = cards[slotI];
+            cards[slotI] = cards[slotJ];
+            cards[slotJ] = swap;
+        }
+    }
+
+    /**
+     * Takes the top card and puts it at the bottom, unless it is a card the drawer keeps,
+     * which leaves the deck until putBack().
+     * @return the card id, or NO_CARD if the deck is empty
+     * Team member(s) responsible: Giovanny
+     */
+    public int draw() {
+        if (count == 0) {
+            return NO_CARD;
+        }
+        int card = cards[head];
+        head = slot(1);
+        if (isKept(card)) {
+            count--;
+            inDeck &= ~(1L << card);
+        } else {
+            // The first free slot after the remaining cards; the one just drawn from when none are out
+            cards[slot(count - 1)] = card;
+        }
+        return card;
+    }
+
+    /**
+     * Puts a kept card back at the bottom of the deck, once it has been used.
+     * @param card Card id
+     * @return false if the card was already in the deck
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean putBack(int card) {
+        if ((inDeck & (1L << card)) != 0) {
+            return false;
+        }
+        cards[slot(count)] = card;
+        count++;
+        inDeck |= 1L << card;
+        return true;
+    }
+
+    /**
+     * Takes a card out of the deck wherever it is, e.g. one a player held in a copied game state.
+     * The cards below it move up one place.
+     * @param card Card id
+     * @return false if the card was not in the deck
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean remove(int card) {
+        if ((inDeck & (1L << card)) == 0) {
+            return false;
+        }
+        int index = 0;
+        while (cards[slot(index)] != card) {
+            index++;
+        }
+        for (; index < count - 1; index++) {
+            cards[slot(index)] = cards[slot(index + 1)];
+        }
+        count--;
+        inDeck &= ~(1L << card);
+        return true;
+    }
+
+    /**
+     * @param card Card id
+     * @return true if whoever draws the card keeps it instead of putting it at the bottom
+     */
+    public boolean isKept(int card) {
+        return (keptCards & (1L << card)) != 0;
+    }
+
+    /**
+     * @return the number of cards left
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param index 0 for the top card
+     * @return the id of the card at that depth
+     */
+    public int get(int index) {
+        return cards[slot(index)];
+    }
+
+    private int slot(int index) {
+        return (head + index) % cards.length;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Carries out a card from a CardTable on the model: moves the player
+ * and moves money through the banker.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Cards;
+
+import Model.Board.Banker;
+import Model.Board.GameBoard;
+import Model.Board.Player;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.Property.Property;
+import Model.Spaces.BoardSpace;
+import Model.Spaces.UtilitySpace;
+
+/**
+ * Card effects shared by the chance and community chest decks.
+ * A card that moves the player onto an unowned property, railroad or utility only moves them;
+ * offering it for sale is left to the controller, the same as landing there from a roll.
+ * Team member(s) responsible: Giovanny
+ */
+final class CardEffects {
+
+    private static final int BOARD_SIZE = 40;
+    private static final int JAIL_POSITION = 10;
+
+    private CardEffects() {
+    }
+
+    /**
+     * Plays a card for the player.
+     *
+     * @param table  The deck's card table
+     * @param card   Card id
+     * @param player The player who drew the card
+     * @param banker The banker of the player's game
+     * Team member(s) responsible: Giovanny
+     */
+    static void apply(CardTable table, int card, Player player, Banker banker) throws PlayerNotFoundException {
+        int value = table.value(card);
+        switch (table.operation(card)) {
+            case CardTable.MOVE_TO:
+                advanceTo(player, value, banker);
+                land(player);
+                break;
+            case CardTable.MOVE_TO_NEAREST_RAILROAD:
+                advanceTo(player, CardTable.nearestRailroad(player.getPosition()), banker);
+                payMultipliedRent(player, banker, value);
+                break;
+            case CardTable.MOVE_TO_NEAREST_UTILITY:
+                advanceTo(player, CardTable.nearestUtility(player.getPosition()), banker);
+                payMultipliedRent(player, banker, value);
+                break;
+            case CardTable.MOVE_BACK:
+                player.setPosition((player.getPosition() - value + BOARD_SIZE) % BOARD_SIZE);
+                land(player);
+                break;
+            case CardTable.GO_TO_JAIL:
+                player.setPosition(JAIL_POSITION);
+                player.setInJail(true);
+                break;
+            case CardTable.COLLECT:
+                banker.deposit(player, value);
+                break;
+            case CardTable.PAY:
+                banker.withdraw(player, value);
+                break;
+            case CardTable.JAIL_FREE:
+                player.addGetOutOfJailFreeCard();
+                break;
+            case CardTable.REPAIRS:
+                int cost = repairCost(player, value, table.hotelValue(card));
+                if (cost > 0) {
+                    banker.withdraw(player, cost);
+                }
+                break;
+            case CardTable.PAY_EACH_PLAYER:
+                for (Player other : banker.getAllPlayers()) {
+                    if (other != player) {
+                        banker.transferMoney(player, other, value);
+                    }
+                }
+                break;
+            case CardTable.COLLECT_FROM_EACH_PLAYER:
+                for (Player other : banker.getAllPlayers()) {
+                    if (other != player) {
+                        // A player who cannot cover the whole gift gives what they have
+                        banker.transferMoney(other, player, Math.min(value, banker.getBalance(other)));
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Moves the player forward to the target, paying GO money if the move passes GO.
+     * Landing exactly on GO is paid by the GO space itself.
+     */
+    private static void advanceTo(Player player, int target, Banker banker) throws PlayerNotFoundException {
+        int from = player.getPosition();
+        int steps = (target - from + BOARD_SIZE) % BOARD_SIZE;
+        if (from + steps > BOARD_SIZE) {
+            banker.payGoMoney(player);
+        }
+        player.setPosition(target);
+    }
+
+    /**
+     * Runs the landing logic of the player's new space, unless it is for sale.
+     */
+    private static void land(Player player) throws PlayerNotFoundException {
+        BoardSpace space = player.getBoard().getSpace(player.getPosition());
+        if (space.getPurchasePrice() > 0 && space.getOwner() == null) {
+            return;
+        }
+        space.onLanding(player);
+    }
+
+    /**
+     * Nearest railroad: twice the railroad's rent. Nearest utility: the multiplier times a fresh roll.
+     */
+    private static void payMultipliedRent(Player player, Banker banker, int multiplier) throws PlayerNotFoundException {
+        GameBoard board = player.getBoard();
+        BoardSpace space = board.getSpace(player.getPosition());
+        Player owner = space.getOwner();
+        if (owner == null || owner == player) {
+            return;
+        }
+        int rent = space instanceof UtilitySpace
+                ? board.getDice().roll() * multiplier
+                : space.calculateRent(player) * multiplier;
+        banker.payRent(player, owner, rent);
+    }
+
+    private static int repairCost(Player player, int perHouse, int perHotel) {
+        GameBoard board = player.getBoard();
+        int cost = 0;
+        long owned = player.getOwnedSpaces();
+        while (owned != 0) {
+            int position = Long.numberOfTrailingZeros(owned);
+            owned &= owned - 1;
+            BoardSpace space = board.getSpace(position);
+            if (space instanceof Property) {
+                Property property = (Property) space;
+                cost += property.hasHotel() ? perHotel : property.getNumHouses() * perHouse;
+            }
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The chance and community chest cards as data: each card id maps to its text
+ * and to one move/pay/collect operation, so the model and the simulation engine play
+ * every card the same way.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Cards;
+
+import Model.Board.OwnershipMask;
+
+/**
+ * Immutable table of one deck's cards, indexed by card id (the order the cards are printed in).
+ * What value() means depends on the operation: the target position for MOVE_TO, the spaces
+ * for MOVE_BACK, the rent multiplier for the nearest railroad/utility cards, the cost per house
+ * for REPAIRS, and the amount of money for every other operation.
+ * Team member(s) responsible: Giovanny
+ */
+public final class CardTable {
+
+    public static final byte MOVE_TO = 0;
+    public static final byte MOVE_TO_NEAREST_RAILROAD = 1;
+    public static final byte MOVE_TO_NEAREST_UTILITY = 2;
+    public static final byte MOVE_BACK = 3;
+    public static final byte GO_TO_JAIL = 4;
+    public static final byte COLLECT = 5;
+    public static final byte PAY = 6;
+    public static final byte JAIL_FREE = 7;
+    public static final byte REPAIRS = 8;
+    public static final byte PAY_EACH_PLAYER = 9;
+    public static final byte COLLECT_FROM_EACH_PLAYER = 10;
+
+    private static final int BOARD_SIZE = 40;
+    private static final int DECK_SIZE = 16;
+    private static final int[] NEAREST_RAILROAD = nearest(OwnershipMask.RAILROADS);
+    private static final int[] NEAREST_UTILITY = nearest(OwnershipMask.UTILITIES);
+
+    public static final CardTable CHANCE = buildChance();
+    public static final CardTable COMMUNITY_CHEST = buildCommunityChest();
+
+    private final String[] text;
+    private final byte[] operation;
+    private final int[] value;
+    private final int[] hotelValue;
+    private int size;
+
+    private CardTable() {
+        text = new String[DECK_SIZE];
+        operation = new byte[DECK_SIZE];
+        value = new int[DECK_SIZE];
+        hotelValue = new int[DECK_SIZE];
+    }
+
+    private void add(String cardText, byte cardOperation, int cardValue) {
+        add(cardText, cardOperation, cardValue, 0);
+    }
+
+    private void add(String cardText, byte cardOperation, int cardValue, int cardHotelValue) {
+        text[size] = cardText;
+        operation[size] = cardOperation;
+        value[size] = cardValue;
+        hotelValue[size] = cardHotelValue;
+        size++;
+    }
+
+    private static CardTable buildChance() {
+        CardTable table = new CardTable();
+        table.add("Advance to Boardwalk.", MOVE_TO, 39);
+        table.add("Advance to Go (Collect $200).", MOVE_TO, 0);
+        table.add("Advance to Illinois Avenue. If you pass Go, collect $200.", MOVE_TO, 24);
+        table.add("Advance to St. Charles Place. If you pass Go, collect $200.", MOVE_TO, 11);
+        table.add("Advance to the nearest Railroad. If unowned, you may buy it from the Bank. If owned, pay owner twice the rental to which they are otherwise entitled.", MOVE_TO_NEAREST_RAILROAD, 2);
+        table.add("Advance to the nearest Railroad. If unowned, you may buy it from the Bank. If owned, pay owner twice the rental to which they are otherwise entitled.", MOVE_TO_NEAREST_RAILROAD, 2);
+        table.add("Advance token to nearest Utility. If unowned, you may buy it from the Bank. If owned, throw dice and pay owner a total ten times amount thrown.", MOVE_TO_NEAREST_UTILITY, 10);
+        table.add("Bank pays you dividend of $50.", COLLECT, 50);
+        table.add("Get Out of Jail Free.", JAIL_FREE, 0);
+        table.add("Go Back 3 Spaces.", MOVE_BACK, 3);
+        table.add("Go to Jail. Go directly to Jail, do not pass Go, do not collect $200.", GO_TO_JAIL, 0);
+        table.add("Make general repairs on all your property. For each house pay $25. For each hotel pay $100.", REPAIRS, 25, 100);
+        table.add("Speeding fine $15.", PAY, 15);
+        table.add("Take a trip to Reading Railroad. If you pass Go, collect $200.", MOVE_TO, 5);
+        table.add("You have been elected Chairman of the Board. Pay each player $50.", PAY_EACH_PLAYER, 50);
+        table.add("Your building loan matures. Collect $150.", COLLECT, 150);
+        return table;
+    }
+
+    private static CardTable buildCommunityChest() {
+        CardTable table = new CardTable();
+        table.add("Advance to Go (Collect $200)", MOVE_TO, 0);
+        table.add("Bank error in your favor. Collect $200", COLLECT, 200);
+        table.add("Doctor's fee. Pay $50", PAY, 50);
+        table.add("From sale of stock you get $50", COLLECT, 50);
+        table.add("Get Out of Jail Free", JAIL_FREE, 0);
+        table.add("Go to Jail. Go directly to jail, do not pass Go, do not collect $200", GO_TO_JAIL, 0);
+        table.add("Holiday fund matures. Receive $100", COLLECT, 100);
+        table.add("Income tax refund. Collect $20", COLLECT, 20);
+        table.add("It is your birthday. Collect $10 from every player", COLLECT_FROM_EACH_PLAYER, 10);
+        table.add("Life insurance matures. Collect $100", COLLECT, 100);
+        table.add("Pay hospital fees of $100", PAY, 100);
+        table.add("Pay school fees of $50", PAY, 50);
+        table.add("Receive $25 consultancy fee", COLLECT, 25);
+        table.add("You are assessed for street repair. $40 per house. $115 per hotel", REPAIRS, 40, 115);
+        table.add("You have won second prize in a beauty contest. Collect $10", COLLECT, 10);
+        table.add("You inherit $100", COLLECT, 100);
+        return table;
+    }
+
+    // For every position, the first position of the mask reached moving forward
+    private static int[] nearest(long mask) {
+        int[] nearest = new int[BOARD_SIZE];
+        for (int position = 0; position < BOARD_SIZE; position++) {
+            int next = (position + 1) % BOARD_SIZE;
+            while ((mask & OwnershipMask.bit(next)) == 0) {
+                next = (next + 1) % BOARD_SIZE;
+            }
+            nearest[position] = next;
+        }
+        return nearest;
+    }
+
+    /**
+     * @return the number of cards in the deck
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param card Card id
+     * @return the text printed on the card
+     */
+    public String text(int card) {
+        return text[card];
+    }
+
+    /**
+     * @param card Card id
+     * @return what the card does, one of the operation constants
+     */
+    public byte operation(int card) {
+        return operation[card];
+    }
+
+    /**
+     * @param card Card id
+     * @return the card's value; see the class comment for what it means per operation
+     */
+    public int value(int card) {
+        return value[card];
+    }
+
+    /**
+     * @param card Card id of a REPAIRS card
+     * @return the cost per hotel
+     */
+    public int hotelValue(int card) {
+        return hotelValue[card];
+    }
+
+    /**
+     * @return bit i set if card i is kept by the player who draws it (Get Out of Jail Free)
+     */
+    public long keptCards() {
+        long kept = 0;
+        for (int card = 0; card < size; card++) {
+            if (operation[card] == JAIL_FREE) {
+                kept |= 1L << card;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * @return the id of the deck's Get Out of Jail Free card, or -1 if it has none
+     */
+    public int jailFreeCard() {
+        long kept = keptCards();
+        return kept == 0 ? -1 : Long.numberOfTrailingZeros(kept);
+    }
+
+    /**
+     * Finds a card by its text. Only needed by callers that still pass cards around as text.
+     *
+     * @param cardText The text printed on the card
+     * @return the card id, or -1 if no card has that text
+     * Team member(s) responsible: Giovanny
+     */
+    public int idOf(String cardText) {
+        for (int card = 0; card < size; card++) {
+            if (text[card].equals(cardText)) {
+                return card;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param position Board position
+     * @return position of the first railroad ahead of it
+     */
+    public static int nearestRailroad(int position) {
+        return NEAREST_RAILROAD[position];
+    }
+
+    /**
+     * @param position Board position
+     * @return position of the first utility ahead of it
+     */
+    public static int nearestUtility(int position) {
+        return NEAREST_UTILITY[position];
+    }
+}
@@ -1,7 +1,8 @@
 /*
  * CSCI 234: Intro to Software Engineering
  * Group: Giovanny, Jamell, Matt, Deborah
- * Purpose: This class is a database for the chance cards in the game.
+ * Purpose: This class is the chance deck of the game.
+ * The cards themselves are listed in CardTable.CHANCE.
  * Team Member(s) responsible: Jamell
  * */
 
@@ -9,25 +10,38 @@
 package Model.Cards;
 
 import Model.Board.Banker;
-import Model.Board.GameBoard;
 import Model.Board.Player;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
-import Model.Spaces.Railroad;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class ChanceCard extends Card {
 
     private static ChanceCard instance;
     private Banker banker;
-    private ArrayList<String> chanceCardsDeck;
+    private RandomGenerator random;
+    private final CardDeck deck;
+    // The player holding this deck's Get Out of Jail Free card, if anyone
+    private Player jailFreeHolder;
 
     private ChanceCard() {
+        this(Banker.getInstance());
+    }
+
+    /**
+     * Creates a chance deck that pays and charges through the given banker.
+     * @param banker the banker of the game the deck belongs to
+     * Team member(s) responsible: Giovanny
+     */
+    public ChanceCard(Banker banker) {
         super("Chance Card");
-        chanceCardsDeck = new ArrayList<>();
-        banker = Banker.getInstance();
-        preloadCards();
+        deck = new CardDeck(CardTable.CHANCE);
+        this.banker = banker;
+        this.random = new SplittableRandom();
     }
 
     /**
@@ -58,30 +72,11 @@ public class ChanceCard extends Card {
      */
     @Override
     public ArrayList<String> getCardDeck() {
-        return chanceCardsDeck;
-    }
-
-    /**
-     * Preload the cards in the deck
-     * Team member(s) responsible: Jamell
-     */
-    private void preloadCards() {
-        chanceCardsDeck.add("Advance to Boardwalk.");
-        chanceCardsDeck.add("Advance to Go (Collect $200).");
-        chanceCardsDeck.add("Advance to Illinois Avenue. If you pass Go, collect $200.");
-        chanceCardsDeck.add("Advance to St. Charles Place. If you pass Go, collect $200.");
-        chanceCardsDeck.add("Advance to the nearest Railroad. If unowned, you may buy it from the Bank. If owned, pay owner twice the rental to which they are otherwise entitled.");
-        chanceCardsDeck.add("Advance to the nearest Railroad. If unowned, you may buy it from the Bank. If owned, pay owner twice the rental to which they are otherwise entitled.");
-        chanceCardsDeck.add("Advance token to nearest Utility. If unowned, you may buy it from the Bank. If owned, throw dice and pay owner a total ten times amount thrown.");
-        chanceCardsDeck.add("Bank pays you dividend of $50.");
-        chanceCardsDeck.add("Get Out of Jail Free.");
-        chanceCardsDeck.add("Go Back 3 Spaces.");
-        chanceCardsDeck.add("Go to Jail. Go directly to Jail, do not pass Go, do not collect $200.");
-        chanceCardsDeck.add("Make general repairs on all your property. For each house pay $25. For each hotel pay $100.");
-        chanceCardsDeck.add("Speeding fine $15.");
-        chanceCardsDeck.add("Take a trip to Reading Railroad. If you pass Go, collect $200.");
-        chanceCardsDeck.add("You have been elected Chairman of the Board. Pay each player $50.");
-        chanceCardsDeck.add("Your building loan matures. Collect $150.");
+        ArrayList<String> cards = new ArrayList<>(deck.size());
+        for (int i = 0; i < deck.size(); i++) {
+            cards.add(CardTable.CHANCE.text(deck.get(i)));
+        }
+        return cards;
     }
 
     /**
@@ -91,29 +86,73 @@ public class ChanceCard extends Card {
      * Team member(s) responsible: Jamell
      */
     public String drawCard() {
-        if (!chanceCardsDeck.isEmpty()) {
-            return chanceCardsDeck.remove(0);
+        int card = drawCardId();
+        if (card != CardDeck.NO_CARD) {
+            return CardTable.CHANCE.text(card);
         }
         return "No more cards in the deck.";
     }
 
+    /**
+     * Draws the top card of the chance deck as a card id. The card goes back to the bottom of the deck,
+     * except Get Out of Jail Free, which stays out until the player who keeps it uses it.
+     *
+     * @return the id of the card in CardTable.CHANCE, or CardDeck.NO_CARD if the deck is empty
+     * Team member(s) responsible: Giovanny
+     */
+    public int drawCardId() {
+        return deck.draw();
+    }
+
+    /**
+     * @return the number of cards left in the chance deck
+     * Team member(s) responsible: Giovanny
+     */
+    public int cardsLeft() {
+        return deck.size();
+    }
+
     /**
      * This method restores the chance deck to its original state.
      * Team member(s) responsible: Jamell
      */
     public void cardRestore() {
-        chanceCardsDeck = new ArrayList<>();
-        preloadCards();
-        shuffleDeck();
+        cardRestore(random);
     }
 
+    /**
+     * This method restores the chance deck and shuffles it with the given random source.
+     * Team member(s) responsible: Giovanny
+     */
+    public void cardRestore(RandomGenerator random) {
+        deck.restore();
+        jailFreeHolder = null;
+        shuffleDeck(random);
+    }
+
+    /**
+     * Sets the stream the chance deck shuffles with, normally the game's deck stream.
+     * Team member(s) responsible: Giovanny
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
 
     /**
      * This method shuffles the chance deck.
      * Team member(s) responsible: Jamell
      */
     public void shuffleDeck() {
-        Collections.shuffle(chanceCardsDeck);
+        deck.shuffle(random);
+    }
+
+    /**
+     * This method shuffles the chance deck with the given random source,
+     * so a seeded game always draws the same cards.
+     * Team member(s) responsible: Giovanny
+     */
+    public void shuffleDeck(RandomGenerator random) {
+        deck.shuffle(random);
     }
 
     /**
@@ -121,146 +160,50 @@ public class ChanceCard extends Card {
      * Team member(s) responsible: Jamell
      */
     public void useCard(String message, Player player) throws PlayerNotFoundException {
-        switch (message) {
-            case "Advance to Boardwalk.":
-
-                int boardwalkSteps = calculateSteps(player.getPosition(), 39);
-                if (passesGo(player.getPosition(), boardwalkSteps)) {
-                    banker.deposit(player, 200);
-                }
-                player.move(player,boardwalkSteps);
-                System.out.println("Chance Card: Player " + player.getName() + " advanced to Boardwalk (position 39)");
-                break;
-
-            case "Advance to Go (Collect $200).":
-                player.setPosition(0);
-                System.out.println("Chance Card: Player " + player.getName() + " advanced to GO (position 0)");
-                banker.deposit(player, 200);
-                System.out.println("Chance Card: Player " + player.getName() + " collected $200 for reaching GO");
-                break;
-
-            case "Advance to Illinois Avenue. If you pass Go, collect $200.":
-                int illinoisSteps = calculateSteps(player.getPosition(), 24);
-                if (passesGo(player.getPosition(), illinoisSteps)) {
-                    banker.deposit(player, 200);
-                }
-                player.move(player,illinoisSteps);
-                break;
-
-            case "Advance to St. Charles Place. If you pass Go, collect $200.":
-                int stCharlesSteps = calculateSteps(player.getPosition(), 11);
-                if (passesGo(player.getPosition(), stCharlesSteps)) {
-                    banker.deposit(player, 200);
-                }
-                player.move(player,stCharlesSteps);
-                break;
-
-//            case "Advance to the nearest Railroad. If unowned, you may buy it from the Bank. If owned, pay owner twice the rental to which they are otherwise entitled.":
-//                int nearestRailroadPos = findNearestRailroad(player.getPosition());
-//                int rrSteps = calculateSteps(player.getPosition(), nearestRailroadPos);
-//                player.move(player,rrSteps);
-//                Railroad railroad = gameBoard.getBoardElements(player.getPosition());
-//                if (railroad.getOwner() == null) {
-//                    railroad.onPassing(player, railroad);
-//                } else {
-//                    Player owner = railroad.getOwner();
-//                    int rent = railroad.getRent() * 2;
-//                    banker.transferMoney(player, owner, rent);
-//                }
-//                break;
-
-//            case "Advance token to nearest Utility. If unowned, you may buy it from the Bank. If owned, throw dice and pay owner a total ten times amount thrown.":
-//                int nearestUtilityPos = findNearestUtility(player.getPosition());
-//                int utilSteps = calculateSteps(player.getPosition(), nearestUtilityPos);
-//                player.move(utilSteps);
-//                Property utility = board.getProperty(player.getPosition());
-//                if (utility.isUnowned()) {
-//                    offerPropertyPurchase(player, utility);
-//                } else {
-//                    int diceRoll = rollDice();
-//                    Player owner = utility.getOwner();
-//                    banker.transferMoney(player, owner, diceRoll * 10);
-//                }
-//                break;
-
-            case "Bank pays you dividend of $50.":
-                banker.deposit(player, 50);
-                break;
-
-            case "Get Out of Jail Free.":
-                player.addGetOutOfJailFreeCard();
-                break;
-
-//            case "Go Back 3 Spaces.":
-//                player.move(player,-3);
-//                break;
-
-            case "Go to Jail. Go directly to Jail, do not pass Go, do not collect $200.":
-                int jailSteps = calculateSteps(player.getPosition(), 10);
-                player.move(player,jailSteps);
-                player.setInJail(true);
-                break;
-
-//            case "Make general repairs on all your property. For each house pay $25. For each hotel pay $100.":
-//                int houses = player.getHouseCount();
-//                int hotels = player.getHotelCount();
-//                banker.withdraw(player, (houses * 25) + (hotels * 100));
-//                break;
-
-            case "Speeding fine $15.":
-                banker.withdraw(player, 15);
-                break;
-
-            case "Take a trip to Reading Railroad. If you pass Go, collect $200.":
-                int readingSteps = calculateSteps(player.getPosition(), 5);
-                if (passesGo(player.getPosition(), readingSteps)) {
-                    banker.deposit(player, 200);
-                }
-                player.move(player,readingSteps);
-                break;
-
-//            case "You have been elected Chairman of the Board. Pay each player $50.":
-//                ArrayList<Player> others = Game.
-//                for (Player p : others) {
-//                    banker.transferMoney(player, p, 50);
-//                }
-//                break;
-
-            case "Your building loan matures. Collect $150.":
-                banker.deposit(player, 150);
-                break;
-
-            default:
-                System.out.println("Unknown card: " + message);
-                break;
+        int card = CardTable.CHANCE.idOf(message);
+        if (card < 0) {
+            EventLog.log(EventType.UNKNOWN_CARD, player, "chance card", message);
+            return;
         }
+        useCard(card, player);
     }
 
-
-
     /**
-     * This method is used to reset the instance of ChanceCard.
-     * Team member(s) responsible: Jamell
+     * Plays a chance card by id, using the effect listed for it in CardTable.CHANCE.
+     *
+     * @param card   Card id, as returned by drawCardId()
+     * @param player The player who drew the card
+     * Team member(s) responsible: Giovanny
      */
-    public static void reset() {
-        instance = null;
+    public void useCard(int card, Player player) throws PlayerNotFoundException {
+        CardEffects.apply(CardTable.CHANCE, card, player, banker);
+        if (CardTable.CHANCE.operation(card) == CardTable.JAIL_FREE) {
+            jailFreeHolder = player;
+        }
     }
 
-
     /**
-     * This method is used to calculate the steps to move.
-     * Team member(s) responsible: Jamell
+     * Puts this deck's Get Out of Jail Free card back at the bottom if the player holds it.
+     *
+     * @param player The player who used a Get Out of Jail Free card
+     * @return true if it was this deck's card
+     * Team member(s) responsible: Giovanny
      */
-    private int calculateSteps(int current, int target) {
-        return (target - current + 40) % 40;
+    public boolean returnJailFreeCard(Player player) {
+        if (jailFreeHolder != player) {
+            return false;
+        }
+        jailFreeHolder = null;
+        deck.putBack(CardTable.CHANCE.jailFreeCard());
+        return true;
     }
 
     /**
-     * This method is used to figure out if the player passes Go.
+     * This method is used to reset the instance of ChanceCard.
      * Team member(s) responsible: Jamell
      */
-    private boolean passesGo(int current, int steps) {
-        return (current + steps) >= 40;
+    public static void reset() {
+        instance = null;
     }
 }
 
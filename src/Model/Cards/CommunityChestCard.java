@@ -1,8 +1,8 @@
 /*
  * CSCI 234: Intro to Software Engineering
  * Group: Giovanny, Jamell, Matt, Deborah
- * Purpose: This class is responsible for creating the Community Chest card deck
- * and preloading the cards
+ * Purpose: This class is responsible for the Community Chest card deck.
+ * The cards themselves are listed in CardTable.COMMUNITY_CHEST.
  * Team Member(s) responsible: Jamell
  * */
 
@@ -10,22 +10,37 @@ package Model.Cards;
 
 import Model.Board.Banker;
 import Model.Board.Player;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class CommunityChestCard extends Card {
 
     private static CommunityChestCard instance;
-    private ArrayList<String> communityChanceDeck;
+    private final CardDeck deck;
+    // The player holding this deck's Get Out of Jail Free card, if anyone
+    private Player jailFreeHolder;
     private Banker banker;
+    private RandomGenerator random;
 
     private CommunityChestCard() {
+        this(Banker.getInstance());
+    }
+
+    /**
+     * Creates a community chest deck that pays and charges through the given banker.
+     * @param banker the banker of the game the deck belongs to
+     * Team member(s) responsible: Giovanny
+     */
+    public CommunityChestCard(Banker banker) {
         super("Community Chest Card");
-        communityChanceDeck = new ArrayList<>();
-        banker = Banker.getInstance();
-        preloadCards();
+        deck = new CardDeck(CardTable.COMMUNITY_CHEST);
+        this.banker = banker;
+        this.random = new SplittableRandom();
     }
 
    /**
@@ -60,30 +75,11 @@ public class CommunityChestCard extends Card {
      */
     @Override
     public ArrayList<String> getCardDeck() {
-        return communityChanceDeck;
-    }
-
-    /**
-     * This method preloads the cards
-     * Team member(s) responsible: Jamell
-     */
-    private void preloadCards() {
-        communityChanceDeck.add("Advance to Go (Collect $200)");
-        communityChanceDeck.add("Bank error in your favor. Collect $200");
-        communityChanceDeck.add("Doctor’s fee. Pay $50");
-        communityChanceDeck.add("From sale of stock you get $50");
-        communityChanceDeck.add("Get Out of Jail Free");
-        communityChanceDeck.add("Go to Jail. Go directly to jail, do not pass Go, do not collect $200");
-        communityChanceDeck.add("Holiday fund matures. Receive $100");
-        communityChanceDeck.add("Income tax refund. Collect $20");
-        communityChanceDeck.add("It is your birthday. Collect $10 from every player");
-        communityChanceDeck.add("Life insurance matures. Collect $100");
-        communityChanceDeck.add("Pay hospital fees of $100");
-        communityChanceDeck.add("Pay school fees of $50");
-        communityChanceDeck.add("Receive $25 consultancy fee");
-        communityChanceDeck.add("You are assessed for street repair. $40 per house. $115 per hotel");
-        communityChanceDeck.add("You have won second prize in a beauty contest. Collect $10");
-        communityChanceDeck.add("You inherit $100");
+        ArrayList<String> cards = new ArrayList<>(deck.size());
+        for (int i = 0; i < deck.size(); i++) {
+            cards.add(CardTable.COMMUNITY_CHEST.text(deck.get(i)));
+        }
+        return cards;
     }
 
     /**
@@ -93,18 +89,30 @@ public class CommunityChestCard extends Card {
      * Team member(s) responsible: Jamell
      */
     public String drawCard() {
-        if (!communityChanceDeck.isEmpty()) {
-            return communityChanceDeck.remove(0);
+        int card = drawCardId();
+        if (card != CardDeck.NO_CARD) {
+            return CardTable.COMMUNITY_CHEST.text(card);
         }
         return "No more cards in the deck.";
     }
 
     /**
-     * This method is used to shuffle the community chest deck.
-     * Team member(s) responsible: Jamell
+     * Draws the top card of the community chest deck as a card id. The card goes back to the bottom of the deck,
+     * except Get Out of Jail Free, which stays out until the player who keeps it uses it.
+     *
+     * @return the id of the card in CardTable.COMMUNITY_CHEST, or CardDeck.NO_CARD if the deck is empty
+     * Team member(s) responsible: Giovanny
      */
-    public void shuffleDeck() {
-        Collections.shuffle(communityChanceDeck);
+    public int drawCardId() {
+        return deck.draw();
+    }
+
+    /**
+     * @return the number of cards left in the community chest deck
+     * Team member(s) responsible: Giovanny
+     */
+    public int cardsLeft() {
+        return deck.size();
     }
 
     /**
@@ -112,118 +120,93 @@ public class CommunityChestCard extends Card {
      * Team member(s) responsible: Jamell
      */
     public void cardRestore() {
-        preloadCards();
-        shuffleDeck();
+        cardRestore(random);
+    }
+
+    /**
+     * This method is used to restore the community chest deck and shuffle it with the given random source.
+     * Team member(s) responsible: Giovanny
+     */
+    public void cardRestore(RandomGenerator random) {
+        deck.restore();
+        jailFreeHolder = null;
+        shuffleDeck(random);
     }
 
     /**
-     * This method is used to use a card. It is not implemented yet.
+     * Sets the stream the community chest deck shuffles with, normally the game's deck stream.
+     * Team member(s) responsible: Giovanny
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * This method is used to shuffle the community chest deck.
+     * Team member(s) responsible: Jamell
+     */
+    public void shuffleDeck() {
+        deck.shuffle(random);
+    }
+
+    /**
+     * This method is used to shuffle the community chest deck with the given random source,
+     * so a seeded game always draws the same cards.
+     * Team member(s) responsible: Giovanny
+     */
+    public void shuffleDeck(RandomGenerator random) {
+        deck.shuffle(random);
+    }
+
+    /**
+     * This method is used to use a card, given its text.
      * Team member(s) responsible: Jamell
      */
     public void useCard(String message, Player player) throws PlayerNotFoundException {
-        switch (message) {
-            case "Advance to Go (Collect $200)":
-                int goSteps = calculateSteps(player.getPosition(), 0);
-                player.move(player, goSteps);
-                banker.deposit(player,200);
-                break;
-
-            case "Bank error in your favor. Collect $200":
-                banker.deposit(player, 200);
-                break;
-
-            case "Doctor's fee. Pay $50":
-                banker.withdraw(player, 50);
-                break;
-
-            case "From sale of stock you get $50":
-                banker.deposit(player, 50);
-                break;
-
-            case "Get Out of Jail Free":
-                player.addGetOutOfJailFreeCard();
-                break;
-
-            case "Go to Jail. Go directly to jail, do not pass Go, do not collect $200":
-                int jailSteps = calculateSteps(player.getPosition(), 10);
-                player.move(player, jailSteps);
-                player.setInJail(true);
-                break;
-
-            case "Holiday fund matures. Receive $100":
-                banker.deposit(player, 100);
-                break;
-
-            case "Income tax refund. Collect $20":
-                banker.deposit(player, 20);
-                break;
-
-//            case "It is your birthday. Collect $10 from every player":
-//                List<Player> otherPlayers = game.getOtherPlayers(player);
-//                for (Player otherPlayer : otherPlayers) {
-//                    banker.transferMoney(otherPlayer, player, 10);
-//                }
-//                break;
-
-            case "Life insurance matures. Collect $100":
-                banker.deposit(player, 100);
-                break;
-
-            case "Pay hospital fees of $100":
-                banker.withdraw(player, 100);
-                break;
-
-            case "Pay school fees of $50":
-                banker.withdraw(player, 50);
-                break;
-
-            case "Receive $25 consultancy fee":
-                banker.deposit(player, 25);
-                break;
-
-//            case "You are assessed for street repair. $40 per house. $115 per hotel":
-//                int houses = banker.getPlayerProperties(player).getHouseCount();
-//                int hotels = banker.getPlayerProperties(player).getHotelCount();
-//                int repairCost = (houses * 40) + (hotels * 115);
-//                banker.withdraw(player, repairCost);
-//                break;
-
-            case "You have won second prize in a beauty contest. Collect $10":
-                banker.deposit(player, 10);
-                break;
-
-            case "You inherit $100":
-                banker.deposit(player, 100);
-                break;
-
-            default:
-                System.out.println("Unknown Community Chest card: " + message);
-                break;
+        int card = CardTable.COMMUNITY_CHEST.idOf(message);
+        if (card < 0) {
+            EventLog.log(EventType.UNKNOWN_CARD, player, "Community Chest card", message);
+            return;
         }
+        useCard(card, player);
     }
 
     /**
-     * This method is used to reset the CommunityChestCard class.
-     * Team member(s) responsible: Jamell
+     * Plays a community chest card by id, using the effect listed for it in CardTable.COMMUNITY_CHEST.
+     *
+     * @param card   Card id, as returned by drawCardId()
+     * @param player The player who drew the card
+     * Team member(s) responsible: Giovanny
      */
-    public static void reset() {
-        instance = null;
+    public void useCard(int card, Player player) throws PlayerNotFoundException {
+        CardEffects.apply(CardTable.COMMUNITY_CHEST, card, player, banker);
+        if (CardTable.COMMUNITY_CHEST.operation(card) == CardTable.JAIL_FREE) {
+            jailFreeHolder = player;
+        }
     }
 
     /**
-     * This method is used to calculate the steps to move.
-     * Team member(s) responsible: Jamell
+     * Puts this deck's Get Out of Jail Free card back at the bottom if the player holds it.
+     *
+     * @param player The player who used a Get Out of Jail Free card
+     * @return true if it was this deck's card
+     * Team member(s) responsible: Giovanny
      */
-    private int calculateSteps(int current, int target) {
-        return (target - current + 40) % 40;
+    public boolean returnJailFreeCard(Player player) {
+        if (jailFreeHolder != player) {
+            return false;
+        }
+        jailFreeHolder = null;
+        deck.putBack(CardTable.COMMUNITY_CHEST.jailFreeCard());
+        return true;
     }
 
     /**
-     * This method is used to figure out if the player passes Go.
+     * This method is used to reset the CommunityChestCard class.
      * Team member(s) responsible: Jamell
      */
-    private boolean passesGo(int current, int steps) {
-        return (current + steps) >= 40;
+    public static void reset() {
+        instance = null;
     }
 
 }
@@ -0,0 +1,23 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: How important a game event is. The event log only keeps events at or above its level.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Events;
+
+/**
+ * Levels of the game event log, from the most to the least detailed.
+ * Team member(s) responsible: Giovanny
+ */
+public enum EventLevel {
+    /** Step by step detail: moves, bank bookkeeping, declined purchases */
+    DEBUG,
+    /** What a player at the table would notice: purchases, rent, cards, jail */
+    INFO,
+    /** Something was refused or went wrong */
+    WARN,
+    /** Logs nothing */
+    OFF
+}
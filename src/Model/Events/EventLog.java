@@ -0,0 +1,224 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Structured, leveled event log for the game model. Events are written to a
+ * preallocated ring buffer and handed to the sinks by a background thread, so logging
+ * never formats text or prints on the game's own thread.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Events;
+
+import Model.Board.Player;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The game event log.
+ * It is off until start() is called; while off, log() returns after one level comparison,
+ * so simulations that never start it pay nothing for it.
+ * Arguments passed to log() must be values the caller already has (names, amounts),
+ * never strings built for the log.
+ * Team member(s) responsible: Giovanny
+ */
+public final class EventLog {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    private static final long PARK_NANOS = 200_000L;
+    private static final int NO_PLAYER = -1;
+
+    private static volatile int threshold = EventLevel.OFF.ordinal();
+    private static volatile EventLog active;
+    private static final ThreadLocal<int[]> GAME_ID = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final GameEvent[] slots;
+    private final int mask;
+    private final EventSink[] sinks;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long drained;
+    private volatile boolean running = true;
+    private final Thread drainer;
+
+    private EventLog(int capacity, EventSink[] sinks) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        slots = new GameEvent[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new GameEvent();
+        }
+        mask = size - 1;
+        this.sinks = sinks.clone();
+        drainer = new Thread(this::drainLoop, "game-event-log");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Turns the log on, replacing any log already running.
+     *
+     * @param level The lowest level that is kept
+     * @param sinks Where the events go
+     * Team member(s) responsible: Giovanny
+     */
+    public static void start(EventLevel level, EventSink... sinks) {
+        start(level, DEFAULT_CAPACITY, sinks);
+    }
+
+    /**
+     * Turns the log on with a ring buffer of the given size (rounded up to a power of two).
+     * Team member(s) responsible: Giovanny
+     */
+    public static synchronized void start(EventLevel level, int capacity, EventSink... sinks) {
+        stop();
+        if (level == EventLevel.OFF || sinks.length == 0) {
+            return;
+        }
+        active = new EventLog(capacity, sinks);
+        threshold = level.ordinal();
+    }
+
+    /**
+     * Turns the log off after handing every event already logged to the sinks.
+     * Team member(s) responsible: Giovanny
+     */
+    public static synchronized void stop() {
+        threshold = EventLevel.OFF.ordinal();
+        EventLog log = active;
+        active = null;
+        if (log != null) {
+            log.shutdown();
+        }
+    }
+
+    /**
+     * Waits until every event logged so far has reached the sinks.
+     * Team member(s) responsible: Giovanny
+     */
+    public static void flush() {
+        EventLog log = active;
+        if (log != null) {
+            log.awaitDrained(log.claimed.get());
+        }
+    }
+
+    /**
+     * @return whether events of this level are kept
+     */
+    public static boolean isEnabled(EventLevel level) {
+        return level.ordinal() >= threshold;
+    }
+
+    /**
+     * Sets the game id stamped on the events logged by the calling thread
+     * and on its flight recorder events.
+     * @param gameId The id, e.g. the index of the game in a simulation batch
+     * Team member(s) responsible: Giovanny
+     */
+    public static void setGameId(int gameId) {
+        GAME_ID.get()[0] = gameId;
+    }
+
+    /**
+     * @return the game id of the calling thread, 0 unless setGameId() was called
+     */
+    public static int getGameId() {
+        return GAME_ID.get()[0];
+    }
+
+    public static void log(EventType type, Player player) {
+        log(type, player, null, null, 0, 0);
+    }
+
+    public static void log(EventType type, Player player, int a) {
+        log(type, player, null, null, a, 0);
+    }
+
+    public static void log(EventType type, Player player, String subject) {
+        log(type, player, subject, null, 0, 0);
+    }
+
+    public static void log(EventType type, Player player, String subject, int a) {
+        log(type, player, subject, null, a, 0);
+    }
+
+    public static void log(EventType type, Player player, String subject, String detail) {
+        log(type, player, subject, detail, 0, 0);
+    }
+
+    /**
+     * Logs an event if its level is enabled.
+     *
+     * @param type    The kind of event
+     * @param player  The player it happened to, or null
+     * @param subject First name shown in the text, e.g. the space
+     * @param detail  Second name shown in the text, e.g. the owner
+     * @param a       First number shown in the text
+     * @param b       Second number shown in the text
+     * Team member(s) responsible: Giovanny
+     */
+    public static void log(EventType type, Player player, String subject, String detail, int a, int b) {
+        if (type.getLevel().ordinal() < threshold) {
+            return;
+        }
+        EventLog log = active;
+        if (log != null) {
+            log.publish(type, player, subject, detail, a, b);
+        }
+    }
+
+    private void publish(EventType type, Player player, String subject, String detail, int a, int b) {
+        long sequence = claimed.getAndIncrement();
+        // The buffer is full: wait for the drain thread rather than lose the event
+        while (sequence - drained >= slots.length) {
+            if (!running) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        GameEvent event = slots[(int) (sequence & mask)];
+        event.set(type, GAME_ID.get()[0],
+                player != null ? player.getId() : NO_PLAYER,
+                player != null ? player.getName() : null,
+                subject, detail, a, b);
+        event.publish(sequence);
+    }
+
+    private void drainLoop() {
+        long next = drained;
+        while (true) {
+            GameEvent event = slots[(int) (next & mask)];
+            if (event.getSequence() == next) {
+                for (EventSink sink : sinks) {
+                    try {
+                        sink.accept(event);
+                    } catch (RuntimeException e) {
+                        // A broken sink must not stop the others or the game
+                    }
+                }
+                next++;
+                drained = next;
+            } else if (!running) {
+                // shutdown() already waited for everything logged before stop()
+                return;
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    }
+
+    private void awaitDrained(long target) {
+        while (drained < target && drainer.isAlive()) {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    private void shutdown() {
+        awaitDrained(claimed.get());
+        running = false;
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
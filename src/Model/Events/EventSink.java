@@ -0,0 +1,24 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Receives the events drained from the event log.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Events;
+
+/**
+ * Consumer of game events. Called only from the event log's drain thread.
+ * Team member(s) responsible: Giovanny
+ */
+public interface EventSink {
+
+    /**
+     * Handles one event. The event is reused once this returns,
+     * so a sink that keeps events must copy what it needs.
+     *
+     * @param event The event
+     * Team member(s) responsible: Giovanny
+     */
+    void accept(GameEvent event);
+}
@@ -0,0 +1,85 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The kinds of game events, each with its level and the text it is shown as.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Events;
+
+/**
+ * Kinds of game events.
+ * The text is only filled in when a sink formats the event: {player} is the player's name,
+ * {subject} and {detail} are the event's two names (a space, a card, an owner), {a} and {b} its two numbers.
+ * Team member(s) responsible: Giovanny
+ */
+public enum EventType {
+    GAME_STARTED(EventLevel.INFO, "Game started!"),
+    GAME_OVER(EventLevel.INFO, "Game over! The winner is: {player}"),
+    NO_WINNER(EventLevel.WARN, "No winner could be determined."),
+    PLAYER_MOVED(EventLevel.DEBUG, "{player} moved from position {a} to position {b}"),
+    PLAYER_LANDED(EventLevel.DEBUG, "{player} landed on {subject} at position {a}"),
+    POSITION_RESET(EventLevel.WARN, "{player} had invalid position {a} and was reset to GO"),
+    LANDING_FAILED(EventLevel.WARN, "Error in space landing handler for {player}: {subject}"),
+    TITLE_DEED_ADDED(EventLevel.DEBUG, "BANKER: Added {subject} to {player}'s title deeds"),
+    SALE_REFUSED(EventLevel.WARN, "BANKER ERROR: {subject} is already owned by {detail}"),
+    INSUFFICIENT_FUNDS(EventLevel.WARN, "BANKER ERROR: Insufficient funds. {player} has ${a} but needs ${b} for {subject}"),
+    PROPERTY_BOUGHT(EventLevel.INFO, "{player} purchased {subject} for ${a}"),
+    PURCHASE_DECLINED(EventLevel.DEBUG, "Banker didn't sell the {subject} to {player} this time."),
+    PURCHASE_PASSED(EventLevel.INFO, "{player} declined to buy {subject}"),
+    PURCHASE_UNAFFORDABLE(EventLevel.INFO, "{player} has ${a} and cannot afford {subject} at ${b}"),
+    PURCHASE_FAILED(EventLevel.WARN, "Error during purchase of {subject} by {player}: {detail}"),
+    PROPERTY_RELISTED(EventLevel.WARN, "{subject} had no owner but was not for sale; it is for sale again"),
+    BUILDING_BOUGHT(EventLevel.INFO, "{player} bought a {detail} on {subject}"),
+    HOUSE_PURCHASE_FAILED(EventLevel.WARN, "Exception during house purchase on {subject}: {detail}"),
+    RENT_PAID(EventLevel.INFO, "{player} landed on {subject} and paid {detail} ${a} in rent"),
+    OWN_PROPERTY(EventLevel.DEBUG, "{player} owns {subject}"),
+    UNOWNED_PROPERTY(EventLevel.DEBUG, "Player {player} landed on unowned property: {subject}"),
+    TAX_PAID(EventLevel.INFO, "{player} paid ${a} in {subject}"),
+    CARD_DRAWN(EventLevel.INFO, "{player} drew a {subject}: {detail}"),
+    UNKNOWN_CARD(EventLevel.WARN, "Unknown {subject}: {detail}"),
+    JUST_VISITING(EventLevel.DEBUG, "{player} is just visiting jail"),
+    JAIL_ROLL(EventLevel.DEBUG, "{player} rolled a {a} in jail"),
+    JAIL_DOUBLES(EventLevel.INFO, "{player} rolled doubles and is now out of jail!"),
+    JAIL_TURN(EventLevel.DEBUG, "{player} has been in jail for {a} turns"),
+    JAIL_FINE_PAID(EventLevel.INFO, "{player} paid ${a} to get out of jail!"),
+    JAIL_FINE_UNAFFORDABLE(EventLevel.WARN, "{player} does not have enough money to pay the ${a} fine!"),
+    JAIL_CARD_USED(EventLevel.INFO, "{player} used a Get Out of Jail Free card!"),
+    NO_JAIL_CARD(EventLevel.DEBUG, "{player} does not have a Get Out of Jail Free card!"),
+    JAIL_FAILED(EventLevel.WARN, "Error handling jail stay for {player}: {subject}"),
+    AUCTION_BID(EventLevel.DEBUG, "{player} bid ${a}"),
+    AUCTION_PASS(EventLevel.DEBUG, "{player} passed on bidding."),
+    AUCTION_WON(EventLevel.INFO, "{player} won the auction for {subject} with a bid of ${a}"),
+    AUCTION_FAILED(EventLevel.WARN, "Error completing auction for {subject}: {detail}"),
+    AUCTION_NO_BIDS(EventLevel.INFO, "No one bid on {subject}, property remains with the bank."),
+    TRADE_COMPLETED(EventLevel.INFO, "{player} traded {a} properties for {b} of {subject}'s"),
+    TRADE_DECLINED(EventLevel.INFO, "{subject} turned down a trade from {player}"),
+    CPU_TURN(EventLevel.DEBUG, "{player} is at position {a} before rolling"),
+    CPU_ROLLED(EventLevel.DEBUG, "{player} rolled {a} and {b}"),
+    CPU_POSITION_MISMATCH(EventLevel.WARN, "{player} should be at position {a} but is at {b}"),
+    CPU_FAILED(EventLevel.WARN, "{player} could not finish its turn: {subject}"),
+    ACTION_FAILED(EventLevel.WARN, "Error during {subject} for {player}: {detail}"),
+    IMAGE_FAILED(EventLevel.WARN, "Could not load or create the image {subject}: {detail}");
+
+    private final EventLevel level;
+    private final String template;
+
+    EventType(EventLevel level, String template) {
+        this.level = level;
+        this.template = template;
+    }
+
+    /**
+     * @return the level events of this type are logged at
+     */
+    public EventLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * @return the text of the event with its placeholders
+     */
+    public String getTemplate() {
+        return template;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: One structured game event: its type, game, player, two names and two numbers.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Events;
+
+/**
+ * A slot of the event log's ring buffer. Logging only copies references and ints into it;
+ * the text is built by appendText() when a sink asks for it.
+ * Team member(s) responsible: Giovanny
+ */
+public final class GameEvent {
+
+    private volatile long sequence = -1; // written last, tells the drain thread the slot is ready
+    private EventType type;
+    private int gameId;
+    private int playerId;
+    private String player;
+    private String subject;
+    private String detail;
+    private int a;
+    private int b;
+
+    GameEvent() {
+    }
+
+    void set(EventType type, int gameId, int playerId, String player, String subject, String detail, int a, int b) {
+        this.type = type;
+        this.gameId = gameId;
+        this.playerId = playerId;
+        this.player = player;
+        this.subject = subject;
+        this.detail = detail;
+        this.a = a;
+        this.b = b;
+    }
+
+    void publish(long sequence) {
+        this.sequence = sequence;
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return a copy that is not reused by the log, for sinks that keep events
+     * Team member(s) responsible: Giovanny
+     */
+    public GameEvent copy() {
+        GameEvent copy = new GameEvent();
+        copy.set(type, gameId, playerId, player, subject, detail, a, b);
+        return copy;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public EventLevel getLevel() {
+        return type.getLevel();
+    }
+
+    /**
+     * @return the id of the game the event happened in, 0 outside of a simulation batch
+     */
+    public int getGameId() {
+        return gameId;
+    }
+
+    /**
+     * @return the id of the player, or -1 if the event has no player
+     */
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public int getA() {
+        return a;
+    }
+
+    public int getB() {
+        return b;
+    }
+
+    /**
+     * Fills in the event's text template.
+     *
+     * @param out Where the text is appended
+     * Team member(s) responsible: Giovanny
+     */
+    public void appendText(StringBuilder out) {
+        String template = type.getTemplate();
+        int start = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int close = template.indexOf('}', open);
+            out.append(template, start, open);
+            appendField(out, template.substring(open + 1, close));
+            start = close + 1;
+            open = template.indexOf('{', start);
+        }
+        out.append(template, start, template.length());
+    }
+
+    /**
+     * @return the event's text
+     * Team member(s) responsible: Giovanny
+     */
+    public String toText() {
+        StringBuilder out = new StringBuilder(64);
+        appendText(out);
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+
+    private void appendField(StringBuilder out, String field) {
+        switch (field) {
+            case "player":
+                out.append(player);
+                break;
+            case "subject":
+                out.append(subject);
+                break;
+            case "detail":
+                out.append(detail);
+                break;
+            case "a":
+                out.append(a);
+                break;
+            case "b":
+                out.append(b);
+                break;
+            default:
+                out.append('{').append(field).append('}');
+                break;
+        }
+    }
+}
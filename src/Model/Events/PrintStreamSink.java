@@ -0,0 +1,43 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Prints game events as text, one line per event, e.g. to the console.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Events;
+
+import java.io.PrintStream;
+
+/**
+ * Sink that formats each event and prints it.
+ * Team member(s) responsible: Giovanny
+ */
+public class PrintStreamSink implements EventSink {
+
+    private final PrintStream out;
+    private final boolean showGame;
+    private final StringBuilder line = new StringBuilder(128);
+
+    /**
+     * Constructor for PrintStreamSink
+     *
+     * @param out      Where the lines are printed
+     * @param showGame Whether each line starts with the id of its game, for batches of games
+     * Team member(s) responsible: Giovanny
+     */
+    public PrintStreamSink(PrintStream out, boolean showGame) {
+        this.out = out;
+        this.showGame = showGame;
+    }
+
+    @Override
+    public void accept(GameEvent event) {
+        line.setLength(0);
+        if (showGame) {
+            line.append("[game ").append(event.getGameId()).append("] ");
+        }
+        event.appendText(line);
+        out.println(line);
+    }
+}
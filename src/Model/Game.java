@@ -13,6 +13,8 @@ import Model.Board.GameBoard;
 import Model.Board.Player;
 import Model.Cards.ChanceCard;
 import Model.Cards.CommunityChestCard;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.*;
 
 import java.util.ArrayList;
@@ -28,10 +30,19 @@ public class Game {
     private static Game instance;
 
     private Game() {
-        this.banker = Banker.getInstance();
-        this.chanceCard = ChanceCard.getInstance();
-        this.communityChestCard = CommunityChestCard.getInstance();
-        this.board = GameBoard.getInstance();
+        this(GameContext.shared());
+    }
+
+    /**
+     * Creates a game that is played on the given context instead of the shared singletons.
+     * Many of these games can exist side by side.
+     * Team member(s) responsible: Giovanny
+     */
+    public Game(GameContext context) {
+        this.banker = context.getBanker();
+        this.chanceCard = context.getChanceCard();
+        this.communityChestCard = context.getCommunityChestCard();
+        this.board = context.getBoard();
         this.players = new ArrayList<>();
         this.inProgress = false;
     }
@@ -102,7 +113,7 @@ public class Game {
             throw new NotEnoughPlayersException();
         }
         inProgress = true;
-        System.out.println("Game started!");
+        EventLog.log(EventType.GAME_STARTED, null);
     }
 
 
@@ -131,6 +142,10 @@ public class Game {
      * Team member(s) responsible: Jamell
      */
     public String winner() throws PlayerNotFoundException {
+        return winnerPlayer().getName();
+    }
+
+    private Player winnerPlayer() throws PlayerNotFoundException {
         if(!gameInProgress()){
             throw new GameNotInProgressException();
         }
@@ -143,7 +158,7 @@ public class Game {
                 winner = player;
             }
         }
-        return winner.getName();
+        return winner;
     }
 
     /**
@@ -172,11 +187,10 @@ public class Game {
             throw new GameNotInProgressException();
         }
         try {
-            String winner = winner();
-            System.out.println("Game over! The winner is: " + winner);
+            EventLog.log(EventType.GAME_OVER, winnerPlayer());
         } catch
         (PlayerNotFoundException e) {
-            System.out.println("No winner could be determined.");
+            EventLog.log(EventType.NO_WINNER, null);
         }
         resetGame();
     }
@@ -0,0 +1,120 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: GameContext owns the banker, dice, card decks, board and random streams of one game.
+ * Passing it around explicitly lets one JVM hold many independent games at once,
+ * while the GUI keeps using the shared instances through shared().
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model;
+
+import Model.Board.Banker;
+import Model.Board.Dice;
+import Model.Board.GameBoard;
+import Model.Cards.ChanceCard;
+import Model.Cards.CommunityChestCard;
+
+public class GameContext {
+
+    private final Banker banker;
+    private final Dice dice;
+    private final ChanceCard chanceCard;
+    private final CommunityChestCard communityChestCard;
+    private final GameBoard board;
+    private final GameRandom random;
+
+    /**
+     * Creates a new, independent game: its own banker, dice, decks and board.
+     * Nothing is shared with the singletons or with any other context.
+     * Team member(s) responsible: Giovanny
+     */
+    public GameContext() {
+        this(new GameRandom());
+    }
+
+    /**
+     * Creates a new, independent game whose dice, decks and auctions draw from the given streams,
+     * so the same seed replays the same game.
+     * @param random the random streams of the game
+     * Team member(s) responsible: Giovanny
+     */
+    public GameContext(GameRandom random) {
+        this.random = random;
+        this.banker = new Banker();
+        this.banker.setAuctionRandom(random.getAuctionStream());
+        this.dice = new Dice(random.getDiceStream());
+        this.chanceCard = new ChanceCard(banker);
+        this.chanceCard.setRandom(random.getDeckStream());
+        this.communityChestCard = new CommunityChestCard(banker);
+        this.communityChestCard.setRandom(random.getDeckStream());
+        this.board = new GameBoard(dice, chanceCard, communityChestCard, banker);
+    }
+
+    private GameContext(Banker banker, Dice dice, ChanceCard chanceCard,
+                        CommunityChestCard communityChestCard, GameBoard board) {
+        this.random = new GameRandom();
+        this.banker = banker;
+        this.dice = dice;
+        this.chanceCard = chanceCard;
+        this.communityChestCard = communityChestCard;
+        this.board = board;
+    }
+
+    /**
+     * Wraps the process-wide singletons, as used by the GUI game.
+     * Team member(s) responsible: Giovanny
+     */
+    public static GameContext shared() {
+        return new GameContext(Banker.getInstance(), Dice.getInstance(), ChanceCard.getInstance(),
+                CommunityChestCard.getInstance(), GameBoard.getInstance());
+    }
+
+    /**
+     * @return the banker of this game
+     * Team member(s) responsible: Giovanny
+     */
+    public Banker getBanker() {
+        return banker;
+    }
+
+    /**
+     * @return the dice of this game
+     * Team member(s) responsible: Giovanny
+     */
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * @return the chance deck of this game
+     * Team member(s) responsible: Giovanny
+     */
+    public ChanceCard getChanceCard() {
+        return chanceCard;
+    }
+
+    /**
+     * @return the community chest deck of this game
+     * Team member(s) responsible: Giovanny
+     */
+    public CommunityChestCard getCommunityChestCard() {
+        return communityChestCard;
+    }
+
+    /**
+     * @return the random streams of this game
+     * Team member(s) responsible: Giovanny
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * @return the board of this game
+     * Team member(s) responsible: Giovanny
+     */
+    public GameBoard getBoard() {
+        return board;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The single random source of one game. It is seeded once and split into
+ * separate streams for the dice, the card decks, auctions, CPU decisions and turn order,
+ * so a game can be replayed exactly from its seed.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Per-game random streams built on SplittableRandom. Every stream is split from the
+ * game seed in a fixed order, so drawing more from one stream (say, extra dice rolls)
+ * never changes what another stream (say, the decks) produces.
+ * Also holds the 2d6 sampling table used to roll both dice with one draw.
+ * Team member(s) responsible: Giovanny
+ */
+public final class GameRandom {
+
+    /** Number of equally likely (die1, die2) outcomes of a roll */
+    public static final int OUTCOMES = 36;
+    // Every outcome packed as die1 << 3 | die2
+    private static final byte[] TWO_D6 = new byte[OUTCOMES];
+
+    static {
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                TWO_D6[(die1 - 1) * 6 + (die2 - 1)] = (byte) (die1 << 3 | die2);
+            }
+        }
+    }
+
+    private final long seed;
+    private final SplittableRandom dice;
+    private final SplittableRandom decks;
+    private final SplittableRandom auctions;
+    private final SplittableRandom ai;
+    private final SplittableRandom turnOrder;
+
+    /**
+     * Creates an unseeded game random, as used by the GUI game.
+     * Team member(s) responsible: Giovanny
+     */
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Creates the streams of a game from its seed.
+     * @param seed Seed for every random decision in the game
+     * Team member(s) responsible: Giovanny
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.dice = root.split();
+        this.decks = root.split();
+        this.auctions = root.split();
+        this.ai = root.split();
+        this.turnOrder = root.split();
+    }
+
+    /**
+     * @return the seed the streams were split from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the stream every dice roll is drawn from
+     */
+    public SplittableRandom getDiceStream() {
+        return dice;
+    }
+
+    /**
+     * @return the stream the chance and community chest decks are shuffled with
+     */
+    public SplittableRandom getDeckStream() {
+        return decks;
+    }
+
+    /**
+     * @return the stream the banker's auction bids are drawn from
+     */
+    public SplittableRandom getAuctionStream() {
+        return auctions;
+    }
+
+    /**
+     * @return the stream the turn order is shuffled with
+     */
+    public SplittableRandom getTurnOrderStream() {
+        return turnOrder;
+    }
+
+    /**
+     * Splits a new stream for one CPU player's decisions. Players must be given
+     * their streams in seat order for a game to replay the same way.
+     *
+     * @return a stream owned by one CPU player
+     * Team member(s) responsible: Giovanny
+     */
+    public SplittableRandom splitAiStream() {
+        return ai.split();
+    }
+
+    /**
+     * Rolls both dice with a single draw from the sampling table.
+     *
+     * @param random The stream to draw from
+     * @return the roll, to be read with firstDie() and secondDie()
+     * Team member(s) responsible: Giovanny
+     */
+    public static int rollPair(RandomGenerator random) {
+        return TWO_D6[random.nextInt(OUTCOMES)];
+    }
+
+    /**
+     * Pre-generates rolls in bulk, one per slot of the buffer.
+     *
+     * @param random The stream to draw from
+     * @param buffer Filled with rolls, to be read with firstDie() and secondDie()
+     * Team member(s) responsible: Giovanny
+     */
+    public static void fillRolls(RandomGenerator random, byte[] buffer) {
+        for (int i = 0; i < buffer.length; i++) {
+            buffer[i] = TWO_D6[random.nextInt(OUTCOMES)];
+        }
+    }
+
+    /**
+     * @param roll A roll from rollPair() or fillRolls()
+     * @return the value of the first die
+     */
+    public static int firstDie(int roll) {
+        return roll >> 3;
+    }
+
+    /**
+     * @param roll A roll from rollPair() or fillRolls()
+     * @return the value of the second die
+     */
+    public static int secondDie(int roll) {
+        return roll & 7;
+    }
+}
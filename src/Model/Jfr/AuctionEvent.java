@@ -0,0 +1,47 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JFR event for an auction.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Jfr;
+
+import Model.Board.Player;
+import Model.Spaces.BoardSpace;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A whole auction, from the first bid to the deed changing hands. The player is the winner.
+ * Team member(s) responsible: Giovanny
+ */
+@Name("monopoly.Auction")
+@Label("Auction")
+@Description("An auction of a property")
+public class AuctionEvent extends GameJfrEvent {
+
+    @Label("Property")
+    public String property;
+
+    @Label("Bidders")
+    public int bidders;
+
+    @Label("Winning Bid")
+    public int winningBid;
+
+    /**
+     * Commits the event if a recording wants it.
+     * Team member(s) responsible: Giovanny
+     */
+    public void complete(BoardSpace auctioned, int bidderCount, Player winner, int bid) {
+        if (shouldCommit()) {
+            setPlayer(winner);
+            property = auctioned.getName();
+            bidders = bidderCount;
+            winningBid = winner != null ? bid : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JFR event for a CPU player's decision.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Jfr;
+
+import Model.Board.Player;
+import Model.Spaces.BoardSpace;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One CpuController decision: whether to buy a property, or how much to bid for it.
+ * Team member(s) responsible: Giovanny
+ */
+@Name("monopoly.CpuDecision")
+@Label("CPU Decision")
+@Description("A decision made by a computer player")
+public class CpuDecisionEvent extends GameJfrEvent {
+
+    @Label("Decision")
+    public String decision;
+
+    @Label("Property")
+    public String property;
+
+    @Label("Result")
+    @Description("1 to buy and 0 to pass for purchases, the bid for auctions")
+    public int result;
+
+    /**
+     * Commits the event if a recording wants it.
+     * Team member(s) responsible: Giovanny
+     */
+    public void complete(Player cpu, String kind, BoardSpace space, int outcome) {
+        if (shouldCommit()) {
+            setPlayer(cpu);
+            decision = kind;
+            property = space.getName();
+            result = outcome;
+            commit();
+        }
+    }
+}
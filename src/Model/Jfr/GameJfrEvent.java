@@ -0,0 +1,52 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Common fields of the game's Java Flight Recorder events.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Jfr;
+
+import Model.Board.Player;
+import Model.Events.EventLog;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the game's JFR events: every event carries the game id and the player.
+ * Events are used the usual JFR way, begin() before the work and commit() after it,
+ * and the fields are only filled in when shouldCommit() says a recording wants the event,
+ * so with no recording running the cost is a couple of inlined checks.
+ * Stack traces are off, since these events can fire millions of times a second in a batch.
+ * Team member(s) responsible: Giovanny
+ */
+@Category("Monopoly")
+@StackTrace(false)
+public abstract class GameJfrEvent extends Event {
+
+    @Label("Game Id")
+    int gameId;
+
+    @Label("Player")
+    String player;
+
+    @Label("Player Id")
+    int playerId;
+
+    /**
+     * Fills in the game id of the current thread and the player.
+     * @param who The player, or null
+     * Team member(s) responsible: Giovanny
+     */
+    public void setPlayer(Player who) {
+        gameId = EventLog.getGameId();
+        if (who != null) {
+            player = who.getName();
+            playerId = who.getId();
+        } else {
+            playerId = -1;
+        }
+    }
+}
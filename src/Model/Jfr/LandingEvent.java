@@ -0,0 +1,48 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JFR event for resolving a landing.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Jfr;
+
+import Model.Board.Player;
+import Model.Spaces.BoardSpace;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Resolving the space a player landed on: rent, tax, cards, purchase offers, jail.
+ * spaceType is the BoardSpace subclass, so slow landings can be grouped by kind of space.
+ * Team member(s) responsible: Giovanny
+ */
+@Name("monopoly.Landing")
+@Label("Landing")
+@Description("Resolution of the space a player landed on")
+public class LandingEvent extends GameJfrEvent {
+
+    @Label("Position")
+    public int position;
+
+    @Label("Space")
+    public String space;
+
+    @Label("Space Type")
+    public String spaceType;
+
+    /**
+     * Commits the event if a recording wants it.
+     * Team member(s) responsible: Giovanny
+     */
+    public void complete(Player who, int landedOn, BoardSpace landedSpace) {
+        if (shouldCommit()) {
+            setPlayer(who);
+            position = landedOn;
+            space = landedSpace.getName();
+            spaceType = landedSpace.getClass().getSimpleName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JFR event for a token moving around the board.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Jfr;
+
+import Model.Board.Player;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A player's token moving, landing included when the move resolves it.
+ * Team member(s) responsible: Giovanny
+ */
+@Name("monopoly.Move")
+@Label("Move")
+@Description("A player moves from one position to another")
+public class MoveEvent extends GameJfrEvent {
+
+    @Label("From")
+    public int from;
+
+    @Label("To")
+    public int to;
+
+    /**
+     * Commits the event if a recording wants it.
+     * Team member(s) responsible: Giovanny
+     */
+    public void complete(Player who, int fromPosition, int toPosition) {
+        if (shouldCommit()) {
+            setPlayer(who);
+            from = fromPosition;
+            to = toPosition;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JFR event for a roll of the dice.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Jfr;
+
+import Model.Board.Player;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A roll of the two dice.
+ * Team member(s) responsible: Giovanny
+ */
+@Name("monopoly.Roll")
+@Label("Roll")
+@Description("A player rolls the dice")
+public class RollEvent extends GameJfrEvent {
+
+    @Label("Die 1")
+    public int die1;
+
+    @Label("Die 2")
+    public int die2;
+
+    /**
+     * Commits the event if a recording wants it.
+     * Team member(s) responsible: Giovanny
+     */
+    public void complete(Player who, int firstDie, int secondDie) {
+        if (shouldCommit()) {
+            setPlayer(who);
+            die1 = firstDie;
+            die2 = secondDie;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: JFR event for the banker moving money.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Jfr;
+
+import Model.Board.Player;
+import Model.Metrics.TransactionType;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A deposit, withdrawal, transfer or rent payment through the banker.
+ * The player is the one paying, or receiving for a deposit; counterparty is the other side of a transfer.
+ * Team member(s) responsible: Giovanny
+ */
+@Name("monopoly.BankerTransaction")
+@Label("Banker Transaction")
+@Description("Money moved by the banker")
+public class TransactionEvent extends GameJfrEvent {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Counterparty")
+    public String counterparty;
+
+    @Label("Amount")
+    public int amount;
+
+    /**
+     * Commits the event if a recording wants it.
+     * Team member(s) responsible: Giovanny
+     */
+    public void complete(TransactionType type, Player who, Player other, int dollars) {
+        if (shouldCommit()) {
+            setPlayer(who);
+            operation = type.name();
+            counterparty = other != null ? other.getName() : null;
+            amount = dollars;
+            commit();
+        }
+    }
+}
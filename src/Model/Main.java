@@ -7,16 +7,53 @@
 
 package Model;
 import Controller.BoardController;
+import Model.Events.EventLevel;
+import Model.Events.EventLog;
+import Model.Events.PrintStreamSink;
 import Model.Exceptions.PlayerNotFoundException;
+import Model.Metrics.MetricsRegistry;
+import Model.Simulation.ProfileTuner;
+import Model.Simulation.SimulationConfig;
+import Model.Simulation.SimulationRunner;
+import Model.Simulation.Tournament;
+import Model.Simulation.TournamentConfig;
+import Model.Simulation.TunerConfig;
+
 import javax.swing.*;
 
 /**
  * Main entry point for the Monopoly game application.
- * Sets up the game controller and GUI.
+ * Sets up the game controller and GUI, or runs a headless batch of
+ * CPU games when started with --simulate, tunes the CPU's thresholds with --tune,
+ * or plays the CPU strategies against each other with --tournament.
  * Team member(s) responsible: Matt
  */
 public class Main {
     public static void main(String[] args) {
+        if (SimulationConfig.isSimulationRequest(args)) {
+            // Headless batch: never touch Swing/AWT
+            SimulationRunner.runFromCommandLine(args);
+            return;
+        }
+        if (TunerConfig.isTuneRequest(args)) {
+            ProfileTuner.runFromCommandLine(args);
+            return;
+        }
+        if (TournamentConfig.isTournamentRequest(args)) {
+            Tournament.runFromCommandLine(args);
+            return;
+        }
+        // The GUI run keeps the model's game events on the console, as it always printed them
+        EventLog.start(EventLevel.INFO, new PrintStreamSink(System.out, false));
+        MetricsRegistry.registerMBean();
+        launchGui();
+    }
+
+    /**
+     * Starts the Swing GUI.
+     * Team member(s) responsible: Matt
+     */
+    private static void launchGui() {
         // Always use invokeAndWait to ensure proper sequencing
         try {
             // Set the look and feel first
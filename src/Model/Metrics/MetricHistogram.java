@@ -0,0 +1,110 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Thread-safe histogram of durations with fixed power-of-two buckets.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram for the metrics registry.
+ * Bucket i holds durations from 2^i up to 2^(i+1) - 1 nanoseconds, and every bucket is a
+ * striped LongAdder, so many game threads can record at once without contending.
+ * Percentiles are the upper bound of their bucket, so they can read up to twice the true value.
+ * Team member(s) responsible: Giovanny
+ */
+public class MetricHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * Constructor for MetricHistogram
+     * Team member(s) responsible: Giovanny
+     */
+    public MetricHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the time since start.
+     * @param startNanos A System.nanoTime() taken when the timed work started
+     * Team member(s) responsible: Giovanny
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records one duration.
+     * @param nanos The duration in nanoseconds
+     * Team member(s) responsible: Giovanny
+     */
+    public void record(long nanos) {
+        long value = Math.max(1, nanos);
+        buckets[63 - Long.numberOfLeadingZeros(value)].increment();
+        count.increment();
+        totalNanos.add(value);
+    }
+
+    /**
+     * @return the number of durations recorded
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the mean duration in nanoseconds, 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) totalNanos.sum() / n;
+    }
+
+    /**
+     * @param percentile Between 0 and 100, e.g. 99 for p99
+     * @return the upper bound in nanoseconds of the bucket holding that percentile, 0 if nothing was recorded
+     * Team member(s) responsible: Giovanny
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return i == 63 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Clears every bucket.
+     * Team member(s) responsible: Giovanny
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+    }
+}
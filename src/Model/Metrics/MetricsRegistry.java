@@ -0,0 +1,213 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Process-wide counters and latency histograms for games and batches,
+ * exposed over JMX so a long batch or a GUI session can be watched live.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics registry. Counters are striped LongAdders and latencies go into
+ * fixed-bucket MetricHistograms, so recording from many game threads at once is a few
+ * nanoseconds and never takes a lock. There is one registry per process, like the event log.
+ * Team member(s) responsible: Giovanny
+ */
+public final class MetricsRegistry implements MetricsRegistryMXBean {
+
+    public static final String OBJECT_NAME = "Monopoly:type=Metrics";
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final LongAdder gamesPlayed = new LongAdder();
+    private final LongAdder turnsPlayed = new LongAdder();
+    private final LongAdder[] transactions = new LongAdder[TransactionType.values().length];
+    private final LongAdder rentPaid = new LongAdder();
+    private final LongAdder auctions = new LongAdder();
+    private final LongAdder bankruptcies = new LongAdder();
+    private final MetricHistogram cpuDecisions = new MetricHistogram();
+    private final MetricHistogram edtUpdates = new MetricHistogram();
+
+    MetricsRegistry() {
+        for (int i = 0; i < transactions.length; i++) {
+            transactions[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the process-wide registry
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registers the global registry with the platform MBean server. Safe to call more than once.
+     * Team member(s) responsible: Giovanny
+     */
+    public static void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(GLOBAL, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+        }
+    }
+
+    public void countGame() {
+        gamesPlayed.increment();
+    }
+
+    public void countTurn() {
+        turnsPlayed.increment();
+    }
+
+    /**
+     * Adds the turns of a whole game at once, for engines that do not count turn by turn.
+     * Team member(s) responsible: Giovanny
+     */
+    public void addTurns(long turns) {
+        turnsPlayed.add(turns);
+    }
+
+    public void countTransaction(TransactionType type) {
+        transactions[type.ordinal()].increment();
+    }
+
+    /**
+     * Counts one rent payment and adds its amount to the rent paid.
+     * Team member(s) responsible: Giovanny
+     */
+    public void recordRent(int amount) {
+        transactions[TransactionType.RENT.ordinal()].increment();
+        rentPaid.add(amount);
+    }
+
+    public void countAuction() {
+        auctions.increment();
+    }
+
+    public void addBankruptcies(long count) {
+        bankruptcies.add(count);
+    }
+
+    /**
+     * @return the histogram of CpuController decision times
+     */
+    public MetricHistogram cpuDecisionLatency() {
+        return cpuDecisions;
+    }
+
+    /**
+     * @return the histogram of GUI updates, from being queued to finishing on the event dispatch thread
+     */
+    public MetricHistogram edtUpdateLatency() {
+        return edtUpdates;
+    }
+
+    /**
+     * @return how many transactions of the type were counted
+     */
+    public long getTransactionCount(TransactionType type) {
+        return transactions[type.ordinal()].sum();
+    }
+
+    @Override
+    public long getGamesPlayed() {
+        return gamesPlayed.sum();
+    }
+
+    @Override
+    public long getTurnsPlayed() {
+        return turnsPlayed.sum();
+    }
+
+    @Override
+    public Map<String, Long> getTransactions() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (TransactionType type : TransactionType.values()) {
+            counts.put(type.name(), transactions[type.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public long getRentPaid() {
+        return rentPaid.sum();
+    }
+
+    @Override
+    public long getAuctions() {
+        return auctions.sum();
+    }
+
+    @Override
+    public long getBankruptcies() {
+        return bankruptcies.sum();
+    }
+
+    @Override
+    public long getCpuDecisionCount() {
+        return cpuDecisions.getCount();
+    }
+
+    @Override
+    public double getCpuDecisionMeanMicros() {
+        return cpuDecisions.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public double getCpuDecisionP50Micros() {
+        return cpuDecisions.getPercentileNanos(50) / 1000.0;
+    }
+
+    @Override
+    public double getCpuDecisionP99Micros() {
+        return cpuDecisions.getPercentileNanos(99) / 1000.0;
+    }
+
+    @Override
+    public long getEdtUpdateCount() {
+        return edtUpdates.getCount();
+    }
+
+    @Override
+    public double getEdtUpdateMeanMicros() {
+        return edtUpdates.getMeanNanos() / 1000.0;
+    }
+
+    @Override
+    public double getEdtUpdateP50Micros() {
+        return edtUpdates.getPercentileNanos(50) / 1000.0;
+    }
+
+    @Override
+    public double getEdtUpdateP99Micros() {
+        return edtUpdates.getPercentileNanos(99) / 1000.0;
+    }
+
+    @Override
+    public void reset() {
+        gamesPlayed.reset();
+        turnsPlayed.reset();
+        for (LongAdder counter : transactions) {
+            counter.reset();
+        }
+        rentPaid.reset();
+        auctions.reset();
+        bankruptcies.reset();
+        cpuDecisions.reset();
+        edtUpdates.reset();
+    }
+}
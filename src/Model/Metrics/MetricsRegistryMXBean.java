@@ -0,0 +1,56 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: What the metrics registry shows in JConsole/VisualVM.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the metrics registry, registered as Monopoly:type=Metrics.
+ * Team member(s) responsible: Giovanny
+ */
+public interface MetricsRegistryMXBean {
+
+    long getGamesPlayed();
+
+    long getTurnsPlayed();
+
+    /**
+     * @return transaction counts by TransactionType name
+     */
+    Map<String, Long> getTransactions();
+
+    /**
+     * @return total dollars paid in rent
+     */
+    long getRentPaid();
+
+    long getAuctions();
+
+    long getBankruptcies();
+
+    long getCpuDecisionCount();
+
+    double getCpuDecisionMeanMicros();
+
+    double getCpuDecisionP50Micros();
+
+    double getCpuDecisionP99Micros();
+
+    long getEdtUpdateCount();
+
+    double getEdtUpdateMeanMicros();
+
+    double getEdtUpdateP50Micros();
+
+    double getEdtUpdateP99Micros();
+
+    /**
+     * Zeroes every counter and histogram, e.g. at the start of a batch being watched.
+     */
+    void reset();
+}
@@ -0,0 +1,30 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The kinds of money movement the banker counts.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Metrics;
+
+/**
+ * Banker transactions, one per public banker operation that moves money.
+ * A rent payment counts as RENT only, not also as a transfer, withdrawal and deposit.
+ * Houses and hotels are the exception: the property charges the owner through withdraw(),
+ * so a HOUSE_SALE or HOTEL_SALE also shows up as a WITHDRAWAL.
+ * Team member(s) responsible: Giovanny
+ */
+public enum TransactionType {
+    DEPOSIT,
+    WITHDRAWAL,
+    TRANSFER,
+    RENT,
+    GO_SALARY,
+    PROPERTY_SALE,
+    MORTGAGE,
+    HOUSE_SALE,
+    HOTEL_SALE,
+    BUILDING_BUY_BACK,
+    AUCTION,
+    TRADE
+}
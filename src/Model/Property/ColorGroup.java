@@ -12,6 +12,7 @@ package Model.Property;
 import java.util.ArrayList;
 import java.util.List;
 
+import Model.Board.OwnershipMask;
 import Model.Board.Player;
 
 
@@ -23,6 +24,7 @@ public class ColorGroup {
     private final PropertyColor color;
     private final List<Property> properties;
     private final int propertiesInGroup;  // Total properties needed for monopoly
+    private long mask;  // Board positions of the properties added so far
 
     /**
      * Constructor for ColorGroup
@@ -46,6 +48,7 @@ public class ColorGroup {
     public void addProperty(Property property) {
         if (!properties.contains(property) && properties.size() < propertiesInGroup) {
             properties.add(property);
+            mask |= OwnershipMask.bit(property.getPosition());
         }
     }
 
@@ -54,19 +57,13 @@ public class ColorGroup {
      *
      * @param player The player to check
      * @return true if the player owns all properties in the group
-     * Team member(s) responsible: Matt
+     * Team member(s) responsible: Matt, Giovanny
      */
     public boolean hasMonopoly(Player player) {
         if (player == null || properties.size() != propertiesInGroup) {
             return false;
         }
-
-        for (Property property : properties) {
-            if (property.getOwner() != player) {
-                return false;
-            }
-        }
-        return true;
+        return OwnershipMask.ownsAll(player.getOwnedSpaces(), mask);
     }
 
     /**
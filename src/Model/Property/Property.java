@@ -9,9 +9,12 @@
 package Model.Property;
 
 import Model.Board.Banker;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
 import Model.Spaces.BoardSpace;
 import Model.Board.Player;
+import Model.Board.RentTable;
 
 public class Property extends BoardSpace {
 
@@ -29,6 +32,7 @@ public class Property extends BoardSpace {
     private int housePrice;
     private Banker banker;
     private int numHotels;
+    private RentTable rentTable;
 
     /**
      * Constructor for Property
@@ -46,6 +50,19 @@ public class Property extends BoardSpace {
     public Property(String name, int position, int purchasePrice, int baseRent,
                     int[] houseRents, int hotelRent, int mortgageValue,
                     PropertyColor color, ColorGroup colorGroup) {
+        this(name, position, purchasePrice, baseRent, houseRents, hotelRent, mortgageValue,
+                color, colorGroup, Banker.getInstance());
+    }
+
+    /**
+     * Constructor for Property that trades through the given banker
+     * instead of the shared one
+     * @param banker The banker of the game this property belongs to
+     * Team member(s) responsible: Giovanny
+     */
+    public Property(String name, int position, int purchasePrice, int baseRent,
+                    int[] houseRents, int hotelRent, int mortgageValue,
+                    PropertyColor color, ColorGroup colorGroup, Banker banker) {
         super(name, position);
         this.purchasePrice = purchasePrice;
         this.baseRent = baseRent;
@@ -58,7 +75,7 @@ public class Property extends BoardSpace {
         this.numHouses = 0;
         this.numHotels = 0;
         this.hasHotel = false;
-        this.banker = Banker.getInstance();
+        this.banker = banker;
         setHousePriceByColor();
         colorGroup.addProperty(this);
     }
@@ -103,7 +120,7 @@ public class Property extends BoardSpace {
         } else if (owner == null) {
             offerPurchase(this, player);
         } else if (owner == player) {
-            System.out.println(player.getName() + " owns " + getName());
+            EventLog.log(EventType.OWN_PROPERTY, player, getName());
         }
     }
 
@@ -116,7 +133,7 @@ public class Property extends BoardSpace {
      * Team member(s) responsible: Matt
      */
     public void offerPurchase(Property property, Player player) throws PlayerNotFoundException {
-        System.out.println("Player " + player.getName() + " landed on unowned property: " + property.getName());
+        EventLog.log(EventType.UNOWNED_PROPERTY, player, property.getName());
     }
 
     /**
@@ -129,18 +146,22 @@ public class Property extends BoardSpace {
         if (isMortgaged) {
             return 0;
         }
-        int rent;
-        if (hasHotel) {
-            rent = hotelRent;
-        } else if (numHouses > 0) {
-            rent = houseRents[numHouses - 1];
-        } else {
-            rent = baseRent;
-            if (owner != null && colorGroup.hasMonopoly(owner)) {
-                rent *= 2;
-            }
+        int level = hasHotel ? RentTable.HOTEL_LEVEL : numHouses;
+        boolean monopoly = owner != null && colorGroup.hasMonopoly(owner);
+        // GameBoard hands its properties the shared table; a property on its own reads its deed
+        if (rentTable == null) {
+            return RentTable.deedRent(this, level, monopoly);
         }
-        return rent;
+        return rentTable.getPropertyRent(getPosition(), level, monopoly);
+    }
+
+    /**
+     * Read rents from the given table, shared by every property on the board
+     * @param rentTable The board's rent table
+     * Team member(s) responsible: Giovanny
+     */
+    public void setRentTable(RentTable rentTable) {
+        this.rentTable = rentTable;
     }
 
     /**
@@ -189,7 +210,7 @@ public class Property extends BoardSpace {
             numHouses++;
             return true;
         } catch (Exception e) {
-            System.out.println("Exception during house purchase: " + e.getMessage());
+            EventLog.log(EventType.HOUSE_PURCHASE_FAILED, owner, getName(), e.getMessage());
             return false;
         }
     }
@@ -474,7 +495,13 @@ public class Property extends BoardSpace {
      */
     @Override
     public void setOwner(Player owner) {
+        if (this.owner != null) {
+            this.owner.removeOwnedSpace(getPosition());
+        }
         this.owner = owner;
+        if (owner != null) {
+            owner.addOwnedSpace(getPosition());
+        }
     }
 
     /**
@@ -552,6 +579,43 @@ public class Property extends BoardSpace {
         return housePrice;
     }
 
+    /**
+     * Get the rent with no houses and no monopoly
+     * @return Base rent
+     * Team member(s) responsible: Giovanny
+     */
+    public int getBaseRent() {
+        return baseRent;
+    }
+
+    /**
+     * Get the rent with the given number of houses
+     * @param houses Number of houses (1-4)
+     * @return Rent with that many houses
+     * Team member(s) responsible: Giovanny
+     */
+    public int getHouseRent(int houses) {
+        return houseRents[houses - 1];
+    }
+
+    /**
+     * Get the rent with a hotel
+     * @return Hotel rent
+     * Team member(s) responsible: Giovanny
+     */
+    public int getHotelRent() {
+        return hotelRent;
+    }
+
+    /**
+     * Get the color of the property
+     * @return Property color
+     * Team member(s) responsible: Giovanny
+     */
+    public PropertyColor getColor() {
+        return color;
+    }
+
     /**
      * Defines what happens when a player passes over this property
      * @param player The player who passed over the space
@@ -8,29 +8,38 @@
 
 package Model.Property;
 
+import Model.Board.OwnershipMask;
+
 /**
  * Enum representing the different property colors in Monopoly
  */
 public enum PropertyColor {
-    BROWN(2),    // Mediterranean, Baltic
-    LIGHT_BLUE(3), // Oriental, Vermont, Connecticut
-    PINK(3),     // St. Charles, States, Virginia
-    ORANGE(3),   // St. James, Tennessee, New York
-    RED(3),      // Kentucky, Indiana, Illinois
-    YELLOW(3),   // Atlantic, Ventnor, Marvin Gardens
-    GREEN(3),    // Pacific, North Carolina, Pennsylvania
-    DARK_BLUE(2); // Park Place, Boardwalk
+    BROWN(2, 1, 3),    // Mediterranean, Baltic
+    LIGHT_BLUE(3, 6, 8, 9), // Oriental, Vermont, Connecticut
+    PINK(3, 11, 13, 14),     // St. Charles, States, Virginia
+    ORANGE(3, 16, 18, 19),   // St. James, Tennessee, New York
+    RED(3, 21, 23, 24),      // Kentucky, Indiana, Illinois
+    YELLOW(3, 26, 27, 29),   // Atlantic, Ventnor, Marvin Gardens
+    GREEN(3, 31, 32, 34),    // Pacific, North Carolina, Pennsylvania
+    DARK_BLUE(2, 37, 39); // Park Place, Boardwalk
 
     private final int propertiesInGroup;
+    private final long mask;
 
     /**
      * Constructor for PropertyColor
      *
      * @param propertiesInGroup Number of properties in this color group
-     *                          Team member(s) responsible: Matt
+     * @param positions         Board positions of the properties in this color group
+     *                          Team member(s) responsible: Matt, Giovanny
      */
-    PropertyColor(int propertiesInGroup) {
+    PropertyColor(int propertiesInGroup, int... positions) {
         this.propertiesInGroup = propertiesInGroup;
+        long positionMask = 0;
+        for (int position : positions) {
+            positionMask |= OwnershipMask.bit(position);
+        }
+        this.mask = positionMask;
     }
 
     /**
@@ -42,4 +51,14 @@ public enum PropertyColor {
     public int getPropertiesInGroup() {
         return propertiesInGroup;
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the board positions of this color group on the standard board as a bit mask
+     *
+     * @return OwnershipMask of the color group
+     * Team member(s) responsible: Giovanny
+     */
+    public long getMask() {
+        return mask;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: One decision a CPU can make, and how it is played out on a compact game.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Simulation.BoardLayout;
+import Model.Simulation.CompactGame;
+import Model.Simulation.GameState;
+
+/**
+ * One decision a CPU can make: what kind it is, the space it is about and, for a bid, the amount.
+ * Actions are immutable, so one list of them can be shared by every search thread.
+ * Team member(s) responsible: Giovanny
+ */
+public final class Action {
+
+    static final int JAIL_FINE = 50;
+    private static final int NO_SPACE = -1;
+
+    private final ActionType type;
+    private final int space;
+    private final int amount;
+    private final int leader;
+    private final int leadingBid;
+
+    private Action(ActionType type, int space, int amount, int leader, int leadingBid) {
+        this.type = type;
+        this.space = space;
+        this.amount = amount;
+        this.leader = leader;
+        this.leadingBid = leadingBid;
+    }
+
+    /**
+     * @param space The space for sale
+     * @return buying the space at its printed price
+     */
+    public static Action buy(int space) {
+        return new Action(ActionType.BUY, space, 0, GameState.NO_OWNER, 0);
+    }
+
+    /**
+     * @param space The space for sale
+     * @return turning the space down, so it goes to auction
+     */
+    public static Action pass(int space) {
+        return new Action(ActionType.PASS, space, 0, GameState.NO_OWNER, 0);
+    }
+
+    /**
+     * @param space      The space being auctioned
+     * @param amount     The bid, or 0 to pass
+     * @param leader     Seat of the highest bidder so far, or NO_OWNER
+     * @param leadingBid The highest bid so far
+     * @return bidding the amount in the auction
+     */
+    public static Action bid(int space, int amount, int leader, int leadingBid) {
+        return new Action(ActionType.BID, space, amount, leader, leadingBid);
+    }
+
+    /**
+     * @param space The property to build on
+     * @return putting one more house, or a hotel, on the property
+     */
+    public static Action build(int space) {
+        return new Action(ActionType.BUILD, space, 0, GameState.NO_OWNER, 0);
+    }
+
+    /**
+     * @param space The space to mortgage
+     * @return mortgaging the space
+     */
+    public static Action mortgage(int space) {
+        return new Action(ActionType.MORTGAGE, space, 0, GameState.NO_OWNER, 0);
+    }
+
+    /**
+     * @param space The mortgaged space
+     * @return lifting the mortgage on the space
+     */
+    public static Action unmortgage(int space) {
+        return new Action(ActionType.UNMORTGAGE, space, 0, GameState.NO_OWNER, 0);
+    }
+
+    /**
+     * @param space The property to sell a building from
+     * @return selling one house, or breaking a hotel back to four houses
+     */
+    public static Action sellBuilding(int space) {
+        return new Action(ActionType.SELL_BUILDING, space, 0, GameState.NO_OWNER, 0);
+    }
+
+    /**
+     * @param type NONE or one of the jail choices
+     * @return a decision that is not about a space
+     */
+    public static Action of(ActionType type) {
+        return new Action(type, NO_SPACE, 0, GameState.NO_OWNER, 0);
+    }
+
+    /**
+     * Plays the decision out for the seat on a game that has just been resumed.
+     * An auction, whether from a pass or a bid, is finished with the game's own strategy
+     * for everyone else.
+     *
+     * @param game The game to play it on
+     * @param seat The player making the decision
+     * Team member(s) responsible: Giovanny
+     */
+    public void apply(CompactGame game, int seat) {
+        GameState state = game.getState();
+        BoardLayout layout = game.getLayout();
+        switch (type) {
+            case BUY:
+                state.addBalance(seat, -layout.price(space));
+                state.setOwner(space, seat);
+                break;
+            case PASS:
+                game.auction(space, 0, GameState.NO_OWNER, 0);
+                break;
+            case BID:
+                if (amount > leadingBid) {
+                    game.auction(space, seat + 1, seat, amount);
+                } else {
+                    game.auction(space, seat + 1, leader, leadingBid);
+                }
+                break;
+            case BUILD:
+                state.setBuildingLevel(space, state.getBuildingLevel(space) + 1);
+                state.addBalance(seat, -layout.housePrice(space));
+                break;
+            case MORTGAGE:
+                state.setMortgaged(space, true);
+                state.addBalance(seat, layout.mortgageValue(space));
+                break;
+            case UNMORTGAGE:
+                state.setMortgaged(space, false);
+                state.addBalance(seat, -unmortgageCost(layout, space));
+                break;
+            case SELL_BUILDING:
+                state.setBuildingLevel(space, state.getBuildingLevel(space) - 1);
+                state.addBalance(seat, layout.housePrice(space) / 2);
+                break;
+            case PAY_JAIL_FINE:
+                state.addBalance(seat, -JAIL_FINE);
+                state.setInJail(seat, false);
+                break;
+            case USE_JAIL_CARD:
+                state.addJailFreeCards(seat, -1);
+                state.setInJail(seat, false);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * What lifting a mortgage costs, worked out as Property.unmortgage() does: the mortgage value plus 10%.
+     *
+     * @param layout The board
+     * @param space  The mortgaged space
+     * @return dollars to pay the bank
+     */
+    static int unmortgageCost(BoardLayout layout, int space) {
+        return (int) (layout.mortgageValue(space) * 1.1);
+    }
+
+    /**
+     * @return the kind of decision
+     */
+    public ActionType getType() {
+        return type;
+    }
+
+    /**
+     * @return the space the decision is about, or -1 if none
+     */
+    public int getSpace() {
+        return space;
+    }
+
+    /**
+     * @return the bid, 0 for anything but a bid
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String toString() {
+        if (type == ActionType.BID) {
+            return amount == 0 ? "BID pass on " + space : "BID $" + amount + " on " + space;
+        }
+        return space == NO_SPACE ? type.name() : type.name() + " " + space;
+    }
+}
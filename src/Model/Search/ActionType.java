@@ -0,0 +1,37 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The kinds of decision a CPU search chooses between.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+/**
+ * The kinds of decision a CPU search chooses between.
+ * Team member(s) responsible: Giovanny
+ */
+public enum ActionType {
+    /** Buy the space landed on at its printed price */
+    BUY,
+    /** Turn down the space landed on, which sends it to auction */
+    PASS,
+    /** Bid in an auction; a bid of 0 passes */
+    BID,
+    /** Put one more house, or a hotel, on a property */
+    BUILD,
+    /** Mortgage a space for cash */
+    MORTGAGE,
+    /** Lift the mortgage on a space for its value plus 10% */
+    UNMORTGAGE,
+    /** Sell one house back to the bank, or break a hotel back to four houses, for half the house price */
+    SELL_BUILDING,
+    /** Do nothing, e.g. build nothing this turn */
+    NONE,
+    /** Pay the $50 fine to leave jail before rolling */
+    PAY_JAIL_FINE,
+    /** Use a Get Out of Jail Free card before rolling */
+    USE_JAIL_CARD,
+    /** Stay in jail and try to roll doubles */
+    ROLL_FOR_DOUBLES
+}
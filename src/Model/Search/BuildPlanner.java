@@ -0,0 +1,405 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Plans every house and hotel a player should build this turn, under the even-build rule
+ * and the bank's house and hotel supply.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Analysis.JailStrategy;
+import Model.Analysis.LandingProbabilities;
+import Model.Analysis.PropertyValuation;
+import Model.Property.PropertyColor;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Works out the full build order for one player: how many buildings each color group they can build on
+ * should end up with, and the order to buy them in so every purchase is legal.
+ * <p>
+ * Under the even-build rule a group's levels never differ by more than one, so a group with some number
+ * of buildings on it is fixed but for which properties carry the extra one. Tables made once per board
+ * rank the properties of each group, at each level, by the rent the next building adds, and hold
+ * the expected rent of every property at every level. A group's options are then read off the tables:
+ * one per number of buildings, from what it has now to a hotel on every property.
+ * <p>
+ * An option is worth the rent it adds over the horizon, less what the buildings cost. Picking one option
+ * per group is a knapsack over three resources: the cash to spend, the houses the bank has left and its
+ * hotels. A group's houses are counted at their peak, when every property has four, so the plan is legal
+ * whichever group is built first. When opponents could use more houses than the bank has left, every house
+ * the player keeps out of the bank is also worth the rent it keeps them from collecting; a hotel hands
+ * four houses back, so a player may do better to hoard houses than to build hotels.
+ * Team member(s) responsible: Giovanny
+ */
+public final class BuildPlanner {
+
+    private static final int SPACES = BoardLayout.SPACES;
+    private static final int GROUPS = PropertyColor.values().length;
+    private static final int LEVELS = BoardLayout.HOTEL_LEVEL + 1;
+    private static final int HOTEL = BoardLayout.HOTEL_LEVEL;
+    private static final int MAX_HOUSES = HOTEL - 1;
+    private static final int MAX_GROUP_SIZE = 3;
+    private static final int MAX_OPTIONS = HOTEL * MAX_GROUP_SIZE + 1;
+    private static final double NONE = Double.NEGATIVE_INFINITY;
+
+    private final BoardLayout layout;
+    private final int horizonTurns;
+    private final int unit;
+    // Expected rent per opponent turn of each property at each level, as part of a monopoly
+    private final double[][] rentYield = new double[SPACES][LEVELS];
+    // The properties of each group, best first to take a building from each level to the next
+    private final int[][][] rank = new int[GROUPS][LEVELS][];
+
+    // Options of the groups in the plan being worked out
+    private final int[] groups = new int[GROUPS];
+    private final int[] from = new int[GROUPS];
+    private final int[][] optionCost = new int[GROUPS][MAX_OPTIONS];
+    private final int[][] optionHouses = new int[GROUPS][MAX_OPTIONS];
+    private final int[][] optionHotels = new int[GROUPS][MAX_OPTIONS];
+    private final double[][] optionValue = new double[GROUPS][MAX_OPTIONS];
+    private final int[] options = new int[GROUPS];
+    private final int[] level = new int[SPACES];
+    private final int[] target = new int[SPACES];
+    private double[] best = new double[0];
+    private double[] next = new double[0];
+    private byte[] chosen = new byte[0];
+
+    /**
+     * A planner that counts rent over the default horizon, for a CPU that stays in jail.
+     *
+     * @param layout The board
+     * Team member(s) responsible: Giovanny
+     */
+    public BuildPlanner(BoardLayout layout) {
+        this(layout, LandingProbabilities.of(layout, JailStrategy.LONG), PropertyValuation.DEFAULT_HORIZON_TURNS);
+    }
+
+    /**
+     * @param layout        The board
+     * @param probabilities Landing probabilities of the board
+     * @param horizonTurns  Number of opponent turns that rent is counted over
+     * Team member(s) responsible: Giovanny
+     */
+    public BuildPlanner(BoardLayout layout, LandingProbabilities probabilities, int horizonTurns) {
+        if (horizonTurns < 0) {
+            throw new IllegalArgumentException("The horizon cannot be negative.");
+        }
+        this.layout = layout;
+        this.horizonTurns = horizonTurns;
+        int divisor = 0;
+        for (int space = 0; space < SPACES; space++) {
+            if (layout.kind(space) != BoardLayout.KIND_PROPERTY) {
+                continue;
+            }
+            divisor = gcd(divisor, layout.housePrice(space));
+            for (int built = 0; built < LEVELS; built++) {
+                rentYield[space][built] = probabilities.getLandingsPerTurn(space) * layout.rent(space, built, true);
+            }
+        }
+        this.unit = Math.max(1, divisor);
+        for (int group = 0; group < GROUPS; group++) {
+            long mask = layout.groupMask(group);
+            Integer[] spaces = new Integer[Long.bitCount(mask)];
+            int i = 0;
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                spaces[i++] = Long.numberOfTrailingZeros(rest);
+            }
+            for (int built = 0; built < HOTEL; built++) {
+                final int at = built;
+                Integer[] order = spaces.clone();
+                Arrays.sort(order, (a, b) -> Double.compare(
+                        rentYield[b][at + 1] - rentYield[b][at], rentYield[a][at + 1] - rentYield[a][at]));
+                rank[group][built] = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+            }
+        }
+    }
+
+    /**
+     * Plans the buildings the player should buy with up to the budget, in an order the even-build rule allows.
+     *
+     * @param state  The game, which is not changed
+     * @param seat   The player building
+     * @param budget The most the player will spend
+     * @return BUILD actions in the order to make them, empty to build nothing
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Action> plan(GameState state, int seat, int budget) {
+        int count = 0;
+        for (int group = 0; group < GROUPS; group++) {
+            if (isBuildable(state, seat, group)) {
+                groups[count++] = group;
+            }
+        }
+        if (count == 0 || budget < unit) {
+            return new ArrayList<>(0);
+        }
+        double hoard = hoardValue(state, seat);
+        int maxCost = 0;
+        int maxHouses = 0;
+        int maxHotels = 0;
+        for (int g = 0; g < count; g++) {
+            addOptions(state, g, hoard);
+            maxCost += optionCost[g][options[g] - 1];
+            maxHouses += maxOf(optionHouses[g], options[g]);
+            maxHotels += optionHotels[g][options[g] - 1];
+        }
+        int cash = Math.min(budget / unit, maxCost);
+        int houses = Math.min(state.getHousesLeft(), maxHouses);
+        int hotels = Math.min(state.getHotelsLeft(), maxHotels);
+        int end = solve(count, cash, houses, hotels);
+
+        List<Action> plan = new ArrayList<>();
+        int stride = (houses + 1) * (hotels + 1);
+        for (int g = count - 1; g >= 0; g--) {
+            int option = chosen[g * (cash + 1) * stride + end];
+            if (option > 0) {
+                addBuilds(state, g, option, plan);
+            }
+            int c = end / stride - optionCost[g][option];
+            int h = end / (hotels + 1) % (houses + 1) - optionHouses[g][option];
+            int o = end % (hotels + 1) - optionHotels[g][option];
+            end = (c * (houses + 1) + h) * (hotels + 1) + o;
+        }
+        return plan;
+    }
+
+    /**
+     * The knapsack over cash, houses and hotels: best[state] is the most value the groups so far
+     * can add using exactly those resources.
+     *
+     * @return the resources the best plan uses, as an index into best
+     */
+    private int solve(int count, int cash, int houses, int hotels) {
+        int size = (cash + 1) * (houses + 1) * (hotels + 1);
+        if (best.length < size) {
+            best = new double[size];
+            next = new double[size];
+        }
+        if (chosen.length < count * size) {
+            chosen = new byte[count * size];
+        }
+        Arrays.fill(best, 0, size, NONE);
+        best[0] = 0;
+        int stride = (houses + 1) * (hotels + 1);
+        for (int g = 0; g < count; g++) {
+            Arrays.fill(next, 0, size, NONE);
+            int row = g * size;
+            for (int index = 0; index < size; index++) {
+                if (best[index] == NONE) {
+                    continue;
+                }
+                int c = index / stride;
+                int h = index / (hotels + 1) % (houses + 1);
+                int o = index % (hotels + 1);
+                for (int option = 0; option < options[g]; option++) {
+                    int c2 = c + optionCost[g][option];
+                    int h2 = h + optionHouses[g][option];
+                    int o2 = o + optionHotels[g][option];
+                    if (c2 > cash || h2 > houses || o2 > hotels) {
+                        continue;
+                    }
+                    int index2 = (c2 * (houses + 1) + h2) * (hotels + 1) + o2;
+                    double value = best[index] + optionValue[g][option];
+                    if (value > next[index2]) {
+                        next[index2] = value;
+                        chosen[row + index2] = (byte) option;
+                    }
+                }
+            }
+            double[] swap = best;
+            best = next;
+            next = swap;
+        }
+        int end = 0;
+        for (int index = 1; index < size; index++) {
+            if (best[index] > best[end]) {
+                end = index;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * The options of one group: option k adds k buildings to what it has now. Each one records its cost
+     * in units of cash, the houses it takes from the bank at its peak, the hotels it takes, and its value.
+     */
+    private void addOptions(GameState state, int g, double hoard) {
+        int group = groups[g];
+        long mask = layout.groupMask(group);
+        int size = Long.bitCount(mask);
+        int now = 0;
+        int housesNow = 0;
+        int hotelsNow = 0;
+        double rentNow = 0;
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            int space = Long.numberOfTrailingZeros(rest);
+            level[space] = state.getBuildingLevel(space);
+            now += level[space];
+            housesNow += level[space] == HOTEL ? 0 : level[space];
+            hotelsNow += level[space] == HOTEL ? 1 : 0;
+            rentNow += rentYield[space][level[space]];
+        }
+        from[g] = now;
+        int housePrice = layout.housePrice(Long.numberOfTrailingZeros(mask));
+        int count = 0;
+        for (int buildings = now; buildings <= HOTEL * size; buildings++) {
+            if (!setTarget(mask, group, size, buildings)) {
+                continue;
+            }
+            int peak = 0;
+            int housesAfter = 0;
+            int hotelsAfter = 0;
+            double rent = 0;
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                int space = Long.numberOfTrailingZeros(rest);
+                peak += level[space] == HOTEL ? 0 : Math.min(target[space], MAX_HOUSES);
+                housesAfter += target[space] == HOTEL ? 0 : target[space];
+                hotelsAfter += target[space] == HOTEL ? 1 : 0;
+                rent += rentYield[space][target[space]];
+            }
+            int added = buildings - now;
+            optionCost[g][count] = added * housePrice / unit;
+            optionHouses[g][count] = peak - housesNow;
+            optionHotels[g][count] = hotelsAfter - hotelsNow;
+            optionValue[g][count] = horizonTurns * (rent - rentNow) - added * housePrice
+                    + hoard * (housesAfter - housesNow);
+            count++;
+        }
+        options[g] = count;
+    }
+
+    /**
+     * The levels a group has with the number of buildings on it: the same on every property but one more
+     * on those that gain the most rent from it, where the properties already that high must be.
+     *
+     * @return false if the group cannot get there from its levels now by building alone
+     */
+    private boolean setTarget(long mask, int group, int size, int buildings) {
+        int base = buildings / size;
+        int extra = buildings % size;
+        if (base == HOTEL) {
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                target[Long.numberOfTrailingZeros(rest)] = HOTEL;
+            }
+            return true;
+        }
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            int space = Long.numberOfTrailingZeros(rest);
+            if (level[space] > base + 1) {
+                return false;
+            }
+            target[space] = base;
+            if (level[space] == base + 1) {
+                target[space] = base + 1;
+                extra--;
+            }
+        }
+        for (int space : rank[group][base]) {
+            if (extra > 0 && target[space] == base) {
+                target[space] = base + 1;
+                extra--;
+            }
+        }
+        return extra >= 0;
+    }
+
+    /**
+     * Lists the buildings of the chosen option lowest level first, which keeps every purchase legal:
+     * a house goes on a property with no fewer than the rest, and a hotel only once the rest have four.
+     */
+    private void addBuilds(GameState state, int g, int option, List<Action> plan) {
+        int group = groups[g];
+        long mask = layout.groupMask(group);
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            int space = Long.numberOfTrailingZeros(rest);
+            level[space] = state.getBuildingLevel(space);
+        }
+        // The options skip counts the group cannot reach, so find the count behind the option
+        int buildings = from[g];
+        for (int seen = 0; ; buildings++) {
+            if (setTarget(mask, group, Long.bitCount(mask), buildings) && seen++ == option) {
+                break;
+            }
+        }
+        for (int added = buildings - from[g]; added > 0; added--) {
+            int lowest = -1;
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                int space = Long.numberOfTrailingZeros(rest);
+                if (level[space] < target[space] && (lowest < 0 || level[space] < level[lowest])) {
+                    lowest = space;
+                }
+            }
+            level[lowest]++;
+            plan.add(Action.build(lowest));
+        }
+    }
+
+    /**
+     * The model's rule for building in a group: the player owns all of it and none of it is mortgaged.
+     * A group whose levels are more than one apart, which only selling can leave, is not planned.
+     */
+    private boolean isBuildable(GameState state, int seat, int group) {
+        if (!state.ownsGroup(seat, group, layout)) {
+            return false;
+        }
+        int lowest = HOTEL;
+        int highest = 0;
+        for (long rest = layout.groupMask(group); rest != 0; rest &= rest - 1) {
+            int space = Long.numberOfTrailingZeros(rest);
+            if (state.isMortgaged(space)) {
+                return false;
+            }
+            lowest = Math.min(lowest, state.getBuildingLevel(space));
+            highest = Math.max(highest, state.getBuildingLevel(space));
+        }
+        return highest - lowest <= 1;
+    }
+
+    /**
+     * What a house kept out of the bank is worth when opponents could build more than the bank has left:
+     * the rent their next house would collect over the horizon, the player's share of which they pay.
+     * Zero while the bank has houses to spare.
+     */
+    private double hoardValue(GameState state, int seat) {
+        int demand = 0;
+        double gain = 0;
+        for (int group = 0; group < GROUPS; group++) {
+            long mask = layout.groupMask(group);
+            int owner = state.getOwner(Long.numberOfTrailingZeros(mask));
+            if (owner == seat || owner == GameState.NO_OWNER || !isBuildable(state, owner, group)) {
+                continue;
+            }
+            for (long rest = mask; rest != 0; rest &= rest - 1) {
+                int space = Long.numberOfTrailingZeros(rest);
+                int built = state.getBuildingLevel(space);
+                if (built < MAX_HOUSES) {
+                    demand += MAX_HOUSES - built;
+                    gain += (rentYield[space][built + 1] - rentYield[space][built]) * (MAX_HOUSES - built);
+                }
+            }
+        }
+        if (demand == 0 || demand <= state.getHousesLeft()) {
+            return 0;
+        }
+        int payers = Math.max(1, state.getActivePlayers() - 1);
+        return horizonTurns * gain / demand / payers;
+    }
+
+    private static int maxOf(int[] values, int count) {
+        int max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Depth-limited expectimax over dice rolls for a CPU's between-turn decisions
+ * (building and mortgaging), with a Zobrist-hashed transposition table.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Analysis.JailStrategy;
+import Model.Analysis.LandingProbabilities;
+import Model.Board.RentTable;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+import java.util.List;
+
+/**
+ * Chooses between building and mortgaging actions by looking a number of dice rolls ahead.
+ * <p>
+ * After the decision every player rolls in seat order. A roll is a chance node over the eleven sums,
+ * weighted by how many ways the dice make them; the player moves, collects GO money and pays rent or tax.
+ * At the end of each of the searching player's own rolls it decides again, between building nothing
+ * and one more building on any property that can take one. Nothing else is modelled: doubles do not
+ * roll again, Go To Jail just moves the player to the jail space, and Chance and Community Chest do nothing.
+ * If the searching player cannot pay, the line is lost; another player who cannot pay goes bankrupt.
+ * When the rolls run out, each player is scored on cash, what their property would mortgage for,
+ * half what their buildings cost and the rent they can expect over a number of opponent turns,
+ * and the searching player's score is taken relative to the average opponent's.
+ * <p>
+ * Different orders of rolls often lead to the same state, e.g. two players swapping who paid whom.
+ * Every node is cached in a transposition table under the Zobrist hash of its state, updated with
+ * each change rather than recomputed, so those states are only searched once.
+ * Team member(s) responsible: Giovanny
+ */
+public final class ExpectimaxSearch {
+
+    public static final int DEFAULT_DEPTH = 4;
+    public static final int DEFAULT_TABLE_BITS = 16;
+    public static final int DEFAULT_HORIZON_TURNS = 60;
+
+    private static final int JAIL_POSITION = 10;
+    private static final int GO_MONEY = 200;
+    private static final int INCOME_TAX = 200;
+    private static final double INCOME_TAX_RATE = 0.1;
+    private static final int LUXURY_TAX = 75;
+    private static final int AVERAGE_ROLL = 7;
+    private static final double BROKE = -1_000_000;
+    private static final double[] SUM_PROBABILITY = new double[13];
+
+    // Keeps the cache keys of chance nodes, decision nodes and depths apart
+    private static final long DECISION_NODE = 0x2545F4914F6CDD1DL;
+    private static final long[] TO_ROLL = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL,
+            0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+    private static final long DEPTH_MULTIPLIER = 0xFF51AFD7ED558CCDL;
+
+    static {
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                SUM_PROBABILITY[die1 + die2] += 1.0 / 36;
+            }
+        }
+    }
+
+    private final BoardLayout layout;
+    private final Zobrist zobrist;
+    private final TranspositionTable table;
+    private final int depth;
+    private final int horizonTurns;
+    private final double[] landingsPerTurn = new double[BoardLayout.SPACES];
+    private final GameState[] stack;
+    private final MoveGenerator[] moves;
+    private int seat;
+    private boolean seatBroke;
+    private long nodes;
+    private long tableHits;
+    private double bestValue;
+
+    /**
+     * A search with the default depth, table size and horizon.
+     *
+     * @param layout The board
+     * Team member(s) responsible: Giovanny
+     */
+    public ExpectimaxSearch(BoardLayout layout) {
+        this(layout, DEFAULT_DEPTH, DEFAULT_TABLE_BITS, DEFAULT_HORIZON_TURNS);
+    }
+
+    /**
+     * Constructor for ExpectimaxSearch
+     *
+     * @param layout       The board
+     * @param depth        Number of rolls to look ahead
+     * @param tableBits    log2 of the number of transposition table entries
+     * @param horizonTurns Opponent turns of rent counted when the rolls run out
+     * Team member(s) responsible: Giovanny
+     */
+    public ExpectimaxSearch(BoardLayout layout, int depth, int tableBits, int horizonTurns) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("The search must look at least 1 roll ahead");
+        }
+        if (tableBits < 0 || tableBits > 30) {
+            throw new IllegalArgumentException("The table must have 2^0 to 2^30 entries");
+        }
+        this.layout = layout;
+        this.zobrist = Zobrist.standard();
+        this.table = new TranspositionTable(tableBits);
+        this.depth = depth;
+        this.horizonTurns = horizonTurns;
+        LandingProbabilities probabilities = LandingProbabilities.of(layout, JailStrategy.LONG);
+        for (int space = 0; space < BoardLayout.SPACES; space++) {
+            landingsPerTurn[space] = probabilities.getLandingsPerTurn(space);
+        }
+        // A decision node and a roll per level, plus the root
+        this.stack = new GameState[2 * depth + 3];
+        this.moves = new MoveGenerator[stack.length];
+        for (int i = 0; i < stack.length; i++) {
+            stack[i] = new GameState();
+            moves[i] = new MoveGenerator(layout);
+        }
+    }
+
+    /**
+     * Searches the player's between-turn decision.
+     *
+     * @param root    The game, at the end of the player's turn
+     * @param seat    The player deciding
+     * @param actions NONE, BUILD and MORTGAGE actions to choose between, e.g. from MoveGenerator
+     * @return the action with the best expected score
+     * Team member(s) responsible: Giovanny
+     */
+    public Action search(GameState root, int seat, List<Action> actions) {
+        if (actions.isEmpty()) {
+            throw new IllegalArgumentException("There is nothing to choose from");
+        }
+        this.seat = seat;
+        nodes = 0;
+        tableHits = 0;
+        table.clear();
+        stack[0].copyFrom(root);
+        long hash = zobrist.hash(root);
+        int next = root.nextActiveSeat(seat);
+        Action best = actions.get(0);
+        bestValue = Double.NEGATIVE_INFINITY;
+        for (Action action : actions) {
+            GameState state = stack[1];
+            state.copyFrom(stack[0]);
+            long childHash = apply(state, hash, action.getType(), action.getSpace());
+            double value = chance(1, childHash, next, depth);
+            if (value > bestValue) {
+                bestValue = value;
+                best = action;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * The searching player's decision at the end of one of their turns deeper in the tree.
+     */
+    private double decide(int ply, long hash, int rollsLeft) {
+        GameState state = stack[ply];
+        if (rollsLeft == 0 || state.getActivePlayers() < 2) {
+            return evaluate(state);
+        }
+        long key = hash ^ DECISION_NODE ^ rollsLeft * DEPTH_MULTIPLIER;
+        double cached = table.get(key);
+        if (!Double.isNaN(cached)) {
+            tableHits++;
+            return cached;
+        }
+        nodes++;
+        int next = state.nextActiveSeat(seat);
+        double best = chance(ply, hash, next, rollsLeft);
+        // Nodes at one depth differ in a few groups, so each depth keeps its own generator
+        moves[ply].update(state);
+        for (long builds = moves[ply].getBuilds(state, seat); builds != 0; builds &= builds - 1) {
+            int space = Long.numberOfTrailingZeros(builds);
+            GameState child = stack[ply + 1];
+            child.copyFrom(state);
+            long childHash = apply(child, hash, ActionType.BUILD, space);
+            best = Math.max(best, chance(ply + 1, childHash, next, rollsLeft));
+        }
+        table.put(key, best);
+        return best;
+    }
+
+    /**
+     * The player's roll: the average over the eleven sums of what follows.
+     */
+    private double chance(int ply, long hash, int player, int rollsLeft) {
+        GameState state = stack[ply];
+        if (rollsLeft == 0 || state.getActivePlayers() < 2) {
+            return evaluate(state);
+        }
+        long key = hash ^ TO_ROLL[player] ^ rollsLeft * DEPTH_MULTIPLIER;
+        double cached = table.get(key);
+        if (!Double.isNaN(cached)) {
+            tableHits++;
+            return cached;
+        }
+        nodes++;
+        GameState child = stack[ply + 1];
+        double expected = 0;
+        for (int sum = 2; sum <= 12; sum++) {
+            child.copyFrom(state);
+            seatBroke = false;
+            long childHash = roll(child, hash, player, sum);
+            double value;
+            if (seatBroke) {
+                value = BROKE;
+            } else if (player == seat) {
+                value = decide(ply + 1, childHash, rollsLeft - 1);
+            } else {
+                value = chance(ply + 1, childHash, child.nextActiveSeat(player), rollsLeft - 1);
+            }
+            expected += SUM_PROBABILITY[sum] * value;
+        }
+        table.put(key, expected);
+        return expected;
+    }
+
+    /**
+     * Plays a decision on the state.
+     *
+     * @return the hash of the state afterwards
+     */
+    private long apply(GameState state, long hash, ActionType type, int space) {
+        if (type == ActionType.BUILD) {
+            int level = state.getBuildingLevel(space);
+            state.setBuildingLevel(space, level + 1);
+            hash ^= zobrist.level(space, level) ^ zobrist.level(space, level + 1);
+            return addBalance(state, hash, seat, -layout.housePrice(space));
+        }
+        if (type == ActionType.MORTGAGE) {
+            state.setMortgaged(space, true);
+            hash ^= zobrist.mortgaged(space);
+            return addBalance(state, hash, seat, layout.mortgageValue(space));
+        }
+        return hash;
+    }
+
+    /**
+     * Moves the player by the sum and settles the landing.
+     *
+     * @return the hash of the state afterwards
+     */
+    private long roll(GameState state, long hash, int player, int sum) {
+        int from = state.getPosition(player);
+        int to = (from + sum) % BoardLayout.SPACES;
+        hash = move(state, hash, player, to);
+        if (from + sum >= BoardLayout.SPACES) {
+            hash = addBalance(state, hash, player, GO_MONEY);
+        }
+        switch (layout.kind(to)) {
+            case BoardLayout.KIND_PROPERTY:
+            case BoardLayout.KIND_RAILROAD:
+            case BoardLayout.KIND_UTILITY:
+                int owner = state.getOwner(to);
+                if (owner != GameState.NO_OWNER && owner != player && !state.isMortgaged(to)) {
+                    return pay(state, hash, player, owner, rent(state, owner, to, sum));
+                }
+                return hash;
+            case BoardLayout.KIND_INCOME_TAX:
+                int tax = Math.min(INCOME_TAX, (int) (state.getBalance(player) * INCOME_TAX_RATE));
+                return pay(state, hash, player, GameState.NO_OWNER, tax);
+            case BoardLayout.KIND_LUXURY_TAX:
+                return pay(state, hash, player, GameState.NO_OWNER, LUXURY_TAX);
+            case BoardLayout.KIND_GO_TO_JAIL:
+                return move(state, hash, player, JAIL_POSITION);
+            default:
+                return hash;
+        }
+    }
+
+    private int rent(GameState state, int owner, int space, int sum) {
+        switch (layout.kind(space)) {
+            case BoardLayout.KIND_RAILROAD:
+                return RentTable.getRailroadRent(state.countOwned(owner, BoardLayout.KIND_RAILROAD, layout));
+            case BoardLayout.KIND_UTILITY:
+                return sum * RentTable.getUtilityMultiplier(state.countOwned(owner, BoardLayout.KIND_UTILITY, layout));
+            default:
+                return layout.rent(space, state.getBuildingLevel(space),
+                        state.ownsGroup(owner, layout.group(space), layout));
+        }
+    }
+
+    /**
+     * Pays the amount to another player, or to the bank when payee is NO_OWNER.
+     * A player who cannot pay goes bankrupt; for the searching player that ends the line.
+     */
+    private long pay(GameState state, long hash, int player, int payee, int amount) {
+        if (state.getBalance(player) < amount) {
+            if (player == seat) {
+                seatBroke = true;
+                return hash;
+            }
+            // Everything the player held goes back to the bank, so hash the state again
+            state.declareBankrupt(player);
+            return zobrist.hash(state);
+        }
+        hash = addBalance(state, hash, player, -amount);
+        return payee == GameState.NO_OWNER ? hash : addBalance(state, hash, payee, amount);
+    }
+
+    private long move(GameState state, long hash, int player, int to) {
+        hash ^= zobrist.position(player, state.getPosition(player)) ^ zobrist.position(player, to);
+        state.setPosition(player, to);
+        return hash;
+    }
+
+    private long addBalance(GameState state, long hash, int player, int amount) {
+        int balance = state.getBalance(player);
+        state.addBalance(player, amount);
+        return hash ^ zobrist.balance(player, balance) ^ zobrist.balance(player, balance + amount);
+    }
+
+    /**
+     * The searching player's worth less the average opponent's.
+     */
+    private double evaluate(GameState state) {
+        if (state.isBankrupt(seat)) {
+            return BROKE;
+        }
+        int opponents = state.getActivePlayers() - 1;
+        if (opponents == 0) {
+            return worth(state, seat, 0);
+        }
+        double others = 0;
+        for (int player = 0; player < state.getPlayerCount(); player++) {
+            if (player != seat && !state.isBankrupt(player)) {
+                others += worth(state, player, opponents);
+            }
+        }
+        return worth(state, seat, opponents) - others / opponents;
+    }
+
+    /**
+     * Cash, what the property would mortgage for, half the cost of the buildings
+     * and the rent expected from the other players over the horizon.
+     */
+    private double worth(GameState state, int player, int opponents) {
+        double worth = state.getBalance(player);
+        for (long owned = state.getOwnedMask(player); owned != 0; owned &= owned - 1) {
+            int space = Long.numberOfTrailingZeros(owned);
+            if (state.isMortgaged(space)) {
+                continue;
+            }
+            int level = state.getBuildingLevel(space);
+            worth += layout.mortgageValue(space) + level * layout.housePrice(space) / 2.0;
+            int rent;
+            switch (layout.kind(space)) {
+                case BoardLayout.KIND_RAILROAD:
+                    rent = RentTable.getRailroadRent(state.countOwned(player, BoardLayout.KIND_RAILROAD, layout));
+                    break;
+                case BoardLayout.KIND_UTILITY:
+                    rent = AVERAGE_ROLL
+                            * RentTable.getUtilityMultiplier(state.countOwned(player, BoardLayout.KIND_UTILITY, layout));
+                    break;
+                default:
+                    rent = layout.rent(space, level, state.ownsGroup(player, layout.group(space), layout));
+                    break;
+            }
+            worth += (double) horizonTurns * opponents * landingsPerTurn[space] * rent;
+        }
+        return worth;
+    }
+
+    /**
+     * @return the expected score of the action chosen by the last search
+     */
+    public double getBestValue() {
+        return bestValue;
+    }
+
+    /**
+     * @return nodes the last search expanded, not counting the ones found in the table
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return nodes the last search found in the transposition table
+     */
+    public long getTableHits() {
+        return tableHits;
+    }
+
+    /**
+     * @return the number of rolls looked ahead
+     */
+    public int getDepth() {
+        return depth;
+    }
+}
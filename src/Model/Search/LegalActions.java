@@ -0,0 +1,184 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Lists the decisions a player may make at each kind of decision point.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists the decisions a player may make, by the same rules the model enforces.
+ * Every list but the mortgages has at least one entry, so a search always has something to choose.
+ * Team member(s) responsible: Giovanny
+ */
+public final class LegalActions {
+
+    private static final int MIN_BID_INCREMENT = 5;
+
+    private LegalActions() {
+    }
+
+    /**
+     * @param state The game
+     * @param layout The board
+     * @param seat  The player who landed on the space
+     * @param space The unowned space
+     * @return passing, and buying if the player can pay for it
+     * Team member(s) responsible: Giovanny
+     */
+    public static List<Action> purchase(GameState state, BoardLayout layout, int seat, int space) {
+        List<Action> actions = new ArrayList<>(2);
+        if (state.getBalance(seat) >= layout.price(space)) {
+            actions.add(Action.buy(space));
+        }
+        actions.add(Action.pass(space));
+        return actions;
+    }
+
+    /**
+     * A few bid levels rather than every dollar: the minimum raise, and half, all
+     * and one and a half times the printed price, as far as the player can pay.
+     *
+     * @param state      The game
+     * @param layout     The board
+     * @param seat       The bidder
+     * @param space      The space being auctioned
+     * @param leader     Seat of the highest bidder so far, or NO_OWNER
+     * @param leadingBid The highest bid so far
+     * @return passing and the bids the player can make
+     * Team member(s) responsible: Giovanny
+     */
+    public static List<Action> bids(GameState state, BoardLayout layout, int seat, int space,
+                                    int leader, int leadingBid) {
+        List<Action> actions = new ArrayList<>(5);
+        actions.add(Action.bid(space, 0, leader, leadingBid));
+        int minBid = leadingBid + MIN_BID_INCREMENT;
+        int balance = state.getBalance(seat);
+        int price = layout.price(space);
+        int last = 0;
+        for (int level : new int[]{minBid, price / 2, price, price * 3 / 2}) {
+            int amount = Math.max(level, minBid);
+            if (amount > last && amount <= balance) {
+                actions.add(Action.bid(space, amount, leader, leadingBid));
+                last = amount;
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * The CPU controllers are asked for a bid without being told who made the highest one.
+     * Bidding goes in seat order, so the guess is the nearest player still in the game before the bidder.
+     *
+     * @param state      The game
+     * @param seat       The bidder
+     * @param leadingBid The highest bid so far
+     * @return the likely highest bidder, or NO_OWNER if nobody has bid
+     * Team member(s) responsible: Giovanny
+     */
+    public static int likelyLeader(GameState state, int seat, int leadingBid) {
+        for (int other = seat - 1; other >= 0 && leadingBid > 0; other--) {
+            if (!state.isBankrupt(other)) {
+                return other;
+            }
+        }
+        return GameState.NO_OWNER;
+    }
+
+    /**
+     * @param state  The game
+     * @param layout The board
+     * @param seat   The player
+     * @return building nothing, and a house or hotel on every property that can take one now
+     * Team member(s) responsible: Giovanny
+     */
+    public static List<Action> builds(GameState state, BoardLayout layout, int seat) {
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(ActionType.NONE));
+        for (long owned = state.getOwnedMask(seat); owned != 0; owned &= owned - 1) {
+            int space = Long.numberOfTrailingZeros(owned);
+            if (canBuild(state, layout, seat, space)) {
+                actions.add(Action.build(space));
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * The model's building rules: a whole unmortgaged color group, even building,
+     * a house or hotel left in the bank and the cash to pay for it.
+     *
+     * @param state  The game
+     * @param layout The board
+     * @param seat   The player
+     * @param space  The property
+     * @return true if the player can put one more building on the property now
+     * Team member(s) responsible: Giovanny
+     */
+    public static boolean canBuild(GameState state, BoardLayout layout, int seat, int space) {
+        if (layout.kind(space) != BoardLayout.KIND_PROPERTY || state.getOwner(space) != seat
+                || !state.ownsGroup(seat, layout.group(space), layout)
+                || state.getBalance(seat) < layout.housePrice(space)) {
+            return false;
+        }
+        int level = state.getBuildingLevel(space);
+        if (level >= BoardLayout.HOTEL_LEVEL) {
+            return false;
+        }
+        if (level == BoardLayout.HOTEL_LEVEL - 1 ? state.getHotelsLeft() == 0 : state.getHousesLeft() == 0) {
+            return false;
+        }
+        for (long group = layout.groupMask(layout.group(space)); group != 0; group &= group - 1) {
+            int other = Long.numberOfTrailingZeros(group);
+            if (state.isMortgaged(other) || state.getBuildingLevel(other) < level) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param state  The game
+     * @param layout The board
+     * @param seat   The player
+     * @return mortgaging each space the player owns that has no buildings and is not mortgaged yet;
+     * empty if there is none
+     * Team member(s) responsible: Giovanny
+     */
+    public static List<Action> mortgages(GameState state, BoardLayout layout, int seat) {
+        List<Action> actions = new ArrayList<>();
+        for (long owned = state.getOwnedMask(seat); owned != 0; owned &= owned - 1) {
+            int space = Long.numberOfTrailingZeros(owned);
+            if (!state.isMortgaged(space) && state.getBuildingLevel(space) == 0
+                    && layout.mortgageValue(space) > 0) {
+                actions.add(Action.mortgage(space));
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * @param state The game
+     * @param seat  A player starting their turn in jail
+     * @return rolling for doubles, and paying the fine or using a card when the player can
+     * Team member(s) responsible: Giovanny
+     */
+    public static List<Action> jail(GameState state, int seat) {
+        List<Action> actions = new ArrayList<>(3);
+        actions.add(Action.of(ActionType.ROLL_FOR_DOUBLES));
+        if (state.getJailFreeCards(seat) > 0) {
+            actions.add(Action.of(ActionType.USE_JAIL_CARD));
+        }
+        if (state.getBalance(seat) >= Action.JAIL_FINE) {
+            actions.add(Action.of(ActionType.PAY_JAIL_FINE));
+        }
+        return actions;
+    }
+}
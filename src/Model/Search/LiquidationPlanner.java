@@ -0,0 +1,323 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Picks the house sales, hotel sales and mortgages that raise a sum of cash
+ * for the least loss of expected rent.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Analysis.JailStrategy;
+import Model.Analysis.LandingProbabilities;
+import Model.Analysis.PropertyValuation;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Works out how a player short of cash should raise it: which houses and hotels to sell back to the bank
+ * and which properties to mortgage, so that they hold the amount and give up as little as possible.
+ * <p>
+ * Giving something up costs the rent it would have collected over the horizon, as PropertyValuation counts it,
+ * plus what it costs to undo: buying the house back at twice what it sold for, or the mortgage interest.
+ * <p>
+ * Each color group with buildings is a ladder of steps the model's rules allow in order: a house comes off
+ * a property only when no other property in the group without a hotel has more (ColorGroup.canSellHouse),
+ * and a hotel is broken back to four houses only while the bank has four to give. The ladder takes the
+ * step that loses the least per dollar next, and ends by mortgaging the group's bare properties.
+ * Every other property is a single mortgage. Choosing how far up each ladder to go is a knapsack with
+ * a bounded number of copies of each item: the table is indexed by the dollars raised so far, in units
+ * every sale and mortgage is a multiple of, and capped at the amount, so a plan is a few thousand
+ * additions. Railroads and utilities are left alone, as the model cannot mortgage them.
+ * Team member(s) responsible: Giovanny
+ */
+public final class LiquidationPlanner {
+
+    private static final int SPACES = BoardLayout.SPACES;
+    private static final int HOUSES_PER_HOTEL = BoardLayout.HOTEL_LEVEL - 1;
+    // Lifting a mortgage costs its value plus 10%, as in Property.unmortgage()
+    private static final int MORTGAGE_INTEREST_PERCENT = 10;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    // A group of 3 with hotels sells 15 buildings and mortgages 3 properties
+    private static final int MAX_STEPS = 4 * SPACES;
+    private static final int MAX_LADDERS = SPACES;
+
+    private final BoardLayout layout;
+    private final int horizonTurns;
+    private final double[] landingsPerTurn = new double[SPACES];
+    private final int unit;
+
+    // The ladders of the plan being worked out: ladder l is steps ladderStart[l] to ladderStart[l + 1] - 1
+    private final int[] stepSpace = new int[MAX_STEPS];
+    private final boolean[] stepMortgage = new boolean[MAX_STEPS];
+    private final int[] stepCash = new int[MAX_STEPS];
+    private final int[] stepCost = new int[MAX_STEPS];
+    private final int[] ladderStart = new int[MAX_LADDERS + 1];
+    private int ladders;
+    private int steps;
+
+    private final int[] level = new int[SPACES];
+    private int[] cost = new int[0];
+    private int[] next = new int[0];
+    private byte[] chosen = new byte[0];
+
+    /**
+     * A planner that counts rent over the default horizon, for a CPU that stays in jail.
+     *
+     * @param layout The board
+     * Team member(s) responsible: Giovanny
+     */
+    public LiquidationPlanner(BoardLayout layout) {
+        this(layout, LandingProbabilities.of(layout, JailStrategy.LONG), PropertyValuation.DEFAULT_HORIZON_TURNS);
+    }
+
+    /**
+     * @param layout        The board
+     * @param probabilities Landing probabilities of the board
+     * @param horizonTurns  Number of opponent turns that lost rent is counted over
+     * Team member(s) responsible: Giovanny
+     */
+    public LiquidationPlanner(BoardLayout layout, LandingProbabilities probabilities, int horizonTurns) {
+        if (horizonTurns < 0) {
+            throw new IllegalArgumentException("The horizon cannot be negative.");
+        }
+        this.layout = layout;
+        this.horizonTurns = horizonTurns;
+        int divisor = 0;
+        for (int space = 0; space < SPACES; space++) {
+            landingsPerTurn[space] = probabilities.getLandingsPerTurn(space);
+            if (layout.kind(space) == BoardLayout.KIND_PROPERTY) {
+                divisor = gcd(gcd(divisor, layout.mortgageValue(space)), layout.housePrice(space) / 2);
+            }
+        }
+        this.unit = Math.max(1, divisor);
+    }
+
+    /**
+     * Plans how the player raises cash until they hold the amount.
+     * The sales of one color group are listed in the order they must be made.
+     *
+     * @param state  The game, which is not changed
+     * @param seat   The player short of cash
+     * @param amount The money the player must hold
+     * @return the sales and mortgages to make, empty if the player already holds the amount,
+     * or null if selling everything would not raise enough
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Action> plan(GameState state, int seat, int amount) {
+        int shortfall = amount - state.getBalance(seat);
+        if (shortfall <= 0) {
+            return new ArrayList<>(0);
+        }
+        ladders = 0;
+        steps = 0;
+        long owned = state.getOwnedMask(seat) & layout.kindMask(BoardLayout.KIND_PROPERTY);
+        int raisable = 0;
+        for (long groups = owned; groups != 0; ) {
+            int group = layout.group(Long.numberOfTrailingZeros(groups));
+            long mask = layout.groupMask(group);
+            groups &= ~mask;
+            raisable += addLadder(state, seat, mask & owned, group);
+        }
+        if (raisable < shortfall) {
+            return null;
+        }
+        int need = (shortfall + unit - 1) / unit;
+        solve(need);
+        return choices(need);
+    }
+
+    /**
+     * The knapsack: cost[c] is the least loss that raises at least c units from the ladders so far,
+     * and chosen remembers how far up each ladder the best plan for every c goes.
+     */
+    private void solve(int need) {
+        if (cost.length < need + 1) {
+            cost = new int[need + 1];
+            next = new int[need + 1];
+        }
+        if (chosen.length < ladders * (need + 1)) {
+            chosen = new byte[ladders * (need + 1)];
+        }
+        Arrays.fill(cost, 0, need + 1, UNREACHABLE);
+        cost[0] = 0;
+        for (int l = 0; l < ladders; l++) {
+            int row = l * (need + 1);
+            for (int c = 0; c <= need; c++) {
+                next[c] = cost[c];
+                chosen[row + c] = 0;
+            }
+            for (int s = ladderStart[l]; s < ladderStart[l + 1]; s++) {
+                int taken = s - ladderStart[l] + 1;
+                int cash = stepCash[s] / unit;
+                for (int c = 0; c <= need; c++) {
+                    int before = cost[Math.max(0, c - cash)];
+                    if (before != UNREACHABLE && before + stepCost[s] < next[c]) {
+                        next[c] = before + stepCost[s];
+                        chosen[row + c] = (byte) taken;
+                    }
+                }
+            }
+            System.arraycopy(next, 0, cost, 0, need + 1);
+        }
+    }
+
+    /**
+     * Walks the table back from the amount needed to the steps taken on each ladder.
+     */
+    private List<Action> choices(int need) {
+        List<Action> plan = new ArrayList<>();
+        int c = need;
+        for (int l = ladders - 1; l >= 0; l--) {
+            int taken = chosen[l * (need + 1) + c];
+            if (taken == 0) {
+                continue;
+            }
+            int last = ladderStart[l] + taken - 1;
+            c = Math.max(0, c - stepCash[last] / unit);
+            // Sales of one group stay in ladder order; groups go in board order
+            int at = 0;
+            for (int s = ladderStart[l]; s <= last; s++) {
+                plan.add(at++, stepMortgage[s] ? Action.mortgage(stepSpace[s]) : Action.sellBuilding(stepSpace[s]));
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Adds the steps one group allows, cumulative in cash and cost, as ladders:
+     * one for a group with buildings, one per property otherwise.
+     *
+     * @return dollars selling and mortgaging everything in the group raises
+     */
+    private int addLadder(GameState state, int seat, long held, int group) {
+        boolean built = false;
+        for (long spaces = held; spaces != 0; spaces &= spaces - 1) {
+            int space = Long.numberOfTrailingZeros(spaces);
+            level[space] = state.getBuildingLevel(space);
+            built |= level[space] > 0;
+        }
+        boolean monopoly = state.ownsGroup(seat, group, layout);
+        if (!built) {
+            int raised = 0;
+            for (long spaces = held; spaces != 0; spaces &= spaces - 1) {
+                int space = Long.numberOfTrailingZeros(spaces);
+                if (!state.isMortgaged(space)) {
+                    ladderStart[ladders++] = steps;
+                    addStep(space, true, mortgageCost(space, monopoly), 0, 0);
+                    raised += layout.mortgageValue(space);
+                }
+            }
+            ladderStart[ladders] = steps;
+            return raised;
+        }
+
+        ladderStart[ladders++] = steps;
+        int housesLeft = state.getHousesLeft();
+        int cash = 0;
+        int lost = 0;
+        while (true) {
+            int best = -1;
+            boolean bestMortgage = false;
+            int bestCost = 0;
+            int bestCash = 1;
+            for (long spaces = held; spaces != 0; spaces &= spaces - 1) {
+                int space = Long.numberOfTrailingZeros(spaces);
+                boolean mortgage = level[space] == 0;
+                int stepCost;
+                int stepCash;
+                if (mortgage) {
+                    if (state.isMortgaged(space) || isStepTaken(space)) {
+                        continue;
+                    }
+                    stepCost = mortgageCost(space, monopoly);
+                    stepCash = layout.mortgageValue(space);
+                } else {
+                    if (!canSell(held, space, housesLeft)) {
+                        continue;
+                    }
+                    stepCost = sellCost(space);
+                    stepCash = layout.housePrice(space) / 2;
+                }
+                // Least lost per dollar raised
+                if (best < 0 || (long) stepCost * bestCash < (long) bestCost * stepCash) {
+                    best = space;
+                    bestMortgage = mortgage;
+                    bestCost = stepCost;
+                    bestCash = stepCash;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            if (!bestMortgage) {
+                housesLeft += level[best] == BoardLayout.HOTEL_LEVEL ? -HOUSES_PER_HOTEL : 1;
+                level[best]--;
+            }
+            addStep(best, bestMortgage, bestCost, cash, lost);
+            cash = stepCash[steps - 1];
+            lost = stepCost[steps - 1];
+        }
+        ladderStart[ladders] = steps;
+        return cash;
+    }
+
+    private void addStep(int space, boolean mortgage, int cost, int cashBefore, int lostBefore) {
+        stepSpace[steps] = space;
+        stepMortgage[steps] = mortgage;
+        stepCash[steps] = cashBefore + (mortgage ? layout.mortgageValue(space) : layout.housePrice(space) / 2);
+        stepCost[steps] = lostBefore + cost;
+        steps++;
+    }
+
+    private boolean isStepTaken(int space) {
+        for (int s = ladderStart[ladders - 1]; s < steps; s++) {
+            if (stepMortgage[s] && stepSpace[s] == space) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The model's selling rules: a hotel needs four houses from the bank,
+     * and a house cannot leave a property while another in the group without a hotel has more.
+     */
+    private boolean canSell(long held, int space, int housesLeft) {
+        if (level[space] == BoardLayout.HOTEL_LEVEL) {
+            return housesLeft >= HOUSES_PER_HOTEL;
+        }
+        for (long others = held; others != 0; others &= others - 1) {
+            int other = Long.numberOfTrailingZeros(others);
+            if (level[other] != BoardLayout.HOTEL_LEVEL && level[other] > level[space]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rent lost by taking one building off, and the half of the house price lost on buying it back.
+     */
+    private int sellCost(int space) {
+        double rent = layout.rent(space, level[space], true) - layout.rent(space, level[space] - 1, true);
+        return (int) Math.round(horizonTurns * landingsPerTurn[space] * rent) + layout.housePrice(space) / 2;
+    }
+
+    /**
+     * Rent lost while the property is mortgaged, and the interest on lifting the mortgage.
+     */
+    private int mortgageCost(int space, boolean monopoly) {
+        double rent = layout.rent(space, 0, monopoly);
+        return (int) Math.round(horizonTurns * landingsPerTurn[space] * rent)
+                + layout.mortgageValue(space) * MORTGAGE_INTEREST_PERCENT / 100;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Buying and bidding by Monte Carlo tree search in the compact engine.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Simulation.BoardLayout;
+import Model.Simulation.CompactStrategy;
+import Model.Simulation.GameState;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Buys and bids by searching every decision with an MctsSearch.
+ * Unlike the other strategies this one allocates and takes the search's time budget per decision,
+ * so it is meant for matches between strategies, not for throughput batches.
+ * Team member(s) responsible: Giovanny
+ */
+public class MctsCompactStrategy implements CompactStrategy {
+
+    private final MctsSearch search;
+
+    /**
+     * Constructor for MctsCompactStrategy
+     *
+     * @param search The search to decide with; it must be on the same board as the game
+     * Team member(s) responsible: Giovanny
+     */
+    public MctsCompactStrategy(MctsSearch search) {
+        this.search = search;
+    }
+
+    /**
+     * Team member(s) responsible: Giovanny
+     */
+    @Override
+    public boolean shouldBuy(GameState state, BoardLayout layout, int player, int space, SplittableRandom random) {
+        List<Action> actions = LegalActions.purchase(state, layout, player, space);
+        return choose(state, player, actions, random).getType() == ActionType.BUY;
+    }
+
+    /**
+     * Team member(s) responsible: Giovanny
+     */
+    @Override
+    public int bid(GameState state, BoardLayout layout, int player, int space, int highestBid, SplittableRandom random) {
+        int leader = LegalActions.likelyLeader(state, player, highestBid);
+        List<Action> actions = LegalActions.bids(state, layout, player, space, leader, highestBid);
+        return choose(state, player, actions, random).getAmount();
+    }
+
+    private Action choose(GameState state, int player, List<Action> actions, SplittableRandom random) {
+        return search.search(state, player, state.nextActiveSeat(player), actions, random.nextLong())
+                .getBestAction();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Holds the options of a Monte Carlo tree search: time budget, threads and rollout length.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+/**
+ * Options of a Monte Carlo tree search.
+ * Team member(s) responsible: Giovanny
+ */
+public class MctsConfig {
+
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+    public static final int DEFAULT_ROLLOUT_TURNS = 200;
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+    private final long budgetMillis;
+    private final int threads;
+    private final long maxRollouts;
+    private final int rolloutTurns;
+    private final double exploration;
+
+    /**
+     * A search with the default budget and rollout length, on every core.
+     * Team member(s) responsible: Giovanny
+     */
+    public MctsConfig() {
+        this(DEFAULT_BUDGET_MILLIS, Runtime.getRuntime().availableProcessors(), 0,
+                DEFAULT_ROLLOUT_TURNS, DEFAULT_EXPLORATION);
+    }
+
+    /**
+     * Constructor for MctsConfig
+     *
+     * @param budgetMillis Time each decision may take, or 0 for no time limit
+     * @param threads      Number of threads playing rollouts
+     * @param maxRollouts  Rollouts each decision may play, or 0 for no limit
+     * @param rolloutTurns Turns a rollout plays before it is scored on balances
+     * @param exploration  UCB1 exploration constant
+     * Team member(s) responsible: Giovanny
+     */
+    public MctsConfig(long budgetMillis, int threads, long maxRollouts, int rolloutTurns, double exploration) {
+        if (budgetMillis < 0 || maxRollouts < 0) {
+            throw new IllegalArgumentException("The budget and rollout limit cannot be negative");
+        }
+        if (budgetMillis == 0 && maxRollouts == 0) {
+            throw new IllegalArgumentException("A search needs a time budget or a rollout limit");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("A search needs at least 1 thread");
+        }
+        if (rolloutTurns < 1) {
+            throw new IllegalArgumentException("Rollouts must play at least 1 turn");
+        }
+        this.budgetMillis = budgetMillis;
+        this.threads = threads;
+        this.maxRollouts = maxRollouts;
+        this.rolloutTurns = rolloutTurns;
+        this.exploration = exploration;
+    }
+
+    /**
+     * @return Time each decision may take in milliseconds, 0 for no limit
+     * Team member(s) responsible: Giovanny
+     */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * @return Number of threads playing rollouts
+     * Team member(s) responsible: Giovanny
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return Rollouts each decision may play, 0 for no limit
+     * Team member(s) responsible: Giovanny
+     */
+    public long getMaxRollouts() {
+        return maxRollouts;
+    }
+
+    /**
+     * @return Turns a rollout plays before it is scored
+     * Team member(s) responsible: Giovanny
+     */
+    public int getRolloutTurns() {
+        return rolloutTurns;
+    }
+
+    /**
+     * @return UCB1 exploration constant
+     * Team member(s) responsible: Giovanny
+     */
+    public double getExploration() {
+        return exploration;
+    }
+}
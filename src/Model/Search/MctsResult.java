@@ -0,0 +1,89 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The outcome of one Monte Carlo tree search: the chosen action and the statistics behind it.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import java.util.List;
+
+/**
+ * The outcome of one search. The chosen action is the most visited one,
+ * which is steadier than the one with the best mean.
+ * Team member(s) responsible: Giovanny
+ */
+public class MctsResult {
+
+    private final List<Action> actions;
+    private final long[] visits;
+    private final long[] wins;
+    private final long rollouts;
+    private final int best;
+
+    /**
+     * Constructor for MctsResult
+     *
+     * @param actions  The actions searched
+     * @param visits   Rollouts played per action
+     * @param wins     Rollouts won per action
+     * @param rollouts Rollouts played in all
+     * Team member(s) responsible: Giovanny
+     */
+    public MctsResult(List<Action> actions, long[] visits, long[] wins, long rollouts) {
+        this.actions = actions;
+        this.visits = visits;
+        this.wins = wins;
+        this.rollouts = rollouts;
+        int mostVisited = 0;
+        for (int i = 1; i < visits.length; i++) {
+            if (visits[i] > visits[mostVisited]) {
+                mostVisited = i;
+            }
+        }
+        this.best = mostVisited;
+    }
+
+    /**
+     * @return the chosen action
+     * Team member(s) responsible: Giovanny
+     */
+    public Action getBestAction() {
+        return actions.get(best);
+    }
+
+    /**
+     * @return the actions searched, in the order they were given
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Action> getActions() {
+        return actions;
+    }
+
+    /**
+     * @param index Index of the action
+     * @return rollouts played after the action
+     * Team member(s) responsible: Giovanny
+     */
+    public long getVisits(int index) {
+        return visits[index];
+    }
+
+    /**
+     * @param index Index of the action
+     * @return share of the rollouts after the action that the player won, 0 if none were played
+     * Team member(s) responsible: Giovanny
+     */
+    public double getMeanReward(int index) {
+        return visits[index] == 0 ? 0 : (double) wins[index] / visits[index];
+    }
+
+    /**
+     * @return rollouts played in all
+     * Team member(s) responsible: Giovanny
+     */
+    public long getRollouts() {
+        return rollouts;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Monte Carlo tree search over a CPU's decision, with a time budget
+ * and rollouts played on several cores at once.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Simulation.BoardLayout;
+import Model.Simulation.CompactGame;
+import Model.Simulation.DefaultCompactStrategy;
+import Model.Simulation.GameResult;
+import Model.Simulation.GameState;
+import Model.Simulation.SimulationRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Chooses between a player's actions by playing each out many times.
+ * <p>
+ * Everything after the decision depends on dice and cards, so the tree below an action is a chance node
+ * that never repeats: the search keeps statistics for the root's children only and chooses between them
+ * with UCB1. Each rollout copies the game into a CompactGame, plays the action, and plays the game on
+ * with the default CPU rules for a number of turns. It counts as a win if the player is the winner then,
+ * or the richest player left.
+ * <p>
+ * Rollouts are spread over a pool of threads, each with its own CompactGame. The statistics are shared
+ * without locks: a thread counts its visit as soon as it picks an action (a virtual loss),
+ * so the other threads spread out over the actions instead of all playing the same one,
+ * and adds the win when the rollout is over.
+ * <p>
+ * The turn order of the game being searched is not known, so after the decision the turn goes
+ * around the seats in order, starting with the seat the caller gives.
+ * Team member(s) responsible: Giovanny
+ */
+public final class MctsSearch implements AutoCloseable {
+
+    private final BoardLayout layout;
+    private final MctsConfig config;
+    private final ExecutorService pool;
+    private final ThreadLocal<CompactGame> games;
+
+    /**
+     * Constructor for MctsSearch. Its threads are daemons, but close() should still be called when done.
+     *
+     * @param layout The board
+     * @param config The search options
+     * Team member(s) responsible: Giovanny
+     */
+    public MctsSearch(BoardLayout layout, MctsConfig config) {
+        this.layout = layout;
+        this.config = config;
+        this.pool = Executors.newFixedThreadPool(config.getThreads(), task -> {
+            Thread thread = new Thread(task, "mcts-rollout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.games = ThreadLocal.withInitial(() -> new CompactGame(layout, new DefaultCompactStrategy()));
+    }
+
+    /**
+     * Searches the player's decision until the time budget or the rollout limit runs out.
+     * With one thread and a rollout limit, the same seed always gives the same result.
+     *
+     * @param root       The game at the decision; it must not change while the search runs
+     * @param seat       The player deciding
+     * @param nextPlayer Seat of the player whose turn comes after the decision
+     * @param actions    The actions to choose between, e.g. from LegalActions
+     * @param seed       Seed the rollouts' dice, decks and decisions are derived from
+     * @return the chosen action and the statistics behind it
+     * Team member(s) responsible: Giovanny
+     */
+    public MctsResult search(GameState root, int seat, int nextPlayer, List<Action> actions, long seed) {
+        if (actions.isEmpty()) {
+            throw new IllegalArgumentException("There is nothing to choose from");
+        }
+        int count = actions.size();
+        if (count == 1) {
+            return new MctsResult(actions, new long[1], new long[1], 0);
+        }
+        Statistics statistics = new Statistics(count);
+        long budget = config.getBudgetMillis();
+        long deadline = budget == 0 ? Long.MAX_VALUE : System.nanoTime() + budget * 1_000_000L;
+        List<Future<?>> workers = new ArrayList<>(config.getThreads());
+        for (int i = 0; i < config.getThreads(); i++) {
+            workers.add(pool.submit(() -> rollouts(root, seat, nextPlayer, actions, seed, statistics, deadline)));
+        }
+        try {
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during a search", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A rollout failed", e.getCause());
+        }
+        long[] visits = new long[count];
+        long[] wins = new long[count];
+        for (int i = 0; i < count; i++) {
+            visits[i] = statistics.visits.get(i);
+            wins[i] = statistics.wins.get(i);
+        }
+        return new MctsResult(actions, visits, wins, statistics.finished.get());
+    }
+
+    private void rollouts(GameState root, int seat, int nextPlayer, List<Action> actions, long seed,
+                          Statistics statistics, long deadline) {
+        CompactGame game = games.get();
+        long maxRollouts = config.getMaxRollouts();
+        while (System.nanoTime() < deadline) {
+            long index = statistics.started.getAndIncrement();
+            if (maxRollouts > 0 && index >= maxRollouts) {
+                return;
+            }
+            int choice = statistics.select(config.getExploration());
+            game.resume(root, nextPlayer, SimulationRunner.gameSeed(seed, (int) index));
+            actions.get(choice).apply(game, seat);
+            GameResult result = game.play(config.getRolloutTurns());
+            if (result.getWinnerSeat() == seat) {
+                statistics.wins.incrementAndGet(choice);
+            }
+            statistics.finished.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return the board searched on
+     * Team member(s) responsible: Giovanny
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @return the search options
+     * Team member(s) responsible: Giovanny
+     */
+    public MctsConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Stops the rollout threads.
+     * Team member(s) responsible: Giovanny
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Visit and win counts of the root's children, shared by the rollout threads.
+     */
+    private static final class Statistics {
+
+        final AtomicLongArray visits;
+        final AtomicLongArray wins;
+        final AtomicLong started = new AtomicLong();
+        final AtomicLong finished = new AtomicLong();
+        final AtomicLong selections = new AtomicLong();
+
+        Statistics(int actions) {
+            visits = new AtomicLongArray(actions);
+            wins = new AtomicLongArray(actions);
+        }
+
+        /**
+         * Picks the action with the best UCB1 score, an unvisited one first,
+         * and counts the visit straight away.
+         */
+        int select(double exploration) {
+            double logTotal = Math.log(selections.incrementAndGet());
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < visits.length(); i++) {
+                long visited = visits.get(i);
+                if (visited == 0) {
+                    best = i;
+                    break;
+                }
+                double score = (double) wins.get(i) / visited + exploration * Math.sqrt(logTotal / visited);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            visits.incrementAndGet(best);
+            return best;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Keeps, for every player, which properties they may build on, sell from, mortgage
+ * and unmortgage, up to date as the game changes.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Board.OwnershipMask;
+import Model.Property.PropertyColor;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Which building, selling and mortgage moves each player has, as OwnershipMasks, by the rules
+ * LegalActions and the model use.
+ * <p>
+ * What can be done on a property depends on the rest of its color group but not on any other group,
+ * so the masks are kept block by block, as in PropertyValuation: update() compares the game with the
+ * last one it saw and works out again only the groups, and the single railroads and utilities, where
+ * an owner, a building level or a mortgage changed. Balances and the bank's houses and hotels change
+ * on almost every move, so they are not part of the masks: the getters apply them when asked, from
+ * tables of the spaces each balance can pay for. Asking is a few mask operations, with no group scans.
+ * Team member(s) responsible: Giovanny
+ */
+public final class MoveGenerator {
+
+    private static final int SPACES = BoardLayout.SPACES;
+    private static final int GROUPS = PropertyColor.values().length;
+    private static final int MAX_HOUSES = BoardLayout.HOTEL_LEVEL - 1;
+    private static final int UNSEEN = -2;
+
+    private final BoardLayout layout;
+    private final long[] blockMask = new long[SPACES];
+
+    // Balances a building or lifting a mortgage needs, lowest first, and the spaces each one pays for
+    private final int[] buildCosts;
+    private final long[] buildAffordable;
+    private final int[] unmortgageCosts;
+    private final long[] unmortgageAffordable;
+
+    // The game the masks were last worked out for
+    private final int[] owner = new int[SPACES];
+    private final int[] level = new int[SPACES];
+    private final boolean[] mortgaged = new boolean[SPACES];
+
+    private final long[] houses = new long[GameState.MAX_PLAYERS];
+    private final long[] hotels = new long[GameState.MAX_PLAYERS];
+    private final long[] houseSales = new long[GameState.MAX_PLAYERS];
+    private final long[] hotelSales = new long[GameState.MAX_PLAYERS];
+    private final long[] mortgages = new long[GameState.MAX_PLAYERS];
+    private final long[] unmortgages = new long[GameState.MAX_PLAYERS];
+
+    /**
+     * @param layout The board
+     * Team member(s) responsible: Giovanny
+     */
+    public MoveGenerator(BoardLayout layout) {
+        this.layout = layout;
+        int[] buildCost = new int[SPACES];
+        int[] unmortgageCost = new int[SPACES];
+        for (int space = 0; space < SPACES; space++) {
+            if (layout.kind(space) == BoardLayout.KIND_PROPERTY) {
+                blockMask[space] = layout.groupMask(layout.group(space));
+                buildCost[space] = layout.housePrice(space);
+            } else if (layout.mortgageValue(space) > 0) {
+                blockMask[space] = OwnershipMask.bit(space);
+            }
+            if (layout.mortgageValue(space) > 0) {
+                unmortgageCost[space] = Action.unmortgageCost(layout, space);
+            }
+        }
+        buildCosts = costs(buildCost);
+        buildAffordable = affordable(buildCost, buildCosts);
+        unmortgageCosts = costs(unmortgageCost);
+        unmortgageAffordable = affordable(unmortgageCost, unmortgageCosts);
+        Arrays.fill(owner, UNSEEN);
+    }
+
+    /**
+     * Brings the masks up to date with a game, working out again only the blocks that changed.
+     *
+     * @param state The game
+     * @return the number of blocks that were worked out again
+     * Team member(s) responsible: Giovanny
+     */
+    public int update(GameState state) {
+        long changed = 0;
+        for (int space = 0; space < SPACES; space++) {
+            if (blockMask[space] == 0) {
+                continue;
+            }
+            int spaceOwner = state.getOwner(space);
+            int spaceLevel = state.getBuildingLevel(space);
+            boolean spaceMortgaged = state.isMortgaged(space);
+            if (spaceOwner != owner[space] || spaceLevel != level[space] || spaceMortgaged != mortgaged[space]) {
+                owner[space] = spaceOwner;
+                level[space] = spaceLevel;
+                mortgaged[space] = spaceMortgaged;
+                changed |= blockMask[space];
+            }
+        }
+        int blocks = 0;
+        while (changed != 0) {
+            long block = blockMask[Long.numberOfTrailingZeros(changed)];
+            changed &= ~block;
+            workOut(block);
+            blocks++;
+        }
+        return blocks;
+    }
+
+    /**
+     * The even-build rule: a house or hotel goes on a property with no fewer buildings than any other
+     * in a whole, unmortgaged group. A house comes off a property when no other in the group without
+     * a hotel has more; a hotel can always be broken, if the bank has the houses. Any space with no
+     * buildings can be mortgaged.
+     */
+    private void workOut(long block) {
+        for (int seat = 0; seat < GameState.MAX_PLAYERS; seat++) {
+            houses[seat] &= ~block;
+            hotels[seat] &= ~block;
+            houseSales[seat] &= ~block;
+            hotelSales[seat] &= ~block;
+            mortgages[seat] &= ~block;
+            unmortgages[seat] &= ~block;
+        }
+        int first = owner[Long.numberOfTrailingZeros(block)];
+        boolean buildable = first >= 0;
+        int lowest = BoardLayout.HOTEL_LEVEL;
+        int highestHouses = 0;
+        for (long rest = block; rest != 0; rest &= rest - 1) {
+            int space = Long.numberOfTrailingZeros(rest);
+            buildable &= owner[space] == first && !mortgaged[space];
+            lowest = Math.min(lowest, level[space]);
+            if (level[space] < BoardLayout.HOTEL_LEVEL) {
+                highestHouses = Math.max(highestHouses, level[space]);
+            }
+        }
+        buildable &= layout.kind(Long.numberOfTrailingZeros(block)) == BoardLayout.KIND_PROPERTY;
+        for (long rest = block; rest != 0; rest &= rest - 1) {
+            int space = Long.numberOfTrailingZeros(rest);
+            int seat = owner[space];
+            if (seat < 0) {
+                continue;
+            }
+            long bit = OwnershipMask.bit(space);
+            if (mortgaged[space]) {
+                unmortgages[seat] |= bit;
+            } else if (level[space] == 0) {
+                mortgages[seat] |= bit;
+            }
+            if (buildable && level[space] == lowest && level[space] < MAX_HOUSES) {
+                houses[seat] |= bit;
+            } else if (buildable && level[space] == lowest && level[space] == MAX_HOUSES) {
+                hotels[seat] |= bit;
+            }
+            if (level[space] == BoardLayout.HOTEL_LEVEL) {
+                hotelSales[seat] |= bit;
+            } else if (level[space] > 0 && level[space] == highestHouses) {
+                houseSales[seat] |= bit;
+            }
+        }
+    }
+
+    /**
+     * @param state The game the masks are up to date with
+     * @param seat  The player
+     * @return the properties the player can put one more house or hotel on now,
+     * with the bank's supply and their balance
+     * Team member(s) responsible: Giovanny
+     */
+    public long getBuilds(GameState state, int seat) {
+        long moves = (state.getHousesLeft() > 0 ? houses[seat] : 0) | (state.getHotelsLeft() > 0 ? hotels[seat] : 0);
+        return moves & lookUp(buildCosts, buildAffordable, state.getBalance(seat));
+    }
+
+    /**
+     * @param state The game the masks are up to date with
+     * @param seat  The player
+     * @return the properties the player can sell a house from, or break a hotel on while the bank
+     * has the four houses to give back
+     * Team member(s) responsible: Giovanny
+     */
+    public long getSales(GameState state, int seat) {
+        return houseSales[seat] | (state.getHousesLeft() >= MAX_HOUSES ? hotelSales[seat] : 0);
+    }
+
+    /**
+     * @param seat The player
+     * @return the spaces the player can mortgage
+     * Team member(s) responsible: Giovanny
+     */
+    public long getMortgages(int seat) {
+        return mortgages[seat];
+    }
+
+    /**
+     * @param state The game the masks are up to date with
+     * @param seat  The player
+     * @return the mortgaged spaces the player has the balance to lift the mortgage on
+     * Team member(s) responsible: Giovanny
+     */
+    public long getUnmortgages(GameState state, int seat) {
+        return unmortgages[seat] & lookUp(unmortgageCosts, unmortgageAffordable, state.getBalance(seat));
+    }
+
+    /**
+     * The same list as LegalActions.builds(), from the masks.
+     *
+     * @param state The game the masks are up to date with
+     * @param seat  The player
+     * @return building nothing, and a house or hotel on every property that can take one now
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Action> builds(GameState state, int seat) {
+        long moves = getBuilds(state, seat);
+        List<Action> actions = new ArrayList<>(Long.bitCount(moves) + 1);
+        actions.add(Action.of(ActionType.NONE));
+        for (; moves != 0; moves &= moves - 1) {
+            actions.add(Action.build(Long.numberOfTrailingZeros(moves)));
+        }
+        return actions;
+    }
+
+    /**
+     * The same list as LegalActions.mortgages(), from the masks.
+     *
+     * @param seat The player
+     * @return mortgaging each space the player can mortgage; empty if there is none
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Action> mortgages(int seat) {
+        long moves = mortgages[seat];
+        List<Action> actions = new ArrayList<>(Long.bitCount(moves));
+        for (; moves != 0; moves &= moves - 1) {
+            actions.add(Action.mortgage(Long.numberOfTrailingZeros(moves)));
+        }
+        return actions;
+    }
+
+    private static int[] costs(int[] cost) {
+        return Arrays.stream(cost).filter(c -> c > 0).distinct().sorted().toArray();
+    }
+
+    private static long[] affordable(int[] cost, int[] costs) {
+        long[] masks = new long[costs.length];
+        for (int i = 0; i < costs.length; i++) {
+            for (int space = 0; space < SPACES; space++) {
+                if (cost[space] > 0 && cost[space] <= costs[i]) {
+                    masks[i] |= OwnershipMask.bit(space);
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * @return the spaces whose cost the balance covers
+     */
+    private static long lookUp(int[] costs, long[] affordable, int balance) {
+        int i = Arrays.binarySearch(costs, balance);
+        int covered = i >= 0 ? i : -i - 2;
+        return covered < 0 ? 0 : affordable[covered];
+    }
+}
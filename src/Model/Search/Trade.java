@@ -0,0 +1,101 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: A trade of properties and cash between two players.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Simulation.GameState;
+
+/**
+ * A trade offer between two seats: the spaces each side hands over, as ownership masks,
+ * and the cash that changes hands. Trades are immutable.
+ * Team member(s) responsible: Giovanny
+ */
+public final class Trade {
+
+    private final int proposer;
+    private final int partner;
+    private final long give;
+    private final long take;
+    private final int cash;
+
+    /**
+     * @param proposer Seat of the player making the offer
+     * @param partner  Seat of the player the offer is made to
+     * @param give     Spaces the proposer hands to the partner
+     * @param take     Spaces the partner hands to the proposer
+     * @param cash     Dollars the proposer pays the partner; negative when the partner pays
+     * Team member(s) responsible: Giovanny
+     */
+    public Trade(int proposer, int partner, long give, long take, int cash) {
+        if (proposer == partner) {
+            throw new IllegalArgumentException("A player cannot trade with themselves.");
+        }
+        this.proposer = proposer;
+        this.partner = partner;
+        this.give = give;
+        this.take = take;
+        this.cash = cash;
+    }
+
+    /**
+     * Plays the trade out on a compact game: the spaces change owner and the cash changes hands.
+     *
+     * @param state The game
+     * Team member(s) responsible: Giovanny
+     */
+    public void apply(GameState state) {
+        for (long spaces = give; spaces != 0; spaces &= spaces - 1) {
+            state.setOwner(Long.numberOfTrailingZeros(spaces), partner);
+        }
+        for (long spaces = take; spaces != 0; spaces &= spaces - 1) {
+            state.setOwner(Long.numberOfTrailingZeros(spaces), proposer);
+        }
+        state.addBalance(proposer, -cash);
+        state.addBalance(partner, cash);
+    }
+
+    /**
+     * @return seat of the player making the offer
+     */
+    public int getProposer() {
+        return proposer;
+    }
+
+    /**
+     * @return seat of the player the offer is made to
+     */
+    public int getPartner() {
+        return partner;
+    }
+
+    /**
+     * @return the spaces the proposer hands to the partner, as an ownership mask
+     */
+    public long getGive() {
+        return give;
+    }
+
+    /**
+     * @return the spaces the partner hands to the proposer, as an ownership mask
+     */
+    public long getTake() {
+        return take;
+    }
+
+    /**
+     * @return dollars the proposer pays the partner; negative when the partner pays
+     */
+    public int getCash() {
+        return cash;
+    }
+
+    @Override
+    public String toString() {
+        return "Trade " + proposer + "->" + partner + " give=" + Long.toBinaryString(give)
+                + " take=" + Long.toBinaryString(take) + " cash=" + cash;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Holds the options of a trade search: bundle size, acceptance margin, cash reserve and budget.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+/**
+ * Options of a trade search.
+ * Team member(s) responsible: Giovanny
+ */
+public class TradeConfig {
+
+    public static final int DEFAULT_MAX_BUNDLE = 2;
+    public static final int DEFAULT_MARGIN = 20;
+    public static final int DEFAULT_CASH_RESERVE = 100;
+    public static final long DEFAULT_BUDGET_MILLIS = 2;
+    public static final int DEFAULT_MAX_EVALUATIONS = 1024;
+
+    private final int maxBundle;
+    private final int margin;
+    private final int cashReserve;
+    private final long budgetMillis;
+    private final int maxEvaluations;
+
+    /**
+     * A search with the default bundle size, margin and cash reserve that works out at most
+     * DEFAULT_MAX_EVALUATIONS trades and has no time limit, so it decides the same however busy the machine is.
+     * Team member(s) responsible: Giovanny
+     */
+    public TradeConfig() {
+        this(DEFAULT_MAX_BUNDLE, DEFAULT_MARGIN, DEFAULT_CASH_RESERVE, 0, DEFAULT_MAX_EVALUATIONS);
+    }
+
+    /**
+     * Constructor for TradeConfig
+     *
+     * @param maxBundle      Most spaces each side hands over in one trade (1-3)
+     * @param margin         Least a trade must gain each side, in dollars, for them to accept it
+     * @param cashReserve    Cash the paying side keeps after the trade
+     * @param budgetMillis   Time each search may take, or 0 for no time limit
+     * @param maxEvaluations Trades each search may work out exactly, or 0 for no limit
+     * Team member(s) responsible: Giovanny
+     */
+    public TradeConfig(int maxBundle, int margin, int cashReserve, long budgetMillis, int maxEvaluations) {
+        if (maxBundle < 1 || maxBundle > 3) {
+            throw new IllegalArgumentException("Bundles must hold 1 to 3 spaces: " + maxBundle);
+        }
+        if (margin < 0 || cashReserve < 0) {
+            throw new IllegalArgumentException("The margin and cash reserve cannot be negative");
+        }
+        if (budgetMillis < 0 || maxEvaluations < 0) {
+            throw new IllegalArgumentException("The budget and evaluation limit cannot be negative");
+        }
+        this.maxBundle = maxBundle;
+        this.margin = margin;
+        this.cashReserve = cashReserve;
+        this.budgetMillis = budgetMillis;
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    /**
+     * @return Most spaces each side hands over in one trade
+     * Team member(s) responsible: Giovanny
+     */
+    public int getMaxBundle() {
+        return maxBundle;
+    }
+
+    /**
+     * @return Least a trade must gain each side, in dollars
+     * Team member(s) responsible: Giovanny
+     */
+    public int getMargin() {
+        return margin;
+    }
+
+    /**
+     * @return Cash the paying side keeps after the trade
+     * Team member(s) responsible: Giovanny
+     */
+    public int getCashReserve() {
+        return cashReserve;
+    }
+
+    /**
+     * @return Time each search may take in milliseconds, 0 for no limit
+     * Team member(s) responsible: Giovanny
+     */
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * @return Trades each search may work out exactly, 0 for no limit
+     * Team member(s) responsible: Giovanny
+     */
+    public int getMaxEvaluations() {
+        return maxEvaluations;
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Finds property and cash trades that both players gain from,
+ * by branch and bound over the property bundles they could swap.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Analysis.JailStrategy;
+import Model.Analysis.LandingProbabilities;
+import Model.Analysis.PropertyValuation;
+import Model.Board.OwnershipMask;
+import Model.Property.PropertyColor;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+import java.util.Arrays;
+
+/**
+ * Searches the trades one player could offer the others and returns the one that gains them the most
+ * while the partner gains too.
+ * <p>
+ * A player's holdings are worth, block by block (a color group, the railroads or the utilities),
+ * what the PropertyValuation says their spaces earn over its horizon, plus the completion value of the block
+ * counted once: a share of the monopoly, or the monopoly an opponent is kept from. Mortgaged spaces
+ * are worth that less what it costs to lift the mortgage. Only the blocks a trade touches change.
+ * <p>
+ * Every bundle of up to maxBundle spaces from each side is a candidate. A trade gains each side the sum
+ * of what its part in each block gains them. Those parts are worked out once, shared between the bundles
+ * that have them in common and kept for later searches until their block changes. Cash is not enumerated:
+ * a trade is cheapest for the proposer when the partner is paid just enough to gain the margin,
+ * so the cash follows from the two gains. The best move inside each block, worked out from the few moves
+ * the two players' spaces there allow, bounds what any trade can gain, and a pair of bundles whose bound
+ * cannot beat the best trade found so far is skipped without working it out. The search stops early when its budget runs out.
+ * Team member(s) responsible: Giovanny
+ */
+public final class TradeSearch {
+
+    private static final int SPACES = BoardLayout.SPACES;
+    private static final int GROUPS = PropertyColor.values().length;
+    private static final int BLOCKS = GROUPS + 2;
+    private static final int NO_BLOCK = -1;
+    // A block has at most 4 spaces, the railroads
+    private static final int BLOCK_SUBSETS = 16;
+    private static final int BLOCK_MOVES = BLOCK_SUBSETS * BLOCK_SUBSETS;
+    private static final long UNKNOWN = Long.MIN_VALUE;
+    private static final int BUDGET_CHECK = 64;
+
+    private final BoardLayout layout;
+    private final int maxBundle;
+    private final int margin;
+    private final int cashReserve;
+    private final long budgetNanos;
+    private final int maxEvaluations;
+
+    private final int[] block = new int[SPACES];
+    // Each space's bit among the spaces of its block
+    private final int[] placeBit = new int[SPACES];
+    private final long[] blockMask = new long[BLOCKS];
+
+    private final PropertyValuation[] valuations = new PropertyValuation[GameState.MAX_PLAYERS];
+    private final int[][] worth = new int[GameState.MAX_PLAYERS][BLOCKS];
+    private final GameState scratch = new GameState();
+
+    // Room for every bundle of up to 3 of the 28 ownable spaces
+    private final long[] giveBundles = new long[4096];
+    private final long[] takeBundles = new long[4096];
+    private final int[] giveBlocks = new int[4096];
+    private final int[] takeBlocks = new int[4096];
+    // The most a move inside one block gains the proposer, the partner and both together
+    private final int[] proposerBest = new int[BLOCKS];
+    private final int[] partnerBest = new int[BLOCKS];
+    private final int[] jointBest = new int[BLOCKS];
+    // Bounds on what a trade touching a set of blocks can gain, indexed by the set
+    private final int[] proposerBound = new int[1 << BLOCKS];
+    private final int[] partnerBound = new int[1 << BLOCKS];
+    private final int[] jointBound = new int[1 << BLOCKS];
+
+    // What the part of a trade in one block gains each side, by partner, block and the spaces moved.
+    // A block's gains only depend on the owners, buildings and mortgages in that block, so they are kept
+    // from one search to the next until the block changes or another seat proposes.
+    private final long[] blockGains = new long[GameState.MAX_PLAYERS * BLOCKS * BLOCK_MOVES];
+    private final long[] blockState = new long[BLOCKS];
+    private int gainsProposer = GameState.NO_OWNER;
+
+    // The search in progress
+    private long start;
+    private Trade best;
+    private int bestGain;
+    private int evaluated;
+    private int pruned;
+
+    /**
+     * A search with the default options.
+     *
+     * @param layout The board
+     * Team member(s) responsible: Giovanny
+     */
+    public TradeSearch(BoardLayout layout) {
+        this(layout, new TradeConfig());
+    }
+
+    /**
+     * @param layout The board
+     * @param config Bundle size, margin, cash reserve and budget
+     * Team member(s) responsible: Giovanny
+     */
+    public TradeSearch(BoardLayout layout, TradeConfig config) {
+        this.layout = layout;
+        this.maxBundle = config.getMaxBundle();
+        this.margin = config.getMargin();
+        this.cashReserve = config.getCashReserve();
+        this.budgetNanos = config.getBudgetMillis() == 0 ? Long.MAX_VALUE : config.getBudgetMillis() * 1_000_000L;
+        this.maxEvaluations = config.getMaxEvaluations() == 0 ? Integer.MAX_VALUE : config.getMaxEvaluations();
+
+        LandingProbabilities probabilities = LandingProbabilities.of(layout, JailStrategy.LONG);
+        for (int seat = 0; seat < GameState.MAX_PLAYERS; seat++) {
+            valuations[seat] = new PropertyValuation(layout, probabilities, PropertyValuation.DEFAULT_HORIZON_TURNS);
+        }
+        Arrays.fill(block, NO_BLOCK);
+        for (int space = 0; space < SPACES; space++) {
+            if (!layout.isOwnable(space)) {
+                continue;
+            }
+            if (layout.kind(space) == BoardLayout.KIND_PROPERTY) {
+                block[space] = layout.group(space);
+            } else {
+                block[space] = layout.kind(space) == BoardLayout.KIND_RAILROAD ? GROUPS : GROUPS + 1;
+            }
+            placeBit[space] = 1 << Long.bitCount(blockMask[block[space]]);
+            blockMask[block[space]] |= OwnershipMask.bit(space);
+        }
+    }
+
+    /**
+     * Finds the trade that gains the proposer the most while every partner gains at least the margin.
+     *
+     * @param root     The game, which is not changed
+     * @param proposer Seat of the player making the offer
+     * @return the trade, or null if there is none both sides would accept
+     * Team member(s) responsible: Giovanny
+     */
+    public Trade search(GameState root, int proposer) {
+        evaluated = 0;
+        pruned = 0;
+        best = null;
+        bestGain = margin - 1;
+        start = System.nanoTime();
+
+        scratch.copyFrom(root);
+        forgetChangedBlocks(root, proposer);
+        updateWorth(root, proposer);
+        long giveable = tradeable(root, proposer);
+        int giveCount = bundles(giveable, giveBundles, giveBlocks);
+        for (int partner = 0; partner < root.getPlayerCount(); partner++) {
+            if (partner == proposer || root.isBankrupt(partner)) {
+                continue;
+            }
+            updateWorth(root, partner);
+            long takeable = tradeable(root, partner);
+            int takeCount = bundles(takeable, takeBundles, takeBlocks);
+            for (int b = 0; b < BLOCKS; b++) {
+                bestBlockMoves(proposer, partner, b, giveable & blockMask[b], takeable & blockMask[b]);
+            }
+            if (!searchPartner(root, proposer, partner, giveCount, takeCount)) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Whether a player would accept a trade: it must be legal and gain them at least the margin.
+     *
+     * @param root  The game, which is not changed
+     * @param trade The offer
+     * @param seat  The player deciding, either side of the trade
+     * @return true to accept
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean accepts(GameState root, Trade trade, int seat) {
+        return isLegal(root, trade) && gain(root, trade, seat) >= margin;
+    }
+
+    /**
+     * A trade is legal when each side holds what it hands over, no space in it has buildings in its group,
+     * and the payer has the cash.
+     *
+     * @param root  The game
+     * @param trade The offer
+     * @return true if the trade can be made
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean isLegal(GameState root, Trade trade) {
+        int proposer = trade.getProposer();
+        int partner = trade.getPartner();
+        if (root.isBankrupt(proposer) || root.isBankrupt(partner) || (trade.getGive() | trade.getTake()) == 0) {
+            return false;
+        }
+        long give = trade.getGive();
+        long take = trade.getTake();
+        int payer = trade.getCash() >= 0 ? proposer : partner;
+        return (tradeable(root, proposer) & give) == give
+                && (tradeable(root, partner) & take) == take
+                && root.getBalance(payer) >= Math.abs(trade.getCash());
+    }
+
+    /**
+     * What a trade gains one side, by the worth of their holdings and cash.
+     *
+     * @param root  The game, which is not changed
+     * @param trade The offer
+     * @param seat  Either side of the trade
+     * @return the gain in dollars, negative for a loss
+     * Team member(s) responsible: Giovanny
+     */
+    public int gain(GameState root, Trade trade, int seat) {
+        long touched = touchedBlocks(trade.getGive() | trade.getTake());
+        PropertyValuation valuation = valuations[seat];
+        valuation.update(root, seat);
+        int before = worth(root, valuation, seat, touched);
+        scratch.copyFrom(root);
+        trade.apply(scratch);
+        valuation.update(scratch, seat);
+        int after = worth(scratch, valuation, seat, touched);
+        int cash = seat == trade.getProposer() ? -trade.getCash() : trade.getCash();
+        return after - before + cash;
+    }
+
+    /**
+     * @return bundle pairs the last search worked out exactly
+     */
+    public int getEvaluated() {
+        return evaluated;
+    }
+
+    /**
+     * @return bundle pairs the last search skipped on their bounds
+     */
+    public int getPruned() {
+        return pruned;
+    }
+
+    /**
+     * Drops the kept block gains of every block that changed since the last search,
+     * or of all of them when the proposer is not the one they were worked out for.
+     */
+    private void forgetChangedBlocks(GameState root, int proposer) {
+        for (int b = 0; b < BLOCKS; b++) {
+            long state = blockState(root, b);
+            if (proposer == gainsProposer && state == blockState[b]) {
+                continue;
+            }
+            blockState[b] = state;
+            for (int partner = 0; partner < GameState.MAX_PLAYERS; partner++) {
+                int from = (partner * BLOCKS + b) * BLOCK_MOVES;
+                Arrays.fill(blockGains, from, from + BLOCK_MOVES, UNKNOWN);
+            }
+        }
+        gainsProposer = proposer;
+    }
+
+    /**
+     * @return the owner, building level and mortgage of each space of the block, a byte per space
+     */
+    private long blockState(GameState root, int b) {
+        long state = 0;
+        for (long spaces = blockMask[b]; spaces != 0; spaces &= spaces - 1) {
+            int space = Long.numberOfTrailingZeros(spaces);
+            state = state << 8 | (root.getOwner(space) + 1) << 4 | root.getBuildingLevel(space) << 1
+                    | (root.isMortgaged(space) ? 1 : 0);
+        }
+        return state;
+    }
+
+    private void updateWorth(GameState root, int seat) {
+        valuations[seat].update(root, seat);
+        for (int b = 0; b < BLOCKS; b++) {
+            worth[seat][b] = blockWorth(root, valuations[seat], seat, b);
+        }
+    }
+
+    /**
+     * Tries every pair of bundles with one partner, skipping the pairs whose bound cannot beat the best trade so far
+     * or leaves no cash that both sides would accept.
+     *
+     * @return false if the budget ran out
+     */
+    private boolean searchPartner(GameState root, int proposer, int partner, int giveCount, int takeCount) {
+        int maxPay = Math.max(0, root.getBalance(proposer) - cashReserve);
+        int maxReceive = Math.max(0, root.getBalance(partner) - cashReserve);
+        int giveTouched = 0;
+        for (int g = 0; g < giveCount; g++) {
+            giveTouched |= giveBlocks[g];
+        }
+        int takeTouched = 0;
+        for (int t = 0; t < takeCount; t++) {
+            takeTouched |= takeBlocks[t];
+        }
+        int joint = 0;
+        for (int blocks = giveTouched | takeTouched; blocks != 0; blocks &= blocks - 1) {
+            joint += jointBest[Integer.numberOfTrailingZeros(blocks)];
+        }
+        // If all the blocks the bundles touch together cannot beat the best trade, nothing with this partner can.
+        // Bundle 0 is the empty one, and the empty pair is not a trade
+        if (joint - margin <= bestGain) {
+            pruned += giveCount * takeCount - 1;
+            return true;
+        }
+        // Bounds of every set of blocks, each built from the set without its lowest block
+        for (int blocks = 1; blocks < 1 << BLOCKS; blocks++) {
+            int b = Integer.numberOfTrailingZeros(blocks);
+            int rest = blocks & (blocks - 1);
+            proposerBound[blocks] = proposerBound[rest] + proposerBest[b];
+            partnerBound[blocks] = partnerBound[rest] + partnerBest[b];
+            jointBound[blocks] = jointBound[rest] + jointBest[b];
+        }
+        for (int g = 0; g < giveCount; g++) {
+            // Bounds only grow with the blocks, so a give bundle that cannot win with every take block is skipped whole
+            if (jointBound[giveBlocks[g] | takeTouched] - margin <= bestGain) {
+                pruned += g == 0 ? takeCount - 1 : takeCount;
+                continue;
+            }
+            for (int t = 0; t < takeCount; t++) {
+                int blocks = giveBlocks[g] | takeBlocks[t];
+                if (blocks == 0) {
+                    continue;
+                }
+                // The proposer gains at most the joint gain less what the partner must be left with
+                if (jointBound[blocks] - margin <= bestGain
+                        || partnerBound[blocks] < margin - maxPay || proposerBound[blocks] < margin - maxReceive) {
+                    pruned++;
+                    continue;
+                }
+                if (evaluated == maxEvaluations
+                        || (evaluated % BUDGET_CHECK == 0 && System.nanoTime() - start > budgetNanos)) {
+                    return false;
+                }
+                evaluate(proposer, partner, giveBundles[g], takeBundles[t], blocks, maxPay, maxReceive);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Works out both gains of the bundles exactly, pays the partner just enough to accept,
+     * and keeps the trade if it gains the proposer more than the best so far.
+     */
+    private void evaluate(int proposer, int partner, long give, long take, int blocks, int maxPay, int maxReceive) {
+        evaluated++;
+        int proposerGain = 0;
+        int partnerGain = 0;
+        for (int touched = blocks; touched != 0; touched &= touched - 1) {
+            int b = Integer.numberOfTrailingZeros(touched);
+            long gains = blockGains(proposer, partner, b, give & blockMask[b], take & blockMask[b]);
+            proposerGain += (int) (gains >> 32);
+            partnerGain += (int) gains;
+        }
+        int cash = Math.max(margin - partnerGain, -maxReceive);
+        if (cash <= maxPay && proposerGain - cash > bestGain) {
+            bestGain = proposerGain - cash;
+            best = new Trade(proposer, partner, give, take, cash);
+        }
+    }
+
+    /**
+     * The most any move of the two players' spaces inside one block gains the proposer, the partner
+     * and the two together, including moving nothing. The two hold at most the block's 4 spaces between them,
+     * so there are at most 16 moves, and their gains are usually kept from an earlier search.
+     * As gains add up over blocks, these are exact per block and bound any trade, whatever its bundle size.
+     */
+    private void bestBlockMoves(int proposer, int partner, int b, long give, long take) {
+        int proposerMax = 0;
+        int partnerMax = 0;
+        int jointMax = 0;
+        for (long g = give; ; g = (g - 1) & give) {
+            for (long t = take; ; t = (t - 1) & take) {
+                if ((g | t) != 0) {
+                    long gains = blockGains(proposer, partner, b, g, t);
+                    int proposerGain = (int) (gains >> 32);
+                    int partnerGain = (int) gains;
+                    proposerMax = Math.max(proposerMax, proposerGain);
+                    partnerMax = Math.max(partnerMax, partnerGain);
+                    jointMax = Math.max(jointMax, proposerGain + partnerGain);
+                }
+                if (t == 0) {
+                    break;
+                }
+            }
+            if (g == 0) {
+                break;
+            }
+        }
+        proposerBest[b] = proposerMax;
+        partnerBest[b] = partnerMax;
+        jointBest[b] = jointMax;
+    }
+
+    /**
+     * What the part of a trade inside one block gains each side. Blocks are valued independently,
+     * so a trade gains each side the sum over the blocks it touches, and the part in each block
+     * is worked out once per search however many bundles share it.
+     *
+     * @return the proposer's gain in the high 32 bits and the partner's in the low 32 bits
+     */
+    private long blockGains(int proposer, int partner, int b, long give, long take) {
+        int index = (partner * BLOCKS + b) * BLOCK_MOVES + compress(give) * BLOCK_SUBSETS + compress(take);
+        if (blockGains[index] != UNKNOWN) {
+            return blockGains[index];
+        }
+        move(give, partner);
+        move(take, proposer);
+        valuations[proposer].update(scratch, proposer, blockMask[b]);
+        valuations[partner].update(scratch, partner, blockMask[b]);
+        long proposerGain = blockWorth(scratch, valuations[proposer], proposer, b) - worth[proposer][b];
+        long partnerGain = blockWorth(scratch, valuations[partner], partner, b) - worth[partner][b];
+        move(give, proposer);
+        move(take, partner);
+        blockGains[index] = (proposerGain << 32) | (partnerGain & 0xFFFFFFFFL);
+        return blockGains[index];
+    }
+
+    private void move(long spaces, int owner) {
+        for (; spaces != 0; spaces &= spaces - 1) {
+            scratch.setOwner(Long.numberOfTrailingZeros(spaces), owner);
+        }
+    }
+
+    /**
+     * @return spaces of one block as bits numbered by their place in the block, e.g. 0b101 for its first and third space
+     */
+    private int compress(long spaces) {
+        int compressed = 0;
+        for (; spaces != 0; spaces &= spaces - 1) {
+            compressed |= placeBit[Long.numberOfTrailingZeros(spaces)];
+        }
+        return compressed;
+    }
+
+    /**
+     * @return the spaces the player owns that can be traded: none in a color group with buildings
+     */
+    private long tradeable(GameState state, int seat) {
+        long owned = state.getOwnedMask(seat);
+        long tradeable = owned;
+        for (long spaces = owned & layout.kindMask(BoardLayout.KIND_PROPERTY); spaces != 0; spaces &= spaces - 1) {
+            int space = Long.numberOfTrailingZeros(spaces);
+            if (state.getBuildingLevel(space) > 0) {
+                tradeable &= ~blockMask[block[space]];
+            }
+        }
+        return tradeable;
+    }
+
+    /**
+     * Lists every subset of the spaces with at most maxBundle of them, the empty one included,
+     * with the blocks each one touches.
+     *
+     * @return the number of bundles
+     */
+    private int bundles(long spaces, long[] into, int[] blocksOf) {
+        int count = 0;
+        int size = Long.bitCount(spaces);
+        int[] bits = new int[size];
+        int i = 0;
+        for (long rest = spaces; rest != 0; rest &= rest - 1) {
+            bits[i++] = Long.numberOfTrailingZeros(rest);
+        }
+        into[count++] = 0;
+        for (int a = 0; a < size; a++) {
+            long one = OwnershipMask.bit(bits[a]);
+            into[count++] = one;
+            for (int b = a + 1; b < size && maxBundle >= 2; b++) {
+                long two = one | OwnershipMask.bit(bits[b]);
+                into[count++] = two;
+                for (int c = b + 1; c < size && maxBundle >= 3; c++) {
+                    into[count++] = two | OwnershipMask.bit(bits[c]);
+                }
+            }
+        }
+        for (int bundle = 0; bundle < count; bundle++) {
+            blocksOf[bundle] = (int) touchedBlocks(into[bundle]);
+        }
+        return count;
+    }
+
+    private long touchedBlocks(long spaces) {
+        long touched = 0;
+        for (; spaces != 0; spaces &= spaces - 1) {
+            touched |= 1L << block[Long.numberOfTrailingZeros(spaces)];
+        }
+        return touched;
+    }
+
+    private int worth(GameState state, PropertyValuation valuation, int seat, long blocks) {
+        int total = 0;
+        for (; blocks != 0; blocks &= blocks - 1) {
+            total += blockWorth(state, valuation, seat, Long.numberOfTrailingZeros(blocks));
+        }
+        return total;
+    }
+
+    /**
+     * What the seat's spaces in one block are worth: their values without the completion value,
+     * less the cost of lifting any mortgage, plus the block's completion value once.
+     */
+    private int blockWorth(GameState state, PropertyValuation valuation, int seat, int b) {
+        int total = 0;
+        int completion = 0;
+        for (long spaces = state.getOwnedMask(seat) & blockMask[b]; spaces != 0; spaces &= spaces - 1) {
+            int space = Long.numberOfTrailingZeros(spaces);
+            total += valuation.getValue(space) - valuation.getCompletionValue(space);
+            if (state.isMortgaged(space)) {
+                total -= layout.mortgageValue(space) * 11 / 10;
+            }
+            completion = Math.max(completion, valuation.getCompletionValue(space));
+        }
+        return total + completion;
+    }
+}
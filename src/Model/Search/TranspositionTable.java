@@ -0,0 +1,55 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Fixed-size cache of search values keyed by Zobrist hash.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import java.util.Arrays;
+
+/**
+ * Direct-mapped cache from a 64-bit hash to a value. A new entry always replaces
+ * the one in its slot, and the full hash is kept so another state in the same slot is never mistaken for it.
+ * Team member(s) responsible: Giovanny
+ */
+final class TranspositionTable {
+
+    private final long[] keys;
+    private final double[] values;
+    private final int mask;
+
+    TranspositionTable(int bits) {
+        keys = new long[1 << bits];
+        values = new double[1 << bits];
+        mask = (1 << bits) - 1;
+        clear();
+    }
+
+    /**
+     * @return the value stored for the key, or NaN if there is none
+     */
+    double get(long key) {
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : Double.NaN;
+    }
+
+    void put(long key, double value) {
+        int slot = slot(key);
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    void clear() {
+        Arrays.fill(values, Double.NaN);
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    private int slot(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
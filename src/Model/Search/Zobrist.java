@@ -0,0 +1,149 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Zobrist hashing of a compact game state, so a search can recognise a state
+ * it has already reached by another path.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Search;
+
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for the parts of a GameState a search changes: owners, building levels,
+ * mortgages, positions, balances and bankruptcies. The hash of a state is the XOR of the keys
+ * of everything in it, so a change is hashed by XORing out the old key and XORing in the new one:
+ * <pre>
+ *     hash ^= zobrist.level(space, oldLevel) ^ zobrist.level(space, newLevel);
+ * </pre>
+ * Balances can take any value, so their keys are mixed from a per-player key instead of looked up.
+ * Team member(s) responsible: Giovanny
+ */
+public final class Zobrist {
+
+    private static final int SPACES = BoardLayout.SPACES;
+    private static final int PLAYERS = GameState.MAX_PLAYERS;
+    private static final int OWNERS = PLAYERS + 1;
+    private static final int LEVELS = BoardLayout.HOTEL_LEVEL + 1;
+    private static final long STANDARD_SEED = 0x5DEECE66DL;
+    private static final Zobrist STANDARD = new Zobrist(STANDARD_SEED);
+
+    private final long[] ownerKeys = new long[SPACES * OWNERS];
+    private final long[] levelKeys = new long[SPACES * LEVELS];
+    private final long[] mortgageKeys = new long[SPACES];
+    private final long[] positionKeys = new long[PLAYERS * SPACES];
+    private final long[] balanceKeys = new long[PLAYERS];
+    private final long[] bankruptKeys = new long[PLAYERS];
+
+    /**
+     * @param seed Seed the keys are drawn from
+     * Team member(s) responsible: Giovanny
+     */
+    public Zobrist(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        fill(ownerKeys, random);
+        fill(levelKeys, random);
+        fill(mortgageKeys, random);
+        fill(positionKeys, random);
+        fill(balanceKeys, random);
+        fill(bankruptKeys, random);
+    }
+
+    private static void fill(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * @return keys shared by every search, from a fixed seed
+     * Team member(s) responsible: Giovanny
+     */
+    public static Zobrist standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Hashes a whole state. Searches call this once at the root and update the hash as they go.
+     *
+     * @param state The game
+     * @return the XOR of the keys of everything in the state
+     * Team member(s) responsible: Giovanny
+     */
+    public long hash(GameState state) {
+        long hash = 0;
+        for (int space = 0; space < SPACES; space++) {
+            hash ^= owner(space, state.getOwner(space)) ^ level(space, state.getBuildingLevel(space));
+            if (state.isMortgaged(space)) {
+                hash ^= mortgaged(space);
+            }
+        }
+        for (int player = 0; player < state.getPlayerCount(); player++) {
+            hash ^= position(player, state.getPosition(player)) ^ balance(player, state.getBalance(player));
+            if (state.isBankrupt(player)) {
+                hash ^= bankrupt(player);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @param space  Board position
+     * @param player Seat of the owner, or NO_OWNER
+     * @return key of the space having that owner
+     */
+    public long owner(int space, int player) {
+        return ownerKeys[space * OWNERS + player + 1];
+    }
+
+    /**
+     * @param space Board position
+     * @param level 0 unimproved, 1-4 houses, 5 hotel
+     * @return key of the space having that building level
+     */
+    public long level(int space, int level) {
+        return levelKeys[space * LEVELS + level];
+    }
+
+    /**
+     * @param space Board position
+     * @return key of the space being mortgaged
+     */
+    public long mortgaged(int space) {
+        return mortgageKeys[space];
+    }
+
+    /**
+     * @param player Seat
+     * @param space  Board position
+     * @return key of the player standing on the space
+     */
+    public long position(int player, int space) {
+        return positionKeys[player * SPACES + space];
+    }
+
+    /**
+     * @param player  Seat
+     * @param balance Cash
+     * @return key of the player holding that much cash
+     */
+    public long balance(int player, int balance) {
+        // SplitMix64 finalizer, so neighbouring balances get unrelated keys
+        long z = balanceKeys[player] + balance * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @param player Seat
+     * @return key of the player being bankrupt
+     */
+    public long bankrupt(int player) {
+        return bankruptKeys[player];
+    }
+}
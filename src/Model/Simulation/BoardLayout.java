@@ -0,0 +1,214 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Read-only, array-based copy of the board's fixed data (kinds, prices,
+ * color groups, and the board's rent table) used by the compact simulation engine.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Model.Board.GameBoard;
+import Model.Board.OwnershipMask;
+import Model.Board.RentTable;
+import Model.GameContext;
+import Model.Property.Property;
+import Model.Property.PropertyColor;
+import Model.Spaces.BoardSpace;
+import Model.Spaces.ChanceSpace;
+import Model.Spaces.CommunityChestSpace;
+import Model.Spaces.GoSpace;
+import Model.Spaces.GoToJailSpace;
+import Model.Spaces.Railroad;
+import Model.Spaces.TaxSpace;
+import Model.Spaces.UtilitySpace;
+
+/**
+ * The fixed data of a board, indexed by space. It is copied once from a GameBoard,
+ * so the compact engine uses the same prices and rents as the model without touching any objects.
+ * Team member(s) responsible: Giovanny
+ */
+public final class BoardLayout {
+
+    public static final int SPACES = 40;
+    public static final int NO_GROUP = -1;
+    /** Building level of a property with a hotel */
+    public static final int HOTEL_LEVEL = RentTable.HOTEL_LEVEL;
+
+    public static final byte KIND_OTHER = 0;
+    public static final byte KIND_GO = 1;
+    public static final byte KIND_PROPERTY = 2;
+    public static final byte KIND_RAILROAD = 3;
+    public static final byte KIND_UTILITY = 4;
+    public static final byte KIND_INCOME_TAX = 5;
+    public static final byte KIND_LUXURY_TAX = 6;
+    public static final byte KIND_CHANCE = 7;
+    public static final byte KIND_COMMUNITY_CHEST = 8;
+    public static final byte KIND_GO_TO_JAIL = 9;
+
+    private static BoardLayout standard;
+
+    private final byte[] kind;
+    private final int[] price;
+    private final int[] mortgageValue;
+    private final int[] housePrice;
+    private final int[] group;
+    private final int[] groupSize;
+    private final long[] groupMask;
+    private final long[] kindMask;
+    private final RentTable rentTable;
+
+    private BoardLayout(GameBoard board) {
+        kind = new byte[SPACES];
+        price = new int[SPACES];
+        mortgageValue = new int[SPACES];
+        housePrice = new int[SPACES];
+        group = new int[SPACES];
+        rentTable = board.getRentTable();
+        groupSize = new int[PropertyColor.values().length];
+        groupMask = new long[PropertyColor.values().length];
+        kindMask = new long[KIND_GO_TO_JAIL + 1];
+
+        for (int space = 0; space < SPACES; space++) {
+            BoardSpace boardSpace = board.getSpace(space);
+            group[space] = NO_GROUP;
+            price[space] = boardSpace.getPurchasePrice();
+            kind[space] = kindOf(boardSpace);
+            kindMask[kind[space]] |= OwnershipMask.bit(space);
+            if (boardSpace instanceof Property) {
+                Property property = (Property) boardSpace;
+                group[space] = property.getColor().ordinal();
+                groupSize[group[space]] = property.getColor().getPropertiesInGroup();
+                groupMask[group[space]] |= OwnershipMask.bit(space);
+                mortgageValue[space] = property.getMortgageValue();
+                housePrice[space] = property.getHousePrice();
+            } else if (price[space] > 0) {
+                mortgageValue[space] = price[space] / 2;
+            }
+        }
+    }
+
+    /**
+     * @return the layout of the standard board, built once and shared by every engine
+     * Team member(s) responsible: Giovanny
+     */
+    public static synchronized BoardLayout standard() {
+        if (standard == null) {
+            standard = new BoardLayout(new GameContext().getBoard());
+        }
+        return standard;
+    }
+
+    /**
+     * Copies the fixed data of the given board.
+     * @param board The board to copy
+     * @return the layout of that board
+     * Team member(s) responsible: Giovanny
+     */
+    public static BoardLayout of(GameBoard board) {
+        return new BoardLayout(board);
+    }
+
+    private static byte kindOf(BoardSpace space) {
+        if (space instanceof Property) {
+            return KIND_PROPERTY;
+        } else if (space instanceof Railroad) {
+            return KIND_RAILROAD;
+        } else if (space instanceof UtilitySpace) {
+            return KIND_UTILITY;
+        } else if (space instanceof GoSpace) {
+            return KIND_GO;
+        } else if (space instanceof ChanceSpace) {
+            return KIND_CHANCE;
+        } else if (space instanceof CommunityChestSpace) {
+            return KIND_COMMUNITY_CHEST;
+        } else if (space instanceof GoToJailSpace) {
+            return KIND_GO_TO_JAIL;
+        } else if (space instanceof TaxSpace) {
+            return "Income Tax".equals(space.getName()) ? KIND_INCOME_TAX : KIND_LUXURY_TAX;
+        }
+        return KIND_OTHER;
+    }
+
+    /**
+     * @param space Board position
+     * @return the kind of the space, one of the KIND_ constants
+     */
+    public byte kind(int space) {
+        return kind[space];
+    }
+
+    /**
+     * @param space Board position
+     * @return purchase price, or 0 if the space cannot be bought
+     */
+    public int price(int space) {
+        return price[space];
+    }
+
+    /**
+     * @param space Board position
+     * @return true if the space is a property, railroad or utility
+     */
+    public boolean isOwnable(int space) {
+        return price[space] > 0;
+    }
+
+    /**
+     * @param space Board position
+     * @return mortgage value of an ownable space
+     */
+    public int mortgageValue(int space) {
+        return mortgageValue[space];
+    }
+
+    /**
+     * @param space Board position
+     * @return price of one house, or 0 if the space is not a property
+     */
+    public int housePrice(int space) {
+        return housePrice[space];
+    }
+
+    /**
+     * @param space Board position
+     * @return PropertyColor ordinal of the space, or NO_GROUP
+     */
+    public int group(int space) {
+        return group[space];
+    }
+
+    /**
+     * @param group PropertyColor ordinal
+     * @return number of properties in the color group
+     */
+    public int groupSize(int group) {
+        return groupSize[group];
+    }
+
+    /**
+     * @param group PropertyColor ordinal
+     * @return OwnershipMask of the color group's positions
+     */
+    public long groupMask(int group) {
+        return groupMask[group];
+    }
+
+    /**
+     * @param kind One of the KIND_ constants
+     * @return OwnershipMask of every position of that kind
+     */
+    public long kindMask(byte kind) {
+        return kindMask[kind];
+    }
+
+    /**
+     * @param space    Board position of a property
+     * @param level    Building level: 0 unimproved, 1-4 houses, 5 hotel
+     * @param monopoly true if the owner has the whole color group
+     * @return rent from the board's RentTable
+     */
+    public int rent(int space, int level, boolean monopoly) {
+        return rentTable.getPropertyRent(space, level, monopoly);
+    }
+}
@@ -0,0 +1,563 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Fast CPU-vs-CPU game engine over the primitive GameState. Its turn loop allocates nothing,
+ * but it plays a reduced game: see the class comment.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Model.Board.RentTable;
+import Model.Cards.CardDeck;
+import Model.Cards.CardTable;
+import Model.GameRandom;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays CPU-vs-CPU games on a GameState. One engine is meant to be reused for many games:
+ * reset() prepares the next game, and nothing is allocated while turns are played.
+ * <p>
+ * Movement, jail, cards, rent, taxes and purchases follow HeadlessGame. Auctions are a single sealed
+ * round in seat order instead of HeadlessGame's ascending auction, and the players never build,
+ * mortgage, trade or sell anything to raise cash: a player who cannot pay is bankrupt at once.
+ * Without houses, rents stay too low to bankrupt anyone for a long time, so most 4-player games
+ * reach a 1000 turn limit. The engine measures the raw cost of a turn and plays search rollouts;
+ * game statistics come from the model engine, the --simulate default.
+ * Team member(s) responsible: Giovanny
+ */
+public final class CompactGame {
+
+    private static final int JAIL_POSITION = 10;
+    private static final int JAIL_FINE = 50;
+    private static final int MAX_JAIL_TURNS = 3;
+    private static final int GO_MONEY = 200;
+    private static final int INCOME_TAX = 200;
+    private static final double INCOME_TAX_RATE = 0.1;
+    private static final int LUXURY_TAX = 75;
+    private static final int ROLL_BUFFER = 256;
+    private static final int NO_HOLDER = -1;
+
+    private final BoardLayout layout;
+    private final CompactStrategy strategy;
+    private final GameState state;
+    private final int[] turnOrder;
+    private final CardDeck chanceDeck;
+    private final CardDeck chestDeck;
+    // Seat holding each deck's Get Out of Jail Free card, or NO_HOLDER
+    private int chanceJailFreeHolder;
+    private int chestJailFreeHolder;
+    private final SplittableRandom[] playerRandom;
+    private final byte[] rolls;
+    private int rollIndex;
+    private SplittableRandom dice;
+    private SplittableRandom decks;
+    private int orderIndex;
+    private int players;
+    private long seed;
+    private int bankruptcies;
+
+    /**
+     * Constructor for CompactGame
+     *
+     * @param layout   The board
+     * @param strategy The decisions every CPU makes
+     * Team member(s) responsible: Giovanny
+     */
+    public CompactGame(BoardLayout layout, CompactStrategy strategy) {
+        this.layout = layout;
+        this.strategy = strategy;
+        this.state = new GameState();
+        this.turnOrder = new int[GameState.MAX_PLAYERS];
+        this.chanceDeck = new CardDeck(CardTable.CHANCE);
+        this.chestDeck = new CardDeck(CardTable.COMMUNITY_CHEST);
+        this.playerRandom = new SplittableRandom[GameState.MAX_PLAYERS];
+        this.rolls = new byte[ROLL_BUFFER];
+    }
+
+    /**
+     * Sets up a new game: fresh state, shuffled decks and a random turn order.
+     *
+     * @param playerCount Number of CPU players (2-4)
+     * @param gameSeed    Seed for every random decision in the game
+     * Team member(s) responsible: Giovanny
+     */
+    public void reset(int playerCount, long gameSeed) {
+        this.players = playerCount;
+        this.seed = gameSeed;
+        GameRandom random = new GameRandom(gameSeed);
+        this.dice = random.getDiceStream();
+        this.decks = random.getDeckStream();
+        this.rollIndex = ROLL_BUFFER;
+        for (int p = 0; p < playerCount; p++) {
+            playerRandom[p] = random.splitAiStream();
+        }
+        state.reset(playerCount);
+        chanceDeck.restore();
+        chanceDeck.shuffle(decks);
+        chestDeck.restore();
+        chestDeck.shuffle(decks);
+        chanceJailFreeHolder = NO_HOLDER;
+        chestJailFreeHolder = NO_HOLDER;
+        for (int p = 0; p < playerCount; p++) {
+            turnOrder[p] = p;
+        }
+        shuffle(turnOrder, playerCount, random.getTurnOrderStream());
+        orderIndex = 0;
+        bankruptcies = 0;
+    }
+
+    /**
+     * Carries on a game from a copy of its state, e.g. for a rollout of a search.
+     * The decks are shuffled again, since their order is not part of the state, without the
+     * Get Out of Jail Free cards the players hold, and the turn goes around the seats in order,
+     * starting with firstPlayer.
+     *
+     * @param from        The state to carry on from; it is copied, not changed
+     * @param firstPlayer Seat of the player whose turn comes next
+     * @param gameSeed    Seed for every random decision from here on
+     * Team member(s) responsible: Giovanny
+     */
+    public void resume(GameState from, int firstPlayer, long gameSeed) {
+        this.players = from.getPlayerCount();
+        this.seed = gameSeed;
+        GameRandom random = new GameRandom(gameSeed);
+        this.dice = random.getDiceStream();
+        this.decks = random.getDeckStream();
+        this.rollIndex = ROLL_BUFFER;
+        for (int p = 0; p < players; p++) {
+            playerRandom[p] = random.splitAiStream();
+            turnOrder[p] = p;
+        }
+        state.copyFrom(from);
+        chanceDeck.restore();
+        chestDeck.restore();
+        chanceJailFreeHolder = NO_HOLDER;
+        chestJailFreeHolder = NO_HOLDER;
+        // The state only counts the cards, so the first one held is taken to be the chance card
+        for (int p = 0; p < players; p++) {
+            for (int card = 0; card < state.getJailFreeCards(p); card++) {
+                if (chanceJailFreeHolder == NO_HOLDER) {
+                    chanceJailFreeHolder = p;
+                    chanceDeck.remove(CardTable.CHANCE.jailFreeCard());
+                } else {
+                    chestJailFreeHolder = p;
+                    chestDeck.remove(CardTable.COMMUNITY_CHEST.jailFreeCard());
+                }
+            }
+        }
+        chanceDeck.shuffle(decks);
+        chestDeck.shuffle(decks);
+        orderIndex = firstPlayer;
+        while (state.isBankrupt(turnOrder[orderIndex])) {
+            orderIndex = (orderIndex + 1) % players;
+        }
+        bankruptcies = 0;
+    }
+
+    private static void shuffle(int[] values, int length, SplittableRandom random) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    /**
+     * Plays a game from reset() until one player is left or the turn limit is reached.
+     *
+     * @param maxTurns Turn limit after which the game is scored on balances
+     * @return the result of the game
+     * Team member(s) responsible: Giovanny
+     */
+    public GameResult play(int maxTurns) {
+        int turns = 0;
+        while (state.getActivePlayers() > 1 && turns < maxTurns) {
+            playTurn();
+            turns++;
+        }
+        return buildResult(turns);
+    }
+
+    /**
+     * Plays one turn for the current player, including extra rolls for doubles,
+     * then passes the turn to the next player still in the game.
+     * Team member(s) responsible: Giovanny
+     */
+    public void playTurn() {
+        int player = turnOrder[orderIndex];
+        takeTurn(player);
+        do {
+            orderIndex = (orderIndex + 1) % players;
+        } while (state.isBankrupt(turnOrder[orderIndex]));
+    }
+
+    private void takeTurn(int player) {
+        int doublesRolled = 0;
+        boolean rollAgain;
+        do {
+            int roll = nextRoll();
+            int die1 = GameRandom.firstDie(roll);
+            int die2 = GameRandom.secondDie(roll);
+            boolean isDouble = die1 == die2;
+            rollAgain = false;
+
+            if (state.isInJail(player)) {
+                if (!leaveJail(player, isDouble)) {
+                    return;
+                }
+            } else if (isDouble) {
+                doublesRolled++;
+                if (doublesRolled == 3) {
+                    sendToJail(player);
+                    return;
+                }
+                rollAgain = true;
+            }
+            advance(player, die1 + die2);
+        } while (rollAgain && !state.isInJail(player) && !state.isBankrupt(player));
+    }
+
+    // Rolls come from a pre-generated buffer, refilled from the dice stream in bulk
+    private int nextRoll() {
+        if (rollIndex == ROLL_BUFFER) {
+            GameRandom.fillRolls(dice, rolls);
+            rollIndex = 0;
+        }
+        return rolls[rollIndex++];
+    }
+
+    private boolean leaveJail(int player, boolean isDouble) {
+        if (isDouble) {
+            state.setInJail(player, false);
+            return true;
+        }
+        if (state.getJailFreeCards(player) > 0) {
+            state.addJailFreeCards(player, -1);
+            returnJailFreeCard(player);
+            state.setInJail(player, false);
+            return true;
+        }
+        state.incrementJailTurns(player);
+        if (state.getJailTurns(player) >= MAX_JAIL_TURNS) {
+            if (!pay(player, JAIL_FINE)) {
+                return false;
+            }
+            state.setInJail(player, false);
+            return true;
+        }
+        return false;
+    }
+
+    private void sendToJail(int player) {
+        state.setPosition(player, JAIL_POSITION);
+        state.setInJail(player, true);
+    }
+
+    private void advance(int player, int steps) {
+        int from = state.getPosition(player);
+        int to = (from + steps) % BoardLayout.SPACES;
+        state.setPosition(player, to);
+        // Landing exactly on GO pays through the GO space itself
+        if (from + steps > BoardLayout.SPACES) {
+            state.addBalance(player, GO_MONEY);
+        }
+        resolveLanding(player, to);
+    }
+
+    /**
+     * Moves the player forward to a card's target, paying GO money when the move passes it.
+     */
+    private void advanceTo(int player, int target) {
+        moveForwardTo(player, target);
+        if (layout.isOwnable(target)) {
+            resolveOwnable(player, target);
+        }
+    }
+
+    /**
+     * Nearest railroad or utility card: an owned one charges the multiplier times
+     * the railroad's rent, or times a fresh roll for a utility.
+     */
+    private void advanceToNearest(int player, int target, int multiplier) {
+        moveForwardTo(player, target);
+        int owner = state.getOwner(target);
+        if (owner == GameState.NO_OWNER) {
+            offerPurchase(player, target);
+        } else if (owner != player && !state.isMortgaged(target)) {
+            int rent;
+            if (layout.kind(target) == BoardLayout.KIND_UTILITY) {
+                int roll = nextRoll();
+                rent = (GameRandom.firstDie(roll) + GameRandom.secondDie(roll)) * multiplier;
+            } else {
+                rent = rent(owner, target) * multiplier;
+            }
+            if (pay(player, rent)) {
+                state.addBalance(owner, rent);
+            }
+        }
+    }
+
+    private void moveForwardTo(int player, int target) {
+        if (target <= state.getPosition(player)) {
+            state.addBalance(player, GO_MONEY);
+        }
+        state.setPosition(player, target);
+    }
+
+    private void resolveLanding(int player, int space) {
+        switch (layout.kind(space)) {
+            case BoardLayout.KIND_GO:
+                state.addBalance(player, GO_MONEY);
+                break;
+            case BoardLayout.KIND_PROPERTY:
+            case BoardLayout.KIND_RAILROAD:
+            case BoardLayout.KIND_UTILITY:
+                resolveOwnable(player, space);
+                break;
+            case BoardLayout.KIND_INCOME_TAX:
+                pay(player, Math.min(INCOME_TAX, (int) (state.getBalance(player) * INCOME_TAX_RATE)));
+                break;
+            case BoardLayout.KIND_LUXURY_TAX:
+                pay(player, LUXURY_TAX);
+                break;
+            case BoardLayout.KIND_CHANCE:
+                drawCard(CardTable.CHANCE, chanceDeck, player);
+                break;
+            case BoardLayout.KIND_COMMUNITY_CHEST:
+                drawCard(CardTable.COMMUNITY_CHEST, chestDeck, player);
+                break;
+            case BoardLayout.KIND_GO_TO_JAIL:
+                sendToJail(player);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void resolveOwnable(int player, int space) {
+        int owner = state.getOwner(space);
+        if (owner == GameState.NO_OWNER) {
+            offerPurchase(player, space);
+        } else if (owner != player) {
+            int rent = rent(owner, space);
+            if (pay(player, rent)) {
+                state.addBalance(owner, rent);
+            }
+        }
+    }
+
+    private int rent(int owner, int space) {
+        if (state.isMortgaged(space)) {
+            return 0;
+        }
+        switch (layout.kind(space)) {
+            case BoardLayout.KIND_RAILROAD:
+                return RentTable.getRailroadRent(state.countOwned(owner, BoardLayout.KIND_RAILROAD, layout));
+            case BoardLayout.KIND_UTILITY:
+                int roll = nextRoll();
+                return (GameRandom.firstDie(roll) + GameRandom.secondDie(roll)) * RentTable.getUtilityMultiplier(state.countOwned(owner, BoardLayout.KIND_UTILITY, layout));
+            default:
+                return layout.rent(space, state.getBuildingLevel(space),
+                        state.ownsGroup(owner, layout.group(space), layout));
+        }
+    }
+
+    private void offerPurchase(int player, int space) {
+        if (strategy.shouldBuy(state, layout, player, space, playerRandom[player])) {
+            if (pay(player, layout.price(space))) {
+                state.setOwner(space, player);
+            }
+        } else {
+            auction(space);
+        }
+    }
+
+    /**
+     * Single-round sealed auction in seat order. Each bid is drawn between the minimum raise and the
+     * bidder's limit, so the winner pays close to its own limit; HeadlessGame's ascending auction
+     * stops just above the second-highest limit instead.
+     */
+    private void auction(int space) {
+        auction(space, 0, GameState.NO_OWNER, 0);
+    }
+
+    /**
+     * Finishes an auction that is under way: the seats from firstBidder on bid in order,
+     * and the space goes to the highest bid.
+     *
+     * @param space       The space being auctioned
+     * @param firstBidder Seat of the next player to bid
+     * @param leader      Seat of the highest bidder so far, or NO_OWNER
+     * @param leadingBid  The highest bid so far
+     * Team member(s) responsible: Giovanny
+     */
+    public void auction(int space, int firstBidder, int leader, int leadingBid) {
+        int winner = leader;
+        int highestBid = leadingBid;
+        for (int bidder = firstBidder; bidder < players; bidder++) {
+            if (state.isBankrupt(bidder)) {
+                continue;
+            }
+            int bid = strategy.bid(state, layout, bidder, space, highestBid, playerRandom[bidder]);
+            if (bid > highestBid) {
+                highestBid = bid;
+                winner = bidder;
+            }
+        }
+        if (winner != GameState.NO_OWNER) {
+            state.addBalance(winner, -highestBid);
+            state.setOwner(space, winner);
+        }
+    }
+
+    /**
+     * Draws and plays a card, the same way CardEffects plays it on the model.
+     */
+    private void drawCard(CardTable table, CardDeck deck, int player) {
+        int card = deck.draw();
+        int value = table.value(card);
+        int position = state.getPosition(player);
+        switch (table.operation(card)) {
+            case CardTable.MOVE_TO:
+                advanceTo(player, value);
+                break;
+            case CardTable.MOVE_TO_NEAREST_RAILROAD:
+                advanceToNearest(player, CardTable.nearestRailroad(position), value);
+                break;
+            case CardTable.MOVE_TO_NEAREST_UTILITY:
+                advanceToNearest(player, CardTable.nearestUtility(position), value);
+                break;
+            case CardTable.MOVE_BACK:
+                int back = (position - value + BoardLayout.SPACES) % BoardLayout.SPACES;
+                state.setPosition(player, back);
+                resolveLanding(player, back);
+                break;
+            case CardTable.GO_TO_JAIL:
+                sendToJail(player);
+                break;
+            case CardTable.COLLECT:
+                state.addBalance(player, value);
+                break;
+            case CardTable.PAY:
+                pay(player, value);
+                break;
+            case CardTable.JAIL_FREE:
+                state.addJailFreeCards(player, 1);
+                if (deck == chanceDeck) {
+                    chanceJailFreeHolder = player;
+                } else {
+                    chestJailFreeHolder = player;
+                }
+                break;
+            case CardTable.REPAIRS:
+                pay(player, repairCost(player, value, table.hotelValue(card)));
+                break;
+            case CardTable.PAY_EACH_PLAYER:
+                for (int other = 0; other < players; other++) {
+                    if (other != player && !state.isBankrupt(other)) {
+                        if (!pay(player, value)) {
+                            break;
+                        }
+                        state.addBalance(other, value);
+                    }
+                }
+                break;
+            case CardTable.COLLECT_FROM_EACH_PLAYER:
+                for (int other = 0; other < players; other++) {
+                    if (other != player && !state.isBankrupt(other)) {
+                        int gift = Math.min(value, state.getBalance(other));
+                        state.addBalance(other, -gift);
+                        state.addBalance(player, gift);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private int repairCost(int player, int perHouse, int perHotel) {
+        int cost = 0;
+        long owned = state.getOwnedMask(player);
+        while (owned != 0) {
+            int space = Long.numberOfTrailingZeros(owned);
+            owned &= owned - 1;
+            int level = state.getBuildingLevel(space);
+            cost += level == BoardLayout.HOTEL_LEVEL ? perHotel : level * perHouse;
+        }
+        return cost;
+    }
+
+    /**
+     * Takes money from the player, or makes them bankrupt if they cannot pay,
+     * the same as an InsufficientFundsException in the model.
+     *
+     * @return true if the player paid
+     */
+    private boolean pay(int player, int amount) {
+        if (state.getBalance(player) < amount) {
+            // Like their property, a bankrupt player's cards go back to the bank
+            for (int card = state.getJailFreeCards(player); card > 0; card--) {
+                returnJailFreeCard(player);
+            }
+            state.declareBankrupt(player);
+            bankruptcies++;
+            return false;
+        }
+        state.addBalance(player, -amount);
+        return true;
+    }
+
+    /**
+     * Puts a Get Out of Jail Free card the player holds back at the bottom of its deck.
+     *
+     * @return false if the player held none
+     */
+    private boolean returnJailFreeCard(int player) {
+        if (chanceJailFreeHolder == player) {
+            chanceJailFreeHolder = NO_HOLDER;
+            chanceDeck.putBack(CardTable.CHANCE.jailFreeCard());
+            return true;
+        }
+        if (chestJailFreeHolder == player) {
+            chestJailFreeHolder = NO_HOLDER;
+            chestDeck.putBack(CardTable.COMMUNITY_CHEST.jailFreeCard());
+            return true;
+        }
+        return false;
+    }
+
+    private GameResult buildResult(int turns) {
+        int[] balances = new int[players];
+        int winnerSeat = -1;
+        for (int seat = 0; seat < players; seat++) {
+            if (state.isBankrupt(seat)) {
+                continue;
+            }
+            balances[seat] = state.getBalance(seat);
+            if (winnerSeat < 0 || balances[seat] > balances[winnerSeat]) {
+                winnerSeat = seat;
+            }
+        }
+        return new GameResult(seed, winnerSeat, turns, bankruptcies, state.getActivePlayers() > 1, balances);
+    }
+
+    /**
+     * @return the board the game is played on
+     * Team member(s) responsible: Giovanny
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @return the state of the game being played
+     * Team member(s) responsible: Giovanny
+     */
+    public GameState getState() {
+        return state;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Decisions a CPU makes in the compact simulation engine.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Decisions a CPU makes in the compact engine. Implementations must not allocate,
+ * since they are called from the turn loop.
+ * Team member(s) responsible: Giovanny
+ */
+public interface CompactStrategy {
+
+    /**
+     * Decide whether the player buys the unowned space they landed on.
+     *
+     * @param state  The game
+     * @param layout The board
+     * @param player Seat of the player deciding
+     * @param space  The space for sale
+     * @param random The player's random source
+     * @return true to buy at the printed price, false to send it to auction
+     */
+    boolean shouldBuy(GameState state, BoardLayout layout, int player, int space, SplittableRandom random);
+
+    /**
+     * Decide the player's bid in a single-round auction.
+     *
+     * @param state      The game
+     * @param layout     The board
+     * @param player     Seat of the bidder
+     * @param space      The space being auctioned
+     * @param highestBid The highest bid so far
+     * @param random     The player's random source
+     * @return the bid, or 0 to pass
+     */
+    int bid(GameState state, BoardLayout layout, int player, int space, int highestBid, SplittableRandom random);
+}
@@ -0,0 +1,90 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The CpuController's buying and bidding rules for the compact engine.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Controller.CpuProfile;
+import Model.Analysis.PropertyValuation;
+
+import java.util.SplittableRandom;
+
+/**
+ * The CpuController's buying and bidding rules, with the thresholds of a CpuProfile, for the compact engine.
+ * Like the CpuController, every seat keeps a PropertyValuation, made on its first decision
+ * and updated before each one after that.
+ * The CpuController's bankruptcy risk check is left out to keep the compact engine fast.
+ * Team member(s) responsible: Giovanny
+ */
+public class DefaultCompactStrategy implements CompactStrategy {
+
+    private static final int MIN_BID_INCREMENT = 5;
+
+    private final CpuProfile profile;
+    private final PropertyValuation[] valuations = new PropertyValuation[GameState.MAX_PLAYERS];
+
+    /**
+     * Constructor for DefaultCompactStrategy, deciding with the thresholds the CPU has always played with
+     * Team member(s) responsible: Giovanny
+     */
+    public DefaultCompactStrategy() {
+        this(CpuProfile.DEFAULT);
+    }
+
+    /**
+     * Constructor for DefaultCompactStrategy
+     *
+     * @param profile The thresholds every seat decides with
+     * Team member(s) responsible: Giovanny
+     */
+    public DefaultCompactStrategy(CpuProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Buys when the price leaves the profile's purchase reserve in hand and the space is worth
+     * the profile's share of the price to the player.
+     * Team member(s) responsible: Giovanny
+     */
+    @Override
+    public boolean shouldBuy(GameState state, BoardLayout layout, int player, int space, SplittableRandom random) {
+        if (state.getBalance(player) < layout.price(space) + profile.getPurchaseReserve()) {
+            return false;
+        }
+        return value(state, layout, player, space) >= layout.price(space) * profile.getBuyValueRatio();
+    }
+
+    /**
+     * Bids somewhere between the minimum raise and the profile's share of the space's value to the player,
+     * keeping the profile's bid reserve in hand.
+     * Team member(s) responsible: Giovanny
+     */
+    @Override
+    public int bid(GameState state, BoardLayout layout, int player, int space, int highestBid, SplittableRandom random) {
+        int balance = state.getBalance(player);
+        int minBid = highestBid + MIN_BID_INCREMENT;
+        int reserve = profile.getBidReserve();
+        if (balance < minBid + reserve) {
+            return 0;
+        }
+        int maxBid = Math.min((int) (value(state, layout, player, space) * profile.getMaxBidPercentOfValue()),
+                balance - reserve);
+        if (maxBid < minBid) {
+            return 0;
+        }
+        return minBid + random.nextInt(maxBid - minBid + 1);
+    }
+
+    private int value(GameState state, BoardLayout layout, int player, int space) {
+        PropertyValuation valuation = valuations[player];
+        if (valuation == null) {
+            valuation = new PropertyValuation(layout);
+            valuations[player] = valuation;
+        }
+        valuation.update(state, player);
+        return valuation.getValue(space);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Keeps an Elo rating for every strategy in a tournament.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import java.util.Arrays;
+
+/**
+ * Elo ratings of the strategies in a tournament. Every rating starts at INITIAL_RATING, and after
+ * each game both players move by the K-factor times how far the score was from the expected one.
+ * Team member(s) responsible: Giovanny
+ */
+public final class EloRatings {
+
+    public static final double INITIAL_RATING = 1500;
+    public static final double DEFAULT_K_FACTOR = 16;
+
+    private final double[] ratings;
+    private final double kFactor;
+
+    /**
+     * @param entrants Number of strategies
+     * @param kFactor  Most a rating moves after one game
+     * Team member(s) responsible: Giovanny
+     */
+    public EloRatings(int entrants, double kFactor) {
+        if (kFactor <= 0) {
+            throw new IllegalArgumentException("The K-factor must be positive");
+        }
+        this.ratings = new double[entrants];
+        this.kFactor = kFactor;
+        Arrays.fill(ratings, INITIAL_RATING);
+    }
+
+    /**
+     * @param difference The player's rating less the opponent's
+     * @return the score the player is expected to make against the opponent, from 0 to 1
+     * Team member(s) responsible: Giovanny
+     */
+    public static double expectedScore(double difference) {
+        return 1 / (1 + Math.pow(10, -difference / 400));
+    }
+
+    /**
+     * Moves both ratings after one game.
+     *
+     * @param first  One player
+     * @param second The other player
+     * @param score  The first player's score: 1 for a win, 0.5 for a draw, 0 for a loss
+     * Team member(s) responsible: Giovanny
+     */
+    public void record(int first, int second, double score) {
+        double change = kFactor * (score - expectedScore(ratings[first] - ratings[second]));
+        ratings[first] += change;
+        ratings[second] -= change;
+    }
+
+    /**
+     * @param entrant A strategy
+     * @return its rating
+     * Team member(s) responsible: Giovanny
+     */
+    public double getRating(int entrant) {
+        return ratings[entrant];
+    }
+}
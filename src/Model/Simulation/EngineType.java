@@ -0,0 +1,14 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: This enum selects which engine plays the games of a simulation batch.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+public enum EngineType {
+
+    COMPACT, // CompactGame over the primitive GameState: fast, but buys and pays only (see CompactGame)
+    MODEL    // HeadlessGame over the full object model, with the CPU's builds, mortgages and trades; the default
+}
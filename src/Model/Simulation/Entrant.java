@@ -0,0 +1,46 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: One CPU strategy taking part in a tournament.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Controller.CpuControllerFactory;
+
+/**
+ * One CPU strategy taking part in a tournament: a name for the report and the factory that makes
+ * its controller. The factory is called once per game, from any of the tournament's threads,
+ * so anything it shares between games, such as an MctsSearch, must be thread-safe.
+ * Team member(s) responsible: Giovanny
+ */
+public final class Entrant {
+
+    private final String name;
+    private final CpuControllerFactory factory;
+
+    /**
+     * @param name    Name of the strategy
+     * @param factory Makes the strategy's controller for a seat
+     * Team member(s) responsible: Giovanny
+     */
+    public Entrant(String name, CpuControllerFactory factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * @return Name of the strategy
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the factory that makes the strategy's controller
+     */
+    public CpuControllerFactory getFactory() {
+        return factory;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The outcome of one headless game.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+/**
+ * The outcome of one headless game.
+ * Seats are numbered in the order the players were created, not in turn order.
+ * Team member(s) responsible: Giovanny
+ */
+public class GameResult {
+
+    private final long seed;
+    private final int winnerSeat;
+    private final int turns;
+    private final int bankruptcies;
+    private final boolean turnLimitReached;
+    private final int[] finalBalances;
+
+    /**
+     * Constructor for GameResult
+     *
+     * @param seed             Seed the game was played with
+     * @param winnerSeat       Seat of the winner
+     * @param turns            Number of turns played
+     * @param bankruptcies     Number of players who went bankrupt
+     * @param turnLimitReached true if the game was stopped by the turn limit
+     * @param finalBalances    Balance per seat at the end of the game (0 if bankrupt)
+     * Team member(s) responsible: Giovanny
+     */
+    public GameResult(long seed, int winnerSeat, int turns, int bankruptcies,
+                      boolean turnLimitReached, int[] finalBalances) {
+        this.seed = seed;
+        this.winnerSeat = winnerSeat;
+        this.turns = turns;
+        this.bankruptcies = bankruptcies;
+        this.turnLimitReached = turnLimitReached;
+        this.finalBalances = finalBalances;
+    }
+
+    /**
+     * @return Seed the game was played with
+     * Team member(s) responsible: Giovanny
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Seat of the winner
+     * Team member(s) responsible: Giovanny
+     */
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    /**
+     * @return Number of turns played
+     * Team member(s) responsible: Giovanny
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * @return Number of players who went bankrupt
+     * Team member(s) responsible: Giovanny
+     */
+    public int getBankruptcies() {
+        return bankruptcies;
+    }
+
+    /**
+     * @return true if the game was stopped by the turn limit
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean isTurnLimitReached() {
+        return turnLimitReached;
+    }
+
+    /**
+     * @param seat The seat to look up
+     * @return Balance of the seat at the end of the game
+     * Team member(s) responsible: Giovanny
+     */
+    public int getFinalBalance(int seat) {
+        return finalBalances[seat];
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Compact, primitive-only state of one game for the simulation engine:
+ * one small array per field instead of Player, Banker and Property objects.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Model.Board.Banker;
+import Model.Board.GameBoard;
+import Model.Board.OwnershipMask;
+import Model.Board.Player;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.Property.Property;
+import Model.Spaces.BoardSpace;
+
+import java.util.List;
+
+/**
+ * Struct-of-arrays game state. Players are seats 0..playerCount-1 and spaces are board positions.
+ * Nothing here allocates after construction, so a state can be reset and reused for game after game.
+ * Team member(s) responsible: Giovanny
+ */
+public final class GameState {
+
+    public static final int MAX_PLAYERS = 4;
+    public static final int NO_OWNER = -1;
+    public static final int STARTING_BALANCE = 1500;
+    public static final int TOTAL_HOUSES = 32;
+    public static final int TOTAL_HOTELS = 12;
+
+    private int playerCount;
+    private int activePlayers;
+    private final int[] balance = new int[MAX_PLAYERS];
+    private final int[] position = new int[MAX_PLAYERS];
+    private final boolean[] inJail = new boolean[MAX_PLAYERS];
+    private final byte[] jailTurns = new byte[MAX_PLAYERS];
+    private final byte[] jailFreeCards = new byte[MAX_PLAYERS];
+    private final boolean[] bankrupt = new boolean[MAX_PLAYERS];
+    private final long[] ownedMask = new long[MAX_PLAYERS];
+
+    private final byte[] owner = new byte[BoardLayout.SPACES];
+    private final byte[] buildingLevel = new byte[BoardLayout.SPACES];
+    private final boolean[] mortgaged = new boolean[BoardLayout.SPACES];
+    private int housesLeft;
+    private int hotelsLeft;
+
+    /**
+     * Puts every player on GO with the starting balance and returns all property to the bank.
+     *
+     * @param players Number of players (2-4)
+     * Team member(s) responsible: Giovanny
+     */
+    public void reset(int players) {
+        if (players < 2 || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Monopoly requires 2 to 4 players.");
+        }
+        playerCount = players;
+        activePlayers = players;
+        for (int p = 0; p < MAX_PLAYERS; p++) {
+            balance[p] = p < players ? STARTING_BALANCE : 0;
+            position[p] = 0;
+            inJail[p] = false;
+            jailTurns[p] = 0;
+            jailFreeCards[p] = 0;
+            bankrupt[p] = p >= players;
+            ownedMask[p] = 0;
+        }
+        for (int space = 0; space < BoardLayout.SPACES; space++) {
+            owner[space] = NO_OWNER;
+            buildingLevel[space] = 0;
+            mortgaged[space] = false;
+        }
+        housesLeft = TOTAL_HOUSES;
+        hotelsLeft = TOTAL_HOTELS;
+    }
+
+    /**
+     * Copies a game in progress from the object model, so the analysis code can work on it
+     * without touching the model. Seats follow the order of the list.
+     *
+     * @param players The players still in the game (2-4)
+     * @param banker  The banker of their game
+     * @param board   The board of their game
+     * @throws PlayerNotFoundException if a player is not known to the banker
+     * Team member(s) responsible: Giovanny
+     */
+    public void copyFrom(List<Player> players, Banker banker, GameBoard board) throws PlayerNotFoundException {
+        reset(players.size());
+        for (int seat = 0; seat < playerCount; seat++) {
+            Player player = players.get(seat);
+            balance[seat] = banker.getBalance(player);
+            position[seat] = player.getPosition();
+            inJail[seat] = player.isInJail();
+            jailTurns[seat] = (byte) player.getTurnsInJail();
+            jailFreeCards[seat] = (byte) player.getGetOutOfJailFreeCard();
+            long owned = player.getOwnedSpaces();
+            while (owned != 0) {
+                int space = Long.numberOfTrailingZeros(owned);
+                owned &= owned - 1;
+                setOwner(space, seat);
+                BoardSpace boardSpace = board.getSpace(space);
+                if (boardSpace instanceof Property) {
+                    Property property = (Property) boardSpace;
+                    setBuildingLevel(space, property.hasHotel() ? BoardLayout.HOTEL_LEVEL : property.getNumHouses());
+                    mortgaged[space] = property.isMortgaged();
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes this state an exact copy of another one, e.g. to play a rollout from it.
+     * Nothing is allocated.
+     *
+     * @param other The state to copy
+     * Team member(s) responsible: Giovanny
+     */
+    public void copyFrom(GameState other) {
+        playerCount = other.playerCount;
+        activePlayers = other.activePlayers;
+        System.arraycopy(other.balance, 0, balance, 0, MAX_PLAYERS);
+        System.arraycopy(other.position, 0, position, 0, MAX_PLAYERS);
+        System.arraycopy(other.inJail, 0, inJail, 0, MAX_PLAYERS);
+        System.arraycopy(other.jailTurns, 0, jailTurns, 0, MAX_PLAYERS);
+        System.arraycopy(other.jailFreeCards, 0, jailFreeCards, 0, MAX_PLAYERS);
+        System.arraycopy(other.bankrupt, 0, bankrupt, 0, MAX_PLAYERS);
+        System.arraycopy(other.ownedMask, 0, ownedMask, 0, MAX_PLAYERS);
+        System.arraycopy(other.owner, 0, owner, 0, BoardLayout.SPACES);
+        System.arraycopy(other.buildingLevel, 0, buildingLevel, 0, BoardLayout.SPACES);
+        System.arraycopy(other.mortgaged, 0, mortgaged, 0, BoardLayout.SPACES);
+        housesLeft = other.housesLeft;
+        hotelsLeft = other.hotelsLeft;
+    }
+
+    /**
+     * @return Number of seats in the game
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * @return Number of players who are not bankrupt
+     */
+    public int getActivePlayers() {
+        return activePlayers;
+    }
+
+    /**
+     * @param player Seat
+     * @return the first seat after the player, in seat order, that is not bankrupt
+     */
+    public int nextActiveSeat(int player) {
+        int next = player;
+        do {
+            next = (next + 1) % playerCount;
+        } while (bankrupt[next] && next != player);
+        return next;
+    }
+
+    /**
+     * @param player Seat
+     * @return Cash of the player
+     */
+    public int getBalance(int player) {
+        return balance[player];
+    }
+
+    /**
+     * Adds (or with a negative amount, removes) cash. Callers check affordability first.
+     * @param player Seat
+     * @param amount Amount to add
+     */
+    public void addBalance(int player, int amount) {
+        balance[player] += amount;
+    }
+
+    /**
+     * @param player Seat
+     * @return Board position of the player
+     */
+    public int getPosition(int player) {
+        return position[player];
+    }
+
+    /**
+     * @param player   Seat
+     * @param newSpace Board position
+     */
+    public void setPosition(int player, int newSpace) {
+        position[player] = newSpace;
+    }
+
+    /**
+     * @param player Seat
+     * @return true if the player is in jail
+     */
+    public boolean isInJail(int player) {
+        return inJail[player];
+    }
+
+    /**
+     * Puts the player in jail or releases them; either way the jail turn counter starts over.
+     * @param player Seat
+     * @param jailed true to jail the player
+     */
+    public void setInJail(int player, boolean jailed) {
+        inJail[player] = jailed;
+        jailTurns[player] = 0;
+    }
+
+    /**
+     * @param player Seat
+     * @return Turns the player has spent in jail
+     */
+    public int getJailTurns(int player) {
+        return jailTurns[player];
+    }
+
+    /**
+     * @param player Seat
+     */
+    public void incrementJailTurns(int player) {
+        jailTurns[player]++;
+    }
+
+    /**
+     * @param player Seat
+     * @return Number of Get Out of Jail Free cards held
+     */
+    public int getJailFreeCards(int player) {
+        return jailFreeCards[player];
+    }
+
+    /**
+     * @param player Seat
+     * @param change Cards gained (positive) or used (negative)
+     */
+    public void addJailFreeCards(int player, int change) {
+        int cards = jailFreeCards[player] + change;
+        // One card in each deck, so a player holds at most two
+        if (cards < 0 || cards > 2) {
+            throw new IllegalArgumentException("A player cannot hold " + cards + " Get Out of Jail Free cards");
+        }
+        jailFreeCards[player] = (byte) cards;
+    }
+
+    /**
+     * @param player Seat
+     * @return true if the player went bankrupt
+     */
+    public boolean isBankrupt(int player) {
+        return bankrupt[player];
+    }
+
+    /**
+     * Takes the player out of the game. Their property goes back to the bank unimproved,
+     * and their Get Out of Jail Free cards to the decks.
+     * @param player Seat
+     */
+    public void declareBankrupt(int player) {
+        if (bankrupt[player]) {
+            return;
+        }
+        bankrupt[player] = true;
+        balance[player] = 0;
+        jailFreeCards[player] = 0;
+        activePlayers--;
+        long owned = ownedMask[player];
+        while (owned != 0) {
+            int space = Long.numberOfTrailingZeros(owned);
+            owned &= owned - 1;
+            releaseBuildings(space);
+            owner[space] = NO_OWNER;
+            mortgaged[space] = false;
+        }
+        ownedMask[player] = 0;
+    }
+
+    private void releaseBuildings(int space) {
+        int level = buildingLevel[space];
+        if (level == BoardLayout.HOTEL_LEVEL) {
+            hotelsLeft++;
+        } else {
+            housesLeft += level;
+        }
+        buildingLevel[space] = 0;
+    }
+
+    /**
+     * @param space Board position
+     * @return Seat of the owner, or NO_OWNER
+     */
+    public int getOwner(int space) {
+        return owner[space];
+    }
+
+    /**
+     * @param space  Board position
+     * @param player Seat of the new owner, or NO_OWNER
+     */
+    public void setOwner(int space, int player) {
+        int previous = owner[space];
+        if (previous != NO_OWNER) {
+            ownedMask[previous] &= ~OwnershipMask.bit(space);
+        }
+        owner[space] = (byte) player;
+        if (player != NO_OWNER) {
+            ownedMask[player] |= OwnershipMask.bit(space);
+        }
+    }
+
+    /**
+     * @param player Seat
+     * @return OwnershipMask of the positions the player owns
+     */
+    public long getOwnedMask(int player) {
+        return ownedMask[player];
+    }
+
+    /**
+     * @param space Board position
+     * @return 0 unimproved, 1-4 houses, 5 hotel
+     */
+    public int getBuildingLevel(int space) {
+        return buildingLevel[space];
+    }
+
+    /**
+     * Sets the building level and keeps the bank's house and hotel supply in step.
+     * @param space Board position
+     * @param level 0 unimproved, 1-4 houses, 5 hotel
+     */
+    public void setBuildingLevel(int space, int level) {
+        releaseBuildings(space);
+        if (level == BoardLayout.HOTEL_LEVEL) {
+            hotelsLeft--;
+        } else {
+            housesLeft -= level;
+        }
+        buildingLevel[space] = (byte) level;
+    }
+
+    /**
+     * @param space Board position
+     * @return true if the space is mortgaged
+     */
+    public boolean isMortgaged(int space) {
+        return mortgaged[space];
+    }
+
+    /**
+     * @param space        Board position
+     * @param isMortgaged  true to mortgage the space
+     */
+    public void setMortgaged(int space, boolean isMortgaged) {
+        mortgaged[space] = isMortgaged;
+    }
+
+    /**
+     * @return Houses still in the bank
+     */
+    public int getHousesLeft() {
+        return housesLeft;
+    }
+
+    /**
+     * @return Hotels still in the bank
+     */
+    public int getHotelsLeft() {
+        return hotelsLeft;
+    }
+
+    /**
+     * Counts the spaces of one kind the player owns, e.g. railroads for rent.
+     * @param player Seat
+     * @param kind   One of the BoardLayout.KIND_ constants
+     * @param layout The board
+     * @return Number of spaces of that kind owned
+     */
+    public int countOwned(int player, byte kind, BoardLayout layout) {
+        return OwnershipMask.count(ownedMask[player], layout.kindMask(kind));
+    }
+
+    /**
+     * @param player Seat
+     * @param group  PropertyColor ordinal
+     * @param layout The board
+     * @return true if the player owns every property of the color group
+     */
+    public boolean ownsGroup(int player, int group, BoardLayout layout) {
+        return OwnershipMask.ownsAll(ownedMask[player], layout.groupMask(group));
+    }
+}
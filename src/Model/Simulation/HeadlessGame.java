@@ -0,0 +1,465 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Plays one complete CPU-vs-CPU game on the model without any GUI.
+ * It follows the same rules as the BoardController's CPU turn, minus the Swing timers.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Controller.CpuController;
+import Controller.CpuControllerFactory;
+import Model.Board.AscendingAuction;
+import Model.Board.Banker;
+import Model.Board.ComputerPlayer;
+import Model.Board.Dice;
+import Model.Board.GameBoard;
+import Model.Board.Player;
+import Model.Board.TurnManager;
+import Model.Cards.ChanceCard;
+import Model.Cards.CommunityChestCard;
+import Model.Exceptions.InsufficientFundsException;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.Game;
+import Model.GameContext;
+import Model.GameRandom;
+import Model.Jfr.AuctionEvent;
+import Model.Jfr.LandingEvent;
+import Model.Jfr.MoveEvent;
+import Model.Jfr.RollEvent;
+import Model.Metrics.MetricsRegistry;
+import Model.Property.Property;
+import Model.Search.ActionType;
+import Model.Search.Trade;
+import Model.Spaces.BoardSpace;
+import Model.Spaces.ChanceSpace;
+import Model.Spaces.CommunityChestSpace;
+import Model.Spaces.GoToJailSpace;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Plays one complete CPU-vs-CPU game on the model without any GUI.
+ * All randomness (turn order, dice, decks and CPU decisions) comes from the game seed,
+ * so the same seed always plays the same game.
+ * Each game owns its own GameContext, so many can run side by side.
+ * Team member(s) responsible: Giovanny
+ */
+public class HeadlessGame {
+
+    private static final int BOARD_SIZE = 40;
+    private static final int JAIL_POSITION = 10;
+    private static final int JAIL_FINE = 50;
+    private static final int MAX_JAIL_TURNS = 3;
+
+    private final int playerCount;
+    private final long seed;
+    private final int maxTurns;
+
+    private Banker banker;
+    private GameBoard board;
+    private Dice dice;
+    private ChanceCard chanceDeck;
+    private CommunityChestCard communityChestDeck;
+    private TurnManager turnManager;
+    private final List<Player> seats;
+    private final List<Player> activePlayers;
+    private final Map<Player, CpuController> controllers;
+    private int bankruptcies;
+    private LatencyHistogram turnLatency;
+    private CpuControllerFactory controllerFactory = CpuControllerFactory.DEFAULT;
+
+    /**
+     * Constructor for HeadlessGame
+     *
+     * @param playerCount Number of CPU players (2-4)
+     * @param seed        Seed for every random decision in the game
+     * @param maxTurns    Turn limit after which the game is scored on balances
+     * Team member(s) responsible: Giovanny
+     */
+    public HeadlessGame(int playerCount, long seed, int maxTurns) {
+        this.playerCount = playerCount;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+        this.seats = new ArrayList<>();
+        this.activePlayers = new ArrayList<>();
+        this.controllers = new HashMap<>();
+    }
+
+    /**
+     * Times every turn of the game into the histogram. Off unless set, so batches pay nothing for it.
+     * @param turnLatency Where the turn durations are recorded
+     * Team member(s) responsible: Giovanny
+     */
+    public void setTurnLatency(LatencyHistogram turnLatency) {
+        this.turnLatency = turnLatency;
+    }
+
+    /**
+     * Chooses the controller for each seat, e.g. to seat a search CPU against value-based ones.
+     * @param controllerFactory Makes the controller for each seat
+     * Team member(s) responsible: Giovanny
+     */
+    public void setControllerFactory(CpuControllerFactory controllerFactory) {
+        this.controllerFactory = controllerFactory;
+    }
+
+    /**
+     * Plays the game until one player is left or the turn limit is reached.
+     *
+     * @return the result of the game
+     * Team member(s) responsible: Giovanny
+     */
+    public GameResult play() {
+        setUp();
+        int turns = 0;
+        while (activePlayers.size() > 1 && turns < maxTurns) {
+            Player player = turnManager.getCurrentPlayer();
+            boolean stillPlaying;
+            if (turnLatency == null) {
+                stillPlaying = playTurn(player);
+            } else {
+                long start = System.nanoTime();
+                stillPlaying = playTurn(player);
+                turnLatency.record(System.nanoTime() - start);
+            }
+            turns++;
+            // A bankrupt player was removed from the turn order, which already moved the turn on
+            if (stillPlaying) {
+                turnManager.nextTurn();
+            }
+        }
+        return buildResult(turns);
+    }
+
+    /**
+     * Builds a fresh GameContext and seats the CPU players.
+     * Nothing is shared with the GUI singletons or with other games.
+     * Team member(s) responsible: Giovanny
+     */
+    private void setUp() {
+        GameRandom random = new GameRandom(seed);
+        GameContext context = new GameContext(random);
+        Game game = new Game(context);
+        board = context.getBoard();
+        banker = context.getBanker();
+        dice = context.getDice();
+        chanceDeck = context.getChanceCard();
+        communityChestDeck = context.getCommunityChestCard();
+
+        chanceDeck.cardRestore();
+        communityChestDeck.cardRestore();
+        for (BoardSpace space : board.getBoardElements()) {
+            if (space.getPurchasePrice() > 0) {
+                banker.addAvailableProperty(space);
+            }
+        }
+
+        for (int i = 0; i < playerCount; i++) {
+            ComputerPlayer cpu = new ComputerPlayer("CPU " + (i + 1), board);
+            game.addPlayer(cpu);
+            seats.add(cpu);
+            activePlayers.add(cpu);
+            SplittableRandom cpuRandom = random.splitAiStream();
+            cpu.setRandom(cpuRandom);
+            CpuController controller = controllerFactory.create(i, cpu, cpuRandom);
+            cpu.setBuildAdvisor(controller::shouldBuild);
+            controllers.put(cpu, controller);
+        }
+        // A CPU that owes more than it holds sells and mortgages before it goes bankrupt
+        banker.setDebtHandler((player, amount) -> controllers.get(player).raiseCash(amount));
+        game.startGame();
+        turnManager = new TurnManager(seats, random.getTurnOrderStream(), context);
+    }
+
+    /**
+     * Plays one turn, including extra rolls for doubles.
+     *
+     * @param player The player whose turn it is
+     * @return false if the player went bankrupt during the turn
+     * Team member(s) responsible: Giovanny
+     */
+    private boolean playTurn(Player player) {
+        try {
+            takeTurn(player);
+            trade(player);
+            build(player);
+            return true;
+        } catch (InsufficientFundsException e) {
+            declareBankrupt(player);
+            return false;
+        } catch (PlayerNotFoundException e) {
+            throw new IllegalStateException("Player left the bank during their turn", e);
+        }
+    }
+
+    private void takeTurn(Player player) throws PlayerNotFoundException {
+        if (player.isInJail()) {
+            leaveJailEarly(player);
+        }
+        int doublesRolled = 0;
+        boolean rollAgain;
+        do {
+            RollEvent rollEvent = new RollEvent();
+            rollEvent.begin();
+            dice.roll();
+            rollEvent.complete(player, dice.getDie1(), dice.getDie2());
+            int roll = dice.getSum();
+            boolean isDouble = dice.getDie1() == dice.getDie2();
+            rollAgain = false;
+
+            if (player.isInJail()) {
+                if (!leaveJail(player, isDouble)) {
+                    return;
+                }
+                // Leaving jail uses this roll to move, but never earns another roll
+            } else if (isDouble) {
+                doublesRolled++;
+                if (doublesRolled == 3) {
+                    sendToJail(player);
+                    return;
+                }
+                rollAgain = true;
+            }
+            advance(player, roll);
+        } while (rollAgain && !player.isInJail());
+    }
+
+    /**
+     * Handles a turn that starts in jail, the same way the BoardController does for CPUs.
+     *
+     * @return true if the player is out of jail and moves this turn
+     * Team member(s) responsible: Giovanny
+     */
+    private boolean leaveJail(Player player, boolean isDouble) throws PlayerNotFoundException {
+        if (isDouble) {
+            releaseFromJail(player);
+            return true;
+        }
+        if (player.useGetOutOfJailFreeCard()) {
+            releaseFromJail(player);
+            return true;
+        }
+        player.incrementTurnsInJail();
+        if (player.getTurnsInJail() >= MAX_JAIL_TURNS) {
+            banker.withdraw(player, JAIL_FINE);
+            releaseFromJail(player);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Before rolling, a CPU may pay the fine or use a card to leave jail and take a normal turn.
+     * Team member(s) responsible: Giovanny
+     */
+    private void leaveJailEarly(Player player) throws PlayerNotFoundException {
+        ActionType choice = controllers.get(player).decideJail();
+        if (choice == ActionType.USE_JAIL_CARD && player.useGetOutOfJailFreeCard()) {
+            releaseFromJail(player);
+        } else if (choice == ActionType.PAY_JAIL_FINE && banker.getBalance(player) >= JAIL_FINE) {
+            banker.withdraw(player, JAIL_FINE);
+            releaseFromJail(player);
+        }
+    }
+
+    /**
+     * At the end of the turn, builds for as long as the CPU picks a property that can take a building.
+     * Team member(s) responsible: Giovanny
+     */
+    private void build(Player player) {
+        CpuController controller = controllers.get(player);
+        for (Property property = controller.decideBuild(); property != null; property = controller.decideBuild()) {
+            boolean built = property.getNumHouses() == 4
+                    ? property.buyHotel(banker) : property.buyHouse(banker);
+            if (!built) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * After rolling, the CPU may offer one trade, which goes through if the other CPU accepts it.
+     * Team member(s) responsible: Giovanny
+     */
+    private void trade(Player player) throws PlayerNotFoundException {
+        Trade trade = controllers.get(player).proposeTrade();
+        if (trade == null) {
+            return;
+        }
+        Player partner = banker.getAllPlayers().get(trade.getPartner());
+        if (controllers.get(partner).acceptTrade(trade)) {
+            banker.trade(player, partner, spaces(trade.getGive()), spaces(trade.getTake()), trade.getCash());
+        }
+    }
+
+    private List<BoardSpace> spaces(long mask) {
+        List<BoardSpace> spaces = new ArrayList<>(Long.bitCount(mask));
+        for (; mask != 0; mask &= mask - 1) {
+            spaces.add(board.getSpace(Long.numberOfTrailingZeros(mask)));
+        }
+        return spaces;
+    }
+
+    private void releaseFromJail(Player player) {
+        player.setInJail(false);
+        player.resetTurnsInJail();
+    }
+
+    private void sendToJail(Player player) {
+        player.setPosition(JAIL_POSITION);
+        player.setInJail(true);
+        player.resetTurnsInJail();
+    }
+
+    /**
+     * Moves the player forward, paying GO money when passing it, and resolves the landing.
+     * Team member(s) responsible: Giovanny
+     */
+    private void advance(Player player, int steps) throws PlayerNotFoundException {
+        MoveEvent moveEvent = new MoveEvent();
+        moveEvent.begin();
+        int from = player.getPosition();
+        int to = (from + steps) % BOARD_SIZE;
+        player.setPosition(to);
+        // Landing exactly on GO is paid by the GoSpace itself
+        if (from + steps > BOARD_SIZE) {
+            board.getSpace(0).onPassing(player);
+        }
+        BoardSpace space = board.getSpace(to);
+        LandingEvent landingEvent = new LandingEvent();
+        landingEvent.begin();
+        resolveLanding(player, space);
+        landingEvent.complete(player, to, space);
+        moveEvent.complete(player, from, to);
+    }
+
+    private void resolveLanding(Player player, BoardSpace space) throws PlayerNotFoundException {
+        if (space instanceof ChanceSpace) {
+            int before = player.getPosition();
+            chanceDeck.useCard(chanceDeck.drawCardId(), player);
+            offerIfMovedToUnowned(player, before);
+        } else if (space instanceof CommunityChestSpace) {
+            int before = player.getPosition();
+            communityChestDeck.useCard(communityChestDeck.drawCardId(), player);
+            offerIfMovedToUnowned(player, before);
+        } else if (space instanceof GoToJailSpace) {
+            sendToJail(player);
+        } else if (space.getPurchasePrice() > 0) {
+            resolveOwnable(player, space);
+        } else {
+            space.onLanding(player);
+        }
+    }
+
+    /**
+     * Cards move the player through Player.move, which only runs the space's own landing logic.
+     * That logic never offers a property for sale, so the offer is made here.
+     */
+    private void offerIfMovedToUnowned(Player player, int positionBefore) throws PlayerNotFoundException {
+        if (player.isInJail() || player.getPosition() == positionBefore) {
+            return;
+        }
+        BoardSpace destination = board.getSpace(player.getPosition());
+        if (destination.getPurchasePrice() > 0 && destination.getOwner() == null) {
+            offerPurchase(player, destination);
+        }
+    }
+
+    private void resolveOwnable(Player player, BoardSpace space) throws PlayerNotFoundException {
+        Player owner = space.getOwner();
+        if (owner == null) {
+            offerPurchase(player, space);
+        } else if (owner != player) {
+            banker.collectRent(space, player);
+        }
+    }
+
+    private void offerPurchase(Player player, BoardSpace space) throws PlayerNotFoundException {
+        if (controllers.get(player).decidePropertyPurchase(space)) {
+            banker.sellProperty(space, player);
+        } else {
+            auction(space);
+        }
+    }
+
+    /**
+     * Ascending auction in seat order, each CPU bidding up to its own limit; it needs no UI.
+     * Team member(s) responsible: Giovanny
+     */
+    private void auction(BoardSpace space) throws PlayerNotFoundException {
+        MetricsRegistry.global().countAuction();
+        AuctionEvent event = new AuctionEvent();
+        event.begin();
+        AscendingAuction auction = new AscendingAuction(activePlayers, AscendingAuction.DEFAULT_INCREMENT);
+        Player winner = auction.run(bidder -> controllers.get(bidder).auctionBidder(space));
+        if (winner != null) {
+            banker.withdraw(winner, auction.getPrice());
+            banker.addTitleDeed(winner, space);
+        }
+        event.complete(space, activePlayers.size(), winner, auction.getPrice());
+    }
+
+    /**
+     * Returns all of a bankrupt player's property, buildings included, to the bank,
+     * puts any Get Out of Jail Free card they hold back in its deck and takes the player out of the game.
+     * Team member(s) responsible: Giovanny
+     */
+    private void declareBankrupt(Player player) {
+        try {
+            ArrayList<BoardSpace> deeds = banker.getTitleDeedsAll().get(player);
+            if (deeds != null) {
+                for (BoardSpace space : new ArrayList<>(deeds)) {
+                    if (space instanceof Property) {
+                        clearBuildings((Property) space);
+                    }
+                    banker.removeTitleDeed(player, space);
+                }
+            }
+            banker.removePlayer(player);
+        } catch (PlayerNotFoundException e) {
+            throw new IllegalStateException("Bankrupt player was not known to the bank", e);
+        }
+        chanceDeck.returnJailFreeCard(player);
+        communityChestDeck.returnJailFreeCard(player);
+        turnManager.removePlayer(player);
+        activePlayers.remove(player);
+        bankruptcies++;
+    }
+
+    private void clearBuildings(Property property) {
+        if (property.removeHotel()) {
+            banker.incrementAvailableHotels(1);
+            banker.decrementAvailableHouses(4);
+        }
+        while (property.removeHouse()) {
+            banker.incrementAvailableHouses(1);
+        }
+        property.setMortgaged(false);
+    }
+
+    private GameResult buildResult(int turns) {
+        int[] balances = new int[seats.size()];
+        int winnerSeat = -1;
+        for (int seat = 0; seat < seats.size(); seat++) {
+            Player player = seats.get(seat);
+            if (!activePlayers.contains(player)) {
+                continue;
+            }
+            try {
+                balances[seat] = banker.getBalance(player);
+            } catch (PlayerNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+            if (winnerSeat < 0 || balances[seat] > balances[winnerSeat]) {
+                winnerSeat = seat;
+            }
+        }
+        return new GameResult(seed, winnerSeat, turns, bankruptcies, activePlayers.size() > 1, balances);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Fixed-size histogram of durations in nanoseconds, for turn latency percentiles.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+/**
+ * Log-linear histogram: each power of two is split into 16 buckets, so a percentile is
+ * accurate to about 6%. Recording is an array increment, and histograms from different
+ * threads are merged the same way SimulationStats are.
+ * Team member(s) responsible: Giovanny
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long max;
+
+    /**
+     * Records one duration.
+     * @param nanos The duration in nanoseconds
+     * Team member(s) responsible: Giovanny
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucket(value)]++;
+        total++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Adds the other histogram's counts to this one.
+     * Team member(s) responsible: Giovanny
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @return the number of durations recorded
+     */
+    public long getCount() {
+        return total;
+    }
+
+    /**
+     * @return the longest duration recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @param percentile Between 0 and 100, e.g. 99 for p99
+     * @return the upper bound of the bucket holding that percentile, 0 if nothing was recorded
+     * Team member(s) responsible: Giovanny
+     */
+    public long getPercentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    // Values below SUB_BUCKETS get a bucket each; above that, the top 5 bits pick the bucket
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: The games two strategies of a tournament have played against each other.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+/**
+ * The games two strategies of a tournament have played against each other, counted from the first's side,
+ * and what the stopping test made of them.
+ * Team member(s) responsible: Giovanny
+ */
+public final class Pairing {
+
+    private final int first;
+    private final int second;
+    private final long seed;
+    private long wins;
+    private long draws;
+    private long losses;
+    private double llr;
+    private int decision = Sprt.CONTINUE;
+
+    /**
+     * @param first  Index of one entrant
+     * @param second Index of the other
+     * @param seed   Seed the pairing's game seeds are derived from
+     * Team member(s) responsible: Giovanny
+     */
+    Pairing(int first, int second, long seed) {
+        this.first = first;
+        this.second = second;
+        this.seed = seed;
+    }
+
+    /**
+     * Adds a game, played with the first entrant in the given seat.
+     */
+    void record(GameResult result, int firstSeat) {
+        if (result.isTurnLimitReached() || result.getWinnerSeat() < 0) {
+            draws++;
+        } else if (result.getWinnerSeat() == firstSeat) {
+            wins++;
+        } else {
+            losses++;
+        }
+    }
+
+    /**
+     * Runs the stopping test on the games so far.
+     */
+    void test(Sprt sprt) {
+        llr = sprt.llr(wins, draws, losses);
+        decision = sprt.decide(wins, draws, losses);
+    }
+
+    /**
+     * @return the seed of the pair of games with the given index
+     */
+    long pairSeed(int index) {
+        return SimulationRunner.gameSeed(seed, index);
+    }
+
+    /**
+     * @return Index of one entrant
+     */
+    public int getFirst() {
+        return first;
+    }
+
+    /**
+     * @return Index of the other entrant
+     */
+    public int getSecond() {
+        return second;
+    }
+
+    /**
+     * @return Games the first entrant won
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * @return Games stopped by the turn limit
+     */
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * @return Games the first entrant lost
+     */
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * @return Games played
+     */
+    public long getGames() {
+        return wins + draws + losses;
+    }
+
+    /**
+     * @return the log-likelihood ratio of the first entrant being the stronger, after the last round
+     */
+    public double getLlr() {
+        return llr;
+    }
+
+    /**
+     * @return Sprt.FIRST or Sprt.SECOND once the test has decided which is stronger, otherwise Sprt.CONTINUE
+     */
+    public int getDecision() {
+        return decision;
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Tunes the value-based CPU's thresholds with an evolution strategy, scoring each candidate
+ * profile by headless games against the starting profile, with a checkpoint after every generation.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Controller.CpuController;
+import Controller.CpuProfile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Tunes a CpuProfile with separable CMA-ES: an evolution strategy that samples each generation's
+ * candidates from a normal distribution around its mean, moves the mean towards the best of them,
+ * and learns a step size and a variance per threshold from the steps that worked. Only the diagonal
+ * of the covariance is learnt, which is all a handful of loosely coupled thresholds needs.
+ * The search runs in the unit cube CpuProfile maps onto the thresholds' ranges, so every threshold
+ * moves on the same scale; candidates outside the cube are clamped to its faces.
+ * <p>
+ * A candidate's fitness is its score in two-player headless games against the starting profile.
+ * The games of a pair share a seed and swap the seats, and every candidate of a generation plays the same
+ * seeds, so candidates are compared on the same dice. All the games of a generation are spread over
+ * a pool of threads, and everything random comes from the seed and the generation number, so a run
+ * gives the same profile whatever the thread count, and one resumed from its checkpoint carries on
+ * as if it had never stopped. The tuned profile is the distribution's mean, exported after every
+ * generation: the best single candidate's score is flattered by the luck of its games.
+ * Team member(s) responsible: Giovanny
+ */
+public class ProfileTuner {
+
+    private static final int PLAYERS = 2;
+    private static final double INITIAL_STEP = 0.2;
+    // Keeps the sampling stream apart from the game seeds drawn from the same master seed
+    private static final long SAMPLING_SALT = 0x5DEECE66DL;
+
+    private final TunerConfig config;
+    private final CpuProfile baseline;
+    private final int dimensions = CpuProfile.NAMES.length;
+
+    // Strategy parameters, fixed by the number of thresholds
+    private final int lambda;
+    private final int mu;
+    private final double[] weights;
+    private final double muEff;
+    private final double cSigma;
+    private final double dSigma;
+    private final double cC;
+    private final double c1;
+    private final double cMu;
+    private final double chiN;
+
+    // State, saved in the checkpoint
+    private int generation;
+    private double sigma = INITIAL_STEP;
+    private final double[] mean;
+    private final double[] variance;
+    private final double[] pathSigma;
+    private final double[] pathC;
+    private double bestScore;
+
+    /**
+     * Constructor for ProfileTuner
+     *
+     * @param config The options of the run
+     * @param start  The profile the search starts from, which every candidate is scored against
+     * Team member(s) responsible: Giovanny
+     */
+    public ProfileTuner(TunerConfig config, CpuProfile start) {
+        this.config = config;
+        this.baseline = start;
+        int n = dimensions;
+        lambda = 4 + (int) (3 * Math.log(n));
+        mu = lambda / 2;
+        weights = new double[mu];
+        double sum = 0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] = Math.log(mu + 0.5) - Math.log(i + 1);
+            sum += weights[i];
+        }
+        double squares = 0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] /= sum;
+            squares += weights[i] * weights[i];
+        }
+        muEff = 1 / squares;
+        cSigma = (muEff + 2) / (n + muEff + 5);
+        dSigma = 1 + 2 * Math.max(0, Math.sqrt((muEff - 1) / (n + 1)) - 1) + cSigma;
+        cC = (4 + muEff / n) / (n + 4 + 2 * muEff / n);
+        // The diagonal is learnt (n + 2) / 3 times faster than a full covariance would be
+        double full1 = 2 / ((n + 1.3) * (n + 1.3) + muEff);
+        double fullMu = Math.min(1 - full1, 2 * (muEff - 2 + 1 / muEff) / ((n + 2) * (n + 2) + muEff));
+        c1 = Math.min(1, full1 * (n + 2) / 3);
+        cMu = Math.min(1 - c1, fullMu * (n + 2) / 3);
+        chiN = Math.sqrt(n) * (1 - 1.0 / (4 * n) + 1.0 / (21 * n * n));
+
+        mean = start.toUnitCube();
+        variance = new double[n];
+        Arrays.fill(variance, 1);
+        pathSigma = new double[n];
+        pathC = new double[n];
+    }
+
+    /**
+     * Entry point for --tune. Parses the options, tunes from the checkpoint, the --profile file
+     * or the default profile, and prints a line per generation.
+     *
+     * @param args Command line arguments
+     * Team member(s) responsible: Giovanny
+     */
+    public static void runFromCommandLine(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        TunerConfig config;
+        try {
+            config = TunerConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(TunerConfig.usage());
+            System.exit(2);
+            return;
+        }
+        try {
+            CpuProfile start = config.getStart() == null ? CpuProfile.DEFAULT : CpuProfile.load(config.getStart());
+            CpuProfile profile = new ProfileTuner(config, start).run(System.out);
+            System.out.println("Tuned profile (" + config.getProfile() + "): " + profile);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Resumes from the checkpoint if there is one, then runs generations until the configured number
+     * have been run, saving the checkpoint and exporting the profile after each.
+     *
+     * @param report Where a line per generation is printed, or null for none
+     * @return the tuned profile
+     * @throws IOException if the checkpoint or profile cannot be read or written
+     * Team member(s) responsible: Giovanny
+     */
+    public CpuProfile run(PrintStream report) throws IOException {
+        if (Files.exists(config.getCheckpoint())) {
+            loadCheckpoint(config.getCheckpoint());
+        }
+        ForkJoinPool pool = new ForkJoinPool(config.getThreads());
+        try {
+            while (generation < config.getGenerations()) {
+                long start = System.nanoTime();
+                step(pool);
+                saveCheckpoint(config.getCheckpoint());
+                getProfile().save(config.getProfile());
+                if (report != null) {
+                    report.printf("Generation %d: best candidate %.1f%%, step %.3f, %.1f s, profile %s%n",
+                            generation, 100 * bestScore, sigma, (System.nanoTime() - start) / 1e9, getProfile());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return getProfile();
+    }
+
+    /**
+     * One generation: sample, score, and update the mean, paths, variances and step size.
+     */
+    private void step(ForkJoinPool pool) {
+        int n = dimensions;
+        SplittableRandom random = new SplittableRandom(
+                SimulationRunner.gameSeed(config.getSeed() ^ SAMPLING_SALT, generation));
+        double[][] steps = new double[lambda][n];
+        List<CpuProfile> candidates = new ArrayList<>(lambda);
+        for (int k = 0; k < lambda; k++) {
+            double[] point = new double[n];
+            for (int i = 0; i < n; i++) {
+                steps[k][i] = Math.sqrt(variance[i]) * random.nextGaussian();
+                point[i] = mean[i] + sigma * steps[k][i];
+            }
+            candidates.add(CpuProfile.fromUnitCube(point));
+        }
+        double[] scores = score(pool, candidates);
+        Integer[] order = new Integer[lambda];
+        for (int k = 0; k < lambda; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+        bestScore = scores[order[0]];
+
+        double[] weighted = new double[n];
+        for (int j = 0; j < mu; j++) {
+            for (int i = 0; i < n; i++) {
+                weighted[i] += weights[j] * steps[order[j]][i];
+            }
+        }
+        double norm = 0;
+        for (int i = 0; i < n; i++) {
+            mean[i] += sigma * weighted[i];
+            pathSigma[i] = (1 - cSigma) * pathSigma[i]
+                    + Math.sqrt(cSigma * (2 - cSigma) * muEff) * weighted[i] / Math.sqrt(variance[i]);
+            norm += pathSigma[i] * pathSigma[i];
+        }
+        norm = Math.sqrt(norm);
+        generation++;
+        boolean stalled = norm / Math.sqrt(1 - Math.pow(1 - cSigma, 2.0 * generation)) >= (1.4 + 2.0 / (n + 1)) * chiN;
+        for (int i = 0; i < n; i++) {
+            pathC[i] = (1 - cC) * pathC[i] + (stalled ? 0 : Math.sqrt(cC * (2 - cC) * muEff) * weighted[i]);
+            double rankMu = 0;
+            for (int j = 0; j < mu; j++) {
+                rankMu += weights[j] * steps[order[j]][i] * steps[order[j]][i];
+            }
+            variance[i] = (1 - c1 - cMu) * variance[i]
+                    + c1 * (pathC[i] * pathC[i] + (stalled ? cC * (2 - cC) * variance[i] : 0))
+                    + cMu * rankMu;
+        }
+        sigma *= Math.exp(cSigma / dSigma * (norm / chiN - 1));
+    }
+
+    /**
+     * @return each candidate's score against the starting profile, from 0 to 1, a draw counting a half
+     */
+    private double[] score(ForkJoinPool pool, List<CpuProfile> candidates) {
+        long generationSeed = SimulationRunner.gameSeed(config.getSeed(), generation);
+        List<Callable<Double>> tasks = new ArrayList<>();
+        for (CpuProfile candidate : candidates) {
+            for (int pair = 0; pair < config.getPairs(); pair++) {
+                long seed = SimulationRunner.gameSeed(generationSeed, pair);
+                tasks.add(() -> play(candidate, seed, 0) + play(candidate, seed, 1));
+            }
+        }
+        List<Future<Double>> results = pool.invokeAll(tasks);
+        double[] scores = new double[candidates.size()];
+        int task = 0;
+        for (int k = 0; k < candidates.size(); k++) {
+            for (int pair = 0; pair < config.getPairs(); pair++) {
+                scores[k] += get(results.get(task++));
+            }
+            scores[k] /= PLAYERS * config.getPairs();
+        }
+        return scores;
+    }
+
+    /**
+     * @return the candidate's score in one game with it in the given seat
+     */
+    private double play(CpuProfile candidate, long seed, int candidateSeat) {
+        HeadlessGame game = new HeadlessGame(PLAYERS, seed, config.getMaxTurns());
+        game.setControllerFactory((seat, cpu, random) ->
+                new CpuController(cpu, random, seat == candidateSeat ? candidate : baseline));
+        GameResult result = game.play();
+        if (result.isTurnLimitReached() || result.getWinnerSeat() < 0) {
+            return 0.5;
+        }
+        return result.getWinnerSeat() == candidateSeat ? 1 : 0;
+    }
+
+    private static double get(Future<Double> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while tuning", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A tuning game failed", e.getCause());
+        }
+    }
+
+    private void saveCheckpoint(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("seed", Long.toString(config.getSeed()));
+        properties.setProperty("generation", Integer.toString(generation));
+        properties.setProperty("sigma", Double.toString(sigma));
+        properties.setProperty("bestScore", Double.toString(bestScore));
+        for (int i = 0; i < dimensions; i++) {
+            properties.setProperty("mean." + i, Double.toString(mean[i]));
+            properties.setProperty("variance." + i, Double.toString(variance[i]));
+            properties.setProperty("pathSigma." + i, Double.toString(pathSigma[i]));
+            properties.setProperty("pathC." + i, Double.toString(pathC[i]));
+        }
+        // Written beside the checkpoint and moved over it, so a run stopped mid-write keeps the last one
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary)) {
+            properties.store(writer, "ProfileTuner checkpoint");
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void loadCheckpoint(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        if (Long.parseLong(properties.getProperty("seed")) != config.getSeed()) {
+            throw new IllegalArgumentException("The checkpoint " + file + " is from a run with another seed");
+        }
+        generation = Integer.parseInt(properties.getProperty("generation"));
+        sigma = Double.parseDouble(properties.getProperty("sigma"));
+        bestScore = Double.parseDouble(properties.getProperty("bestScore"));
+        for (int i = 0; i < dimensions; i++) {
+            mean[i] = Double.parseDouble(properties.getProperty("mean." + i));
+            variance[i] = Double.parseDouble(properties.getProperty("variance." + i));
+            pathSigma[i] = Double.parseDouble(properties.getProperty("pathSigma." + i));
+            pathC[i] = Double.parseDouble(properties.getProperty("pathC." + i));
+        }
+    }
+
+    /**
+     * @return the tuned profile: the mean of the search distribution
+     * Team member(s) responsible: Giovanny
+     */
+    public CpuProfile getProfile() {
+        return CpuProfile.fromUnitCube(mean);
+    }
+
+    /**
+     * @return Generations run so far, including any resumed from the checkpoint
+     * Team member(s) responsible: Giovanny
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * @return Candidates sampled per generation
+     * Team member(s) responsible: Giovanny
+     */
+    public int getPopulationSize() {
+        return lambda;
+    }
+}
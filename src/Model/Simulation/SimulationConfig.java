@@ -0,0 +1,256 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Holds the options for a headless batch of CPU-vs-CPU games,
+ * parsed from the command line (e.g. --simulate 100000 --players 4 --seed 42 --threads 8).
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import java.nio.file.Path;
+
+/**
+ * Options for a headless simulation batch.
+ * Team member(s) responsible: Giovanny
+ */
+public class SimulationConfig {
+
+    public static final String SIMULATE_FLAG = "--simulate";
+    private static final int DEFAULT_PLAYERS = 4;
+    private static final int DEFAULT_MAX_TURNS = 1000;
+
+    private final int games;
+    private final int players;
+    private final long seed;
+    private final int maxTurns;
+    private final int threads;
+    private final EngineType engine;
+    private final boolean verbose;
+    private final Path profile;
+
+    /**
+     * Constructor for SimulationConfig
+     *
+     * @param games    Number of games to play
+     * @param players  Number of CPU players per game (2-4)
+     * @param seed     Master seed every game seed is derived from
+     * @param maxTurns Turn limit after which a game is scored on balances
+     * @param verbose  Whether the model's game events are logged to the console
+     * Team member(s) responsible: Giovanny
+     */
+    public SimulationConfig(int games, int players, long seed, int maxTurns, boolean verbose) {
+        this(games, players, seed, maxTurns, 1, EngineType.MODEL, verbose);
+    }
+
+    /**
+     * Constructor for SimulationConfig
+     *
+     * @param games    Number of games to play
+     * @param players  Number of CPU players per game (2-4)
+     * @param seed     Master seed every game seed is derived from
+     * @param maxTurns Turn limit after which a game is scored on balances
+     * @param threads  Number of worker threads playing games
+     * @param engine   Which engine plays the games
+     * @param verbose  Whether the model's game events are logged to the console
+     * Team member(s) responsible: Giovanny
+     */
+    public SimulationConfig(int games, int players, long seed, int maxTurns, int threads,
+                            EngineType engine, boolean verbose) {
+        this(games, players, seed, maxTurns, threads, engine, verbose, null);
+    }
+
+    /**
+     * Constructor for SimulationConfig
+     *
+     * @param games    Number of games to play
+     * @param players  Number of CPU players per game (2-4)
+     * @param seed     Master seed every game seed is derived from
+     * @param maxTurns Turn limit after which a game is scored on balances
+     * @param threads  Number of worker threads playing games
+     * @param engine   Which engine plays the games
+     * @param verbose  Whether the model's game events are logged to the console
+     * @param profile  File of the CpuProfile every CPU plays with, or null for the default profile
+     * Team member(s) responsible: Giovanny
+     */
+    public SimulationConfig(int games, int players, long seed, int maxTurns, int threads,
+                            EngineType engine, boolean verbose, Path profile) {
+        if (games < 1) {
+            throw new IllegalArgumentException("--simulate needs at least 1 game");
+        }
+        if (players < 2 || players > 4) {
+            throw new IllegalArgumentException("Monopoly requires 2 to 4 players.");
+        }
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("--max-turns must be positive");
+        }
+        this.games = games;
+        this.players = players;
+        this.seed = seed;
+        if (threads < 1) {
+            throw new IllegalArgumentException("--threads must be positive");
+        }
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+        this.engine = engine;
+        this.verbose = verbose;
+        this.profile = profile;
+    }
+
+    /**
+     * Checks if the command line asks for a headless simulation
+     *
+     * @param args Command line arguments
+     * @return true if --simulate is present
+     * Team member(s) responsible: Giovanny
+     */
+    public static boolean isSimulationRequest(String[] args) {
+        for (String arg : args) {
+            if (SIMULATE_FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses the command line options.
+     * Unknown options and missing values throw an IllegalArgumentException.
+     *
+     * @param args Command line arguments
+     * @return the parsed configuration
+     * Team member(s) responsible: Giovanny
+     */
+    public static SimulationConfig parse(String[] args) {
+        int games = 0;
+        int players = DEFAULT_PLAYERS;
+        long seed = System.nanoTime();
+        int maxTurns = DEFAULT_MAX_TURNS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        EngineType engine = EngineType.MODEL;
+        boolean verbose = false;
+        Path profile = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case SIMULATE_FLAG:
+                    games = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--players":
+                    players = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(valueAfter(args, i++));
+                    break;
+                case "--max-turns":
+                    maxTurns = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--engine":
+                    engine = parseEngine(valueAfter(args, i++));
+                    break;
+                case "--verbose":
+                    verbose = true;
+                    break;
+                case "--profile":
+                    profile = Path.of(valueAfter(args, i++));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        return new SimulationConfig(games, players, seed, maxTurns, threads, engine, verbose, profile);
+    }
+
+    private static EngineType parseEngine(String name) {
+        for (EngineType type : EngineType.values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown engine: " + name + " (expected compact or model)");
+    }
+
+    private static String valueAfter(String[] args, int index) {
+        if (index + 1 >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index]);
+        }
+        return args[index + 1];
+    }
+
+    /**
+     * Usage text for the simulation options
+     * Team member(s) responsible: Giovanny
+     */
+    public static String usage() {
+        return "Usage: java -jar MonopolyProject.jar --simulate <games> [--players 2-4] [--seed <long>]"
+                + " [--max-turns <turns>] [--threads <count>] [--engine model|compact] [--profile <file>]"
+                + " [--verbose]";
+    }
+
+    /**
+     * @return Number of games in the batch
+     * Team member(s) responsible: Giovanny
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * @return Number of CPU players per game
+     * Team member(s) responsible: Giovanny
+     */
+    public int getPlayers() {
+        return players;
+    }
+
+    /**
+     * @return Master seed of the batch
+     * Team member(s) responsible: Giovanny
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Turn limit per game
+     * Team member(s) responsible: Giovanny
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * @return Number of worker threads
+     * Team member(s) responsible: Giovanny
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return Which engine plays the games
+     * Team member(s) responsible: Giovanny
+     */
+    public EngineType getEngine() {
+        return engine;
+    }
+
+    /**
+     * @return Whether the model's game events are logged to the console
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * @return File of the CpuProfile every CPU plays with, or null for the default profile
+     * Team member(s) responsible: Giovanny
+     */
+    public Path getProfile() {
+        return profile;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Runs a batch of headless CPU-vs-CPU games from the command line
+ * across all cores and reports throughput and results.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Controller.CpuController;
+import Controller.CpuProfile;
+import Model.Events.EventLevel;
+import Model.Events.EventLog;
+import Model.Events.PrintStreamSink;
+import Model.Metrics.MetricsRegistry;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs a batch of headless CPU-vs-CPU games and reports throughput and results.
+ * Games are spread over a work-stealing pool. Every game's seed comes from the master seed
+ * and its index, so the results are the same whatever the thread count.
+ * Team member(s) responsible: Giovanny
+ */
+public class SimulationRunner {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    // Small leaves let idle workers steal the tail of a batch when some games run long
+    private static final int GAMES_PER_TASK = 4;
+
+    private final SimulationConfig config;
+    private final CpuProfile profile;
+
+    /**
+     * Constructor for SimulationRunner, with every CPU playing the default profile
+     *
+     * @param config The options for the batch
+     * Team member(s) responsible: Giovanny
+     */
+    public SimulationRunner(SimulationConfig config) {
+        this(config, CpuProfile.DEFAULT);
+    }
+
+    /**
+     * Constructor for SimulationRunner
+     *
+     * @param config  The options for the batch
+     * @param profile The thresholds every CPU plays with, in either engine
+     * Team member(s) responsible: Giovanny
+     */
+    public SimulationRunner(SimulationConfig config, CpuProfile profile) {
+        this.config = config;
+        this.profile = profile;
+    }
+
+    /**
+     * Entry point for --simulate. Parses the options, runs the batch and prints the report.
+     *
+     * @param args Command line arguments
+     * Team member(s) responsible: Giovanny
+     */
+    public static void runFromCommandLine(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        SimulationConfig config;
+        try {
+            config = SimulationConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(SimulationConfig.usage());
+            System.exit(2);
+            return;
+        }
+        CpuProfile profile = CpuProfile.DEFAULT;
+        if (config.getProfile() != null) {
+            try {
+                profile = CpuProfile.load(config.getProfile());
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Error: cannot load the profile " + config.getProfile() + ": " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+        }
+        // Lets a long batch be watched from JConsole/VisualVM
+        MetricsRegistry.registerMBean();
+        new SimulationRunner(config, profile).run(System.out);
+    }
+
+    /**
+     * Plays every game of the batch and prints the report.
+     * Each task keeps its own SimulationStats and the totals are merged on the way back up,
+     * so the workers never share a lock.
+     * The model's game events are only logged, to the console, when the batch is verbose;
+     * otherwise the event log stays off and costs nothing.
+     *
+     * @param report Where the report is printed
+     * @return the accumulated results
+     * Team member(s) responsible: Giovanny
+     */
+    public SimulationStats run(PrintStream report) {
+        SimulationStats stats = new SimulationStats(config.getPlayers());
+        if (config.isVerbose()) {
+            EventLog.start(EventLevel.DEBUG, new PrintStreamSink(System.out, true));
+        }
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(config.getThreads());
+        try {
+            stats.merge(pool.invoke(new BatchTask(config, profile, 0, config.getGames())));
+        } finally {
+            pool.shutdown();
+            if (config.isVerbose()) {
+                EventLog.stop();
+            }
+        }
+        printReport(report, stats, System.nanoTime() - start);
+        return stats;
+    }
+
+    /**
+     * Derives the seed of one game from the master seed.
+     * Each game's seed depends only on its index, never on the order games are played in.
+     *
+     * @param masterSeed The seed of the batch
+     * @param gameIndex  The index of the game in the batch
+     * @return the seed for that game
+     * Team member(s) responsible: Giovanny
+     */
+    public static long gameSeed(long masterSeed, int gameIndex) {
+        // SplitMix64 finalizer, so neighbouring indexes give unrelated seeds
+        long z = masterSeed + (gameIndex + 1L) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void printReport(PrintStream out, SimulationStats stats, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long games = stats.getGames();
+        out.printf("Simulated %d games (%d players, seed %d, %s engine) on %d threads in %.3f s%n",
+                games, config.getPlayers(), config.getSeed(), config.getEngine().name().toLowerCase(Locale.ROOT),
+                config.getThreads(), seconds);
+        out.printf("Throughput: %.1f games/sec, %.0f turns/sec%n",
+                games / seconds, stats.getTotalTurns() / seconds);
+        out.printf("Game length: %.1f turns on average (shortest %d, longest %d)%n",
+                stats.getAverageTurns(), stats.getShortestGame(), stats.getLongestGame());
+        out.printf("Stopped at the %d turn limit: %d (%.1f%%)%n",
+                config.getMaxTurns(), stats.getTurnLimitGames(), percent(stats.getTurnLimitGames(), games));
+        out.printf("Bankruptcies: %d%n", stats.getBankruptcies());
+        StringBuilder wins = new StringBuilder("Wins by seat:");
+        for (int seat = 0; seat < stats.getSeats(); seat++) {
+            wins.append(String.format("  CPU %d %.1f%%", seat + 1, percent(stats.getWins(seat), games)));
+        }
+        out.println(wins);
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0 ? 0 : 100.0 * part / whole;
+    }
+
+    /**
+     * Plays the games with indexes from start (inclusive) to end (exclusive),
+     * splitting the range in half until it is small enough to play directly.
+     * Team member(s) responsible: Giovanny
+     */
+    private static class BatchTask extends RecursiveTask<SimulationStats> {
+
+        // ForkJoinTask is Serializable, but the tasks never leave the pool that runs them
+        private static final long serialVersionUID = 1L;
+
+        private final transient SimulationConfig config;
+        private final transient CpuProfile profile;
+        private final int start;
+        private final int end;
+
+        BatchTask(SimulationConfig config, CpuProfile profile, int start, int end) {
+            this.config = config;
+            this.profile = profile;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected SimulationStats compute() {
+            if (end - start <= GAMES_PER_TASK) {
+                return playGames();
+            }
+            int middle = (start + end) >>> 1;
+            BatchTask right = new BatchTask(config, profile, middle, end);
+            right.fork();
+            SimulationStats stats = new BatchTask(config, profile, start, middle).compute();
+            stats.merge(right.join());
+            return stats;
+        }
+
+        private SimulationStats playGames() {
+            SimulationStats stats = new SimulationStats(config.getPlayers());
+            if (config.getEngine() == EngineType.COMPACT) {
+                // One engine per leaf, reset between games, so the games themselves allocate nothing
+                CompactGame engine = new CompactGame(BoardLayout.standard(), new DefaultCompactStrategy(profile));
+                for (int i = start; i < end; i++) {
+                    engine.reset(config.getPlayers(), gameSeed(config.getSeed(), i));
+                    record(stats, engine.play(config.getMaxTurns()));
+                }
+            } else {
+                for (int i = start; i < end; i++) {
+                    EventLog.setGameId(i);
+                    HeadlessGame game = new HeadlessGame(config.getPlayers(),
+                            gameSeed(config.getSeed(), i), config.getMaxTurns());
+                    game.setControllerFactory((seat, cpu, random) -> new CpuController(cpu, random, profile));
+                    record(stats, game.play());
+                }
+            }
+            return stats;
+        }
+
+        // Game totals go to the metrics registry once per game, so the engines never touch it per turn
+        private void record(SimulationStats stats, GameResult result) {
+            stats.record(result);
+            MetricsRegistry metrics = MetricsRegistry.global();
+            metrics.countGame();
+            metrics.addTurns(result.getTurns());
+            metrics.addBankruptcies(result.getBankruptcies());
+        }
+    }
+}
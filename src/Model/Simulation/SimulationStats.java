@@ -0,0 +1,148 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Accumulates the results of a batch of headless games.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+/**
+ * Accumulates the results of a batch of headless games.
+ * Team member(s) responsible: Giovanny
+ */
+public class SimulationStats {
+
+    private final long[] winsBySeat;
+    private long games;
+    private long totalTurns;
+    private long turnLimitGames;
+    private long bankruptcies;
+    private int shortestGame;
+    private int longestGame;
+
+    /**
+     * Constructor for SimulationStats
+     *
+     * @param players Number of seats per game
+     * Team member(s) responsible: Giovanny
+     */
+    public SimulationStats(int players) {
+        this.winsBySeat = new long[players];
+        this.shortestGame = Integer.MAX_VALUE;
+        this.longestGame = 0;
+    }
+
+    /**
+     * Adds one finished game to the totals
+     *
+     * @param result The result of the game
+     * Team member(s) responsible: Giovanny
+     */
+    public void record(GameResult result) {
+        games++;
+        totalTurns += result.getTurns();
+        bankruptcies += result.getBankruptcies();
+        if (result.isTurnLimitReached()) {
+            turnLimitGames++;
+        }
+        if (result.getWinnerSeat() >= 0) {
+            winsBySeat[result.getWinnerSeat()]++;
+        }
+        shortestGame = Math.min(shortestGame, result.getTurns());
+        longestGame = Math.max(longestGame, result.getTurns());
+    }
+
+    /**
+     * Adds the totals of another accumulator to this one.
+     * Every total is a sum, minimum or maximum, so the merged result does not
+     * depend on how the games were split between accumulators.
+     *
+     * @param other Totals from another part of the batch
+     * Team member(s) responsible: Giovanny
+     */
+    public void merge(SimulationStats other) {
+        games += other.games;
+        totalTurns += other.totalTurns;
+        turnLimitGames += other.turnLimitGames;
+        bankruptcies += other.bankruptcies;
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            winsBySeat[seat] += other.winsBySeat[seat];
+        }
+        shortestGame = Math.min(shortestGame, other.shortestGame);
+        longestGame = Math.max(longestGame, other.longestGame);
+    }
+
+    /**
+     * @return Number of games recorded
+     * Team member(s) responsible: Giovanny
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * @return Total number of turns over all games
+     * Team member(s) responsible: Giovanny
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * @return Number of games stopped by the turn limit
+     * Team member(s) responsible: Giovanny
+     */
+    public long getTurnLimitGames() {
+        return turnLimitGames;
+    }
+
+    /**
+     * @return Number of players who went bankrupt over all games
+     * Team member(s) responsible: Giovanny
+     */
+    public long getBankruptcies() {
+        return bankruptcies;
+    }
+
+    /**
+     * @param seat The seat to look up
+     * @return Number of games won by the seat
+     * Team member(s) responsible: Giovanny
+     */
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    /**
+     * @return Number of seats per game
+     * Team member(s) responsible: Giovanny
+     */
+    public int getSeats() {
+        return winsBySeat.length;
+    }
+
+    /**
+     * @return Turns in the shortest game, or 0 if nothing was recorded
+     * Team member(s) responsible: Giovanny
+     */
+    public int getShortestGame() {
+        return games == 0 ? 0 : shortestGame;
+    }
+
+    /**
+     * @return Turns in the longest game
+     * Team member(s) responsible: Giovanny
+     */
+    public int getLongestGame() {
+        return longestGame;
+    }
+
+    /**
+     * @return Average number of turns per game
+     * Team member(s) responsible: Giovanny
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+}
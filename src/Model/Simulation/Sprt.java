@@ -0,0 +1,96 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Sequential probability ratio test that decides when a pairing of two CPU strategies
+ * has played enough games to say which is stronger.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+/**
+ * Sequential probability ratio test between two strategies, on their wins, draws and losses.
+ * <p>
+ * The test weighs "the first strategy is eloMargin Elo stronger" against "it is eloMargin Elo weaker".
+ * After every game it works out the log-likelihood ratio of the two, with each game's score taken as
+ * normally distributed around its mean, as chess engine testers do, and stops as soon as the ratio
+ * crosses either bound. The bounds give the chances alpha and beta of the test picking the wrong side
+ * when the true difference is the margin; when the two are closer than that it may run to the game limit.
+ * Team member(s) responsible: Giovanny
+ */
+public final class Sprt {
+
+    /** The test has not decided yet */
+    public static final int CONTINUE = 0;
+    /** The first strategy is stronger */
+    public static final int FIRST = 1;
+    /** The second strategy is stronger */
+    public static final int SECOND = -1;
+
+    private final double lowerBound;
+    private final double upperBound;
+    private final double lowScore;
+    private final double highScore;
+
+    /**
+     * @param eloMargin Elo difference either way that the test tells apart
+     * @param alpha     Chance of deciding for the first strategy when it is the margin weaker
+     * @param beta      Chance of deciding for the second strategy when the first is the margin stronger
+     * Team member(s) responsible: Giovanny
+     */
+    public Sprt(double eloMargin, double alpha, double beta) {
+        if (eloMargin <= 0) {
+            throw new IllegalArgumentException("The Elo margin must be positive");
+        }
+        if (alpha <= 0 || alpha >= 0.5 || beta <= 0 || beta >= 0.5) {
+            throw new IllegalArgumentException("alpha and beta must be between 0 and 0.5");
+        }
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+        this.lowScore = EloRatings.expectedScore(-eloMargin);
+        this.highScore = EloRatings.expectedScore(eloMargin);
+    }
+
+    /**
+     * @param wins   Games the first strategy won
+     * @param draws  Games that ended level
+     * @param losses Games the first strategy lost
+     * @return the log-likelihood ratio of the first strategy being the stronger, 0 before any game
+     * Team member(s) responsible: Giovanny
+     */
+    public double llr(long wins, long draws, long losses) {
+        long games = wins + draws + losses;
+        if (games == 0) {
+            return 0;
+        }
+        double score = (wins + 0.5 * draws) / games;
+        double variance = (wins * square(1 - score) + draws * square(0.5 - score) + losses * square(score)) / games;
+        if (variance == 0) {
+            // Every game went the same way; a single win or loss stands in for the spread
+            variance = 1.0 / (4 * games);
+        }
+        return games * (highScore - lowScore) * (2 * score - lowScore - highScore) / (2 * variance);
+    }
+
+    /**
+     * @param wins   Games the first strategy won
+     * @param draws  Games that ended level
+     * @param losses Games the first strategy lost
+     * @return FIRST or SECOND once the test has decided, otherwise CONTINUE
+     * Team member(s) responsible: Giovanny
+     */
+    public int decide(long wins, long draws, long losses) {
+        double llr = llr(wins, draws, losses);
+        if (llr >= upperBound) {
+            return FIRST;
+        }
+        if (llr <= lowerBound) {
+            return SECOND;
+        }
+        return CONTINUE;
+    }
+
+    private static double square(double x) {
+        return x * x;
+    }
+}
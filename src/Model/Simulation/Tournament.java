@@ -0,0 +1,352 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Plays CPU strategies against each other in head-to-head headless games, keeps Elo ratings,
+ * and stops each pairing as soon as a sequential test says which strategy is stronger.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import Controller.CpuController;
+import Controller.CpuControllerFactory;
+import Controller.CpuProfile;
+import Controller.ExpectimaxCpuController;
+import Controller.MctsCpuController;
+import Model.Search.MctsConfig;
+import Model.Search.MctsSearch;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A tournament between CPU strategies, played in rounds of two-player headless games.
+ * <p>
+ * Each round, every pairing still playing (all of them in a round robin, the nearest rated ones in a
+ * Swiss round) plays a few pairs of games. The two games of a pair share a seed, so the same dice and
+ * cards, with the strategies swapped between the seats. The games of a round are spread over a pool of
+ * threads, then their results are counted in a fixed order, so the ratings and decisions are the same
+ * whatever the thread count. A game stopped by the turn limit is a draw.
+ * <p>
+ * After each round, the pairing's sequential probability ratio test either decides which strategy is
+ * stronger, which ends the pairing, or lets it play on up to the game limit. Pairings between clearly
+ * different strategies stop after a few dozen games, so the games go to the close ones.
+ * Team member(s) responsible: Giovanny
+ */
+public class Tournament {
+
+    private static final int PLAYERS = 2;
+
+    private final List<Entrant> entrants;
+    private final TournamentConfig config;
+    private final Sprt sprt;
+    private final EloRatings ratings;
+    private final List<Pairing> pairings = new ArrayList<>();
+    private final long[] games;
+    private final double[] scores;
+    private int roundsPlayed;
+
+    /**
+     * Constructor for Tournament
+     *
+     * @param entrants The strategies, at least two
+     * @param config   The options of the tournament
+     * Team member(s) responsible: Giovanny
+     */
+    public Tournament(List<Entrant> entrants, TournamentConfig config) {
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least 2 strategies");
+        }
+        this.entrants = new ArrayList<>(entrants);
+        this.config = config;
+        this.sprt = config.getSprt();
+        this.ratings = new EloRatings(entrants.size(), EloRatings.DEFAULT_K_FACTOR);
+        this.games = new long[entrants.size()];
+        this.scores = new double[entrants.size()];
+        for (int first = 0; first < entrants.size(); first++) {
+            for (int second = first + 1; second < entrants.size(); second++) {
+                pairings.add(new Pairing(first, second, SimulationRunner.gameSeed(config.getSeed(), pairings.size())));
+            }
+        }
+    }
+
+    /**
+     * Entry point for --tournament. Parses the options, enters the chosen strategies and profiles,
+     * plays the tournament and prints the standings.
+     *
+     * @param args Command line arguments
+     * Team member(s) responsible: Giovanny
+     */
+    public static void runFromCommandLine(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        TournamentConfig config;
+        try {
+            config = TournamentConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(TournamentConfig.usage());
+            System.exit(2);
+            return;
+        }
+        List<MctsSearch> searches = Collections.synchronizedList(new ArrayList<>());
+        try {
+            new Tournament(entrants(config, searches), config).run(System.out);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        } finally {
+            searches.forEach(MctsSearch::close);
+        }
+    }
+
+    /**
+     * The entrants a --tournament run plays: the chosen built-in strategies, then one value-based
+     * CpuController per profile file, named after the file.
+     * The mcts strategy searches with one rollout thread and a rollout limit, so its games are the same
+     * whatever the thread count. Each tournament thread gets its own search, added to searches
+     * so the caller can close them.
+     *
+     * @param config   The tournament options
+     * @param searches Where every search made for the mcts strategy is added
+     * @return the entrants
+     * @throws IOException if a profile cannot be read
+     * Team member(s) responsible: Giovanny
+     */
+    static List<Entrant> entrants(TournamentConfig config, List<MctsSearch> searches) throws IOException {
+        List<Entrant> entrants = new ArrayList<>();
+        for (String strategy : config.getStrategies()) {
+            switch (strategy) {
+                case "value":
+                    entrants.add(new Entrant(strategy, CpuControllerFactory.DEFAULT));
+                    break;
+                case "mcts":
+                    MctsConfig mcts = new MctsConfig(0, 1, config.getMctsRollouts(),
+                            MctsConfig.DEFAULT_ROLLOUT_TURNS, MctsConfig.DEFAULT_EXPLORATION);
+                    ThreadLocal<MctsSearch> search = ThreadLocal.withInitial(() -> {
+                        MctsSearch threadSearch = new MctsSearch(BoardLayout.standard(), mcts);
+                        searches.add(threadSearch);
+                        return threadSearch;
+                    });
+                    entrants.add(new Entrant(strategy,
+                            (seat, cpu, random) -> new MctsCpuController(cpu, random, search.get())));
+                    break;
+                default:
+                    entrants.add(new Entrant(strategy,
+                            (seat, cpu, random) -> new ExpectimaxCpuController(cpu, random)));
+                    break;
+            }
+        }
+        for (Path file : config.getProfiles()) {
+            CpuProfile profile = CpuProfile.load(file);
+            entrants.add(new Entrant(file.getFileName().toString(),
+                    (seat, cpu, random) -> new CpuController(cpu, random, profile)));
+        }
+        return entrants;
+    }
+
+    /**
+     * Plays rounds until no pairing is left to play or the round limit is reached, then prints the standings.
+     *
+     * @param report Where the standings are printed, or null for none
+     * @return the pairings, in the order the entrants were given
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Pairing> run(PrintStream report) {
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(config.getThreads());
+        try {
+            while (config.getRounds() == 0 || roundsPlayed < config.getRounds()) {
+                List<Pairing> round = config.getFormat() == TournamentFormat.SWISS ? swissRound() : openPairings();
+                if (round.isEmpty()) {
+                    break;
+                }
+                playRound(pool, round);
+                roundsPlayed++;
+            }
+        } finally {
+            pool.shutdown();
+        }
+        if (report != null) {
+            printReport(report, System.nanoTime() - start);
+        }
+        return pairings;
+    }
+
+    private void playRound(ForkJoinPool pool, List<Pairing> round) {
+        List<Callable<GameResult[]>> tasks = new ArrayList<>();
+        for (Pairing pairing : round) {
+            int played = (int) (pairing.getGames() / PLAYERS);
+            for (int pair = 0; pair < config.getPairsPerRound(); pair++) {
+                long seed = pairing.pairSeed(played + pair);
+                tasks.add(() -> new GameResult[]{play(pairing, seed, 0), play(pairing, seed, 1)});
+            }
+        }
+        List<Future<GameResult[]>> results = pool.invokeAll(tasks);
+        int task = 0;
+        for (Pairing pairing : round) {
+            for (int pair = 0; pair < config.getPairsPerRound(); pair++) {
+                GameResult[] both = get(results.get(task++));
+                for (int firstSeat = 0; firstSeat < PLAYERS; firstSeat++) {
+                    record(pairing, both[firstSeat], firstSeat);
+                }
+            }
+            pairing.test(sprt);
+        }
+    }
+
+    private GameResult play(Pairing pairing, long seed, int firstSeat) {
+        CpuControllerFactory first = entrants.get(pairing.getFirst()).getFactory();
+        CpuControllerFactory second = entrants.get(pairing.getSecond()).getFactory();
+        HeadlessGame game = new HeadlessGame(PLAYERS, seed, config.getMaxTurns());
+        game.setControllerFactory((seat, cpu, random) -> seat == firstSeat
+                ? first.create(seat, cpu, random) : second.create(seat, cpu, random));
+        return game.play();
+    }
+
+    private void record(Pairing pairing, GameResult result, int firstSeat) {
+        long drawsBefore = pairing.getDraws();
+        long winsBefore = pairing.getWins();
+        pairing.record(result, firstSeat);
+        double score = pairing.getWins() > winsBefore ? 1 : pairing.getDraws() > drawsBefore ? 0.5 : 0;
+        ratings.record(pairing.getFirst(), pairing.getSecond(), score);
+        games[pairing.getFirst()]++;
+        games[pairing.getSecond()]++;
+        scores[pairing.getFirst()] += score;
+        scores[pairing.getSecond()] += 1 - score;
+    }
+
+    private static GameResult[] get(Future<GameResult[]> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during a tournament", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A tournament game failed", e.getCause());
+        }
+    }
+
+    private boolean isOpen(Pairing pairing) {
+        return pairing.getDecision() == Sprt.CONTINUE
+                && pairing.getGames() + (long) PLAYERS * config.getPairsPerRound() <= config.getMaxGames();
+    }
+
+    private List<Pairing> openPairings() {
+        List<Pairing> open = new ArrayList<>();
+        for (Pairing pairing : pairings) {
+            if (isOpen(pairing)) {
+                open.add(pairing);
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Pairs the entrants from the highest rated down, each with the next highest rated one it still has
+     * an open pairing with. An entrant left without a partner sits the round out.
+     */
+    private List<Pairing> swissRound() {
+        List<Integer> order = standings();
+        boolean[] paired = new boolean[entrants.size()];
+        List<Pairing> round = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            int first = order.get(i);
+            for (int j = i + 1; j < order.size() && !paired[first]; j++) {
+                int second = order.get(j);
+                Pairing pairing = getPairing(first, second);
+                if (!paired[second] && isOpen(pairing)) {
+                    paired[first] = true;
+                    paired[second] = true;
+                    round.add(pairing);
+                }
+            }
+        }
+        return round;
+    }
+
+    /**
+     * @return the entrant indexes, highest rated first
+     */
+    private List<Integer> standings() {
+        List<Integer> order = new ArrayList<>();
+        for (int entrant = 0; entrant < entrants.size(); entrant++) {
+            order.add(entrant);
+        }
+        order.sort(Comparator.comparingDouble((Integer entrant) -> -ratings.getRating(entrant))
+                .thenComparingInt(entrant -> entrant));
+        return order;
+    }
+
+    /**
+     * @param first  Index of one entrant
+     * @param second Index of another
+     * @return the pairing of the two, in whichever order they were given to the tournament
+     * Team member(s) responsible: Giovanny
+     */
+    public Pairing getPairing(int first, int second) {
+        int low = Math.min(first, second);
+        int high = Math.max(first, second);
+        // Pairings are listed (0,1), (0,2), ..., (1,2), ...
+        int n = entrants.size();
+        return pairings.get(low * (2 * n - low - 1) / 2 + high - low - 1);
+    }
+
+    /**
+     * @return the Elo ratings of the entrants
+     * Team member(s) responsible: Giovanny
+     */
+    public EloRatings getRatings() {
+        return ratings;
+    }
+
+    /**
+     * @param entrant Index of an entrant
+     * @return its score over all its games, from 0 to 1, or 0.5 before it has played
+     * Team member(s) responsible: Giovanny
+     */
+    public double getScore(int entrant) {
+        return games[entrant] == 0 ? 0.5 : scores[entrant] / games[entrant];
+    }
+
+    /**
+     * @return Rounds played so far
+     * Team member(s) responsible: Giovanny
+     */
+    public int getRoundsPlayed() {
+        return roundsPlayed;
+    }
+
+    private void printReport(PrintStream out, long elapsedNanos) {
+        long total = 0;
+        for (Pairing pairing : pairings) {
+            total += pairing.getGames();
+        }
+        String format = config.getFormat().name().toLowerCase(Locale.ROOT).replace('_', '-');
+        out.printf("Played %d games in %d rounds (%s, seed %d) on %d threads in %.3f s%n",
+                total, roundsPlayed, format, config.getSeed(), config.getThreads(), elapsedNanos / 1_000_000_000.0);
+        out.println("Standings:");
+        for (int entrant : standings()) {
+            out.printf("  %-20s Elo %6.0f  score %5.1f%% of %d games%n", entrants.get(entrant).getName(),
+                    ratings.getRating(entrant), 100 * getScore(entrant), games[entrant]);
+        }
+        out.println("Pairings:");
+        for (Pairing pairing : pairings) {
+            String first = entrants.get(pairing.getFirst()).getName();
+            String second = entrants.get(pairing.getSecond()).getName();
+            String verdict = pairing.getDecision() == Sprt.FIRST ? first + " is stronger"
+                    : pairing.getDecision() == Sprt.SECOND ? second + " is stronger" : "undecided";
+            out.printf("  %s vs %s: +%d =%d -%d, LLR %.2f, %s%n", first, second, pairing.getWins(),
+                    pairing.getDraws(), pairing.getLosses(), pairing.getLlr(), verdict);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Holds the options of a tournament: format, games per round, game limit, stopping test and seed,
+ * and the strategies a --tournament run enters, parsed from the command line.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Options of a tournament.
+ * Team member(s) responsible: Giovanny
+ */
+public class TournamentConfig {
+
+    public static final String TOURNAMENT_FLAG = "--tournament";
+    public static final int DEFAULT_PAIRS_PER_ROUND = 8;
+    public static final int DEFAULT_MAX_GAMES = 2000;
+    public static final double DEFAULT_ELO_MARGIN = 30;
+    public static final double DEFAULT_ERROR_RATE = 0.05;
+    public static final int DEFAULT_MAX_TURNS = 1000;
+    public static final int DEFAULT_MCTS_ROLLOUTS = 100;
+    /** The built-in strategies a --tournament run can enter by name */
+    public static final List<String> STRATEGIES = List.of("value", "mcts", "expectimax");
+
+    private final TournamentFormat format;
+    private final int rounds;
+    private final int pairsPerRound;
+    private final int maxGames;
+    private final double eloMargin;
+    private final double alpha;
+    private final double beta;
+    private final long seed;
+    private final int maxTurns;
+    private final int threads;
+    private final List<String> strategies;
+    private final List<Path> profiles;
+    private final int mctsRollouts;
+
+    /**
+     * A round robin on every core with the default round size, game limit and stopping test.
+     *
+     * @param seed Master seed every game seed is derived from
+     * Team member(s) responsible: Giovanny
+     */
+    public TournamentConfig(long seed) {
+        this(TournamentFormat.ROUND_ROBIN, 0, DEFAULT_PAIRS_PER_ROUND, DEFAULT_MAX_GAMES, DEFAULT_ELO_MARGIN,
+                DEFAULT_ERROR_RATE, DEFAULT_ERROR_RATE, seed, DEFAULT_MAX_TURNS,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor for TournamentConfig
+     *
+     * @param format        How strategies are paired each round
+     * @param rounds        Most rounds to play, or 0 to play until every pairing is decided (round robin only)
+     * @param pairsPerRound Pairs of games each pairing plays per round; the two games of a pair share
+     *                      a seed and swap seats
+     * @param maxGames      Most games a pairing plays before it is called undecided
+     * @param eloMargin     Elo difference either way the stopping test tells apart
+     * @param alpha         Chance of the test deciding for the weaker strategy of a pairing at the margin
+     * @param beta          Chance of the test deciding for the weaker strategy the other way round
+     * @param seed          Master seed every game seed is derived from
+     * @param maxTurns      Turn limit after which a game is a draw
+     * @param threads       Number of worker threads playing games
+     * Team member(s) responsible: Giovanny
+     */
+    public TournamentConfig(TournamentFormat format, int rounds, int pairsPerRound, int maxGames, double eloMargin,
+                            double alpha, double beta, long seed, int maxTurns, int threads) {
+        this(format, rounds, pairsPerRound, maxGames, eloMargin, alpha, beta, seed, maxTurns, threads,
+                List.of(), List.of(), DEFAULT_MCTS_ROLLOUTS);
+    }
+
+    /**
+     * Constructor for TournamentConfig, with the strategies a --tournament run enters
+     *
+     * @param format        How strategies are paired each round
+     * @param rounds        Most rounds to play, or 0 to play until every pairing is decided (round robin only)
+     * @param pairsPerRound Pairs of games each pairing plays per round
+     * @param maxGames      Most games a pairing plays before it is called undecided
+     * @param eloMargin     Elo difference either way the stopping test tells apart
+     * @param alpha         Chance of the test deciding for the weaker strategy of a pairing at the margin
+     * @param beta          Chance of the test deciding for the weaker strategy the other way round
+     * @param seed          Master seed every game seed is derived from
+     * @param maxTurns      Turn limit after which a game is a draw
+     * @param threads       Number of worker threads playing games
+     * @param strategies    Built-in strategies to enter, from STRATEGIES
+     * @param profiles      Files of CpuProfiles to enter, each played by the value-based CpuController
+     * @param mctsRollouts  Rollouts each decision of the mcts strategy plays
+     * Team member(s) responsible: Giovanny
+     */
+    public TournamentConfig(TournamentFormat format, int rounds, int pairsPerRound, int maxGames, double eloMargin,
+                            double alpha, double beta, long seed, int maxTurns, int threads,
+                            List<String> strategies, List<Path> profiles, int mctsRollouts) {
+        for (String strategy : strategies) {
+            if (!STRATEGIES.contains(strategy)) {
+                throw new IllegalArgumentException("Unknown strategy: " + strategy + " (expected one of "
+                        + String.join(", ", STRATEGIES) + ")");
+            }
+        }
+        if (mctsRollouts < 1) {
+            throw new IllegalArgumentException("--mcts-rollouts must be positive");
+        }
+        if (rounds < 0 || (rounds == 0 && format == TournamentFormat.SWISS)) {
+            throw new IllegalArgumentException("A Swiss tournament needs a number of rounds");
+        }
+        if (pairsPerRound < 1 || maxGames < 2) {
+            throw new IllegalArgumentException("Pairings must play at least 1 pair of games");
+        }
+        if (maxTurns < 1 || threads < 1) {
+            throw new IllegalArgumentException("The turn limit and thread count must be positive");
+        }
+        // Sprt checks the margin and error rates
+        new Sprt(eloMargin, alpha, beta);
+        this.format = format;
+        this.rounds = rounds;
+        this.pairsPerRound = pairsPerRound;
+        this.maxGames = maxGames;
+        this.eloMargin = eloMargin;
+        this.alpha = alpha;
+        this.beta = beta;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+        this.strategies = List.copyOf(strategies);
+        this.profiles = List.copyOf(profiles);
+        this.mctsRollouts = mctsRollouts;
+    }
+
+    /**
+     * Checks if the command line asks for a tournament
+     *
+     * @param args Command line arguments
+     * @return true if --tournament is present
+     * Team member(s) responsible: Giovanny
+     */
+    public static boolean isTournamentRequest(String[] args) {
+        for (String arg : args) {
+            if (TOURNAMENT_FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses the command line options.
+     * Unknown options and missing values throw an IllegalArgumentException.
+     * Without --strategies every built-in strategy is entered; each --profile adds one more entrant.
+     *
+     * @param args Command line arguments
+     * @return the parsed configuration
+     * Team member(s) responsible: Giovanny
+     */
+    public static TournamentConfig parse(String[] args) {
+        TournamentFormat format = TournamentFormat.ROUND_ROBIN;
+        int rounds = 0;
+        int pairsPerRound = DEFAULT_PAIRS_PER_ROUND;
+        int maxGames = DEFAULT_MAX_GAMES;
+        long seed = System.nanoTime();
+        int maxTurns = DEFAULT_MAX_TURNS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<String> strategies = STRATEGIES;
+        List<Path> profiles = new ArrayList<>();
+        int mctsRollouts = DEFAULT_MCTS_ROLLOUTS;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case TOURNAMENT_FLAG:
+                    break;
+                case "--format":
+                    format = parseFormat(valueAfter(args, i++));
+                    break;
+                case "--rounds":
+                    rounds = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--pairs":
+                    pairsPerRound = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--max-games":
+                    maxGames = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(valueAfter(args, i++));
+                    break;
+                case "--max-turns":
+                    maxTurns = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--strategies":
+                    strategies = List.of(valueAfter(args, i++).split(","));
+                    break;
+                case "--profile":
+                    profiles.add(Path.of(valueAfter(args, i++)));
+                    break;
+                case "--mcts-rollouts":
+                    mctsRollouts = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        return new TournamentConfig(format, rounds, pairsPerRound, maxGames, DEFAULT_ELO_MARGIN,
+                DEFAULT_ERROR_RATE, DEFAULT_ERROR_RATE, seed, maxTurns, threads, strategies, profiles, mctsRollouts);
+    }
+
+    private static TournamentFormat parseFormat(String name) {
+        for (TournamentFormat format : TournamentFormat.values()) {
+            if (format.name().replace('_', '-').equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown format: " + name + " (expected round-robin or swiss)");
+    }
+
+    private static String valueAfter(String[] args, int index) {
+        if (index + 1 >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index]);
+        }
+        return args[index + 1];
+    }
+
+    /**
+     * Usage text for the tournament options
+     * Team member(s) responsible: Giovanny
+     */
+    public static String usage() {
+        return "Usage: java -jar MonopolyProject.jar --tournament [--format round-robin|swiss] [--rounds <count>]"
+                + " [--pairs <count>] [--max-games <count>] [--seed <long>] [--max-turns <turns>]"
+                + " [--threads <count>] [--strategies value,mcts,expectimax] [--profile <file>]..."
+                + " [--mcts-rollouts <count>]";
+    }
+
+    /**
+     * @return How strategies are paired each round
+     * Team member(s) responsible: Giovanny
+     */
+    public TournamentFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return Most rounds to play, 0 for no limit
+     * Team member(s) responsible: Giovanny
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * @return Pairs of games each pairing plays per round
+     * Team member(s) responsible: Giovanny
+     */
+    public int getPairsPerRound() {
+        return pairsPerRound;
+    }
+
+    /**
+     * @return Most games a pairing plays
+     * Team member(s) responsible: Giovanny
+     */
+    public int getMaxGames() {
+        return maxGames;
+    }
+
+    /**
+     * @return the stopping test of a pairing
+     * Team member(s) responsible: Giovanny
+     */
+    public Sprt getSprt() {
+        return new Sprt(eloMargin, alpha, beta);
+    }
+
+    /**
+     * @return Master seed every game seed is derived from
+     * Team member(s) responsible: Giovanny
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Turn limit after which a game is a draw
+     * Team member(s) responsible: Giovanny
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * @return Number of worker threads playing games
+     * Team member(s) responsible: Giovanny
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return Built-in strategies a --tournament run enters
+     * Team member(s) responsible: Giovanny
+     */
+    public List<String> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * @return Files of the CpuProfiles a --tournament run enters
+     * Team member(s) responsible: Giovanny
+     */
+    public List<Path> getProfiles() {
+        return profiles;
+    }
+
+    /**
+     * @return Rollouts each decision of the mcts strategy plays
+     * Team member(s) responsible: Giovanny
+     */
+    public int getMctsRollouts() {
+        return mctsRollouts;
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: This enum selects how a tournament pairs its strategies each round.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+public enum TournamentFormat {
+
+    ROUND_ROBIN, // Every pairing plays each round until its test decides or it reaches the game limit
+    SWISS        // Each round pairs strategies with the nearest rated ones they are still undecided against
+}
@@ -0,0 +1,236 @@
+/*
+ * CSCI 234: Intro to Software Engineering
+ * Group: Giovanny, Jamell, Matt, Deborah
+ * Purpose: Holds the command line options of a tuning run: generations, games per candidate,
+ * seed, threads and the starting, checkpoint and profile files.
+ * Team Member(s) responsible: Giovanny
+ * */
+
+package Model.Simulation;
+
+import java.nio.file.Path;
+
+/**
+ * Options of a ProfileTuner run.
+ * Team member(s) responsible: Giovanny
+ */
+public class TunerConfig {
+
+    public static final String TUNE_FLAG = "--tune";
+    private static final int DEFAULT_PAIRS = 16;
+    private static final int DEFAULT_MAX_TURNS = 1000;
+    private static final String DEFAULT_CHECKPOINT = "tuner-checkpoint.properties";
+    private static final String DEFAULT_PROFILE = "cpu-profile.properties";
+
+    private final int generations;
+    private final int pairs;
+    private final long seed;
+    private final int maxTurns;
+    private final int threads;
+    private final Path checkpoint;
+    private final Path profile;
+    private final Path start;
+
+    /**
+     * Constructor for TunerConfig
+     *
+     * @param generations Generations to run, counting any already in the checkpoint
+     * @param pairs       Pairs of games each candidate plays against the starting profile per generation
+     * @param seed        Master seed every game seed is derived from
+     * @param maxTurns    Turn limit after which a game is a draw
+     * @param threads     Number of worker threads playing games
+     * @param checkpoint  File the tuner's state is saved to after every generation and resumed from
+     * @param profile     File the tuned profile is exported to after every generation
+     * Team member(s) responsible: Giovanny
+     */
+    public TunerConfig(int generations, int pairs, long seed, int maxTurns, int threads,
+                       Path checkpoint, Path profile) {
+        this(generations, pairs, seed, maxTurns, threads, checkpoint, profile, null);
+    }
+
+    /**
+     * Constructor for TunerConfig
+     *
+     * @param generations Generations to run, counting any already in the checkpoint
+     * @param pairs       Pairs of games each candidate plays against the starting profile per generation
+     * @param seed        Master seed every game seed is derived from
+     * @param maxTurns    Turn limit after which a game is a draw
+     * @param threads     Number of worker threads playing games
+     * @param checkpoint  File the tuner's state is saved to after every generation and resumed from
+     * @param profile     File the tuned profile is exported to after every generation
+     * @param start       File of the profile the search starts from, or null for the default profile
+     * Team member(s) responsible: Giovanny
+     */
+    public TunerConfig(int generations, int pairs, long seed, int maxTurns, int threads,
+                       Path checkpoint, Path profile, Path start) {
+        if (generations < 1) {
+            throw new IllegalArgumentException("--tune needs at least 1 generation");
+        }
+        if (pairs < 1) {
+            throw new IllegalArgumentException("--pairs must be positive");
+        }
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("--max-turns must be positive");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("--threads must be positive");
+        }
+        this.generations = generations;
+        this.pairs = pairs;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+        this.threads = threads;
+        this.checkpoint = checkpoint;
+        this.profile = profile;
+        this.start = start;
+    }
+
+    /**
+     * Checks if the command line asks for a tuning run
+     *
+     * @param args Command line arguments
+     * @return true if --tune is present
+     * Team member(s) responsible: Giovanny
+     */
+    public static boolean isTuneRequest(String[] args) {
+        for (String arg : args) {
+            if (TUNE_FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses the command line options.
+     * Unknown options and missing values throw an IllegalArgumentException.
+     * The seed defaults to a fixed value, so a run resumed from its checkpoint plays the same games.
+     *
+     * @param args Command line arguments
+     * @return the parsed configuration
+     * Team member(s) responsible: Giovanny
+     */
+    public static TunerConfig parse(String[] args) {
+        int generations = 0;
+        int pairs = DEFAULT_PAIRS;
+        long seed = 0;
+        int maxTurns = DEFAULT_MAX_TURNS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path checkpoint = Path.of(DEFAULT_CHECKPOINT);
+        Path profile = Path.of(DEFAULT_PROFILE);
+        Path start = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case TUNE_FLAG:
+                    generations = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--pairs":
+                    pairs = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(valueAfter(args, i++));
+                    break;
+                case "--max-turns":
+                    maxTurns = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(valueAfter(args, i++));
+                    break;
+                case "--checkpoint":
+                    checkpoint = Path.of(valueAfter(args, i++));
+                    break;
+                case "--out":
+                    profile = Path.of(valueAfter(args, i++));
+                    break;
+                case "--profile":
+                    start = Path.of(valueAfter(args, i++));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        return new TunerConfig(generations, pairs, seed, maxTurns, threads, checkpoint, profile, start);
+    }
+
+    private static String valueAfter(String[] args, int index) {
+        if (index + 1 >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index]);
+        }
+        return args[index + 1];
+    }
+
+    /**
+     * Usage text for the tuning options
+     * Team member(s) responsible: Giovanny
+     */
+    public static String usage() {
+        return "Usage: java -jar MonopolyProject.jar --tune <generations> [--pairs <count>] [--seed <long>]"
+                + " [--max-turns <turns>] [--threads <count>] [--checkpoint <file>] [--out <file>]"
+                + " [--profile <file>]";
+    }
+
+    /**
+     * @return Generations to run, counting any already in the checkpoint
+     * Team member(s) responsible: Giovanny
+     */
+    public int getGenerations() {
+        return generations;
+    }
+
+    /**
+     * @return Pairs of games each candidate plays per generation
+     * Team member(s) responsible: Giovanny
+     */
+    public int getPairs() {
+        return pairs;
+    }
+
+    /**
+     * @return Master seed every game seed is derived from
+     * Team member(s) responsible: Giovanny
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Turn limit per game
+     * Team member(s) responsible: Giovanny
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * @return Number of worker threads
+     * Team member(s) responsible: Giovanny
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return File the tuner's state is saved to and resumed from
+     * Team member(s) responsible: Giovanny
+     */
+    public Path getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * @return File the tuned profile is exported to
+     * Team member(s) responsible: Giovanny
+     */
+    public Path getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return File of the profile the search starts from, or null for the default profile
+     * Team member(s) responsible: Giovanny
+     */
+    public Path getStart() {
+        return start;
+    }
+}
@@ -9,6 +9,8 @@
 package Model.Spaces;
 import Model.Board.Player;
 import Model.Cards.ChanceCard;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
 
 public class ChanceSpace extends BoardSpace {
@@ -77,7 +79,7 @@ public class ChanceSpace extends BoardSpace {
     public void onLanding(Player player)  {
         String cardDrawn = chanceDeck.drawCard();
         //chanceDeck.useCard(cardDrawn,player);
-        System.out.println(player.getName() + " drew a chance card: " + cardDrawn);
+        EventLog.log(EventType.CARD_DRAWN, player, "chance card", cardDrawn);
     }
 
     /**
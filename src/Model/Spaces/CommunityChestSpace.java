@@ -12,6 +12,8 @@ package Model.Spaces;
 
 import Model.Board.Player;
 import Model.Cards.CommunityChestCard;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
 
 public class CommunityChestSpace extends BoardSpace {
@@ -79,7 +81,7 @@ public class CommunityChestSpace extends BoardSpace {
     public void onLanding(Player player) throws PlayerNotFoundException {
         String cardDrawn = communityChestDeck.drawCard();
         communityChestDeck.useCard(cardDrawn, player);
-        System.out.println(player.getName() + " drew a community chest card: " + cardDrawn);
+        EventLog.log(EventType.CARD_DRAWN, player, "community chest card", cardDrawn);
     }
 
     /**
@@ -20,8 +20,17 @@ public class GoSpace extends BoardSpace {
      * Team member(s) responsible: Deborah
      */
     public GoSpace() {
+        this(Banker.getInstance());
+    }
+
+    /**
+     * Constructor for GoSpace that pays GO money through the given banker
+     * @param banker The banker of the game this space belongs to
+     * Team member(s) responsible: Giovanny
+     */
+    public GoSpace(Banker banker) {
         super("Go", 0);
-        this.banker = Banker.getInstance();
+        this.banker = banker;
     }
 
     /**
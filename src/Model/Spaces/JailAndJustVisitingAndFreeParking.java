@@ -11,6 +11,8 @@ package Model.Spaces;
 import Model.Board.Banker;
 import Model.Board.Dice;
 import Model.Board.Player;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
 
 public class JailAndJustVisitingAndFreeParking extends BoardSpace {
@@ -24,8 +26,20 @@ public class JailAndJustVisitingAndFreeParking extends BoardSpace {
      * @param position Team member(s) responsible: Deborah
      */
     public JailAndJustVisitingAndFreeParking(String name, int position) {
+        this(name, position, Banker.getInstance());
+    }
+
+    /**
+     * Constructor for JustVisitingAndFreeParking that charges the jail fine through the given banker
+     *
+     * @param name
+     * @param position
+     * @param banker The banker of the game this space belongs to
+     * Team member(s) responsible: Giovanny
+     */
+    public JailAndJustVisitingAndFreeParking(String name, int position, Banker banker) {
         super(name, position);
-        this.banker = Banker.getInstance();
+        this.banker = banker;
     }
 
     /**
@@ -81,11 +95,10 @@ public class JailAndJustVisitingAndFreeParking extends BoardSpace {
             try {
                 handleJailStay(player, player.getBoard().getDice());
             } catch (PlayerNotFoundException e) {
-                System.out.println("Error: " + e.getMessage());
+                EventLog.log(EventType.JAIL_FAILED, player, e.getMessage());
             }
         } else {
-            System.out.println(player.getName() + " is just visiting jail");
-
+            EventLog.log(EventType.JUST_VISITING, player);
         }
     }
 
@@ -102,23 +115,23 @@ public class JailAndJustVisitingAndFreeParking extends BoardSpace {
             return true;
         }
         dice.roll();
-        System.out.println(player.getName() + "rolled a " + dice.getSum());
+        EventLog.log(EventType.JAIL_ROLL, player, dice.getSum());
         if (dice.isDouble()) {
             releaseFromJail(player);
-            System.out.println(player.getName() + " rolled doubles and is now out of jail!");
+            EventLog.log(EventType.JAIL_DOUBLES, player);
             return true;
         }
         player.incrementTurnsInJail();
 
         if (player.getTurnsInJail() >= MAX_JAIL_TURNS) {
             if (banker.getBalance(player) < JAIL_FINE) {
-                System.out.println(player.getName() + " does not have enough money to pay the fine and is now bankrupt!");
+                EventLog.log(EventType.JAIL_FINE_UNAFFORDABLE, player, JAIL_FINE);
                 return false;
             } else {
                 return payToGetOutOfJail(player);
             }
         }
-        System.out.println(player.getName() + " has been in jail for " + player.getTurnsInJail() + " turns");
+        EventLog.log(EventType.JAIL_TURN, player, player.getTurnsInJail());
         return false;
     }
 
@@ -133,12 +146,12 @@ public class JailAndJustVisitingAndFreeParking extends BoardSpace {
             return false;
         }
         if (banker.getBalance(player) < JAIL_FINE) {
-            System.out.println(player.getName() + " does not have enough money to pay the fine!");
+            EventLog.log(EventType.JAIL_FINE_UNAFFORDABLE, player, JAIL_FINE);
             return false;
         }
         banker.withdraw(player, JAIL_FINE);
         releaseFromJail(player);
-        System.out.println(player.getName() + " paid $" + JAIL_FINE + " to get out of jail!");
+        EventLog.log(EventType.JAIL_FINE_PAID, player, JAIL_FINE);
         return true;
     }
 
@@ -154,13 +167,13 @@ public class JailAndJustVisitingAndFreeParking extends BoardSpace {
         }
 
         if (!player.hasGetOutOfJailFreeCard()) {
-            System.out.println(player.getName() + " does not have a Get Out of Jail Free card!");
+            EventLog.log(EventType.NO_JAIL_CARD, player);
             return false;
         }
 
         player.useGetOutOfJailFreeCard();
         releaseFromJail(player);
-        System.out.println(player.getName() + " used a Get Out of Jail Free card!");
+        EventLog.log(EventType.JAIL_CARD_USED, player);
         return true;
     }
 
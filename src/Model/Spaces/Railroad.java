@@ -10,13 +10,16 @@
 package Model.Spaces;
 
 import Model.Board.Banker;
+import Model.Board.OwnershipMask;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
 import Model.Board.Player;
+import Model.Board.RentTable;
 import Model.Property.Property;
 
 public class Railroad extends BoardSpace {
     private static final int PURCHASE_PRICE = 200;
-    private static final int BASE_RENT = 25;
     private Player owner;
     private Banker banker;
 
@@ -26,9 +29,20 @@ public class Railroad extends BoardSpace {
      * @param position Team member(s) responsible: Deborah
      */
     public Railroad(String name, int position) {
+        this(name, position, Banker.getInstance());
+    }
+
+    /**
+     * Constructor for Railroad that collects rent through the given banker
+     * @param name
+     * @param position
+     * @param banker The banker of the game this space belongs to
+     * Team member(s) responsible: Giovanny
+     */
+    public Railroad(String name, int position, Banker banker) {
         super(name, position);
         this.owner = null;
-        this.banker = Banker.getInstance();
+        this.banker = banker;
     }
 
 
@@ -52,7 +66,13 @@ public class Railroad extends BoardSpace {
      */
     @Override
     public void setOwner(Player owner) {
+        if (this.owner != null) {
+            this.owner.removeOwnedSpace(getPosition());
+        }
         this.owner = owner;
+        if (owner != null) {
+            owner.addOwnedSpace(getPosition());
+        }
     }
 
     /**
@@ -79,14 +99,12 @@ public class Railroad extends BoardSpace {
             banker.addAvailableProperty(this);
             banker.sellProperty(this, player);
             owner = player;
-            System.out.println(player.getName() + " purchased " + getName() + " for $" + PURCHASE_PRICE);
         }
         else if (owner != player)
         {
             int rent = calculateRent(player);
-            banker.withdraw(player, rent);
-            banker.deposit(owner, rent);
-            System.out.println(player.getName() + " landed on " + getName() + " and paid " + owner.getName() + " $" + rent + " in rent");
+            banker.payRent(player, owner, rent);
+            EventLog.log(EventType.RENT_PAID, player, getName(), owner.getName(), rent, 0);
         }
     }
 
@@ -110,19 +128,8 @@ public class Railroad extends BoardSpace {
     public int calculateRent(Player player) throws PlayerNotFoundException {
         if (owner == null)
         {return 0;}
-        int numRailroads = 0;
-        for (BoardSpace prop : banker.getPlayerProperties(owner)) {
-            if (prop instanceof Railroad) {
-                numRailroads++;
-            }
-        }
-        if (numRailroads == 1)
-        {return BASE_RENT;
-        } else if (numRailroads == 2)
-        {return BASE_RENT * 2;
-        } else if (numRailroads == 3)
-        {return BASE_RENT * 4;
-        }return BASE_RENT * numRailroads;
+        int numRailroads = OwnershipMask.count(owner.getOwnedSpaces(), OwnershipMask.RAILROADS);
+        return RentTable.getRailroadRent(numRailroads);
     }
 
 }
\ No newline at end of file
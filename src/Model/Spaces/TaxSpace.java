@@ -9,6 +9,8 @@
 package Model.Spaces;
 
 import Model.Board.Banker;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
 import Model.Board.Player;
 
@@ -21,8 +23,19 @@ public class TaxSpace extends BoardSpace {
     protected Banker banker;
 
     public TaxSpace(String name, int position) {
+        this(name, position, Banker.getInstance());
+    }
+
+    /**
+     * Constructor for TaxSpace that charges tax through the given banker
+     * @param name
+     * @param position
+     * @param banker The banker of the game this space belongs to
+     * Team member(s) responsible: Giovanny
+     */
+    public TaxSpace(String name, int position, Banker banker) {
         super(name, position);
-        this.banker = Banker.getInstance();
+        this.banker = banker;
     }
 
     /**
@@ -78,11 +91,10 @@ public class TaxSpace extends BoardSpace {
 
             // Actually withdraw the money from the player
             banker.withdraw(player, taxToPay);
-
-            System.out.println(player.getName() + " chose to pay $" + taxToPay + " in Income Tax.");
+            EventLog.log(EventType.TAX_PAID, player, getName(), taxToPay);
         } else if (getName().equals("Luxury Tax")) {
             banker.withdraw(player, LUXURY_TAX_AMOUNT);
-            System.out.println(player.getName() + " landed on Luxury Tax and paid $" + LUXURY_TAX_AMOUNT);
+            EventLog.log(EventType.TAX_PAID, player, getName(), LUXURY_TAX_AMOUNT);
         }
     }
 
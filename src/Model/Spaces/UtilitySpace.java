@@ -9,8 +9,12 @@
 package Model.Spaces;
 
 import Model.Board.Banker;
+import Model.Board.OwnershipMask;
+import Model.Events.EventLog;
+import Model.Events.EventType;
 import Model.Exceptions.PlayerNotFoundException;
 import Model.Board.Player;
+import Model.Board.RentTable;
 import Model.Board.Dice;
 
 public class UtilitySpace extends BoardSpace {
@@ -28,9 +32,21 @@ public class UtilitySpace extends BoardSpace {
      * @param position Team member(s) responsible: Deborah
      */
     public UtilitySpace(String name, int position) {
+        this(name, position, Banker.getInstance());
+    }
+
+    /**
+     * Constructor for UtilitySpace that collects rent through the given banker
+     *
+     * @param name
+     * @param position
+     * @param banker The banker of the game this space belongs to
+     * Team member(s) responsible: Giovanny
+     */
+    public UtilitySpace(String name, int position, Banker banker) {
         super(name, position);
         this.owner = null;
-        this.banker = Banker.getInstance();
+        this.banker = banker;
     }
 
     /**
@@ -52,7 +68,13 @@ public class UtilitySpace extends BoardSpace {
      */
     @Override
     public void setOwner(Player owner) {
+        if (this.owner != null) {
+            this.owner.removeOwnedSpace(getPosition());
+        }
         this.owner = owner;
+        if (owner != null) {
+            owner.addOwnedSpace(getPosition());
+        }
     }
 
     /**
@@ -84,9 +106,8 @@ public class UtilitySpace extends BoardSpace {
         else if (owner != player)
         {
             int rent = calculateRent(owner);
-            System.out.println(player.getName() + " landed on " + getName() + " and paid " + owner.getName() + " $" + rent + " in rent");
-            banker.withdraw(player, rent);
-            banker.deposit(owner,rent);
+            EventLog.log(EventType.RENT_PAID, player, getName(), owner.getName(), rent, 0);
+            banker.payRent(player, owner, rent);
         }
     }
 
@@ -102,17 +123,8 @@ public class UtilitySpace extends BoardSpace {
             return 0;
         }
         int diceRoll = player.getBoard().getDice().roll();
-        int numUtilities = 0;
-        for (BoardSpace prop : banker.getPlayerProperties(owner)) {
-            if (prop instanceof UtilitySpace) {
-                numUtilities++;
-            }
-        }
-        if (numUtilities == 2) {
-            return diceRoll * 10;
-        } else {
-            return diceRoll * 4;
-        }
+        int numUtilities = OwnershipMask.count(owner.getOwnedSpaces(), OwnershipMask.UTILITIES);
+        return diceRoll * RentTable.getUtilityMultiplier(numUtilities);
     }
 
     /**
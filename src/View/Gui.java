@@ -8,10 +8,16 @@
 package View;
 
 import Controller.BoardController;
+import Model.Analysis.CashFlowLookahead;
 import Model.Board.Banker;
+import Model.Board.OwnershipMask;
 import Model.Board.Player;
+import Model.Board.RentTable;
 import Model.Exceptions.PlayerNotFoundException;
 import Model.Property.Property;
+import Model.Property.PropertyColor;
+import Model.Search.ActionType;
+import Model.Search.Trade;
 import Model.Spaces.BoardSpace;
 
 import javax.swing.*;
@@ -110,6 +116,20 @@ public class Gui {
     private JList<String> propertiesList;
     private Map<Integer, Boolean> mortgagedProperties = new HashMap<>();
 
+    // UI elements for Trade
+    private JComboBox<String> tradePartnerSelector;
+    private JLabel tradeYourMoneyLabel;
+    private JLabel tradeTheirMoneyLabel;
+    private JTextField tradeOfferField;
+    private JTextField tradeRequestField;
+    private DefaultListModel<String> tradeYourPropertiesModel;
+    private DefaultListModel<String> tradeTheirPropertiesModel;
+    private JList<String> tradeYourPropertiesList;
+    private JList<String> tradeTheirPropertiesList;
+    private final List<Player> tradePartners = new ArrayList<>();
+    private final List<BoardSpace> tradeYourSpaces = new ArrayList<>();
+    private final List<BoardSpace> tradeTheirSpaces = new ArrayList<>();
+
     /**
      * PlayerData class to store player information.
      * This includes the player's name, color, position on the board,
@@ -120,6 +140,7 @@ public class Gui {
         private Color color;
         private int position;
         private int money;
+        private double bankruptcyRisk;
         private List<Integer> ownedProperties;
         private String tokenName; // Added for token images
 
@@ -185,7 +206,8 @@ public class Gui {
                     refreshPropertyManagementPanel(null);
                     break;
                 case 2: // Trade
-                    // Update trade panel when selected (not implemented yet)
+                    // Refill the trade panel with the current player's holdings
+                    refreshTradePanel();
                     break;
                 case 3: // Statistics
                     // Update statistics when tab is selected
@@ -436,6 +458,14 @@ public class Gui {
                     } catch (PlayerNotFoundException e) {
                         System.err.println("Error getting balance for " + gamePlayer.getName() + ": " + e.getMessage());
                     }
+
+                    // Chance of going broke on the player's next turn
+                    try {
+                        playerData.bankruptcyRisk = CashFlowLookahead.forPlayer(gamePlayer, banker)
+                                .brokeProbabilityOverTurn();
+                    } catch (PlayerNotFoundException | IllegalArgumentException e) {
+                        playerData.bankruptcyRisk = 0;
+                    }
                     
                     // Update owned properties
                     try {
@@ -1810,7 +1840,7 @@ public class Gui {
                 playerPanel.setBorder(BorderFactory.createLineBorder(player.color, 2));
             }
 
-            playerPanel.setMaximumSize(new Dimension(200, 100));
+            playerPanel.setMaximumSize(new Dimension(200, 120));
 
             JLabel nameLabel = new JLabel(player.name + (i == currentPlayerIndex ? " (Current)" : ""));
             nameLabel.setFont(new Font("Arial", Font.BOLD, 14));
@@ -1827,6 +1857,10 @@ public class Gui {
             JLabel propertiesLabel = new JLabel("Properties: " + player.ownedProperties.size());
             propertiesLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
+            JLabel riskLabel = new JLabel(String.format("Broke risk next turn: %.1f%%",
+                    player.bankruptcyRisk * 100));
+            riskLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
             playerPanel.add(Box.createRigidArea(new Dimension(0, 5)));
             playerPanel.add(nameLabel);
             playerPanel.add(Box.createRigidArea(new Dimension(0, 5)));
@@ -1836,6 +1870,8 @@ public class Gui {
             playerPanel.add(Box.createRigidArea(new Dimension(0, 5)));
             playerPanel.add(propertiesLabel);
             playerPanel.add(Box.createRigidArea(new Dimension(0, 5)));
+            playerPanel.add(riskLabel);
+            playerPanel.add(Box.createRigidArea(new Dimension(0, 5)));
 
             playerInfoPanel.add(playerPanel);
             playerInfoPanel.add(Box.createRigidArea(new Dimension(0, 10)));
@@ -1989,6 +2025,15 @@ public class Gui {
                         // Calculate mortgage value (typically half the purchase price)
                         int mortgageValue = price / 2;
                         mortgageLabel.setText("Mortgage value: $" + mortgageValue);
+                        
+                        // Once a game is running, only enable what the current player can do
+                        if (controller != null && controller.isGameInProgress()) {
+                            Set<ActionType> moves = controller.propertyActions(position);
+                            buyHouseButton.setEnabled(moves.contains(ActionType.BUILD));
+                            sellHouseButton.setEnabled(moves.contains(ActionType.SELL_BUILDING));
+                            mortgageButton.setEnabled(moves.contains(ActionType.MORTGAGE));
+                            unmortgageButton.setEnabled(moves.contains(ActionType.UNMORTGAGE));
+                        }
                     }
                 } else {
                     // No selection - reset to default values
@@ -2048,9 +2093,9 @@ public class Gui {
         propertyDetailsPanel.add(Box.createRigidArea(new Dimension(0, 20)));
         
         // Action buttons
-        JPanel buttonPanel = new JPanel(new GridLayout(2, 2, 5, 5));
+        JPanel buttonPanel = new JPanel(new GridLayout(3, 2, 5, 5));
         buttonPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        buttonPanel.setMaximumSize(new Dimension(300, 100));
+        buttonPanel.setMaximumSize(new Dimension(300, 150));
         
         buyHouseButton = new JButton("Buy House");
         buyHouseButton.setEnabled(false); // Initially disabled until property is selected
@@ -2090,7 +2135,7 @@ public class Gui {
                                     "Buy House", JOptionPane.INFORMATION_MESSAGE);
                             
                             // Update rent based on new house count
-                            int newRent = calculateRentWithHouses(propertyPrice, currentHouses + 1);
+                            int newRent = calculateRentWithHouses(position, currentHouses + 1);
                             rentLabel.setText("Current rent: $" + newRent);
                         } else {
                             // Buy a hotel
@@ -2103,7 +2148,7 @@ public class Gui {
                                 buyHouseButton.setEnabled(false); // Can't buy more than a hotel
                                 
                                 // Update rent for hotel
-                                int hotelRent = calculateRentWithHotel(propertyPrice);
+                                int hotelRent = calculateRentWithHotel(position);
                                 rentLabel.setText("Current rent: $" + hotelRent);
                                 
                                 JOptionPane.showMessageDialog(mainFrame,
@@ -2166,7 +2211,7 @@ public class Gui {
                         buyHouseButton.setEnabled(true); // Can buy houses again
                         
                         // Update rent to reflect 4 houses
-                        int newRent = calculateRentWithHouses(propertyPrice, 4);
+                        int newRent = calculateRentWithHouses(position, 4);
                         rentLabel.setText("Current rent: $" + newRent);
                         
                         JOptionPane.showMessageDialog(mainFrame,
@@ -2182,7 +2227,7 @@ public class Gui {
                         housesLabel.setText("Houses: " + (currentHouses - 1));
                         
                         // Update rent to reflect fewer houses
-                        int newRent = calculateRentWithHouses(propertyPrice, currentHouses - 1);
+                        int newRent = calculateRentWithHouses(position, currentHouses - 1);
                         rentLabel.setText("Current rent: $" + newRent);
                         
                         JOptionPane.showMessageDialog(mainFrame,
@@ -2323,10 +2368,30 @@ public class Gui {
             }
         });
         
+        JButton suggestBuildsButton = new JButton("Suggest Builds");
+        suggestBuildsButton.addActionListener(event -> {
+            if (controller == null || !controller.isGameInProgress() || controller.getCurrentPlayer() == null) {
+                return;
+            }
+            List<Property> builds = controller.suggestBuilds(controller.getCurrentPlayer());
+            StringBuilder message = new StringBuilder();
+            if (builds.isEmpty()) {
+                message.append("Nothing is worth building right now.");
+            } else {
+                message.append("Build in this order:");
+                for (Property property : builds) {
+                    message.append("\n").append(property.getName());
+                }
+            }
+            JOptionPane.showMessageDialog(mainFrame, message.toString(),
+                    "Suggest Builds", JOptionPane.INFORMATION_MESSAGE);
+        });
+        
         buttonPanel.add(buyHouseButton);
         buttonPanel.add(sellHouseButton);
         buttonPanel.add(mortgageButton);
         buttonPanel.add(unmortgageButton);
+        buttonPanel.add(suggestBuildsButton);
         
         propertyDetailsPanel.add(buttonPanel);
         propertyDetailsPanel.add(Box.createVerticalGlue());
@@ -2607,30 +2672,30 @@ public class Gui {
         JPanel yourOfferPanel = new JPanel();
         yourOfferPanel.setLayout(new BoxLayout(yourOfferPanel, BoxLayout.Y_AXIS));
         
-        JLabel yourMoneyLabel = new JLabel("Your money: $0");
-        yourMoneyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        tradeYourMoneyLabel = new JLabel("Your money: $0");
+        tradeYourMoneyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         JLabel offerMoneyLabel = new JLabel("Money to offer:");
         offerMoneyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
-        JTextField offerMoneyField = new JTextField("0");
-        offerMoneyField.setMaximumSize(new Dimension(200, 25));
-        offerMoneyField.setAlignmentX(Component.LEFT_ALIGNMENT);
+        tradeOfferField = new JTextField("0");
+        tradeOfferField.setMaximumSize(new Dimension(200, 25));
+        tradeOfferField.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         JLabel yourPropertiesLabel = new JLabel("Your properties:");
         yourPropertiesLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
-        DefaultListModel<String> yourPropertiesModel = new DefaultListModel<>();
-        JList<String> yourPropertiesList = new JList<>(yourPropertiesModel);
-        yourPropertiesList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
-        JScrollPane yourPropertiesScroll = new JScrollPane(yourPropertiesList);
+        tradeYourPropertiesModel = new DefaultListModel<>();
+        tradeYourPropertiesList = new JList<>(tradeYourPropertiesModel);
+        tradeYourPropertiesList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        JScrollPane yourPropertiesScroll = new JScrollPane(tradeYourPropertiesList);
         yourPropertiesScroll.setAlignmentX(Component.LEFT_ALIGNMENT);
         yourPropertiesScroll.setPreferredSize(new Dimension(200, 200));
         
-        yourOfferPanel.add(yourMoneyLabel);
+        yourOfferPanel.add(tradeYourMoneyLabel);
         yourOfferPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         yourOfferPanel.add(offerMoneyLabel);
-        yourOfferPanel.add(offerMoneyField);
+        yourOfferPanel.add(tradeOfferField);
         yourOfferPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         yourOfferPanel.add(yourPropertiesLabel);
         yourOfferPanel.add(Box.createRigidArea(new Dimension(0, 5)));
@@ -2646,10 +2711,9 @@ public class Gui {
         JLabel selectPlayerLabel = new JLabel("Select player:");
         selectPlayerLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         
-        String[] playerNames = {"Select a player", "Player 2", "Player 3", "Player 4"};
-        JComboBox<String> playerSelector = new JComboBox<>(playerNames);
-        playerSelector.setMaximumSize(new Dimension(200, 25));
-        playerSelector.setAlignmentX(Component.CENTER_ALIGNMENT);
+        tradePartnerSelector = new JComboBox<>(new String[]{"Select a player"});
+        tradePartnerSelector.setMaximumSize(new Dimension(200, 25));
+        tradePartnerSelector.setAlignmentX(Component.CENTER_ALIGNMENT);
         
         JButton proposeTradeButton = new JButton("Propose Trade");
         proposeTradeButton.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -2659,14 +2723,25 @@ public class Gui {
         cancelTradeButton.setAlignmentX(Component.CENTER_ALIGNMENT);
         cancelTradeButton.setMaximumSize(new Dimension(200, 30));
         
+        JButton suggestTradeButton = new JButton("Suggest Trade");
+        suggestTradeButton.setAlignmentX(Component.CENTER_ALIGNMENT);
+        suggestTradeButton.setMaximumSize(new Dimension(200, 30));
+        
+        tradePartnerSelector.addActionListener(event -> refreshTradePartner());
+        proposeTradeButton.addActionListener(event -> proposeTrade());
+        cancelTradeButton.addActionListener(event -> clearTradeOffer());
+        suggestTradeButton.addActionListener(event -> showSuggestedTrade());
+        
         controlsPanel.add(Box.createVerticalGlue());
         controlsPanel.add(selectPlayerLabel);
         controlsPanel.add(Box.createRigidArea(new Dimension(0, 5)));
-        controlsPanel.add(playerSelector);
+        controlsPanel.add(tradePartnerSelector);
         controlsPanel.add(Box.createRigidArea(new Dimension(0, 30)));
         controlsPanel.add(proposeTradeButton);
         controlsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         controlsPanel.add(cancelTradeButton);
+        controlsPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        controlsPanel.add(suggestTradeButton);
         controlsPanel.add(Box.createVerticalGlue());
         
         // Right side - Their assets
@@ -2676,30 +2751,30 @@ public class Gui {
         JPanel theirOfferPanel = new JPanel();
         theirOfferPanel.setLayout(new BoxLayout(theirOfferPanel, BoxLayout.Y_AXIS));
         
-        JLabel theirMoneyLabel = new JLabel("Their money: $0");
-        theirMoneyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        tradeTheirMoneyLabel = new JLabel("Their money: $0");
+        tradeTheirMoneyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         JLabel requestMoneyLabel = new JLabel("Money to request:");
         requestMoneyLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
-        JTextField requestMoneyField = new JTextField("0");
-        requestMoneyField.setMaximumSize(new Dimension(200, 25));
-        requestMoneyField.setAlignmentX(Component.LEFT_ALIGNMENT);
+        tradeRequestField = new JTextField("0");
+        tradeRequestField.setMaximumSize(new Dimension(200, 25));
+        tradeRequestField.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         JLabel theirPropertiesLabel = new JLabel("Their properties:");
         theirPropertiesLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
-        DefaultListModel<String> theirPropertiesModel = new DefaultListModel<>();
-        JList<String> theirPropertiesList = new JList<>(theirPropertiesModel);
-        theirPropertiesList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
-        JScrollPane theirPropertiesScroll = new JScrollPane(theirPropertiesList);
+        tradeTheirPropertiesModel = new DefaultListModel<>();
+        tradeTheirPropertiesList = new JList<>(tradeTheirPropertiesModel);
+        tradeTheirPropertiesList.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        JScrollPane theirPropertiesScroll = new JScrollPane(tradeTheirPropertiesList);
         theirPropertiesScroll.setAlignmentX(Component.LEFT_ALIGNMENT);
         theirPropertiesScroll.setPreferredSize(new Dimension(200, 200));
         
-        theirOfferPanel.add(theirMoneyLabel);
+        theirOfferPanel.add(tradeTheirMoneyLabel);
         theirOfferPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         theirOfferPanel.add(requestMoneyLabel);
-        theirOfferPanel.add(requestMoneyField);
+        theirOfferPanel.add(tradeRequestField);
         theirOfferPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         theirOfferPanel.add(theirPropertiesLabel);
         theirOfferPanel.add(Box.createRigidArea(new Dimension(0, 5)));
@@ -2717,6 +2792,186 @@ public class Gui {
         return panel;
     }
     
+    /**
+     * Refills the trade panel from the game: the current player's money and properties, and the players to trade with.
+     * Team member(s) responsible: Giovanny
+     */
+    private void refreshTradePanel() {
+        if (tradePartnerSelector == null) {
+            return;
+        }
+        tradePartners.clear();
+        tradePartnerSelector.removeAllItems();
+        tradePartnerSelector.addItem("Select a player");
+        Player current = controller != null && controller.isGameInProgress() ? controller.getCurrentPlayer() : null;
+        if (current != null) {
+            for (Player player : controller.getTradePlayers()) {
+                if (player != current) {
+                    tradePartners.add(player);
+                    tradePartnerSelector.addItem(player.getName());
+                }
+            }
+        }
+        fillTradeSide(current, tradeYourSpaces, tradeYourPropertiesModel, tradeYourMoneyLabel, "Your money: $");
+        clearTradeOffer();
+    }
+
+    /**
+     * Shows the money and properties of the player picked to trade with.
+     * Team member(s) responsible: Giovanny
+     */
+    private void refreshTradePartner() {
+        fillTradeSide(selectedTradePartner(), tradeTheirSpaces, tradeTheirPropertiesModel, tradeTheirMoneyLabel,
+                "Their money: $");
+    }
+
+    private void fillTradeSide(Player player, List<BoardSpace> spaces, DefaultListModel<String> model,
+                               JLabel moneyLabel, String moneyText) {
+        spaces.clear();
+        model.clear();
+        int money = 0;
+        if (player != null) {
+            try {
+                spaces.addAll(player.getProperties());
+                money = Banker.getInstance().getBalance(player);
+            } catch (PlayerNotFoundException e) {
+                spaces.clear();
+            }
+        }
+        for (BoardSpace space : spaces) {
+            model.addElement(space.getName());
+        }
+        moneyLabel.setText(moneyText + money);
+    }
+
+    private Player selectedTradePartner() {
+        int index = tradePartnerSelector.getSelectedIndex() - 1;
+        return index >= 0 && index < tradePartners.size() ? tradePartners.get(index) : null;
+    }
+
+    /**
+     * Clears the selected properties and money from the trade offer.
+     * Team member(s) responsible: Giovanny
+     */
+    private void clearTradeOffer() {
+        tradeYourPropertiesList.clearSelection();
+        tradeTheirPropertiesList.clearSelection();
+        tradeOfferField.setText("0");
+        tradeRequestField.setText("0");
+    }
+
+    /**
+     * Offers the trade set up in the panel to the selected player.
+     * Team member(s) responsible: Giovanny
+     */
+    private void proposeTrade() {
+        Player partner = selectedTradePartner();
+        if (controller == null || !controller.isGameInProgress() || partner == null) {
+            JOptionPane.showMessageDialog(mainFrame, "Select a player to trade with.",
+                    "Propose Trade", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        int cash;
+        try {
+            int offer = Integer.parseInt(tradeOfferField.getText().trim());
+            int request = Integer.parseInt(tradeRequestField.getText().trim());
+            if (offer < 0 || request < 0) {
+                throw new NumberFormatException();
+            }
+            cash = offer - request;
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(mainFrame, "Enter the money to offer and request as whole dollars.",
+                    "Propose Trade", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        List<BoardSpace> give = selectedSpaces(tradeYourPropertiesList, tradeYourSpaces);
+        List<BoardSpace> take = selectedSpaces(tradeTheirPropertiesList, tradeTheirSpaces);
+        if (give.isEmpty() && take.isEmpty()) {
+            JOptionPane.showMessageDialog(mainFrame, "Select at least one property to trade.",
+                    "Propose Trade", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (controller.offerTrade(controller.getCurrentPlayer(), partner, give, take, cash)) {
+            JOptionPane.showMessageDialog(mainFrame, partner.getName() + " accepted the trade.",
+                    "Propose Trade", JOptionPane.INFORMATION_MESSAGE);
+            refreshTradePanel();
+        } else {
+            JOptionPane.showMessageDialog(mainFrame, partner.getName() + " turned down the trade.",
+                    "Propose Trade", JOptionPane.INFORMATION_MESSAGE);
+        }
+    }
+
+    private static List<BoardSpace> selectedSpaces(JList<String> list, List<BoardSpace> spaces) {
+        List<BoardSpace> selected = new ArrayList<>();
+        for (int index : list.getSelectedIndices()) {
+            selected.add(spaces.get(index));
+        }
+        return selected;
+    }
+
+    /**
+     * Fills the panel with the trade that gains the current player the most while the other side gains too.
+     * Team member(s) responsible: Giovanny
+     */
+    private void showSuggestedTrade() {
+        if (controller == null || !controller.isGameInProgress() || controller.getCurrentPlayer() == null) {
+            return;
+        }
+        refreshTradePanel();
+        Trade trade = controller.suggestTrade(controller.getCurrentPlayer());
+        if (trade == null) {
+            JOptionPane.showMessageDialog(mainFrame, "No trade is worth making right now.",
+                    "Suggest Trade", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+        tradePartnerSelector.setSelectedIndex(tradePartners.indexOf(controller.getTradePlayers().get(trade.getPartner())) + 1);
+        selectSpaces(tradeYourPropertiesList, tradeYourSpaces, trade.getGive());
+        selectSpaces(tradeTheirPropertiesList, tradeTheirSpaces, trade.getTake());
+        tradeOfferField.setText(String.valueOf(Math.max(0, trade.getCash())));
+        tradeRequestField.setText(String.valueOf(Math.max(0, -trade.getCash())));
+    }
+
+    private static void selectSpaces(JList<String> list, List<BoardSpace> spaces, long mask) {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < spaces.size(); i++) {
+            if ((mask & OwnershipMask.bit(spaces.get(i).getPosition())) != 0) {
+                indices.add(i);
+            }
+        }
+        list.setSelectedIndices(indices.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Asks a human player whether they accept a trade offered to them.
+     *
+     * @param proposer The player making the offer
+     * @param partner  The player the offer is made to
+     * @param give     Spaces the proposer hands to the partner
+     * @param take     Spaces the partner hands to the proposer
+     * @param cash     Dollars the proposer pays the partner; negative when the partner pays
+     * @return true if the partner accepts
+     * Team member(s) responsible: Giovanny
+     */
+    public boolean confirmTrade(Player proposer, Player partner, List<BoardSpace> give, List<BoardSpace> take, int cash) {
+        StringBuilder message = new StringBuilder(partner.getName() + ", " + proposer.getName() + " offers:");
+        for (BoardSpace space : give) {
+            message.append("\n").append(space.getName());
+        }
+        if (cash > 0) {
+            message.append("\n$").append(cash);
+        }
+        message.append("\n\nfor:");
+        for (BoardSpace space : take) {
+            message.append("\n").append(space.getName());
+        }
+        if (cash < 0) {
+            message.append("\n$").append(-cash);
+        }
+        int choice = JOptionPane.showConfirmDialog(mainFrame, message.toString(), "Trade Offer",
+                JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
+        return choice == JOptionPane.YES_OPTION;
+    }
+    
     /**
      * Create the statistics panel for the tabbed interface.
      * Team member(s) responsible: matt
@@ -3060,78 +3315,57 @@ public class Gui {
     }
 
     /**
-     * Calculate rent for a property based on ownership.
+     * Calculate rent for a property based on ownership, read from the board's rent table.
      * Team member(s) responsible: Matt
      */
     private int calculateRent(int position, PlayerData owner) {
-        String propertyName = positionToName.get(position);
-        int baseRent = positionToPrice.get(position) / 10;
+        long owned = 0;
+        for (Integer pos : owner.ownedProperties) {
+            owned |= OwnershipMask.bit(pos);
+        }
+        long space = OwnershipMask.bit(position);
 
         // Railroad rent calculation
-        if (propertyName.contains("Railroad")) {
-            int railroadCount = 0;
-            for (Integer pos : owner.ownedProperties) {
-                if (positionToName.get(pos).contains("Railroad")) {
-                    railroadCount++;
-                }
-            }
-            return 25 * (int)Math.pow(2, railroadCount - 1);
+        if ((OwnershipMask.RAILROADS & space) != 0) {
+            return RentTable.getRailroadRent(OwnershipMask.count(owned, OwnershipMask.RAILROADS));
         }
 
         // Utility rent calculation
-        if (propertyName.contains("Electric") || propertyName.contains("Water")) {
-            int utilityCount = 0;
-            for (Integer pos : owner.ownedProperties) {
-                if (positionToName.get(pos).contains("Electric") ||
-                        positionToName.get(pos).contains("Water")) {
-                    utilityCount++;
-                }
-            }
-            int multiplier = utilityCount == 1 ? 4 : 10;
+        if ((OwnershipMask.UTILITIES & space) != 0) {
+            int multiplier = RentTable.getUtilityMultiplier(OwnershipMask.count(owned, OwnershipMask.UTILITIES));
             return multiplier * (dice1Value + dice2Value);
         }
 
-        return baseRent;
+        boolean monopoly = false;
+        for (PropertyColor color : PropertyColor.values()) {
+            if ((color.getMask() & space) != 0) {
+                monopoly = OwnershipMask.ownsAll(owned, color.getMask());
+            }
+        }
+        return RentTable.standard().getPropertyRent(position, 0, monopoly);
     }
     
     /**
      * Calculate rent for a property with houses.
      * Team member(s) responsible: matt
      * 
-     * @param propertyPrice The base purchase price of the property
+     * @param position The board position of the property
      * @param houses The number of houses on the property (0-4)
      * @return The rent amount
      */
-    private int calculateRentWithHouses(int propertyPrice, int houses) {
-        int baseRent = propertyPrice / 10;
-        
-        // Increase rent based on number of houses
-        switch (houses) {
-            case 0:
-                return baseRent;
-            case 1:
-                return baseRent * 5;    // 5 times the base rent
-            case 2:
-                return baseRent * 15;   // 15 times the base rent
-            case 3:
-                return baseRent * 30;   // 30 times the base rent
-            case 4:
-                return baseRent * 40;   // 40 times the base rent
-            default:
-                return baseRent;
-        }
+    private int calculateRentWithHouses(int position, int houses) {
+        return RentTable.standard().getPropertyRent(position, houses, houses == 0);
     }
     
     /**
      * Calculate rent for a property with a hotel.
      * Team member(s) responsible: matt
      * 
-     * @param propertyPrice The base purchase price of the property
+     * @param position The board position of the property
      * @return The rent amount
      */
-    private int calculateRentWithHotel(int propertyPrice) {
-        int baseRent = propertyPrice / 10;
-        return baseRent * 50;  // 50 times the base rent
+    private int calculateRentWithHotel(int position) {
+        return RentTable.standard().getPropertyRent(position, RentTable.HOTEL_LEVEL, true);
     }
 
     /**
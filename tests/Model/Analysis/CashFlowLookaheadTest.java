@@ -0,0 +1,156 @@
+package Model.Analysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.Banker;
+import Model.Board.GameBoard;
+import Model.Board.HumanPlayer;
+import Model.Board.Player;
+import Model.Exceptions.PlayerAlreadyExistsException;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.GameContext;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+import org.junit.jupiter.api.Test;
+
+public class CashFlowLookaheadTest {
+
+    private static GameState dangerousBoard() {
+        GameState state = new GameState();
+        state.reset(3);
+        state.addBalance(0, -1100);
+        state.setPosition(0, 23);
+        for (int space : new int[]{37, 39}) {
+            state.setOwner(space, 1);
+            state.setBuildingLevel(space, 3);
+        }
+        state.setOwner(12, 1);
+        state.setOwner(28, 1);
+        state.setOwner(5, 2);
+        state.setOwner(15, 2);
+        state.setOwner(24, 2);
+        return state;
+    }
+
+    private static double total(CashFlowDistribution distribution) {
+        double sum = distribution.getBrokeProbability();
+        for (int i = 0; i < distribution.size(); i++) {
+            sum += distribution.getProbability(i);
+        }
+        return sum;
+    }
+
+    @Test
+    public void testProbabilitiesSumToOne() {
+        CashFlowLookahead lookahead = new CashFlowLookahead(BoardLayout.standard(), dangerousBoard(), 0);
+        for (int rolls = 1; rolls <= 3; rolls++) {
+            CashFlowDistribution distribution = lookahead.overRolls(rolls);
+            assertEquals(1.0, total(distribution), 1e-9);
+            for (int i = 1; i < distribution.size(); i++) {
+                assertTrue(distribution.getChange(i - 1) < distribution.getChange(i));
+            }
+        }
+        assertEquals(1.0, total(lookahead.overTurn()), 1e-9);
+    }
+
+    @Test
+    public void testEmptyBoardCannotBreakARichPlayer() {
+        GameState state = new GameState();
+        state.reset(2);
+        CashFlowLookahead lookahead = new CashFlowLookahead(BoardLayout.standard(), state, 0);
+        assertFalse(lookahead.canGoBroke(3));
+        assertEquals(0.0, lookahead.brokeProbabilityOverTurn());
+
+        CashFlowDistribution turn = lookahead.overTurn();
+        assertEquals(0.0, turn.getBrokeProbability());
+        assertEquals(0.0, turn.getProbabilityAtMost(-1000));
+        assertEquals(1.0, turn.getProbabilityAtMost(turn.getChange(turn.size() - 1)), 1e-9);
+    }
+
+    @Test
+    public void testLastJailTurnWithoutTheFine() {
+        GameState state = new GameState();
+        state.reset(2);
+        state.declareBankrupt(1);
+        state.addBalance(0, 30 - GameState.STARTING_BALANCE);
+        state.setPosition(0, LandingProbabilities.JAIL_POSITION);
+        state.setInJail(0, true);
+        state.incrementJailTurns(0);
+        state.incrementJailTurns(0);
+        CashFlowLookahead lookahead = new CashFlowLookahead(BoardLayout.standard(), state, 0);
+
+        // Only a double saves the player, and nothing from 12 to 22 charges more than $30 on an empty board
+        // once the other seat is gone
+        assertEquals(30.0 / 36, lookahead.overRolls(1).getBrokeProbability(), 1e-12);
+        assertEquals(30.0 / 36, lookahead.overTurn().getBrokeProbability(), 1e-12);
+        assertEquals(30.0 / 36, lookahead.brokeProbabilityOverTurn(), 1e-12);
+    }
+
+    @Test
+    public void testBrokeOnlyMatchesTheFullTurn() {
+        GameState state = dangerousBoard();
+        for (int position = 0; position < BoardLayout.SPACES; position += 3) {
+            state.setPosition(0, position);
+            CashFlowLookahead lookahead = new CashFlowLookahead(BoardLayout.standard(), state, 0);
+            assertTrue(lookahead.canGoBroke(3));
+            assertEquals(lookahead.overTurn().getBrokeProbability(), lookahead.brokeProbabilityOverTurn(), 1e-12);
+        }
+        state.setPosition(0, 23);
+        assertTrue(new CashFlowLookahead(BoardLayout.standard(), state, 0).brokeProbabilityOverTurn() > 0.01);
+    }
+
+    @Test
+    public void testSpendingMatchesALookaheadWithLessMoney() {
+        GameState state = dangerousBoard();
+        state.setPosition(0, 23);
+        CashFlowLookahead lookahead = new CashFlowLookahead(BoardLayout.standard(), state, 0);
+        double before = lookahead.brokeProbabilityOverTurn();
+        for (int spending = 0; spending <= 1000; spending += 250) {
+            state.addBalance(0, -spending);
+            double expected = new CashFlowLookahead(BoardLayout.standard(), state, 0).brokeProbabilityOverTurn();
+            state.addBalance(0, spending);
+            assertEquals(expected, lookahead.brokeProbabilityOverTurn(spending), 1e-12);
+        }
+        // Trying amounts leaves the lookahead as it was
+        assertEquals(before, lookahead.brokeProbabilityOverTurn(), 1e-12);
+    }
+
+    @Test
+    public void testForEachPlayerSkipsBankruptSeats() {
+        GameState state = dangerousBoard();
+        state.declareBankrupt(2);
+        CashFlowDistribution[] distributions = CashFlowLookahead.forEachPlayer(BoardLayout.standard(), state, 2);
+        assertEquals(3, distributions.length);
+        assertNotNull(distributions[0]);
+        assertNotNull(distributions[1]);
+        assertNull(distributions[2]);
+    }
+
+    @Test
+    public void testCopyFromTheObjectModel() throws PlayerAlreadyExistsException, PlayerNotFoundException {
+        GameContext context = new GameContext();
+        GameBoard board = context.getBoard();
+        Banker banker = context.getBanker();
+        Player owner = new HumanPlayer("Owner", board);
+        Player visitor = new HumanPlayer("Visitor", board);
+        banker.addPlayer(owner);
+        banker.addPlayer(visitor);
+        banker.addTitleDeed(owner, board.getSpace(39));
+        visitor.setPosition(35);
+
+        GameState state = new GameState();
+        state.copyFrom(banker.getAllPlayers(), banker, board);
+        int seat = banker.getAllPlayers().indexOf(visitor);
+        assertEquals(2, state.getPlayerCount());
+        assertEquals(banker.getAllPlayers().indexOf(owner), state.getOwner(39));
+        assertEquals(GameState.NO_OWNER, state.getOwner(37));
+        assertEquals(35, state.getPosition(seat));
+        assertEquals(banker.getBalance(visitor), state.getBalance(seat));
+
+        CashFlowLookahead lookahead = CashFlowLookahead.forPlayer(visitor, banker);
+        assertEquals(new CashFlowLookahead(BoardLayout.standard(), state, seat).overRolls(2).getExpectedChange(),
+                lookahead.overRolls(2).getExpectedChange(), 1e-9);
+        assertThrows(PlayerNotFoundException.class,
+                () -> CashFlowLookahead.forPlayer(new HumanPlayer("Stranger", board), banker));
+    }
+}
@@ -0,0 +1,63 @@
+package Model.Analysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.GameContext;
+import Model.Simulation.BoardLayout;
+import org.junit.jupiter.api.Test;
+
+public class LandingProbabilitiesTest {
+
+    @Test
+    public void testProbabilitiesSumToOne() {
+        LandingProbabilities probabilities = LandingProbabilities.standard();
+        double sum = probabilities.getInJailProbability();
+        for (int position = 0; position < BoardLayout.SPACES; position++) {
+            assertTrue(probabilities.getLandingProbability(position) >= 0);
+            sum += probabilities.getLandingProbability(position);
+        }
+        assertEquals(1.0, sum, 1e-9);
+    }
+
+    @Test
+    public void testKnownShapeOfTheStandardBoard() {
+        LandingProbabilities probabilities = LandingProbabilities.standard();
+        // Nobody ends a roll on Go To Jail
+        assertEquals(0.0, probabilities.getLandingProbability(30), 1e-12);
+        // Jail is the most visited square, then Illinois Avenue and GO
+        assertEquals(0.0939, probabilities.getInJailProbability(), 0.001);
+        assertEquals(0.0300, probabilities.getLandingProbability(24), 0.001);
+        assertEquals(0.0292, probabilities.getLandingProbability(0), 0.001);
+        for (int position = 0; position < BoardLayout.SPACES; position++) {
+            assertTrue(probabilities.getInJailProbability() > probabilities.getLandingProbability(position));
+        }
+        assertTrue(probabilities.getLandingProbability(24) > probabilities.getLandingProbability(1));
+        assertEquals(1.166, probabilities.getRollsPerTurn(), 0.001);
+        assertEquals(probabilities.getLandingProbability(24) * probabilities.getRollsPerTurn(),
+                probabilities.getLandingsPerTurn(24), 1e-12);
+    }
+
+    @Test
+    public void testLeavingJailEarlySpendsLessTimeThere() {
+        BoardLayout layout = BoardLayout.standard();
+        LandingProbabilities stay = LandingProbabilities.of(layout, JailStrategy.LONG);
+        LandingProbabilities leave = LandingProbabilities.of(layout, JailStrategy.SHORT);
+        assertEquals(JailStrategy.SHORT, leave.getJailStrategy());
+        assertTrue(leave.getInJailProbability() < stay.getInJailProbability());
+        assertTrue(leave.getLandingProbability(19) > stay.getLandingProbability(19) * 0.9);
+    }
+
+    @Test
+    public void testSolutionIsCachedPerBoardAndStrategy() {
+        BoardLayout layout = BoardLayout.standard();
+        assertSame(LandingProbabilities.standard(), LandingProbabilities.of(layout, JailStrategy.LONG));
+        assertNotSame(LandingProbabilities.of(layout, JailStrategy.LONG),
+                LandingProbabilities.of(layout, JailStrategy.SHORT));
+
+        BoardLayout copy = BoardLayout.of(new GameContext().getBoard());
+        LandingProbabilities other = LandingProbabilities.of(copy, JailStrategy.LONG);
+        assertNotSame(LandingProbabilities.standard(), other);
+        assertArrayEquals(LandingProbabilities.standard().getLandingProbabilities(),
+                other.getLandingProbabilities(), 1e-12);
+    }
+}
@@ -0,0 +1,150 @@
+package Model.Analysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.RentTable;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+import org.junit.jupiter.api.Test;
+
+public class PropertyValuationTest {
+
+    private static final int MEDITERRANEAN = 1;
+    private static final int READING_RAILROAD = 5;
+    private static final int PENNSYLVANIA_RAILROAD = 15;
+    private static final int ST_JAMES = 16;
+    private static final int TENNESSEE = 18;
+    private static final int NEW_YORK = 19;
+    private static final int PARK_PLACE = 37;
+    private static final int BOARDWALK = 39;
+
+    private final BoardLayout layout = BoardLayout.standard();
+
+    private static GameState newGame() {
+        GameState state = new GameState();
+        state.reset(4);
+        return state;
+    }
+
+    @Test
+    public void testOnlyChangedBlocksAreValuedAgain() {
+        GameState state = newGame();
+        PropertyValuation valuation = new PropertyValuation(layout);
+        // Eight color groups, the railroads and the utilities
+        assertEquals(10, valuation.update(state, 0));
+        assertEquals(0, valuation.update(state, 0));
+
+        state.setOwner(BOARDWALK, 1);
+        assertEquals(1, valuation.update(state, 0));
+        state.setOwner(READING_RAILROAD, 0);
+        state.setMortgaged(BOARDWALK, true);
+        assertEquals(2, valuation.update(state, 0));
+
+        // Another seat changes every value; a bankruptcy only the blocks the player held
+        assertEquals(10, valuation.update(state, 2));
+        state.declareBankrupt(0);
+        assertEquals(1, valuation.update(state, 2));
+    }
+
+    @Test
+    public void testIncrementalUpdatesMatchAFreshValuation() {
+        GameState state = newGame();
+        PropertyValuation incremental = new PropertyValuation(layout);
+        incremental.update(state, 0);
+        int[][] changes = {{ST_JAMES, 0}, {TENNESSEE, 0}, {PARK_PLACE, 2}, {READING_RAILROAD, 1},
+                {NEW_YORK, 0}, {PENNSYLVANIA_RAILROAD, 1}, {12, 3}};
+        for (int[] change : changes) {
+            state.setOwner(change[0], change[1]);
+            incremental.update(state, 0);
+            PropertyValuation fresh = new PropertyValuation(layout);
+            fresh.update(state, 0);
+            for (int space = 0; space < BoardLayout.SPACES; space++) {
+                assertEquals(fresh.getValue(space), incremental.getValue(space));
+                assertEquals(fresh.getRentYield(space), incremental.getRentYield(space), 0.0);
+                assertEquals(fresh.getDevelopmentRoi(space), incremental.getDevelopmentRoi(space), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testRentYieldUsesLandingProbabilities() {
+        GameState state = newGame();
+        state.setOwner(READING_RAILROAD, 1);
+        state.setOwner(PENNSYLVANIA_RAILROAD, 1);
+        PropertyValuation valuation = new PropertyValuation(layout);
+        valuation.update(state, 0);
+        LandingProbabilities probabilities = LandingProbabilities.standard();
+        assertEquals(probabilities.getLandingsPerTurn(READING_RAILROAD) * RentTable.getRailroadRent(2),
+                valuation.getRentYield(READING_RAILROAD), 1e-12);
+        assertEquals(0.0, valuation.getRentYield(BOARDWALK));
+
+        state.setMortgaged(READING_RAILROAD, true);
+        valuation.update(state, 0);
+        assertEquals(0.0, valuation.getRentYield(READING_RAILROAD));
+    }
+
+    @Test
+    public void testValuesFollowTheBoard() {
+        GameState state = newGame();
+        PropertyValuation valuation = new PropertyValuation(layout);
+        valuation.update(state, 0);
+        assertTrue(valuation.getValue(BOARDWALK) > valuation.getValue(MEDITERRANEAN));
+        assertTrue(valuation.getValue(MEDITERRANEAN) >= layout.mortgageValue(MEDITERRANEAN));
+        assertEquals(0, valuation.getValue(0));
+
+        int railroadAlone = valuation.getValue(PENNSYLVANIA_RAILROAD);
+        state.setOwner(READING_RAILROAD, 0);
+        valuation.update(state, 0);
+        assertTrue(valuation.getValue(PENNSYLVANIA_RAILROAD) > railroadAlone);
+
+        // The last piece of a monopoly is worth more than the first
+        int first = valuation.getCompletionValue(NEW_YORK);
+        state.setOwner(ST_JAMES, 0);
+        state.setOwner(TENNESSEE, 0);
+        valuation.update(state, 0);
+        assertTrue(valuation.getCompletionValue(NEW_YORK) > first);
+        assertTrue(valuation.getValue(NEW_YORK) > layout.price(NEW_YORK));
+    }
+
+    @Test
+    public void testBlockingAndBrokenGroups() {
+        GameState state = newGame();
+        PropertyValuation valuation = new PropertyValuation(layout);
+        state.setOwner(PARK_PLACE, 1);
+        valuation.update(state, 0);
+        int blocking = valuation.getCompletionValue(BOARDWALK);
+        assertTrue(blocking > 0);
+
+        state.setOwner(ST_JAMES, 1);
+        state.setOwner(TENNESSEE, 2);
+        valuation.update(state, 0);
+        assertEquals(0, valuation.getCompletionValue(NEW_YORK));
+
+        // A longer horizon makes rent count for more
+        PropertyValuation longer = new PropertyValuation(layout, LandingProbabilities.standard(), 300);
+        longer.update(state, 0);
+        assertTrue(longer.getCompletionValue(BOARDWALK) > blocking);
+    }
+
+    @Test
+    public void testDevelopmentRoiNeedsAMonopoly() {
+        GameState state = newGame();
+        state.setOwner(ST_JAMES, 1);
+        state.setOwner(TENNESSEE, 1);
+        PropertyValuation valuation = new PropertyValuation(layout);
+        valuation.update(state, 0);
+        assertEquals(0.0, valuation.getDevelopmentRoi(ST_JAMES));
+
+        state.setOwner(NEW_YORK, 1);
+        valuation.update(state, 0);
+        double firstHouse = valuation.getDevelopmentRoi(NEW_YORK);
+        assertTrue(firstHouse > 0);
+        state.setBuildingLevel(NEW_YORK, 2);
+        valuation.update(state, 0);
+        // The third house adds the most rent on the standard board
+        assertTrue(valuation.getDevelopmentRoi(NEW_YORK) > firstHouse);
+        state.setBuildingLevel(NEW_YORK, BoardLayout.HOTEL_LEVEL);
+        valuation.update(state, 0);
+        assertEquals(0.0, valuation.getDevelopmentRoi(NEW_YORK));
+    }
+}
@@ -0,0 +1,92 @@
+package Model.Board;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AscendingAuctionTest {
+
+    private Player alice;
+    private Player bob;
+    private Player carol;
+
+    @BeforeEach
+    public void setUp() {
+        GameBoard.resetInstance();
+        GameBoard gameBoard = GameBoard.getInstance();
+        alice = new HumanPlayer("Alice", gameBoard);
+        bob = new HumanPlayer("Bob", gameBoard);
+        carol = new HumanPlayer("Carol", gameBoard);
+    }
+
+    @Test
+    public void testHighestLimitWinsAtTheSecondHighestLimit() {
+        Map<Player, AuctionBidder> bidders = Map.of(
+                alice, AuctionBidder.upTo(120),
+                bob, AuctionBidder.upTo(200),
+                carol, AuctionBidder.upTo(75));
+        AscendingAuction auction = new AscendingAuction(List.of(alice, bob, carol), 10);
+
+        assertSame(bob, auction.run(bidders::get));
+        assertTrue(auction.isOver());
+        assertEquals(1, auction.getActiveBidders());
+        // Alice drops out when the minimum passes her $120, with Bob's $120 bid standing
+        assertEquals(120, auction.getPrice());
+    }
+
+    @Test
+    public void testNobodyBids() {
+        AscendingAuction auction = new AscendingAuction(List.of(alice, bob), 10);
+        assertNull(auction.run(player -> AuctionBidder.upTo(0)));
+        assertEquals(0, auction.getPrice());
+        assertEquals(0, auction.getActiveBidders());
+        assertEquals(0, auction.getBids());
+    }
+
+    @Test
+    public void testLastBidderLeftMayStillOpen() {
+        AscendingAuction auction = new AscendingAuction(List.of(alice, bob), 10);
+        auction.pass();
+        assertFalse(auction.isOver());
+        assertSame(bob, auction.getCurrentBidder());
+        auction.bid(10);
+        assertTrue(auction.isOver());
+        assertSame(bob, auction.getWinner());
+        assertEquals(10, auction.getPrice());
+    }
+
+    @Test
+    public void testTurnsSkipBiddersWhoDroppedOut() {
+        AscendingAuction auction = new AscendingAuction(List.of(alice, bob, carol), 10);
+        auction.bid(50);
+        auction.pass();
+        assertSame(carol, auction.getCurrentBidder());
+        auction.bid(60);
+        assertSame(alice, auction.getCurrentBidder());
+        assertSame(carol, auction.getLeader());
+        assertNull(auction.getWinner());
+        auction.bid(70);
+        // Bob dropped out, so the turn goes straight back to Carol
+        assertSame(carol, auction.getCurrentBidder());
+        auction.pass();
+        assertSame(alice, auction.getWinner());
+        assertEquals(70, auction.getPrice());
+        assertEquals(3, auction.getBids());
+    }
+
+    @Test
+    public void testRejectsBidsBelowTheMinimumAndAfterTheEnd() {
+        AscendingAuction auction = new AscendingAuction(List.of(alice, bob), 10);
+        auction.bid(40);
+        assertEquals(50, auction.getMinimumBid());
+        assertThrows(IllegalArgumentException.class, () -> auction.bid(45));
+        auction.pass();
+        assertThrows(IllegalStateException.class, () -> auction.bid(100));
+        assertThrows(IllegalStateException.class, auction::pass);
+        assertThrows(IllegalArgumentException.class, () -> new AscendingAuction(List.of(alice), 0));
+    }
+}
@@ -104,4 +104,24 @@ public class AuctionTest {
         }
     }
 
+    @Test
+    public void testAuction_WinnerPaysTheirBid() throws PlayerNotFoundException {
+        Player winner = banker.startAuction(property, playerList,
+                player -> AuctionBidder.upTo(player == player2 ? 180 : 90));
+
+        assertSame(player2, winner);
+        assertTrue(banker.getPlayerProperties(player2).contains(property));
+        assertFalse(banker.getAvailableProperties().contains(property));
+        assertEquals(1500 - 100, banker.getBalance(player2),
+                "Player2 should pay the first bid above the others' limit");
+        assertEquals(1500, banker.getBalance(player1));
+    }
+
+    @Test
+    public void testAuction_NoBidsLeavesPropertyWithBank() {
+        Player winner = banker.startAuction(property, playerList, player -> AuctionBidder.upTo(0));
+        assertNull(winner);
+        assertTrue(banker.getAvailableProperties().contains(property));
+    }
+
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -225,4 +226,79 @@ public class BankerTest {
 
 
 
+    @Test
+    public void testTradeSwapsDeedsAndCash() throws PlayerNotFoundException {
+        Banker banker = Banker.getInstance();
+        GameBoard board = GameBoard.getInstance();
+        Player player = new HumanPlayer("TestPlayer", board);
+        Player player2 = new HumanPlayer("TestPlayer2", board);
+        banker.addPlayer(player);
+        banker.addPlayer(player2);
+        ColorGroup colorGroup = new ColorGroup(PropertyColor.DARK_BLUE, 2);
+        Property property = new Property("Boardwalk", 39, 400,
+                50, new int[]{200, 600, 1400, 1700}, 2000,
+                200, PropertyColor.DARK_BLUE, colorGroup);
+        Property property2 = new Property("Park Place", 37, 350,
+                35, new int[]{175, 500, 1100, 1300}, 1500,
+                200, PropertyColor.DARK_BLUE, colorGroup);
+        banker.addTitleDeed(player, property);
+        banker.addTitleDeed(player2, property2);
+        banker.trade(player, player2, List.of(property), List.of(property2), -100);
+        assertSame(player2, property.getOwner());
+        assertSame(player, property2.getOwner());
+        assertEquals(List.of(property2), banker.getPlayerProperties(player));
+        assertEquals(1600, banker.getBalance(player));
+        assertEquals(1400, banker.getBalance(player2));
+    }
+
+    @Test
+    public void testTradeRejectsSpacesTheyCannotHandOver() throws PlayerNotFoundException {
+        Banker banker = Banker.getInstance();
+        GameBoard board = GameBoard.getInstance();
+        Player player = new HumanPlayer("TestPlayer", board);
+        Player player2 = new HumanPlayer("TestPlayer2", board);
+        banker.addPlayer(player);
+        banker.addPlayer(player2);
+        ColorGroup colorGroup = new ColorGroup(PropertyColor.DARK_BLUE, 2);
+        Property property = new Property("Boardwalk", 39, 400,
+                50, new int[]{200, 600, 1400, 1700}, 2000,
+                200, PropertyColor.DARK_BLUE, colorGroup);
+        Property property2 = new Property("Park Place", 37, 350,
+                35, new int[]{175, 500, 1100, 1300}, 1500,
+                200, PropertyColor.DARK_BLUE, colorGroup);
+        banker.addTitleDeed(player, property);
+        banker.addTitleDeed(player, property2);
+        assertThrows(InvalidTransactionException.class,
+                () -> banker.trade(player2, player, List.of(property), List.of(), 0));
+        assertThrows(InsufficientFundsException.class,
+                () -> banker.trade(player, player2, List.of(property), List.of(), 2000));
+        assertTrue(property.buyHouse(banker));
+        assertThrows(InvalidTransactionException.class,
+                () -> banker.trade(player, player2, List.of(property2), List.of(), 0));
+        assertSame(player, property2.getOwner());
+        assertEquals(1300, banker.getBalance(player));
+    }
+
+    @Test
+    public void testDebtHandlerRaisesCashBeforeAPaymentFails() throws PlayerNotFoundException {
+        Banker banker = Banker.getInstance();
+        GameBoard board = GameBoard.getInstance();
+        Player player = new HumanPlayer("TestPlayer", board);
+        banker.addPlayer(player);
+        assertThrows(InsufficientFundsException.class, () -> banker.withdraw(player, 1600));
+
+        banker.setDebtHandler((debtor, amount) -> {
+            try {
+                banker.deposit(debtor, amount - banker.getBalance(debtor));
+                return true;
+            } catch (PlayerNotFoundException e) {
+                return false;
+            }
+        });
+        banker.withdraw(player, 1600);
+        assertEquals(0, banker.getBalance(player));
+        banker.setDebtHandler((debtor, amount) -> false);
+        assertThrows(InsufficientFundsException.class, () -> banker.withdraw(player, 10));
+    }
+
 }
\ No newline at end of file
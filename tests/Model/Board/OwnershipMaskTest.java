@@ -0,0 +1,74 @@
+package Model.Board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.GameContext;
+import Model.Property.Property;
+import Model.Property.PropertyColor;
+import Model.Spaces.BoardSpace;
+import Model.Spaces.Railroad;
+import Model.Spaces.UtilitySpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OwnershipMaskTest {
+
+    private GameBoard board;
+    private Player player;
+
+    @BeforeEach
+    public void setUp() {
+        board = new GameContext().getBoard();
+        player = new HumanPlayer("Player1", board);
+        board.getBanker().addPlayer(player);
+    }
+
+    @Test
+    public void testConstantMasksMatchTheBoard() {
+        long railroads = 0;
+        long utilities = 0;
+        long[] colors = new long[PropertyColor.values().length];
+        for (BoardSpace space : board.getBoardElements()) {
+            if (space instanceof Railroad) {
+                railroads |= OwnershipMask.bit(space.getPosition());
+            } else if (space instanceof UtilitySpace) {
+                utilities |= OwnershipMask.bit(space.getPosition());
+            } else if (space instanceof Property) {
+                colors[((Property) space).getColor().ordinal()] |= OwnershipMask.bit(space.getPosition());
+            }
+        }
+        assertEquals(railroads, OwnershipMask.RAILROADS);
+        assertEquals(utilities, OwnershipMask.UTILITIES);
+        for (PropertyColor color : PropertyColor.values()) {
+            assertEquals(colors[color.ordinal()], color.getMask(), color.name());
+        }
+    }
+
+    @Test
+    public void testSetOwnerKeepsThePlayerMaskInStep() {
+        Property boardwalk = (Property) board.getSpace(39);
+        Property parkPlace = (Property) board.getSpace(37);
+        boardwalk.setOwner(player);
+        assertEquals(OwnershipMask.bit(39), player.getOwnedSpaces());
+        assertFalse(boardwalk.getColorGroup().hasMonopoly(player));
+
+        parkPlace.setOwner(player);
+        assertTrue(boardwalk.getColorGroup().hasMonopoly(player));
+
+        Player other = new HumanPlayer("Player2", board);
+        parkPlace.setOwner(other);
+        assertEquals(OwnershipMask.bit(39), player.getOwnedSpaces());
+        assertEquals(OwnershipMask.bit(37), other.getOwnedSpaces());
+        assertFalse(boardwalk.getColorGroup().hasMonopoly(player));
+    }
+
+    @Test
+    public void testRailroadRentCountsOwnedRailroads() throws Exception {
+        Railroad reading = (Railroad) board.getSpace(5);
+        reading.setOwner(player);
+        assertEquals(25, reading.calculateRent(player));
+        board.getSpace(15).setOwner(player);
+        assertEquals(50, reading.calculateRent(player));
+        assertEquals(2, OwnershipMask.count(player.getOwnedSpaces(), OwnershipMask.RAILROADS));
+    }
+}
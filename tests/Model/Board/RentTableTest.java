@@ -0,0 +1,68 @@
+package Model.Board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.GameContext;
+import Model.Property.Property;
+import Model.Spaces.BoardSpace;
+import Model.Spaces.Railroad;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RentTableTest {
+
+    private GameBoard board;
+    private RentTable table;
+    private Player player;
+
+    @BeforeEach
+    public void setUp() {
+        board = new GameContext().getBoard();
+        table = board.getRentTable();
+        player = new HumanPlayer("Player1", board);
+        board.getBanker().addPlayer(player);
+    }
+
+    @Test
+    public void testTableMatchesEveryDeed() {
+        for (BoardSpace space : board.getBoardElements()) {
+            if (space instanceof Property) {
+                Property property = (Property) space;
+                int position = property.getPosition();
+                assertEquals(property.getBaseRent(), table.getPropertyRent(position, 0, false));
+                for (int houses = 1; houses <= 4; houses++) {
+                    assertEquals(property.getHouseRent(houses), table.getPropertyRent(position, houses, true));
+                }
+                assertEquals(property.getHotelRent(), table.getPropertyRent(position, RentTable.HOTEL_LEVEL, true));
+            }
+        }
+    }
+
+    @Test
+    public void testEveryBoardSharesTheStandardTable() {
+        assertSame(RentTable.standard(), table);
+        assertSame(table, new GameContext().getBoard().getRentTable());
+        assertSame(table, GameBoard.getInstance().getRentTable());
+    }
+
+    @Test
+    public void testMonopolyDoublesUnimprovedRent() throws Exception {
+        Property mediterranean = (Property) board.getSpace(1);
+        mediterranean.setOwner(player);
+        assertEquals(2, mediterranean.calculateRent(player));
+        board.getSpace(3).setOwner(player);
+        assertEquals(4, mediterranean.calculateRent(player));
+        assertEquals(4, table.getPropertyRent(1, 0, true));
+    }
+
+    @Test
+    public void testFourRailroadsPayTwoHundred() throws Exception {
+        Railroad reading = (Railroad) board.getSpace(5);
+        for (int position = 5; position < 40; position += 10) {
+            board.getSpace(position).setOwner(player);
+        }
+        assertEquals(200, reading.calculateRent(player));
+        assertEquals(100, RentTable.getRailroadRent(3));
+        assertEquals(10, RentTable.getUtilityMultiplier(2));
+    }
+}
@@ -0,0 +1,146 @@
+package Model.Cards;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.Banker;
+import Model.Board.GameBoard;
+import Model.Board.HumanPlayer;
+import Model.Board.Player;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.GameContext;
+import Model.Property.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+public class CardTableTest {
+
+    private GameContext context;
+    private GameBoard board;
+    private Banker banker;
+    private Player player;
+    private Player other;
+
+    @BeforeEach
+    public void setUp() throws PlayerNotFoundException {
+        context = new GameContext();
+        board = context.getBoard();
+        banker = context.getBanker();
+        player = new HumanPlayer("Player1", board);
+        other = new HumanPlayer("Player2", board);
+        banker.addPlayer(player);
+        banker.addPlayer(other);
+    }
+
+    @Test
+    public void testNearestTables() {
+        assertEquals(15, CardTable.nearestRailroad(7));
+        assertEquals(25, CardTable.nearestRailroad(22));
+        assertEquals(5, CardTable.nearestRailroad(36));
+        assertEquals(12, CardTable.nearestUtility(7));
+        assertEquals(28, CardTable.nearestUtility(22));
+        assertEquals(12, CardTable.nearestUtility(36));
+    }
+
+    @Test
+    public void testEveryCardHasItsText() {
+        assertEquals(16, CardTable.CHANCE.size());
+        assertEquals(16, CardTable.COMMUNITY_CHEST.size());
+        assertEquals(2, CardTable.COMMUNITY_CHEST.idOf("Doctor's fee. Pay $50"));
+        assertEquals(-1, CardTable.CHANCE.idOf("Unknown Card"));
+    }
+
+    @Test
+    public void testShuffledDeckDealsEveryCardOnce() {
+        CardDeck deck = new CardDeck(16);
+        deck.draw();
+        deck.restore();
+        deck.shuffle(new SplittableRandom(5L));
+        boolean[] seen = new boolean[16];
+        int first = deck.get(0);
+        for (int i = 0; i < 16; i++) {
+            int card = deck.draw();
+            assertFalse(seen[card]);
+            seen[card] = true;
+        }
+        // Every card went back to the bottom, so the deck comes round again in the same order
+        assertEquals(16, deck.size());
+        assertEquals(first, deck.draw());
+    }
+
+    @Test
+    public void testJailFreeCardStaysOutUntilUsed() throws PlayerNotFoundException {
+        CardDeck deck = new CardDeck(CardTable.CHANCE);
+        int jailFree = CardTable.CHANCE.jailFreeCard();
+        assertEquals(8, jailFree);
+        for (int i = 0; i < 16; i++) {
+            deck.draw();
+        }
+        assertEquals(15, deck.size());
+        assertFalse(deck.remove(jailFree));
+        assertTrue(deck.putBack(jailFree));
+        assertFalse(deck.putBack(jailFree));
+        assertEquals(jailFree, deck.get(15));
+        assertTrue(deck.remove(0));
+        assertEquals(15, deck.size());
+        assertEquals(1, deck.get(0));
+
+        ChanceCard chance = context.getChanceCard();
+        chance.useCard(jailFree, player);
+        assertTrue(player.hasGetOutOfJailFreeCard());
+        assertFalse(chance.returnJailFreeCard(other));
+        assertTrue(player.useGetOutOfJailFreeCard());
+        assertFalse(chance.returnJailFreeCard(player));
+    }
+
+    @Test
+    public void testGoBackThreeSpaces() throws PlayerNotFoundException {
+        player.setPosition(7);
+        context.getChanceCard().useCard("Go Back 3 Spaces.", player);
+        assertEquals(4, player.getPosition());
+    }
+
+    @Test
+    public void testNearestRailroadChargesDoubleRent() throws PlayerNotFoundException {
+        board.getSpace(15).setOwner(other);
+        player.setPosition(7);
+        context.getChanceCard().useCard(4, player);
+        assertEquals(15, player.getPosition());
+        assertEquals(1450, banker.getBalance(player));
+        assertEquals(1550, banker.getBalance(other));
+    }
+
+    @Test
+    public void testNearestRailroadPassesGo() throws PlayerNotFoundException {
+        player.setPosition(36);
+        context.getChanceCard().useCard(5, player);
+        assertEquals(5, player.getPosition());
+        assertEquals(1700, banker.getBalance(player));
+    }
+
+    @Test
+    public void testStreetRepairs() throws PlayerNotFoundException {
+        Property mediterranean = (Property) board.getSpace(1);
+        Property baltic = (Property) board.getSpace(3);
+        mediterranean.setOwner(player);
+        baltic.setOwner(player);
+        assertTrue(mediterranean.buyHouse(banker));
+        assertTrue(baltic.buyHouse(banker));
+        int before = banker.getBalance(player);
+        context.getCommunityChestCard().useCard(
+                "You are assessed for street repair. $40 per house. $115 per hotel", player);
+        assertEquals(before - 80, banker.getBalance(player));
+    }
+
+    @Test
+    public void testChairmanAndBirthday() throws PlayerNotFoundException {
+        context.getChanceCard().useCard(
+                "You have been elected Chairman of the Board. Pay each player $50.", player);
+        assertEquals(1450, banker.getBalance(player));
+        assertEquals(1550, banker.getBalance(other));
+        context.getCommunityChestCard().useCard("It is your birthday. Collect $10 from every player", player);
+        assertEquals(1460, banker.getBalance(player));
+        assertEquals(1540, banker.getBalance(other));
+    }
+}
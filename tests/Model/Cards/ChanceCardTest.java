@@ -48,8 +48,10 @@ public class ChanceCardTest {
     @Test
     public void testDrawCardFromDeck(){
         ChanceCard chanceCard = ChanceCard.getInstance();
-        chanceCard.drawCard();
-        assertEquals(15, chanceCard.getCardDeck().size());
+        String card = chanceCard.drawCard();
+        assertEquals("Advance to Boardwalk.", card);
+        assertEquals(16, chanceCard.getCardDeck().size());
+        assertEquals(card, chanceCard.getCardDeck().get(15));
     }
 
 
@@ -59,7 +61,8 @@ public class ChanceCardTest {
         for (int i = 0; i < 16; i++) {
             chanceCard.drawCard();
         }
-        assertEquals(0, chanceCard.getCardDeck().size());
+        // Every card went back to the bottom except Get Out of Jail Free
+        assertEquals(15, chanceCard.getCardDeck().size());
         chanceCard.cardRestore();
         assertEquals(16, chanceCard.getCardDeck().size());
     }
@@ -49,8 +49,10 @@ public class CommunityChestTest {
     @Test
     public void testDrawCardFromDeck(){
         CommunityChestCard communityChestCard = CommunityChestCard.getInstance();
-        communityChestCard.drawCard();
-        assertEquals(15, communityChestCard.getCardDeck().size());
+        String card = communityChestCard.drawCard();
+        assertEquals("Advance to Go (Collect $200)", card);
+        assertEquals(16, communityChestCard.getCardDeck().size());
+        assertEquals(card, communityChestCard.getCardDeck().get(15));
     }
 
 
@@ -60,7 +62,8 @@ public class CommunityChestTest {
         for (int i = 0; i < 16; i++) {
             communityChestCard.drawCard();
         }
-        assertEquals(0, communityChestCard.getCardDeck().size());
+        // Every card went back to the bottom except Get Out of Jail Free
+        assertEquals(15, communityChestCard.getCardDeck().size());
         communityChestCard.cardRestore();
         assertEquals(16, communityChestCard.getCardDeck().size());
     }
@@ -0,0 +1,90 @@
+package Model.Events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.HumanPlayer;
+import Model.Board.Player;
+import Model.GameContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class EventLogTest {
+
+    private Player player;
+    private List<GameEvent> events;
+
+    @BeforeEach
+    public void setUp() {
+        player = new HumanPlayer("Player1", new GameContext().getBoard());
+        events = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        EventLog.stop();
+    }
+
+    private EventSink collector() {
+        return event -> events.add(event.copy());
+    }
+
+    @Test
+    public void testOffByDefault() {
+        assertFalse(EventLog.isEnabled(EventLevel.WARN));
+        EventLog.log(EventType.JAIL_CARD_USED, player);
+        EventLog.flush();
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testLevelFiltersEvents() {
+        EventLog.start(EventLevel.INFO, collector());
+        EventLog.log(EventType.PLAYER_MOVED, player, null, null, 3, 7);
+        EventLog.log(EventType.TAX_PAID, player, "Luxury Tax", 100);
+        EventLog.flush();
+        assertEquals(1, events.size());
+        assertEquals(EventType.TAX_PAID, events.get(0).getType());
+        assertEquals(player.getId(), events.get(0).getPlayerId());
+    }
+
+    @Test
+    public void testTextIsFilledInBySink() {
+        EventLog.start(EventLevel.DEBUG, collector());
+        EventLog.setGameId(12);
+        EventLog.log(EventType.RENT_PAID, player, "Reading Railroad", "Player2", 25, 0);
+        EventLog.flush();
+        GameEvent event = events.get(0);
+        assertEquals(12, event.getGameId());
+        assertEquals("Player1 landed on Reading Railroad and paid Player2 $25 in rent", event.toText());
+    }
+
+    @Test
+    public void testSmallRingDeliversEveryEventInOrder() throws InterruptedException {
+        EventLog.start(EventLevel.DEBUG, 4, collector());
+        Thread[] threads = new Thread[3];
+        for (int t = 0; t < threads.length; t++) {
+            final int thread = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    EventLog.log(EventType.AUCTION_BID, player, null, null, i, thread);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        EventLog.stop();
+        assertEquals(1500, events.size());
+        int[] last = {-1, -1, -1};
+        for (GameEvent event : events) {
+            assertEquals(last[event.getB()] + 1, event.getA());
+            last[event.getB()] = event.getA();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package Model.GameTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.Banker;
+import Model.Board.GameBoard;
+import Model.Board.HumanPlayer;
+import Model.Board.Player;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.Game;
+import Model.GameContext;
+import Model.Spaces.BoardSpace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GameContextTest {
+
+    private GameContext first;
+    private GameContext second;
+
+    @BeforeEach
+    public void setUp() {
+        Banker.reset();
+        GameBoard.resetInstance();
+        Game.resetInstance();
+        first = new GameContext();
+        second = new GameContext();
+    }
+
+    @Test
+    public void testContextsDoNotShareState() {
+        assertNotSame(first.getBanker(), second.getBanker());
+        assertNotSame(first.getBoard(), second.getBoard());
+        assertNotSame(first.getDice(), second.getDice());
+        assertNotSame(first.getBanker(), Banker.getInstance());
+        assertSame(first.getBanker(), first.getBoard().getBanker());
+    }
+
+    @Test
+    public void testPlayersUseTheirOwnBanker() throws PlayerNotFoundException {
+        Game game = new Game(first);
+        Player player = new HumanPlayer("Player1", first.getBoard());
+        game.addPlayer(player);
+
+        assertEquals(1500, first.getBanker().getBalance(player));
+        assertThrows(PlayerNotFoundException.class, () -> second.getBanker().getBalance(player));
+        assertThrows(PlayerNotFoundException.class, () -> Banker.getInstance().getBalance(player));
+    }
+
+    @Test
+    public void testSpacesChargeThroughTheirOwnBanker() throws PlayerNotFoundException {
+        Game game = new Game(first);
+        Player player = new HumanPlayer("Player1", first.getBoard());
+        game.addPlayer(player);
+
+        BoardSpace luxuryTax = first.getBoard().getSpace(38);
+        luxuryTax.onLanding(player);
+        assertEquals(1425, first.getBanker().getBalance(player));
+    }
+
+    @Test
+    public void testSharedWrapsSingletons() {
+        GameContext shared = GameContext.shared();
+        assertSame(Banker.getInstance(), shared.getBanker());
+        assertSame(GameBoard.getInstance(), shared.getBoard());
+    }
+}
@@ -0,0 +1,63 @@
+package Model.GameTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.Dice;
+import Model.GameContext;
+import Model.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+public class GameRandomTest {
+
+    @Test
+    public void testRollPairCoversEveryOutcomeEvenly() {
+        SplittableRandom random = new SplittableRandom(1L);
+        int[][] counts = new int[7][7];
+        for (int i = 0; i < GameRandom.OUTCOMES * 1000; i++) {
+            int roll = GameRandom.rollPair(random);
+            counts[GameRandom.firstDie(roll)][GameRandom.secondDie(roll)]++;
+        }
+        for (int die1 = 1; die1 <= 6; die1++) {
+            for (int die2 = 1; die2 <= 6; die2++) {
+                assertTrue(counts[die1][die2] > 850 && counts[die1][die2] < 1150,
+                        die1 + "," + die2 + " came up " + counts[die1][die2] + " times");
+            }
+        }
+    }
+
+    @Test
+    public void testStreamsAreIndependent() {
+        GameRandom first = new GameRandom(42L);
+        GameRandom second = new GameRandom(42L);
+        for (int i = 0; i < 100; i++) {
+            first.getDiceStream().nextInt();
+        }
+        assertEquals(second.getDeckStream().nextLong(), first.getDeckStream().nextLong());
+        assertEquals(second.splitAiStream().nextLong(), first.splitAiStream().nextLong());
+    }
+
+    @Test
+    public void testSameSeedRollsSameDice() {
+        Dice first = new GameContext(new GameRandom(7L)).getDice();
+        Dice second = new GameContext(new GameRandom(7L)).getDice();
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.roll(), second.roll());
+            assertEquals(first.getDie1(), second.getDie1());
+        }
+    }
+
+    @Test
+    public void testRollBufferDoesNotChangeRolls() {
+        Dice direct = new Dice(new SplittableRandom(3L));
+        Dice buffered = new Dice(new SplittableRandom(3L));
+        buffered.useRollBuffer(16);
+        for (int i = 0; i < 100; i++) {
+            direct.roll();
+            buffered.roll();
+            assertEquals(direct.getDie1(), buffered.getDie1());
+            assertEquals(direct.getDie2(), buffered.getDie2());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package Model.Jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.Banker;
+import Model.Board.GameBoard;
+import Model.Board.HumanPlayer;
+import Model.Board.Player;
+import Model.Events.EventLog;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.GameContext;
+import Model.Simulation.HeadlessGame;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class JfrEventsTest {
+
+    private static final String[] EVENT_NAMES = {
+            "monopoly.Roll", "monopoly.Move", "monopoly.Landing",
+            "monopoly.BankerTransaction", "monopoly.Auction", "monopoly.CpuDecision"
+    };
+
+    private static Recording startRecording() {
+        Recording recording = new Recording();
+        for (String name : EVENT_NAMES) {
+            recording.enable(name).withoutThreshold();
+        }
+        recording.start();
+        return recording;
+    }
+
+    private static List<RecordedEvent> stopRecording(Recording recording) throws IOException {
+        recording.stop();
+        Path file = Files.createTempFile("monopoly", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            recording.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+
+    @Test
+    public void testBankerTransactionsAreRecorded() throws IOException, PlayerNotFoundException {
+        GameContext context = new GameContext();
+        GameBoard board = context.getBoard();
+        Banker banker = context.getBanker();
+        Player tenant = new HumanPlayer("Tenant", board);
+        Player landlord = new HumanPlayer("Landlord", board);
+        banker.addPlayer(tenant);
+        banker.addPlayer(landlord);
+
+        Recording recording = startRecording();
+        EventLog.setGameId(7);
+        banker.payRent(tenant, landlord, 25);
+        banker.deposit(landlord, 10);
+        EventLog.setGameId(0);
+        List<RecordedEvent> events = stopRecording(recording);
+
+        RecordedEvent rent = events.stream()
+                .filter(e -> e.getEventType().getName().equals("monopoly.BankerTransaction"))
+                .filter(e -> e.getString("operation").equals("RENT"))
+                .findFirst().orElseThrow();
+        assertEquals(7, rent.getInt("gameId"));
+        assertEquals("Tenant", rent.getString("player"));
+        assertEquals(tenant.getId(), rent.getInt("playerId"));
+        assertEquals("Landlord", rent.getString("counterparty"));
+        assertEquals(25, rent.getInt("amount"));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("monopoly.BankerTransaction")
+                && e.getString("operation").equals("DEPOSIT") && e.getInt("amount") == 10));
+    }
+
+    @Test
+    public void testHeadlessGameRecordsTurnPhases() throws IOException {
+        Recording recording = startRecording();
+        new HeadlessGame(4, 42L, 200).play();
+        List<RecordedEvent> events = stopRecording(recording);
+
+        assertTrue(count(events, "monopoly.Roll") > 0);
+        assertTrue(count(events, "monopoly.Move") > 0);
+        assertTrue(count(events, "monopoly.CpuDecision") > 0);
+        RecordedEvent landing = events.stream()
+                .filter(e -> e.getEventType().getName().equals("monopoly.Landing"))
+                .findFirst().orElseThrow();
+        assertNotNull(landing.getString("space"));
+        assertNotNull(landing.getString("spaceType"));
+        assertTrue(landing.getInt("position") >= 0 && landing.getInt("position") < 40);
+        assertNotNull(landing.getString("player"));
+    }
+
+    @Test
+    public void testNothingIsRecordedWithoutARecording() {
+        RollEvent event = new RollEvent();
+        event.begin();
+        event.complete(null, 3, 4);
+        assertEquals(0, event.die1);
+    }
+}
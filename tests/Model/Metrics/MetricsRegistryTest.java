@@ -0,0 +1,77 @@
+package Model.Metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.Banker;
+import Model.Board.GameBoard;
+import Model.Board.HumanPlayer;
+import Model.Board.Player;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.GameContext;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void testHistogramPercentiles() {
+        MetricHistogram histogram = new MetricHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1000);
+        }
+        histogram.record(1_000_000);
+        assertEquals(100, histogram.getCount());
+        assertEquals(1023, histogram.getPercentileNanos(50));
+        assertEquals(1023, histogram.getPercentileNanos(99));
+        assertEquals((1L << 20) - 1, histogram.getPercentileNanos(100));
+        histogram.reset();
+        assertEquals(0, histogram.getPercentileNanos(50));
+    }
+
+    @Test
+    public void testBankerCountsTransactionsByType() throws PlayerNotFoundException {
+        MetricsRegistry metrics = new MetricsRegistry();
+        GameContext context = new GameContext();
+        GameBoard board = context.getBoard();
+        Banker banker = context.getBanker();
+        Player tenant = new HumanPlayer("Tenant", board);
+        Player owner = new HumanPlayer("Owner", board);
+        banker.addPlayer(tenant);
+        banker.addPlayer(owner);
+
+        // The banker records into the global registry; compare before and after
+        MetricsRegistry global = MetricsRegistry.global();
+        long rentBefore = global.getRentPaid();
+        long rentsBefore = global.getTransactionCount(TransactionType.RENT);
+        long transfersBefore = global.getTransactionCount(TransactionType.TRANSFER);
+        banker.payRent(tenant, owner, 50);
+        banker.transferMoney(tenant, owner, 10);
+        assertTrue(global.getRentPaid() - rentBefore >= 50);
+        assertTrue(global.getTransactionCount(TransactionType.RENT) - rentsBefore >= 1);
+        assertTrue(global.getTransactionCount(TransactionType.TRANSFER) - transfersBefore >= 1);
+        assertEquals(1440, banker.getBalance(tenant));
+        assertEquals(1560, banker.getBalance(owner));
+
+        metrics.recordRent(25);
+        metrics.countTransaction(TransactionType.DEPOSIT);
+        assertEquals(25, metrics.getRentPaid());
+        assertEquals(1L, metrics.getTransactions().get("RENT"));
+        assertEquals(1L, metrics.getTransactions().get("DEPOSIT"));
+        metrics.reset();
+        assertEquals(0, metrics.getRentPaid());
+    }
+
+    @Test
+    public void testRegisteredAsMBean() throws Exception {
+        MetricsRegistry.registerMBean();
+        MetricsRegistry.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(MetricsRegistry.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+        assertNotNull(server.getAttribute(name, "TurnsPlayed"));
+        assertNotNull(server.getAttribute(name, "Transactions"));
+    }
+}
@@ -0,0 +1,142 @@
+package Model.Search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class BuildPlannerTest {
+
+    private static final int MEDITERRANEAN = 1;
+    private static final int BALTIC = 3;
+    private static final int PARK_PLACE = 37;
+    private static final int BOARDWALK = 39;
+    private static final int[] ORANGE = {16, 18, 19};
+
+    private final BoardLayout layout = BoardLayout.standard();
+    private final BuildPlanner planner = new BuildPlanner(layout);
+
+    private static GameState owning(int balance, int... spaces) {
+        GameState state = new GameState();
+        state.reset(2);
+        state.addBalance(0, balance - GameState.STARTING_BALANCE);
+        for (int space : spaces) {
+            state.setOwner(space, 0);
+        }
+        return state;
+    }
+
+    // Applies the plan, failing on any build the even-build rule or the bank would not allow
+    private int build(GameState state, List<Action> plan, int... group) {
+        int spent = 0;
+        for (Action action : plan) {
+            assertEquals(ActionType.BUILD, action.getType());
+            int space = action.getSpace();
+            for (int other : group) {
+                assertTrue(state.getBuildingLevel(other) >= state.getBuildingLevel(space));
+            }
+            int level = state.getBuildingLevel(space) + 1;
+            if (level == BoardLayout.HOTEL_LEVEL) {
+                assertTrue(state.getHotelsLeft() > 0);
+            } else {
+                assertTrue(state.getHousesLeft() > 0);
+            }
+            state.setBuildingLevel(space, level);
+            spent += layout.housePrice(space);
+        }
+        return spent;
+    }
+
+    @Test
+    public void testNothingWithoutAMonopolyOrTheCash() {
+        assertTrue(planner.plan(owning(1500, PARK_PLACE), 0, 1500).isEmpty());
+        assertTrue(planner.plan(owning(1500, MEDITERRANEAN, BALTIC), 0, 49).isEmpty());
+    }
+
+    @Test
+    public void testBuildsEvenlyWithinTheBudget() {
+        GameState state = owning(1500, ORANGE);
+        List<Action> plan = planner.plan(state, 0, 700);
+        assertFalse(plan.isEmpty());
+        assertTrue(build(state, plan, ORANGE) <= 700);
+        for (int space : ORANGE) {
+            assertTrue(state.getBuildingLevel(space) >= 2);
+        }
+    }
+
+    @Test
+    public void testPlanIsLegalUpToHotels() {
+        GameState state = owning(5000, PARK_PLACE, BOARDWALK);
+        List<Action> plan = planner.plan(state, 0, 5000);
+        assertEquals(2 * BoardLayout.HOTEL_LEVEL, plan.size());
+        build(state, plan, PARK_PLACE, BOARDWALK);
+        assertEquals(BoardLayout.HOTEL_LEVEL, state.getBuildingLevel(PARK_PLACE));
+        assertEquals(BoardLayout.HOTEL_LEVEL, state.getBuildingLevel(BOARDWALK));
+    }
+
+    @Test
+    public void testSameStateGivesTheSamePlan() {
+        List<Action> first = planner.plan(owning(1500, ORANGE), 0, 900);
+        List<Action> second = new BuildPlanner(layout).plan(owning(1500, ORANGE), 0, 900);
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getSpace(), second.get(i).getSpace());
+        }
+    }
+
+    @Test
+    public void testStaysWithinTheHousesTheBankHas() {
+        GameState state = owning(5000, ORANGE);
+        // Another player holds every house in the bank
+        int[] others = {6, 8, 9, 11, 13, 14, 21};
+        for (int space : others) {
+            state.setOwner(space, 1);
+            state.setBuildingLevel(space, 4);
+        }
+        state.setOwner(23, 1);
+        state.setBuildingLevel(23, 4);
+        assertEquals(0, state.getHousesLeft());
+        assertTrue(planner.plan(state, 0, 5000).isEmpty());
+
+        state.setBuildingLevel(23, 0);
+        state.setOwner(23, GameState.NO_OWNER);
+        assertEquals(4, state.getHousesLeft());
+        List<Action> plan = planner.plan(state, 0, 5000);
+        build(state, plan, ORANGE);
+        int houses = 0;
+        for (int space : ORANGE) {
+            houses += state.getBuildingLevel(space);
+        }
+        assertTrue(houses <= 4);
+    }
+
+    @Test
+    public void testHoardsHousesWhenOpponentsWantMoreThanTheBankHas() {
+        GameState state = owning(5000, PARK_PLACE, BOARDWALK);
+        state.setBuildingLevel(PARK_PLACE, 4);
+        state.setBuildingLevel(BOARDWALK, 4);
+        // The other player could build 12 houses on orange and the bank is down to 4
+        for (int space : ORANGE) {
+            state.setOwner(space, 1);
+        }
+        int[] others = {6, 8, 9, 11, 13};
+        for (int space : others) {
+            state.setOwner(space, 1);
+            state.setBuildingLevel(space, 4);
+        }
+        assertEquals(4, state.getHousesLeft());
+        // Each hotel would hand 4 houses back to the bank for orange, which only Boardwalk's rent is worth
+        List<Action> plan = planner.plan(state, 0, 5000);
+        assertEquals(1, plan.size());
+        assertEquals(BOARDWALK, plan.get(0).getSpace());
+
+        // Once the bank has houses to spare, the hotels are worth building
+        for (int space : others) {
+            state.setBuildingLevel(space, 0);
+        }
+        assertEquals(2, planner.plan(state, 0, 5000).size());
+    }
+}
@@ -0,0 +1,103 @@
+package Model.Search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ExpectimaxSearchTest {
+
+    private static final int MEDITERRANEAN = 1;
+    private static final int PARK_PLACE = 37;
+    private static final int BOARDWALK = 39;
+
+    private final BoardLayout layout = BoardLayout.standard();
+
+    private static GameState darkBlueMonopoly() {
+        GameState state = new GameState();
+        state.reset(2);
+        state.setOwner(PARK_PLACE, 0);
+        state.setOwner(BOARDWALK, 0);
+        return state;
+    }
+
+    @Test
+    public void testIncrementalHashMatchesAFullHash() {
+        Zobrist zobrist = Zobrist.standard();
+        GameState state = darkBlueMonopoly();
+        long hash = zobrist.hash(state);
+
+        state.setBuildingLevel(BOARDWALK, 1);
+        hash ^= zobrist.level(BOARDWALK, 0) ^ zobrist.level(BOARDWALK, 1);
+        state.addBalance(0, -200);
+        hash ^= zobrist.balance(0, 1500) ^ zobrist.balance(0, 1300);
+        state.setPosition(1, 12);
+        hash ^= zobrist.position(1, 0) ^ zobrist.position(1, 12);
+        state.setOwner(5, 1);
+        hash ^= zobrist.owner(5, GameState.NO_OWNER) ^ zobrist.owner(5, 1);
+        state.setMortgaged(5, true);
+        hash ^= zobrist.mortgaged(5);
+        assertEquals(zobrist.hash(state), hash);
+
+        // The same state reached in another order hashes the same
+        GameState other = darkBlueMonopoly();
+        other.setOwner(5, 1);
+        other.setMortgaged(5, true);
+        other.setPosition(1, 12);
+        other.addBalance(0, -200);
+        other.setBuildingLevel(BOARDWALK, 1);
+        assertEquals(hash, zobrist.hash(other));
+        assertNotEquals(hash, zobrist.hash(darkBlueMonopoly()));
+    }
+
+    @Test
+    public void testTableFindsTranspositions() {
+        GameState state = darkBlueMonopoly();
+        List<Action> builds = LegalActions.builds(state, layout, 0);
+        ExpectimaxSearch uncached = new ExpectimaxSearch(layout, 5, 0, ExpectimaxSearch.DEFAULT_HORIZON_TURNS);
+        ExpectimaxSearch cached = new ExpectimaxSearch(layout, 5, 20, ExpectimaxSearch.DEFAULT_HORIZON_TURNS);
+        Action withoutTable = uncached.search(state, 0, builds);
+        Action withTable = cached.search(state, 0, builds);
+
+        assertSame(withoutTable, withTable);
+        assertEquals(uncached.getBestValue(), cached.getBestValue(), 1e-6);
+        assertTrue(cached.getTableHits() > 0);
+        assertTrue(cached.getNodes() < uncached.getNodes());
+    }
+
+    @Test
+    public void testBuildsWithCashToSpare() {
+        GameState state = darkBlueMonopoly();
+        ExpectimaxSearch search = new ExpectimaxSearch(layout);
+        Action action = search.search(state, 0, LegalActions.builds(state, layout, 0));
+        assertEquals(ActionType.BUILD, action.getType());
+        assertTrue(search.getNodes() > 0);
+    }
+
+    @Test
+    public void testKeepsCashForDangerousRent() {
+        GameState state = darkBlueMonopoly();
+        state.addBalance(0, 250 - GameState.STARTING_BALANCE);
+        for (int railroad : new int[]{5, 15, 25, 35}) {
+            state.setOwner(railroad, 1);
+        }
+        // A house would leave $50 against $200 railroad rent
+        Action action = new ExpectimaxSearch(layout).search(state, 0, LegalActions.builds(state, layout, 0));
+        assertEquals(ActionType.NONE, action.getType());
+    }
+
+    @Test
+    public void testMortgagesWhatCostsTheLeastRent() {
+        GameState state = new GameState();
+        state.reset(2);
+        for (int space : new int[]{MEDITERRANEAN, 5, 15, 25, 35}) {
+            state.setOwner(space, 0);
+        }
+        Action action = new ExpectimaxSearch(layout).search(state, 0, LegalActions.mortgages(state, layout, 0));
+        assertEquals(ActionType.MORTGAGE, action.getType());
+        assertEquals(MEDITERRANEAN, action.getSpace());
+    }
+}
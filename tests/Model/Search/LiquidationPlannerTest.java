@@ -0,0 +1,108 @@
+package Model.Search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class LiquidationPlannerTest {
+
+    private static final int MEDITERRANEAN = 1;
+    private static final int BALTIC = 3;
+    private static final int PACIFIC = 31;
+    private static final int NORTH_CAROLINA = 32;
+    private static final int PENNSYLVANIA = 34;
+    private static final int PARK_PLACE = 37;
+    private static final int BOARDWALK = 39;
+
+    private final BoardLayout layout = BoardLayout.standard();
+    private final LiquidationPlanner planner = new LiquidationPlanner(layout);
+
+    private static GameState owning(int balance, int... spaces) {
+        GameState state = new GameState();
+        state.reset(2);
+        state.addBalance(0, balance - GameState.STARTING_BALANCE);
+        for (int space : spaces) {
+            state.setOwner(space, 0);
+        }
+        return state;
+    }
+
+    @Test
+    public void testNothingToDoWhenThePlayerCanPay() {
+        GameState state = owning(200, BOARDWALK);
+        assertTrue(planner.plan(state, 0, 200).isEmpty());
+    }
+
+    @Test
+    public void testNoPlanWhenEverythingIsNotEnough() {
+        GameState state = owning(0, MEDITERRANEAN, BALTIC);
+        assertNull(planner.plan(state, 0, 61));
+        assertEquals(2, planner.plan(state, 0, 60).size());
+    }
+
+    @Test
+    public void testMortgagesTheCheapCombination() {
+        GameState state = owning(0, MEDITERRANEAN, BALTIC, BOARDWALK);
+        List<Action> plan = planner.plan(state, 0, 50);
+        assertEquals(2, plan.size());
+        for (Action action : plan) {
+            assertEquals(ActionType.MORTGAGE, action.getType());
+            assertNotEquals(BOARDWALK, action.getSpace());
+        }
+    }
+
+    @Test
+    public void testMortgagesBeforeSellingHouses() {
+        GameState state = owning(0, MEDITERRANEAN, PARK_PLACE, BOARDWALK);
+        state.setBuildingLevel(PARK_PLACE, 1);
+        state.setBuildingLevel(BOARDWALK, 1);
+        List<Action> plan = planner.plan(state, 0, 25);
+        assertEquals(1, plan.size());
+        assertEquals(ActionType.MORTGAGE, plan.get(0).getType());
+        assertEquals(MEDITERRANEAN, plan.get(0).getSpace());
+    }
+
+    @Test
+    public void testSellsHousesEvenly() {
+        GameState state = owning(0, PACIFIC, NORTH_CAROLINA, PENNSYLVANIA);
+        for (int space : new int[]{PACIFIC, NORTH_CAROLINA, PENNSYLVANIA}) {
+            state.setBuildingLevel(space, 3);
+        }
+        List<Action> plan = planner.plan(state, 0, 500);
+        assertEquals(5, plan.size());
+        for (Action action : plan) {
+            assertEquals(ActionType.SELL_BUILDING, action.getType());
+            int space = action.getSpace();
+            for (int other : new int[]{PACIFIC, NORTH_CAROLINA, PENNSYLVANIA}) {
+                assertTrue(state.getBuildingLevel(other) <= state.getBuildingLevel(space));
+            }
+            state.setBuildingLevel(space, state.getBuildingLevel(space) - 1);
+            state.addBalance(0, layout.housePrice(space) / 2);
+        }
+        assertTrue(state.getBalance(0) >= 500);
+    }
+
+    @Test
+    public void testBreaksAHotelOnlyWhileTheBankHasHouses() {
+        GameState state = owning(0, PARK_PLACE, BOARDWALK);
+        state.setBuildingLevel(PARK_PLACE, BoardLayout.HOTEL_LEVEL);
+        state.setBuildingLevel(BOARDWALK, BoardLayout.HOTEL_LEVEL);
+        List<Action> plan = planner.plan(state, 0, 100);
+        assertEquals(ActionType.SELL_BUILDING, plan.get(0).getType());
+
+        // Another player holds all but 3 of the bank's houses
+        int[] others = {6, 8, 9, 11, 13, 14, 16};
+        for (int space : others) {
+            state.setOwner(space, 1);
+            state.setBuildingLevel(space, 4);
+        }
+        state.setOwner(19, 1);
+        state.setBuildingLevel(19, 1);
+        assertEquals(3, state.getHousesLeft());
+        assertNull(planner.plan(state, 0, 100));
+    }
+}
@@ -0,0 +1,204 @@
+package Model.Search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Controller.CpuController;
+import Controller.MctsCpuController;
+import Model.Board.AscendingAuction;
+import Model.Board.Banker;
+import Model.Board.ComputerPlayer;
+import Model.Board.GameBoard;
+import Model.Exceptions.PlayerNotFoundException;
+import Model.GameContext;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.CompactGame;
+import Model.Simulation.DefaultCompactStrategy;
+import Model.Simulation.GameResult;
+import Model.Simulation.GameState;
+import Model.Simulation.HeadlessGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class MctsSearchTest {
+
+    private static final int PARK_PLACE = 37;
+    private static final int BOARDWALK = 39;
+
+    private final BoardLayout layout = BoardLayout.standard();
+
+    private GameState boardwalkForSale() {
+        GameState state = new GameState();
+        state.reset(2);
+        state.setOwner(PARK_PLACE, 0);
+        state.setPosition(0, BOARDWALK);
+        return state;
+    }
+
+    @Test
+    public void testCopyFromGameStateIsExact() {
+        GameState state = boardwalkForSale();
+        state.setOwner(BOARDWALK, 0);
+        state.setBuildingLevel(BOARDWALK, 2);
+        state.setMortgaged(5, true);
+        state.setInJail(1, true);
+        state.incrementJailTurns(1);
+        state.addJailFreeCards(1, 1);
+
+        GameState copy = new GameState();
+        copy.reset(4);
+        copy.copyFrom(state);
+        assertEquals(2, copy.getPlayerCount());
+        assertEquals(2, copy.getActivePlayers());
+        assertEquals(state.getOwnedMask(0), copy.getOwnedMask(0));
+        assertEquals(2, copy.getBuildingLevel(BOARDWALK));
+        assertEquals(GameState.TOTAL_HOUSES - 2, copy.getHousesLeft());
+        assertTrue(copy.isMortgaged(5));
+        assertTrue(copy.isInJail(1));
+        assertEquals(1, copy.getJailTurns(1));
+        assertEquals(1, copy.getJailFreeCards(1));
+        assertTrue(copy.isBankrupt(2));
+    }
+
+    @Test
+    public void testResumeStartsWithTheGivenSeat() {
+        GameState state = new GameState();
+        state.reset(3);
+        state.declareBankrupt(1);
+        state.setPosition(2, 5);
+        CompactGame game = new CompactGame(layout, new DefaultCompactStrategy());
+        game.resume(state, 1, 42);
+
+        assertEquals(5, game.getState().getPosition(2));
+        // Seat 1 is out, so seat 2 moves first; the state resumed from is left alone
+        game.playTurn();
+        assertNotEquals(5, game.getState().getPosition(2));
+        assertEquals(0, game.getState().getPosition(0));
+        assertEquals(5, state.getPosition(2));
+        assertEquals(2, state.nextActiveSeat(0));
+        assertEquals(0, state.nextActiveSeat(2));
+    }
+
+    @Test
+    public void testLegalActions() {
+        GameState state = boardwalkForSale();
+        assertEquals(2, LegalActions.purchase(state, layout, 0, BOARDWALK).size());
+        state.addBalance(0, 300 - GameState.STARTING_BALANCE);
+        List<Action> purchase = LegalActions.purchase(state, layout, 0, BOARDWALK);
+        assertEquals(1, purchase.size());
+        assertEquals(ActionType.PASS, purchase.get(0).getType());
+
+        List<Action> bids = LegalActions.bids(state, layout, 0, BOARDWALK, GameState.NO_OWNER, 100);
+        assertEquals(0, bids.get(0).getAmount());
+        for (int i = 1; i < bids.size(); i++) {
+            assertTrue(bids.get(i).getAmount() > bids.get(i - 1).getAmount());
+            assertTrue(bids.get(i).getAmount() <= 300);
+        }
+
+        state.setOwner(BOARDWALK, 0);
+        state.setBuildingLevel(PARK_PLACE, 1);
+        List<Action> builds = LegalActions.builds(state, layout, 0);
+        // Even building: Boardwalk has to catch up with Park Place first
+        assertEquals(2, builds.size());
+        assertEquals(ActionType.NONE, builds.get(0).getType());
+        assertEquals(BOARDWALK, builds.get(1).getSpace());
+        assertEquals(1, LegalActions.mortgages(state, layout, 0).size());
+
+        state.setInJail(0, true);
+        assertEquals(2, LegalActions.jail(state, 0).size());
+        state.addJailFreeCards(0, 1);
+        assertEquals(3, LegalActions.jail(state, 0).size());
+    }
+
+    @Test
+    public void testSingleThreadSearchIsRepeatable() {
+        GameState state = boardwalkForSale();
+        List<Action> actions = LegalActions.purchase(state, layout, 0, BOARDWALK);
+        MctsConfig config = new MctsConfig(0, 1, 300, 100, MctsConfig.DEFAULT_EXPLORATION);
+        try (MctsSearch search = new MctsSearch(layout, config)) {
+            MctsResult first = search.search(state, 0, 1, actions, 7);
+            MctsResult second = search.search(state, 0, 1, actions, 7);
+            assertEquals(300, first.getRollouts());
+            for (int i = 0; i < actions.size(); i++) {
+                assertEquals(first.getVisits(i), second.getVisits(i));
+                assertEquals(first.getMeanReward(i), second.getMeanReward(i));
+            }
+        }
+    }
+
+    @Test
+    public void testSearchBuysTheLastPieceOfAMonopoly() {
+        GameState state = boardwalkForSale();
+        MctsConfig config = new MctsConfig(0, 1, 2000, MctsConfig.DEFAULT_ROLLOUT_TURNS,
+                MctsConfig.DEFAULT_EXPLORATION);
+        try (MctsSearch search = new MctsSearch(layout, config)) {
+            MctsResult result = search.search(state, 0, 1, LegalActions.purchase(state, layout, 0, BOARDWALK), 42);
+            assertEquals(ActionType.BUY, result.getBestAction().getType());
+            assertTrue(result.getMeanReward(0) > result.getMeanReward(1));
+        }
+    }
+
+    @Test
+    public void testParallelSearchKeepsToTheBudget() {
+        GameState state = boardwalkForSale();
+        state.setOwner(BOARDWALK, 0);
+        List<Action> builds = LegalActions.builds(state, layout, 0);
+        MctsConfig config = new MctsConfig(100, 4, 0, MctsConfig.DEFAULT_ROLLOUT_TURNS,
+                MctsConfig.DEFAULT_EXPLORATION);
+        try (MctsSearch search = new MctsSearch(layout, config)) {
+            long start = System.nanoTime();
+            MctsResult result = search.search(state, 0, 1, builds, 42);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertTrue(elapsedMillis < 1000, "Search took " + elapsedMillis + " ms");
+            assertTrue(result.getRollouts() > builds.size());
+            long visits = 0;
+            for (int i = 0; i < builds.size(); i++) {
+                visits += result.getVisits(i);
+            }
+            assertEquals(result.getRollouts(), visits);
+        }
+    }
+
+    @Test
+    public void testMctsCpuPlaysAHeadlessGame() {
+        MctsConfig config = new MctsConfig(0, 1, 20, 50, MctsConfig.DEFAULT_EXPLORATION);
+        try (MctsSearch search = new MctsSearch(layout, config)) {
+            HeadlessGame game = new HeadlessGame(2, 42, 100);
+            game.setControllerFactory((seat, cpu, random) -> seat == 0
+                    ? new MctsCpuController(cpu, random, search) : new CpuController(cpu, random));
+            GameResult result = game.play();
+            assertTrue(result.getTurns() > 0);
+            assertTrue(result.getWinnerSeat() >= 0);
+        }
+    }
+
+    @Test
+    public void testMctsAuctionBidComesFromItsSearch() throws PlayerNotFoundException {
+        GameContext context = new GameContext();
+        GameBoard board = context.getBoard();
+        Banker banker = context.getBanker();
+        ComputerPlayer cpu = new ComputerPlayer("CPU", board);
+        ComputerPlayer other = new ComputerPlayer("Other", board);
+        banker.addPlayer(cpu);
+        banker.addPlayer(other);
+        banker.addTitleDeed(cpu, board.getSpace(PARK_PLACE));
+        board.getSpace(PARK_PLACE).setOwner(cpu);
+
+        MctsConfig config = new MctsConfig(0, 1, 200, 50, MctsConfig.DEFAULT_EXPLORATION);
+        try (MctsSearch search = new MctsSearch(layout, config)) {
+            MctsCpuController controller = new MctsCpuController(cpu, new SplittableRandom(9L), search);
+            int bid = controller.auctionBidder(board.getSpace(BOARDWALK))
+                    .bid(cpu, 0, AscendingAuction.DEFAULT_INCREMENT);
+
+            // The same search, with the seed the controller draws, chooses the bid
+            GameState root = new GameState();
+            root.copyFrom(banker.getAllPlayers(), banker, board);
+            List<Action> actions = LegalActions.bids(root, layout, 0, BOARDWALK, GameState.NO_OWNER, 0);
+            Action best = search.search(root, 0, 1, actions, new SplittableRandom(9L).nextLong()).getBestAction();
+            assertEquals(Math.max(best.getAmount(), AscendingAuction.DEFAULT_INCREMENT), bid);
+            // Completing Park Place and Boardwalk is worth more than the minimum raise the value bidder makes
+            assertTrue(bid > AscendingAuction.DEFAULT_INCREMENT);
+        }
+    }
+}
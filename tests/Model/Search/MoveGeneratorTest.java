@@ -0,0 +1,151 @@
+package Model.Search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.OwnershipMask;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.CompactGame;
+import Model.Simulation.DefaultCompactStrategy;
+import Model.Simulation.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class MoveGeneratorTest {
+
+    private static final int MEDITERRANEAN = 1;
+    private static final int BALTIC = 3;
+    private static final int READING_RAILROAD = 5;
+    private static final int PARK_PLACE = 37;
+    private static final int BOARDWALK = 39;
+
+    private final BoardLayout layout = BoardLayout.standard();
+
+    private static GameState owning(int... spaces) {
+        GameState state = new GameState();
+        state.reset(2);
+        for (int space : spaces) {
+            state.setOwner(space, 0);
+        }
+        return state;
+    }
+
+    private static long mask(List<Action> actions) {
+        long mask = 0;
+        for (Action action : actions) {
+            if (action.getType() != ActionType.NONE) {
+                mask |= OwnershipMask.bit(action.getSpace());
+            }
+        }
+        return mask;
+    }
+
+    @Test
+    public void testBuildsFollowTheEvenBuildRule() {
+        GameState state = owning(PARK_PLACE, BOARDWALK);
+        MoveGenerator moves = new MoveGenerator(layout);
+        moves.update(state);
+        assertEquals(OwnershipMask.bit(PARK_PLACE) | OwnershipMask.bit(BOARDWALK), moves.getBuilds(state, 0));
+
+        state.setBuildingLevel(PARK_PLACE, 1);
+        assertEquals(1, moves.update(state));
+        assertEquals(OwnershipMask.bit(BOARDWALK), moves.getBuilds(state, 0));
+        assertEquals(OwnershipMask.bit(PARK_PLACE), moves.getSales(state, 0));
+        assertEquals(OwnershipMask.bit(BOARDWALK), moves.getMortgages(0));
+
+        // Nothing changed, so nothing is worked out again
+        assertEquals(0, moves.update(state));
+    }
+
+    @Test
+    public void testBalanceAndBankSupplyNeedNoUpdate() {
+        GameState state = owning(MEDITERRANEAN, BALTIC);
+        MoveGenerator moves = new MoveGenerator(layout);
+        moves.update(state);
+        state.addBalance(0, 49 - state.getBalance(0));
+        assertEquals(0, moves.getBuilds(state, 0));
+        state.addBalance(0, 1);
+        assertEquals(OwnershipMask.bit(MEDITERRANEAN) | OwnershipMask.bit(BALTIC), moves.getBuilds(state, 0));
+
+        state.setMortgaged(READING_RAILROAD, true);
+        state.setOwner(READING_RAILROAD, 0);
+        moves.update(state);
+        assertEquals(0, moves.getUnmortgages(state, 0));
+        // The $100 mortgage plus 10%
+        state.addBalance(0, 110 - state.getBalance(0));
+        assertEquals(OwnershipMask.bit(READING_RAILROAD), moves.getUnmortgages(state, 0));
+        state.addBalance(0, -1);
+        assertEquals(0, moves.getUnmortgages(state, 0));
+    }
+
+    @Test
+    public void testBreaksAHotelOnlyWhileTheBankHasHouses() {
+        GameState state = owning(MEDITERRANEAN, BALTIC);
+        state.setBuildingLevel(MEDITERRANEAN, BoardLayout.HOTEL_LEVEL);
+        state.setBuildingLevel(BALTIC, 4);
+        MoveGenerator moves = new MoveGenerator(layout);
+        moves.update(state);
+        assertEquals(OwnershipMask.bit(BALTIC), moves.getBuilds(state, 0));
+        assertEquals(OwnershipMask.bit(MEDITERRANEAN) | OwnershipMask.bit(BALTIC), moves.getSales(state, 0));
+
+        // Another player holds the rest of the bank's houses
+        for (int space : new int[]{6, 8, 9, 11, 13, 14, 16}) {
+            state.setOwner(space, 1);
+            state.setBuildingLevel(space, 4);
+        }
+        assertEquals(0, state.getHousesLeft());
+        assertEquals(OwnershipMask.bit(BALTIC), moves.getSales(state, 0));
+    }
+
+    @Test
+    public void testUnmortgageLiftsTheMortgage() {
+        CompactGame game = new CompactGame(layout, new DefaultCompactStrategy());
+        GameState state = game.getState();
+        state.reset(2);
+        state.setOwner(BOARDWALK, 0);
+        state.setMortgaged(BOARDWALK, true);
+        Action.unmortgage(BOARDWALK).apply(game, 0);
+        assertFalse(state.isMortgaged(BOARDWALK));
+        assertEquals(GameState.STARTING_BALANCE - 220, state.getBalance(0));
+    }
+
+    @Test
+    public void testUpdatesMatchLegalActionsOverRandomGames() {
+        Random random = new Random(234);
+        GameState state = new GameState();
+        state.reset(3);
+        MoveGenerator moves = new MoveGenerator(layout);
+        for (int step = 0; step < 2000; step++) {
+            int space = random.nextInt(BoardLayout.SPACES);
+            if (layout.kind(space) != BoardLayout.KIND_PROPERTY && layout.mortgageValue(space) == 0) {
+                continue;
+            }
+            switch (random.nextInt(4)) {
+                case 0:
+                    state.setOwner(space, random.nextInt(4) - 1);
+                    break;
+                case 1:
+                    if (layout.kind(space) == BoardLayout.KIND_PROPERTY) {
+                        state.setBuildingLevel(space, random.nextInt(BoardLayout.HOTEL_LEVEL + 1));
+                        // Keep within the bank's supply
+                        if (state.getHousesLeft() < 0 || state.getHotelsLeft() < 0) {
+                            state.setBuildingLevel(space, 0);
+                        }
+                    }
+                    break;
+                case 2:
+                    state.setMortgaged(space, !state.isMortgaged(space));
+                    break;
+                default:
+                    state.addBalance(random.nextInt(3), random.nextInt(401) - 200);
+                    break;
+            }
+            moves.update(state);
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(mask(LegalActions.builds(state, layout, seat)), moves.getBuilds(state, seat));
+                assertEquals(mask(LegalActions.mortgages(state, layout, seat)), moves.getMortgages(seat));
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package Model.Search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Model.Board.OwnershipMask;
+import Model.Simulation.BoardLayout;
+import Model.Simulation.GameState;
+import org.junit.jupiter.api.Test;
+
+public class TradeSearchTest {
+
+    private static final int READING_RAILROAD = 5;
+    private static final int ELECTRIC_COMPANY = 12;
+    private static final int PENNSYLVANIA_RAILROAD = 15;
+    private static final int ST_JAMES_PLACE = 16;
+    private static final int TENNESSEE_AVENUE = 18;
+    private static final int NEW_YORK_AVENUE = 19;
+    private static final int KENTUCKY_AVENUE = 21;
+    private static final int INDIANA_AVENUE = 23;
+    private static final int ILLINOIS_AVENUE = 24;
+    private static final int B_AND_O_RAILROAD = 25;
+    private static final int SHORT_LINE = 35;
+    private static final int PARK_PLACE = 37;
+    private static final int BOARDWALK = 39;
+
+    private final BoardLayout layout = BoardLayout.standard();
+
+    // Each player holds two of one group and the last space of the other's
+    private static GameState splitOrangeAndRed() {
+        GameState state = new GameState();
+        state.reset(2);
+        for (int space : new int[]{ST_JAMES_PLACE, TENNESSEE_AVENUE, KENTUCKY_AVENUE, READING_RAILROAD}) {
+            state.setOwner(space, 0);
+        }
+        for (int space : new int[]{INDIANA_AVENUE, ILLINOIS_AVENUE, NEW_YORK_AVENUE, ELECTRIC_COMPANY}) {
+            state.setOwner(space, 1);
+        }
+        return state;
+    }
+
+    @Test
+    public void testFindsTheSwapThatCompletesBothMonopolies() {
+        GameState state = splitOrangeAndRed();
+        TradeSearch search = new TradeSearch(layout);
+        Trade trade = search.search(state, 0);
+
+        assertNotNull(trade);
+        assertEquals(1, trade.getPartner());
+        assertTrue((trade.getGive() & OwnershipMask.bit(KENTUCKY_AVENUE)) != 0);
+        assertTrue((trade.getTake() & OwnershipMask.bit(NEW_YORK_AVENUE)) != 0);
+        assertTrue(search.accepts(state, trade, 0));
+        assertTrue(search.accepts(state, trade, 1));
+        assertEquals(TradeConfig.DEFAULT_MARGIN, search.gain(state, trade, 1));
+        assertTrue(search.getEvaluated() > 0);
+
+        trade.apply(state);
+        assertEquals(0, state.getOwner(NEW_YORK_AVENUE));
+        assertEquals(1, state.getOwner(KENTUCKY_AVENUE));
+    }
+
+    @Test
+    public void testSameSearchFindsTheSameTrade() {
+        Trade first = new TradeSearch(layout).search(splitOrangeAndRed(), 0);
+        Trade second = new TradeSearch(layout).search(splitOrangeAndRed(), 0);
+        assertEquals(first.toString(), second.toString());
+    }
+
+    @Test
+    public void testKeptBlockGainsFollowTheBoard() {
+        TradeSearch kept = new TradeSearch(layout);
+        GameState state = new GameState();
+        state.reset(2);
+        state.setOwner(PARK_PLACE, 0);
+        state.setOwner(BOARDWALK, 1);
+        assertNull(kept.search(state, 0));
+
+        // Only the orange and red blocks change, and the kept search must see it like a fresh one
+        GameState split = splitOrangeAndRed();
+        split.setOwner(PARK_PLACE, 0);
+        split.setOwner(BOARDWALK, 1);
+        Trade trade = kept.search(split, 0);
+        assertNotNull(trade);
+        assertEquals(new TradeSearch(layout).search(split, 0).toString(), trade.toString());
+        assertEquals(new TradeSearch(layout).search(split, 1).toString(), kept.search(split, 1).toString());
+    }
+
+    @Test
+    public void testNoTradeWhenOnlyOneSideWouldGain() {
+        GameState state = new GameState();
+        state.reset(2);
+        state.setOwner(PARK_PLACE, 0);
+        state.setOwner(BOARDWALK, 1);
+        TradeSearch search = new TradeSearch(layout);
+        assertNull(search.search(state, 0));
+        assertNull(search.search(state, 0));
+    }
+
+    @Test
+    public void testSearchesAgainOnceTheProposerCanPay() {
+        GameState state = new GameState();
+        state.reset(2);
+        for (int space : new int[]{READING_RAILROAD, PENNSYLVANIA_RAILROAD, B_AND_O_RAILROAD}) {
+            state.setOwner(space, 0);
+        }
+        state.setOwner(SHORT_LINE, 1);
+        state.addBalance(0, 200 - GameState.STARTING_BALANCE);
+        TradeSearch search = new TradeSearch(layout);
+        assertNull(search.search(state, 0));
+
+        // No deed changes hands, but the proposer can now pay for the last railroad
+        state.addBalance(0, 300);
+        Trade trade = search.search(state, 0);
+        assertNotNull(trade);
+        assertEquals(OwnershipMask.bit(SHORT_LINE), trade.getTake());
+        assertTrue(trade.getCash() > 0);
+        assertEquals(new TradeSearch(layout).search(state, 0).toString(), trade.toString());
+    }
+
+    @Test
+    public void testTradeIsIllegalOnceTheGroupHasBuildings() {
+        GameState state = splitOrangeAndRed();
+        Trade trade = new Trade(0, 1, OwnershipMask.bit(KENTUCKY_AVENUE), OwnershipMask.bit(NEW_YORK_AVENUE), 0);
+        TradeSearch search = new TradeSearch(layout);
+        assertTrue(search.isLegal(state, trade));
+
+        assertFalse(search.isLegal(state, new Trade(1, 0, OwnershipMask.bit(KENTUCKY_AVENUE), 0, 0)));
+        assertFalse(search.isLegal(state, new Trade(0, 1, 0, 0, 0)));
+        assertFalse(search.isLegal(state, new Trade(0, 1, OwnershipMask.bit(KENTUCKY_AVENUE), 0, 2000)));
+
+        state.setOwner(ST_JAMES_PLACE, 1);
+        state.setOwner(TENNESSEE_AVENUE, 1);
+        state.setBuildingLevel(NEW_YORK_AVENUE, 1);
+        assertFalse(search.isLegal(state, trade));
+    }
+
+    @Test
+    public void testConfigRejectsBadOptions() {
+        assertThrows(IllegalArgumentException.class, () -> new TradeConfig(0, 20, 100, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TradeConfig(4, 20, 100, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TradeConfig(2, -1, 100, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Trade(1, 1, 0, 0, 0));
+    }
+}
@@ -0,0 +1,120 @@
+package Model.Simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Controller.CpuProfile;
+import Model.Property.PropertyColor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+
+public class CompactGameTest {
+
+    private static final PrintStream NO_OUTPUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private BoardLayout layout;
+    private GameState state;
+
+    @BeforeEach
+    public void setUp() {
+        layout = BoardLayout.standard();
+        state = new GameState();
+        state.reset(4);
+    }
+
+    @Test
+    public void testLayoutCopiesTheBoard() {
+        assertEquals(BoardLayout.KIND_GO, layout.kind(0));
+        assertEquals(BoardLayout.KIND_RAILROAD, layout.kind(5));
+        assertEquals(BoardLayout.KIND_CHANCE, layout.kind(7));
+        assertEquals(BoardLayout.KIND_GO_TO_JAIL, layout.kind(30));
+        assertEquals(BoardLayout.KIND_LUXURY_TAX, layout.kind(38));
+        assertEquals(400, layout.price(39));
+        assertEquals(50, layout.rent(39, 0, false));
+        assertEquals(100, layout.rent(39, 0, true));
+        assertEquals(2000, layout.rent(39, BoardLayout.HOTEL_LEVEL, true));
+        assertEquals(PropertyColor.DARK_BLUE.ordinal(), layout.group(39));
+        assertEquals(2, layout.groupSize(layout.group(39)));
+        assertFalse(layout.isOwnable(10));
+    }
+
+    @Test
+    public void testResetStartsEveryPlayerOnGo() {
+        for (int player = 0; player < 4; player++) {
+            assertEquals(GameState.STARTING_BALANCE, state.getBalance(player));
+            assertEquals(0, state.getPosition(player));
+            assertFalse(state.isBankrupt(player));
+        }
+        assertEquals(GameState.NO_OWNER, state.getOwner(1));
+        assertEquals(GameState.TOTAL_HOUSES, state.getHousesLeft());
+    }
+
+    @Test
+    public void testBankruptcyReturnsPropertyAndBuildings() {
+        state.setOwner(37, 2);
+        state.setOwner(39, 2);
+        state.setBuildingLevel(39, 3);
+        assertTrue(state.ownsGroup(2, layout.group(39), layout));
+        assertEquals(GameState.TOTAL_HOUSES - 3, state.getHousesLeft());
+
+        state.declareBankrupt(2);
+        assertTrue(state.isBankrupt(2));
+        assertEquals(3, state.getActivePlayers());
+        assertEquals(GameState.NO_OWNER, state.getOwner(39));
+        assertEquals(0, state.getBuildingLevel(39));
+        assertEquals(GameState.TOTAL_HOUSES, state.getHousesLeft());
+    }
+
+    @Test
+    public void testJailFreeCardsStayInRange() {
+        state.addJailFreeCards(1, 2);
+        assertEquals(2, state.getJailFreeCards(1));
+        assertThrows(IllegalArgumentException.class, () -> state.addJailFreeCards(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> state.addJailFreeCards(0, -1));
+        assertEquals(2, state.getJailFreeCards(1));
+    }
+
+    @Test
+    public void testStrategyDecidesWithItsProfile() {
+        DefaultCompactStrategy standard = new DefaultCompactStrategy();
+        DefaultCompactStrategy eager = new DefaultCompactStrategy(new CpuProfile(0.5, 1.5, 0.05, 0, 0));
+        SplittableRandom random = new SplittableRandom(3L);
+        // $100 buys Mediterranean Avenue but leaves less than the default $100 reserve
+        state.addBalance(0, 100 - GameState.STARTING_BALANCE);
+        assertFalse(standard.shouldBuy(state, layout, 0, 1, random));
+        assertTrue(eager.shouldBuy(state, layout, 0, 1, random));
+        assertEquals(0, standard.bid(state, layout, 0, 1, 50, random));
+        assertTrue(eager.bid(state, layout, 0, 1, 50, random) >= 55);
+    }
+
+    @Test
+    public void testSameSeedPlaysSameGame() {
+        CompactGame engine = new CompactGame(layout, new DefaultCompactStrategy());
+        engine.reset(4, 11L);
+        GameResult first = engine.play(500);
+        engine.reset(4, 11L);
+        GameResult second = engine.play(500);
+
+        assertEquals(first.getTurns(), second.getTurns());
+        assertEquals(first.getWinnerSeat(), second.getWinnerSeat());
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(first.getFinalBalance(seat), second.getFinalBalance(seat));
+        }
+    }
+
+    @Test
+    public void testCompactBatchIsIndependentOfThreads() {
+        SimulationStats single = new SimulationRunner(
+                new SimulationConfig(40, 3, 5L, 300, 1, EngineType.COMPACT, false)).run(NO_OUTPUT);
+        SimulationStats pooled = new SimulationRunner(
+                new SimulationConfig(40, 3, 5L, 300, 3, EngineType.COMPACT, false)).run(NO_OUTPUT);
+        assertEquals(single.getTotalTurns(), pooled.getTotalTurns());
+        assertEquals(single.getBankruptcies(), pooled.getBankruptcies());
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(single.getWins(seat), pooled.getWins(seat));
+        }
+    }
+}
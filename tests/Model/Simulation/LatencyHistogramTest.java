@@ -0,0 +1,61 @@
+package Model.Simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(10, histogram.getPercentile(99));
+        assertEquals(10, histogram.getMax());
+    }
+
+    @Test
+    public void testPercentilesWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(50_000_000, histogram.getPercentile(50), 50_000_000 * 0.07);
+        assertEquals(99_000_000, histogram.getPercentile(99), 99_000_000 * 0.07);
+    }
+
+    @Test
+    public void testBucketsCoverEveryValue() {
+        for (long value : new long[] {0, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucket(value);
+            assertTrue(LatencyHistogram.upperBound(bucket) >= value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.upperBound(bucket - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    public void testMerge() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(100);
+        second.record(200);
+        second.record(300);
+        first.merge(second);
+        assertEquals(3, first.getCount());
+        assertEquals(300, first.getMax());
+    }
+
+    @Test
+    public void testHeadlessGameRecordsEveryTurn() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        HeadlessGame game = new HeadlessGame(2, 7L, 50);
+        game.setTurnLatency(histogram);
+        GameResult result = game.play();
+        assertEquals(result.getTurns(), histogram.getCount());
+    }
+}
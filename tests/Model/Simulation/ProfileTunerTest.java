@@ -0,0 +1,77 @@
+package Model.Simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Controller.CpuProfile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ProfileTunerTest {
+
+    @TempDir
+    Path directory;
+
+    private TunerConfig config(int generations, int threads, String name) {
+        return new TunerConfig(generations, 1, 234L, 150, threads,
+                directory.resolve(name + ".checkpoint"), directory.resolve(name + ".properties"));
+    }
+
+    @Test
+    public void testProfileRoundTrips() throws Exception {
+        CpuProfile profile = CpuProfile.fromUnitCube(new double[]{0.25, 0.5, 2, -1, 0.5});
+        assertEquals(0.875, profile.getBuyValueRatio(), 1e-9);
+        assertEquals(0.3, profile.getMaxBankruptcyRisk(), 1e-9);
+        assertEquals(0, profile.getPurchaseReserve());
+        assertArrayEquals(CpuProfile.DEFAULT.values(),
+                CpuProfile.fromUnitCube(CpuProfile.DEFAULT.toUnitCube()).values(), 1e-9);
+        Path file = directory.resolve("profile.properties");
+        profile.save(file);
+        assertArrayEquals(profile.values(), CpuProfile.load(file).values(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> new CpuProfile(3, 0.9, 0.05, 100, 50));
+    }
+
+    @Test
+    public void testExportsTheProfileAndCheckpoint() throws Exception {
+        TunerConfig config = config(1, 1, "run");
+        ProfileTuner tuner = new ProfileTuner(config, CpuProfile.DEFAULT);
+        CpuProfile tuned = tuner.run(null);
+        assertEquals(1, tuner.getGeneration());
+        assertTrue(Files.exists(config.getCheckpoint()));
+        assertArrayEquals(tuned.values(), CpuProfile.load(config.getProfile()).values(), 1e-9);
+    }
+
+    @Test
+    public void testResumingGivesTheSameProfileAsOneRun() throws Exception {
+        CpuProfile straight = new ProfileTuner(config(2, 1, "straight"), CpuProfile.DEFAULT).run(null);
+        new ProfileTuner(config(1, 2, "resumed"), CpuProfile.DEFAULT).run(null);
+        ProfileTuner resumed = new ProfileTuner(config(2, 2, "resumed"), CpuProfile.DEFAULT);
+        assertArrayEquals(straight.values(), resumed.run(null).values(), 1e-9);
+        assertEquals(2, resumed.getGeneration());
+    }
+
+    @Test
+    public void testRunsFromALoadedProfile() throws Exception {
+        Path file = directory.resolve("start.properties");
+        new CpuProfile(1.2, 0.8, 0.1, 150, 75).save(file);
+        ProfileTuner tuner = new ProfileTuner(config(1, 1, "loaded"), CpuProfile.load(file));
+        assertArrayEquals(new double[]{1.2, 0.8, 0.1, 150, 75}, tuner.getProfile().values(), 1e-9);
+    }
+
+    @Test
+    public void testConfigParsesOptions() {
+        TunerConfig config = TunerConfig.parse(new String[]{"--tune", "5", "--pairs", "3", "--out", "best.properties"});
+        assertEquals(5, config.getGenerations());
+        assertEquals(3, config.getPairs());
+        assertEquals(Path.of("best.properties"), config.getProfile());
+        assertNull(config.getStart());
+        assertEquals(Path.of("start.properties"),
+                TunerConfig.parse(new String[]{"--tune", "1", "--profile", "start.properties"}).getStart());
+        assertTrue(TunerConfig.isTuneRequest(new String[]{"--seed", "1", "--tune", "2"}));
+        assertThrows(IllegalArgumentException.class, () -> TunerConfig.parse(new String[]{"--tune", "0"}));
+        assertThrows(IllegalArgumentException.class, () -> TunerConfig.parse(new String[]{"--tune", "2", "--pairs"}));
+        assertThrows(IllegalArgumentException.class, () -> TunerConfig.parse(new String[]{"--tune", "2", "--fast"}));
+    }
+}
@@ -0,0 +1,84 @@
+package Model.Simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+public class SimulationTest {
+
+    private static final PrintStream NO_OUTPUT = new PrintStream(OutputStream.nullOutputStream());
+
+    @Test
+    public void testParseReadsAllOptions() {
+        SimulationConfig config = SimulationConfig.parse(new String[]{
+                "--simulate", "100", "--players", "3", "--seed", "42", "--max-turns", "250", "--threads", "2"});
+        assertEquals(100, config.getGames());
+        assertEquals(3, config.getPlayers());
+        assertEquals(42L, config.getSeed());
+        assertEquals(250, config.getMaxTurns());
+        assertEquals(2, config.getThreads());
+        assertFalse(config.isVerbose());
+        assertNull(config.getProfile());
+        assertEquals(Path.of("tuned.properties"), SimulationConfig.parse(new String[]{
+                "--simulate", "10", "--profile", "tuned.properties"}).getProfile());
+    }
+
+    @Test
+    public void testParseRejectsBadOptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulationConfig.parse(new String[]{"--simulate", "10", "--players", "5"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulationConfig.parse(new String[]{"--simulate"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SimulationConfig.parse(new String[]{"--simulate", "10", "--fast"}));
+    }
+
+    @Test
+    public void testIsSimulationRequest() {
+        assertTrue(SimulationConfig.isSimulationRequest(new String[]{"--simulate", "5"}));
+        assertFalse(SimulationConfig.isSimulationRequest(new String[]{}));
+    }
+
+    @Test
+    public void testSameSeedPlaysSameGame() {
+        GameResult first = new HeadlessGame(4, 7L, 200).play();
+        GameResult second = new HeadlessGame(4, 7L, 200).play();
+        assertEquals(first.getTurns(), second.getTurns());
+        assertEquals(first.getWinnerSeat(), second.getWinnerSeat());
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(first.getFinalBalance(seat), second.getFinalBalance(seat));
+        }
+    }
+
+    @Test
+    public void testBatchRecordsEveryGame() {
+        SimulationRunner runner = new SimulationRunner(new SimulationConfig(5, 2, 42L, 200, false));
+        SimulationStats stats = runner.run(NO_OUTPUT);
+        assertEquals(5, stats.getGames());
+        long wins = stats.getWins(0) + stats.getWins(1);
+        assertEquals(5, wins);
+        assertTrue(stats.getTotalTurns() > 0);
+    }
+
+    @Test
+    public void testThreadCountDoesNotChangeResults() {
+        SimulationStats single = new SimulationRunner(new SimulationConfig(24, 4, 99L, 150, 1, EngineType.MODEL, false)).run(NO_OUTPUT);
+        SimulationStats pooled = new SimulationRunner(new SimulationConfig(24, 4, 99L, 150, 4, EngineType.MODEL, false)).run(NO_OUTPUT);
+        assertEquals(single.getGames(), pooled.getGames());
+        assertEquals(single.getTotalTurns(), pooled.getTotalTurns());
+        assertEquals(single.getBankruptcies(), pooled.getBankruptcies());
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(single.getWins(seat), pooled.getWins(seat));
+        }
+    }
+
+    @Test
+    public void testGameSeedDependsOnlyOnIndex() {
+        assertEquals(SimulationRunner.gameSeed(42L, 3), SimulationRunner.gameSeed(42L, 3));
+        assertNotEquals(SimulationRunner.gameSeed(42L, 3), SimulationRunner.gameSeed(42L, 4));
+    }
+}
@@ -0,0 +1,129 @@
+package Model.Simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import Controller.CpuController;
+import Controller.CpuControllerFactory;
+import Controller.CpuProfile;
+import Model.Search.MctsSearch;
+import Model.Spaces.BoardSpace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class TournamentTest {
+
+    @TempDir
+    Path directory;
+
+    // A CPU that turns down every space it lands on
+    private static final CpuControllerFactory NEVER_BUYS = (seat, cpu, random) -> new CpuController(cpu, random) {
+        @Override
+        protected boolean purchaseDecision(BoardSpace property) {
+            return false;
+        }
+    };
+
+    private static TournamentConfig config(TournamentFormat format, int rounds, int threads) {
+        return new TournamentConfig(format, rounds, 4, 200, TournamentConfig.DEFAULT_ELO_MARGIN,
+                TournamentConfig.DEFAULT_ERROR_RATE, TournamentConfig.DEFAULT_ERROR_RATE, 234L, 300, threads);
+    }
+
+    private static List<Entrant> entrants() {
+        return List.of(new Entrant("never buys", NEVER_BUYS), new Entrant("value", CpuControllerFactory.DEFAULT));
+    }
+
+    @Test
+    public void testSprtDecidesClearResults() {
+        Sprt sprt = new Sprt(30, 0.05, 0.05);
+        assertEquals(Sprt.CONTINUE, sprt.decide(0, 0, 0));
+        assertEquals(Sprt.CONTINUE, sprt.decide(50, 0, 50));
+        assertEquals(Sprt.FIRST, sprt.decide(80, 0, 20));
+        assertEquals(Sprt.SECOND, sprt.decide(20, 0, 80));
+        assertEquals(-sprt.llr(70, 10, 40), sprt.llr(40, 10, 70), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> new Sprt(0, 0.05, 0.05));
+        assertThrows(IllegalArgumentException.class, () -> new Sprt(30, 0.5, 0.05));
+    }
+
+    @Test
+    public void testEloMovesTowardsTheWinner() {
+        EloRatings ratings = new EloRatings(2, EloRatings.DEFAULT_K_FACTOR);
+        ratings.record(0, 1, 1);
+        assertEquals(EloRatings.INITIAL_RATING + EloRatings.DEFAULT_K_FACTOR / 2, ratings.getRating(0), 1e-9);
+        assertEquals(2 * EloRatings.INITIAL_RATING, ratings.getRating(0) + ratings.getRating(1), 1e-9);
+        assertEquals(0.5, EloRatings.expectedScore(0), 1e-9);
+    }
+
+    @Test
+    public void testStopsEarlyOnceTheStrongerStrategyIsClear() {
+        Tournament tournament = new Tournament(entrants(), config(TournamentFormat.ROUND_ROBIN, 0, 2));
+        Pairing pairing = tournament.run(null).get(0);
+        assertEquals(Sprt.SECOND, pairing.getDecision());
+        assertTrue(pairing.getGames() < 200);
+        assertTrue(tournament.getRatings().getRating(1) > tournament.getRatings().getRating(0));
+        assertSame(pairing, tournament.getPairing(1, 0));
+    }
+
+    @Test
+    public void testSameResultsWhateverTheThreadCount() {
+        Tournament one = new Tournament(entrants(), config(TournamentFormat.SWISS, 2, 1));
+        Tournament four = new Tournament(entrants(), config(TournamentFormat.SWISS, 2, 4));
+        Pairing first = one.run(null).get(0);
+        Pairing second = four.run(null).get(0);
+        assertEquals(first.getGames(), second.getGames());
+        assertEquals(first.getWins(), second.getWins());
+        assertEquals(first.getDraws(), second.getDraws());
+        assertEquals(one.getRatings().getRating(0), four.getRatings().getRating(0), 1e-9);
+    }
+
+    @Test
+    public void testConfigRejectsBadOptions() {
+        assertThrows(IllegalArgumentException.class, () -> config(TournamentFormat.SWISS, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> config(TournamentFormat.ROUND_ROBIN, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(List.of(new Entrant("alone", NEVER_BUYS)), config(TournamentFormat.ROUND_ROBIN, 0, 1)));
+    }
+
+    @Test
+    public void testParseReadsTheEntrants() {
+        TournamentConfig config = TournamentConfig.parse(new String[]{"--tournament", "--format", "swiss",
+                "--rounds", "3", "--profile", "a.properties", "--profile", "b.properties"});
+        assertTrue(TournamentConfig.isTournamentRequest(new String[]{"--seed", "1", "--tournament"}));
+        assertEquals(TournamentFormat.SWISS, config.getFormat());
+        assertEquals(3, config.getRounds());
+        assertEquals(TournamentConfig.STRATEGIES, config.getStrategies());
+        assertEquals(List.of(Path.of("a.properties"), Path.of("b.properties")), config.getProfiles());
+        assertEquals(List.of("value", "mcts"),
+                TournamentConfig.parse(new String[]{"--tournament", "--strategies", "value,mcts"}).getStrategies());
+        assertThrows(IllegalArgumentException.class,
+                () -> TournamentConfig.parse(new String[]{"--tournament", "--strategies", "value,random"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> TournamentConfig.parse(new String[]{"--tournament", "--format", "knockout"}));
+    }
+
+    @Test
+    public void testPlaysTheBuiltInStrategiesAndProfiles() throws Exception {
+        Path file = directory.resolve("eager.properties");
+        new CpuProfile(0.5, 1.2, 0.2, 0, 0).save(file);
+        TournamentConfig config = new TournamentConfig(TournamentFormat.ROUND_ROBIN, 1, 1, 2,
+                TournamentConfig.DEFAULT_ELO_MARGIN, TournamentConfig.DEFAULT_ERROR_RATE,
+                TournamentConfig.DEFAULT_ERROR_RATE, 234L, 60, 2, TournamentConfig.STRATEGIES, List.of(file), 5);
+        List<MctsSearch> searches = Collections.synchronizedList(new ArrayList<>());
+        try {
+            List<Entrant> entrants = Tournament.entrants(config, searches);
+            assertEquals(4, entrants.size());
+            assertEquals("eager.properties", entrants.get(3).getName());
+            Tournament tournament = new Tournament(entrants, config);
+            for (Pairing pairing : tournament.run(null)) {
+                assertEquals(2, pairing.getGames());
+            }
+            assertFalse(searches.isEmpty());
+        } finally {
+            searches.forEach(MctsSearch::close);
+        }
+    }
+}